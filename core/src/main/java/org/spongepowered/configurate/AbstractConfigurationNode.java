@@ -106,6 +106,23 @@ abstract class AbstractConfigurationNode<N extends ScopedConfigurationNode<N>, A
         this.hints = new ConcurrentHashMap<>(copyOf.hints);
     }
 
+    /**
+     * Get the current value of this node, materializing it first if its
+     * content has been deferred.
+     *
+     * @return the current value
+     * @throws LazyNodes.MaterializationException if deferred content could
+     *     not be read
+     */
+    @SuppressWarnings("unchecked")
+    final ConfigValue<N, A> value() {
+        final ConfigValue<N, A> value = this.value;
+        if (value instanceof DeferredConfigValue<?, ?>) {
+            return ((DeferredConfigValue<N, A>) value).materialize();
+        }
+        return value;
+    }
+
     /**
      * Handles the copying of applied defaults, if enabled.
      *
@@ -297,10 +314,11 @@ abstract class AbstractConfigurationNode<N extends ScopedConfigurationNode<N>, A
             final MapConfigValue<N, A> newMap = new MapConfigValue<>(this.implSelf());
             synchronized (that) {
                 for (final Map.Entry<Object, ? extends ConfigurationNode> entry : that.childrenMap().entrySet()) {
-                    final A node = this.createNode(entry.getKey());
+                    final Object key = this.internKey(entry.getKey());
+                    final A node = this.createNode(key);
                     node.attached = true;
                     node.from(entry.getValue());
-                    newMap.putChild(entry.getKey(), node);
+                    newMap.putChild(key, node);
                 }
             }
             this.value = newMap;
@@ -366,7 +384,7 @@ abstract class AbstractConfigurationNode<N extends ScopedConfigurationNode<N>, A
             final ConfigValue<N, A> oldValue;
             ConfigValue<N, A> newValue;
             synchronized (this) {
-                oldValue = newValue = this.value;
+                oldValue = newValue = this.value();
 
                 // ensure the current type is applicable.
                 if (!(oldValue instanceof MapConfigValue)) {
@@ -411,7 +429,7 @@ abstract class AbstractConfigurationNode<N extends ScopedConfigurationNode<N>, A
 
     @Override
     public final @Nullable Object raw() {
-        return this.value.get();
+        return this.value().get();
     }
 
     @Override
@@ -433,7 +451,7 @@ abstract class AbstractConfigurationNode<N extends ScopedConfigurationNode<N>, A
 
     @Override
     public final @Nullable Object rawScalar() {
-        final ConfigValue<N, A> value = this.value;
+        final ConfigValue<N, A> value = this.value();
         if (value instanceof ScalarConfigValue<?, ?>) {
             return value.get();
         } else {
@@ -463,7 +481,7 @@ abstract class AbstractConfigurationNode<N extends ScopedConfigurationNode<N>, A
     public final boolean hasChild(final Object... path) {
         A pointer = this.implSelf();
         for (final Object el : path) {
-            final @Nullable A child = pointer.value.child(requireNonNull(el, () -> "element in path " + Arrays.toString(path)));
+            final @Nullable A child = pointer.value().child(requireNonNull(el, () -> "element in path " + Arrays.toString(path)));
             if (child == null) {
                 return false;
             }
@@ -476,7 +494,7 @@ abstract class AbstractConfigurationNode<N extends ScopedConfigurationNode<N>, A
     public final boolean hasChild(final Iterable<?> path) {
         A pointer = this.implSelf();
         for (final Object el : path) {
-            final @Nullable A child = pointer.value.child(requireNonNull(el, () -> "element in path " + path));
+            final @Nullable A child = pointer.value().child(requireNonNull(el, () -> "element in path " + path));
             if (child == null) {
                 return false;
             }
@@ -490,6 +508,8 @@ abstract class AbstractConfigurationNode<N extends ScopedConfigurationNode<N>, A
         return !this.attached;
     }
 
+    // type checks are answered by deferred values without reading their content
+
     @Override
     public boolean isNull() {
         return this.value instanceof NullConfigValue;
@@ -497,23 +517,27 @@ abstract class AbstractConfigurationNode<N extends ScopedConfigurationNode<N>, A
 
     @Override
     public final boolean isList() {
-        return this.value instanceof ListConfigValue;
+        final ConfigValue<N, A> value = this.value;
+        return value instanceof ListConfigValue
+            || (value instanceof DeferredConfigValue<?, ?> && ((DeferredConfigValue<?, ?>) value).list());
     }
 
     @Override
     public final boolean isMap() {
-        return this.value instanceof MapConfigValue;
+        final ConfigValue<N, A> value = this.value;
+        return value instanceof MapConfigValue
+            || (value instanceof DeferredConfigValue<?, ?> && !((DeferredConfigValue<?, ?>) value).list());
     }
 
     @Override
     public final List<N> childrenList() {
-        final ConfigValue<N, A> value = this.value;
+        final ConfigValue<N, A> value = this.value();
         return value instanceof ListConfigValue ? ((ListConfigValue<N, A>) value).unwrapped() : Collections.emptyList();
     }
 
     @Override
     public final Map<Object, N> childrenMap() {
-        final ConfigValue<N, A> value = this.value;
+        final ConfigValue<N, A> value = this.value();
         return value instanceof MapConfigValue ? ((MapConfigValue<N, A>) value).unwrapped() : Collections.emptyMap();
     }
 
@@ -530,7 +554,7 @@ abstract class AbstractConfigurationNode<N extends ScopedConfigurationNode<N>, A
      * @return the child node
      */
     protected final A child(final Object key, final boolean attach) {
-        @Nullable A child = this.value.child(key);
+        @Nullable A child = this.value().child(key);
 
         // child doesn't currently exist
         if (child == null) {
@@ -538,7 +562,8 @@ abstract class AbstractConfigurationNode<N extends ScopedConfigurationNode<N>, A
                 // attach ourselves first
                 this.attachIfNecessary();
                 // insert the child node into the value
-                final @Nullable A existingChild = this.value.putChildIfAbsent(key, child = this.createNode(key));
+                final Object childKey = this.internKey(key);
+                final @Nullable A existingChild = this.value().putChildIfAbsent(childKey, child = this.createNode(childKey));
                 if (existingChild != null) {
                     child = existingChild;
                 } else {
@@ -553,9 +578,20 @@ abstract class AbstractConfigurationNode<N extends ScopedConfigurationNode<N>, A
         return child;
     }
 
+    /**
+     * Intern a map key using the {@link ConfigurationOptions#keyInterner()}
+     * of this node.
+     *
+     * @param key the key to intern
+     * @return the interned key, or the original key if not a string
+     */
+    final Object internKey(final Object key) {
+        return key instanceof String ? this.options.keyInterner().intern((String) key) : key;
+    }
+
     @Override
     public final boolean removeChild(final Object key) {
-        return detachIfNonNull(this.value.putChild(key, null)) != null;
+        return detachIfNonNull(this.value().putChild(key, null)) != null;
     }
 
     private static <N extends ScopedConfigurationNode<N>, T extends AbstractConfigurationNode<N, T>>
@@ -664,7 +700,7 @@ abstract class AbstractConfigurationNode<N extends ScopedConfigurationNode<N>, A
         final ConfigValue<N, A> oldValue;
         ConfigValue<N, A> newValue;
         synchronized (this) {
-            newValue = oldValue = this.value;
+            newValue = oldValue = this.value();
 
             if (oldValue instanceof MapConfigValue) {
                 if (child.key == ListConfigValue.UNALLOCATED_IDX) {
@@ -752,7 +788,7 @@ abstract class AbstractConfigurationNode<N extends ScopedConfigurationNode<N>, A
 
                 try {
                     visitor.enterNode(current.self(), state);
-                    final ConfigValue<N, A> value = current.value;
+                    final ConfigValue<N, A> value = current.value();
                     if (value instanceof MapConfigValue) {
                         visitor.enterMappingNode(current.self(), state);
                         toVisit.addFirst(new VisitorNodeEnd(current, true));
@@ -826,12 +862,28 @@ abstract class AbstractConfigurationNode<N extends ScopedConfigurationNode<N>, A
         }
 
         final AbstractConfigurationNode<?, ?> that = (AbstractConfigurationNode<?, ?>) o;
-        return Objects.equals(this.key, that.key) && Objects.equals(this.value, that.value);
+        if (!Objects.equals(this.key, that.key)) {
+            return false;
+        }
+
+        final ConfigValue<?, ?> value = this.value;
+        final ConfigValue<?, ?> thatValue = that.value;
+        if (value instanceof DeferredConfigValue<?, ?> || thatValue instanceof DeferredConfigValue<?, ?>) {
+            // only read deferred content when it could be equal but is not known to be
+            if (this.isList() != that.isList() || this.isMap() != that.isMap()) {
+                return false;
+            } else if (value instanceof DeferredConfigValue<?, ?> && thatValue instanceof DeferredConfigValue<?, ?>
+                && ((DeferredConfigValue<?, ?>) value).sameContent((DeferredConfigValue<?, ?>) thatValue)) {
+                return true;
+            }
+        }
+        return Objects.equals(this.value(), that.value());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hashCode(this.key) ^ Objects.hashCode(this.value);
+        // deferred content is read, so it hashes the same as equal content that has been read
+        return Objects.hashCode(this.key) ^ Objects.hashCode(this.value());
     }
 
     @Override
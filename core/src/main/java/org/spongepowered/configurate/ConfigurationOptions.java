@@ -23,6 +23,8 @@ import com.google.errorprone.annotations.CheckReturnValue;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.configurate.loader.ConfigurationLoader;
 import org.spongepowered.configurate.serialize.TypeSerializerCollection;
+import org.spongepowered.configurate.util.KeyInterner;
+import org.spongepowered.configurate.util.KeyInterners;
 import org.spongepowered.configurate.util.MapFactories;
 import org.spongepowered.configurate.util.MapFactory;
 import org.spongepowered.configurate.util.Types;
@@ -53,7 +55,7 @@ public abstract class ConfigurationOptions {
         // avoid initialization cycles
 
         static final ConfigurationOptions DEFAULTS = new AutoValue_ConfigurationOptions(MapFactories.insertionOrdered(), null,
-                TypeSerializerCollection.defaults(), null, true, true);
+                TypeSerializerCollection.defaults(), null, true, true, KeyInterners.none());
 
     }
 
@@ -95,7 +97,7 @@ public abstract class ConfigurationOptions {
             return this;
         }
         return new AutoValue_ConfigurationOptions(mapFactory, this.header(), this.serializers(), this.nativeTypes(),
-                this.shouldCopyDefaults(), this.implicitInitialization());
+                this.shouldCopyDefaults(), this.implicitInitialization(), this.keyInterner());
     }
 
     /**
@@ -120,7 +122,7 @@ public abstract class ConfigurationOptions {
             return this;
         }
         return new AutoValue_ConfigurationOptions(this.mapFactory(), header, this.serializers(), this.nativeTypes(),
-                this.shouldCopyDefaults(), this.implicitInitialization());
+                this.shouldCopyDefaults(), this.implicitInitialization(), this.keyInterner());
     }
 
     /**
@@ -145,7 +147,7 @@ public abstract class ConfigurationOptions {
             return this;
         }
         return new AutoValue_ConfigurationOptions(this.mapFactory(), this.header(), serializers, this.nativeTypes(),
-                this.shouldCopyDefaults(), this.implicitInitialization());
+                this.shouldCopyDefaults(), this.implicitInitialization(), this.keyInterner());
     }
 
     /**
@@ -188,7 +190,8 @@ public abstract class ConfigurationOptions {
             return this;
         }
         return new AutoValue_ConfigurationOptions(this.mapFactory(), this.header(), this.serializers(),
-                nativeTypes == null ? null : UnmodifiableCollections.copyOf(nativeTypes), this.shouldCopyDefaults(), this.implicitInitialization());
+                nativeTypes == null ? null : UnmodifiableCollections.copyOf(nativeTypes), this.shouldCopyDefaults(), this.implicitInitialization(),
+                this.keyInterner());
     }
 
     /**
@@ -255,7 +258,7 @@ public abstract class ConfigurationOptions {
         }
 
         return new AutoValue_ConfigurationOptions(this.mapFactory(), this.header(), this.serializers(), this.nativeTypes(),
-                shouldCopyDefaults, this.implicitInitialization());
+                shouldCopyDefaults, this.implicitInitialization(), this.keyInterner());
     }
 
     /**
@@ -287,7 +290,42 @@ public abstract class ConfigurationOptions {
         }
 
         return new AutoValue_ConfigurationOptions(this.mapFactory(), this.header(), this.serializers(), this.nativeTypes(),
-                this.shouldCopyDefaults(), implicitInitialization);
+                this.shouldCopyDefaults(), implicitInitialization, this.keyInterner());
+    }
+
+    /**
+     * Get the strategy used to share equal keys between nodes.
+     *
+     * <p>Map keys are interned as child nodes are attached. By default, no
+     * interning is performed.</p>
+     *
+     * @return the key interner
+     * @see KeyInterners for available strategies
+     * @since 4.3.0
+     */
+    public abstract KeyInterner keyInterner();
+
+    /**
+     * Create a new {@link ConfigurationOptions} instance with the specified
+     * key interning strategy.
+     *
+     * <p>To share one bounded cache between all nodes produced by a loader,
+     * set an interner created by {@link KeyInterners#bounded(int)} on that
+     * loader's default options.</p>
+     *
+     * @param keyInterner the interner to use
+     * @return a new options object
+     * @see #keyInterner() for more details
+     * @since 4.3.0
+     */
+    public ConfigurationOptions keyInterner(final KeyInterner keyInterner) {
+        requireNonNull(keyInterner, "keyInterner");
+        if (this.keyInterner() == keyInterner) {
+            return this;
+        }
+
+        return new AutoValue_ConfigurationOptions(this.mapFactory(), this.header(), this.serializers(), this.nativeTypes(),
+                this.shouldCopyDefaults(), this.implicitInitialization(), keyInterner);
     }
 
 }
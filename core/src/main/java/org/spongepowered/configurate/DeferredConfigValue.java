@@ -0,0 +1,146 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A {@link ConfigValue} whose content has not yet been read.
+ *
+ * <p>The first operation on this value will populate its holder using the
+ * provided materializer, replacing this value with a map or list value.</p>
+ */
+final class DeferredConfigValue<N extends ScopedConfigurationNode<N>, A extends AbstractConfigurationNode<N, A>> implements ConfigValue<N, A> {
+
+    private final A holder;
+    private final boolean list;
+    private final LazyNodes.Materializer materializer;
+    private final Object payload;
+
+    DeferredConfigValue(final A holder, final boolean list, final LazyNodes.Materializer materializer, final Object payload) {
+        this.holder = holder;
+        this.list = list;
+        this.materializer = materializer;
+        this.payload = payload;
+    }
+
+    Object payload() {
+        return this.payload;
+    }
+
+    boolean list() {
+        return this.list;
+    }
+
+    /**
+     * Get whether another deferred value will populate its holder with the
+     * same content as this one.
+     *
+     * @param other the other value
+     * @return whether the content is known to be equal
+     */
+    boolean sameContent(final DeferredConfigValue<?, ?> other) {
+        return this.list == other.list
+            && this.materializer.equals(other.materializer)
+            && this.payload.equals(other.payload);
+    }
+
+    /**
+     * Populate the holder of this value, if that has not already happened.
+     *
+     * @return the holder's current value
+     * @throws LazyNodes.MaterializationException if the content could
+     *     not be read
+     */
+    ConfigValue<N, A> materialize() {
+        synchronized (this.holder) {
+            if (this.holder.value != this) {
+                return this.holder.value();
+            }
+
+            this.holder.value = this.list ? new ListConfigValue<>(this.holder) : new MapConfigValue<>(this.holder);
+            try {
+                this.materializer.populate(this.holder, this.payload);
+            } catch (final ConfigurateException ex) {
+                this.holder.value = this;
+                throw new LazyNodes.MaterializationException(ex);
+            }
+            return this.holder.value;
+        }
+    }
+
+    @Override
+    public @Nullable Object get() {
+        return this.materialize().get();
+    }
+
+    @Override
+    public void set(final @Nullable Object value) {
+        this.materialize().set(value);
+    }
+
+    @Override
+    public @Nullable A putChild(final Object key, final @Nullable A value) {
+        return this.materialize().putChild(key, value);
+    }
+
+    @Override
+    public @Nullable A putChildIfAbsent(final Object key, final @Nullable A value) {
+        return this.materialize().putChildIfAbsent(key, value);
+    }
+
+    @Override
+    public @Nullable A child(final @Nullable Object key) {
+        return this.materialize().child(key);
+    }
+
+    @Override
+    public Iterable<A> iterateChildren() {
+        return this.materialize().iterateChildren();
+    }
+
+    @Override
+    public DeferredConfigValue<N, A> copy(final A holder) {
+        return new DeferredConfigValue<>(holder, this.list, this.materializer, this.payload);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false; // only non-empty content may be deferred
+    }
+
+    @Override
+    public void clear() {
+        // nothing has been read, so there are no children to detach
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return other instanceof DeferredConfigValue<?, ?> && this.sameContent((DeferredConfigValue<?, ?>) other);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * this.payload.hashCode() + Boolean.hashCode(this.list);
+    }
+
+    @Override
+    public String toString() {
+        return "DeferredConfigValue{list=" + this.list + "}";
+    }
+
+}
@@ -0,0 +1,207 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate;
+
+import static java.util.Objects.requireNonNull;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Collections;
+
+/**
+ * Support for loaders that read the content of map and list nodes
+ * only when it is first accessed.
+ *
+ * <p>A deferred node appears to be an ordinary map or list node, but holds
+ * only a loader-specific payload (such as the location of the node's
+ * content in a source document). Any operation that inspects or modifies
+ * the node's value will first populate it by calling its
+ * {@link Materializer}. Until then, loaders may use
+ * {@link #deferredPayload(ConfigurationNode)} to write the unmodified
+ * content back out without ever reading it.</p>
+ *
+ * <p>Whether a deferred node is a map or a list, and whether it is empty,
+ * are known without reading its content. If the content cannot be read
+ * once it is accessed, the accessing method will throw a
+ * {@link MaterializationException}. Use {@link #materialize(ConfigurationNode)}
+ * to read all deferred content up front and receive any error as a
+ * {@link ConfigurateException} instead.</p>
+ *
+ * <p>Only nodes created by the node implementations provided by Configurate
+ * can be deferred.</p>
+ *
+ * @since 4.3.0
+ */
+public final class LazyNodes {
+
+    private LazyNodes() {
+    }
+
+    /**
+     * Defer the content of a node until it is first accessed.
+     *
+     * <p>The node will be attached if it is not already, and any existing
+     * value will be replaced. Empty content must not be deferred, since
+     * deferred nodes are never considered {@link ConfigurationNode#empty()
+     * empty}.</p>
+     *
+     * @param node the node to defer
+     * @param list whether the deferred content is a list, rather than a map
+     * @param materializer the function to populate the node's content
+     * @param payload data to pass to the materializer
+     * @throws IllegalArgumentException if the node is not a type
+     *      that supports deferral
+     * @since 4.3.0
+     */
+    public static void defer(final ConfigurationNode node, final boolean list, final Materializer materializer, final Object payload) {
+        requireNonNull(materializer, "materializer");
+        requireNonNull(payload, "payload");
+        deferInternal(implementation(node), list, materializer, payload);
+    }
+
+    private static <N extends ScopedConfigurationNode<N>, A extends AbstractConfigurationNode<N, A>> void deferInternal(
+        final AbstractConfigurationNode<N, A> node,
+        final boolean list,
+        final Materializer materializer,
+        final Object payload
+    ) {
+        // attach the node with a value of the appropriate type
+        node.raw(list ? Collections.emptyList() : Collections.emptyMap());
+        synchronized (node) {
+            node.value = new DeferredConfigValue<>(node.implSelf(), list, materializer, payload);
+        }
+    }
+
+    /**
+     * Get whether the content of a node is still deferred.
+     *
+     * @param node the node to check
+     * @return if the node has not yet been populated
+     * @since 4.3.0
+     */
+    public static boolean isDeferred(final ConfigurationNode node) {
+        return node instanceof AbstractConfigurationNode<?, ?>
+            && ((AbstractConfigurationNode<?, ?>) node).value instanceof DeferredConfigValue<?, ?>;
+    }
+
+    /**
+     * Get the payload of a node whose content is still deferred.
+     *
+     * <p>This will not cause the node to be populated.</p>
+     *
+     * @param node the node to check
+     * @return the payload provided when deferring the node, or {@code null}
+     *      if the node is not deferred
+     * @since 4.3.0
+     */
+    public static @Nullable Object deferredPayload(final ConfigurationNode node) {
+        if (!(node instanceof AbstractConfigurationNode<?, ?>)) {
+            return null;
+        }
+        final ConfigValue<?, ?> value = ((AbstractConfigurationNode<?, ?>) node).value;
+        return value instanceof DeferredConfigValue<?, ?> ? ((DeferredConfigValue<?, ?>) value).payload() : null;
+    }
+
+    /**
+     * Read the deferred content of a node and all of its descendants.
+     *
+     * @param node the node to populate
+     * @throws ConfigurateException if any deferred content could not be read
+     * @since 4.3.0
+     */
+    public static void materialize(final ConfigurationNode node) throws ConfigurateException {
+        try {
+            materializeAll(requireNonNull(node, "node"));
+        } catch (final MaterializationException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    private static void materializeAll(final ConfigurationNode node) {
+        if (node.isMap()) {
+            for (final ConfigurationNode child : node.childrenMap().values()) {
+                materializeAll(child);
+            }
+        } else if (node.isList()) {
+            for (final ConfigurationNode child : node.childrenList()) {
+                materializeAll(child);
+            }
+        }
+    }
+
+    private static AbstractConfigurationNode<?, ?> implementation(final ConfigurationNode node) {
+        if (!(requireNonNull(node, "node") instanceof AbstractConfigurationNode<?, ?>)) {
+            throw new IllegalArgumentException("Node of type " + node.getClass() + " does not support deferred values");
+        }
+        return (AbstractConfigurationNode<?, ?>) node;
+    }
+
+    /**
+     * A function that populates the content of a deferred node.
+     *
+     * @since 4.3.0
+     */
+    @FunctionalInterface
+    public interface Materializer {
+
+        /**
+         * Populate a node's children.
+         *
+         * <p>The node will already hold an empty map or list value,
+         * depending on how it was deferred. The payload must not
+         * be modified.</p>
+         *
+         * @param node the node to populate
+         * @param payload the payload provided when deferring the node
+         * @throws ConfigurateException if the content could not be read
+         * @since 4.3.0
+         */
+        void populate(ConfigurationNode node, Object payload) throws ConfigurateException;
+
+    }
+
+    /**
+     * Thrown when a deferred node is accessed, but its content could
+     * not be read.
+     *
+     * <p>The failure is not remembered, so the content will be read again
+     * the next time the node is accessed.</p>
+     *
+     * @since 4.3.0
+     */
+    public static final class MaterializationException extends RuntimeException {
+
+        private static final long serialVersionUID = -4410867376012397741L;
+
+        MaterializationException(final ConfigurateException cause) {
+            super(cause.getMessage(), cause);
+        }
+
+        /**
+         * Get the error encountered while reading deferred content.
+         *
+         * @return the error
+         * @since 4.3.0
+         */
+        @Override
+        public synchronized ConfigurateException getCause() {
+            return (ConfigurateException) requireNonNull(super.getCause(), "cause");
+        }
+
+    }
+
+}
@@ -69,8 +69,9 @@ final class MapConfigValue<N extends ScopedConfigurationNode<N>, A extends Abstr
                 if (ent.getValue() == null) {
                     continue;
                 }
-                final A child = this.holder.createNode(ent.getKey());
-                newValue.put(ent.getKey(), child);
+                final Object key = this.holder.internKey(ent.getKey());
+                final A child = this.holder.createNode(key);
+                newValue.put(key, child);
                 child.attached = true;
                 child.raw(ent.getValue());
             }
@@ -35,14 +35,20 @@ import org.spongepowered.configurate.util.UnmodifiableCollections;
 
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.StringReader;
 import java.io.StringWriter;
 import java.io.Writer;
 import java.net.URL;
+import java.nio.channels.AsynchronousFileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
@@ -50,7 +56,12 @@ import java.nio.file.Path;
 import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 import java.util.regex.Pattern;
 
@@ -114,6 +125,21 @@ public abstract class AbstractConfigurationLoader<N extends ScopedConfigurationN
      */
     private final ConfigurationOptions defaultOptions;
 
+    /**
+     * The maximum number of idle instances retained by each reusable pool.
+     */
+    private final int reusePoolSize;
+
+    /**
+     * The filter selecting which parts of loaded documents are read.
+     */
+    private final PathFilter pathFilter;
+
+    /**
+     * Pools created by the implementation, tracked to report metrics.
+     */
+    private final List<ReusablePool<?>> pools = new CopyOnWriteArrayList<>();
+
     /**
      * Create a loader instance from a builder.
      *
@@ -128,6 +154,72 @@ public abstract class AbstractConfigurationLoader<N extends ScopedConfigurationN
         this.headerMode = builder.optionState().value(Builder.HEADER_MODE);
         this.commentHandlers = UnmodifiableCollections.toList(commentHandlers);
         this.defaultOptions = builder.defaultOptions();
+        this.reusePoolSize = builder.optionState().value(Builder.REUSE_POOL_SIZE);
+        this.pathFilter = builder.pathFilter();
+    }
+
+    /**
+     * Create a pool for instances of expensive, non thread-safe objects
+     * (such as parsers or generators) that can be shared between
+     * operations of this loader.
+     *
+     * <p>The pool's capacity is determined by the
+     * {@link Builder#REUSE_POOL_SIZE} option.</p>
+     *
+     * @param factory the factory to create new instances
+     * @param <T> the pooled type
+     * @return a new pool
+     * @since 4.3.0
+     */
+    protected final <T> ReusablePool<T> reusablePool(final Supplier<? extends T> factory) {
+        final ReusablePool<T> pool = ReusablePool.create(factory, this.reusePoolSize);
+        this.pools.add(pool);
+        return pool;
+    }
+
+    /**
+     * Get the combined utilization of all pools used by this loader to
+     * reuse parser and generator instances.
+     *
+     * <p>Loaders that do not pool any instances will report
+     * empty metrics.</p>
+     *
+     * @return current pool metrics
+     * @since 4.3.0
+     */
+    public ReusablePool.Metrics poolMetrics() {
+        ReusablePool.Metrics result = ReusablePool.Metrics.empty();
+        for (final ReusablePool<?> pool : this.pools) {
+            result = result.plus(pool.metrics());
+        }
+        return result;
+    }
+
+    /**
+     * Get the filter selecting which parts of a document this loader
+     * will read.
+     *
+     * @return the path filter
+     * @since 4.3.0
+     */
+    public final PathFilter pathFilter() {
+        return this.pathFilter;
+    }
+
+    /**
+     * Get whether this loader applies its {@link #pathFilter() path filter}
+     * while parsing, skipping values that are not accepted without
+     * creating nodes for them.
+     *
+     * <p>If this returns {@code false}, documents will be filtered
+     * after they have been fully loaded.</p>
+     *
+     * @return if the path filter is applied by the implementation
+     * @since 4.3.0
+     */
+    @ForOverride
+    protected boolean filtersWhileParsing() {
+        return false;
     }
 
     /**
@@ -146,11 +238,49 @@ public abstract class AbstractConfigurationLoader<N extends ScopedConfigurationN
     }
 
     @Override
-    public N load(ConfigurationOptions options) throws ParsingException {
+    public N load(final ConfigurationOptions options) throws ParsingException {
         if (this.source == null) {
             throw new ParsingException(UNKNOWN_POS, UNKNOWN_POS, "", "No source present to read from!", null);
         }
-        try (BufferedReader reader = this.source.call()) {
+        return this.loadFrom(this.source, options);
+    }
+
+    /**
+     * Load a node from an input stream, decoded as UTF-8.
+     *
+     * <p>This ignores the loader's source, and will not close the stream.</p>
+     *
+     * @param stream the stream to read from
+     * @param options the options to load with
+     * @return the newly constructed node
+     * @throws ParsingException if an error occurs at any stage of loading
+     * @since 4.3.0
+     */
+    public N load(final InputStream stream, final ConfigurationOptions options) throws ParsingException {
+        requireNonNull(stream, "stream");
+        final InputStream unclosed = new FilterInputStream(stream) {
+            @Override
+            public void close() {
+                // left open for the caller
+            }
+        };
+        return this.loadFrom(() -> new BufferedReader(new InputStreamReader(unclosed, StandardCharsets.UTF_8)), options);
+    }
+
+    /**
+     * Attempt to load a node from the provided source.
+     *
+     * <p>This is used for all loads performed by this loader, whether
+     * synchronous or not.</p>
+     *
+     * @param source the source to read from
+     * @param options the options to load with
+     * @return the newly constructed node
+     * @throws ParsingException if an error occurs at any stage of loading
+     * @since 4.3.0
+     */
+    protected N loadFrom(final Callable<BufferedReader> source, ConfigurationOptions options) throws ParsingException {
+        try (BufferedReader reader = source.call()) {
             if (this.headerMode == HeaderMode.PRESERVE || this.headerMode == HeaderMode.NONE) {
                 final @Nullable String comment = CommentHandlers.extractComment(reader, this.commentHandlers);
                 if (comment != null && comment.length() > 0) {
@@ -159,6 +289,9 @@ public abstract class AbstractConfigurationLoader<N extends ScopedConfigurationN
             }
             final N node = createNode(options);
             loadInternal(node, reader);
+            if (!this.filtersWhileParsing()) {
+                this.pathFilter.prune(node);
+            }
             return node;
         } catch (final ParsingException ex) {
             throw ex;
@@ -172,6 +305,56 @@ public abstract class AbstractConfigurationLoader<N extends ScopedConfigurationN
         }
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>When this loader reads from a {@link Builder#path(Path) path}, the
+     * file is opened on the executor, then read using an
+     * {@link AsynchronousFileChannel}, so no thread is blocked while waiting
+     * for its contents. Only opening the file and parsing are performed on
+     * the executor, and the calling thread never waits on the file system.
+     * Cancelling the returned future while the file is being read will abort
+     * the read.</p>
+     *
+     * @since 4.3.0
+     */
+    @Override
+    public CompletableFuture<N> loadAsync(final ConfigurationOptions options, final Executor executor) {
+        if (!(this.source instanceof PathSource)) {
+            return ConfigurationLoader.super.loadAsync(options, executor);
+        }
+        requireNonNull(options, "options");
+        requireNonNull(executor, "executor");
+
+        final CompletableFuture<byte @Nullable []> read = AsyncFiles.readAll(((PathSource) this.source).path, executor);
+        final CompletableFuture<N> result = read.handleAsync((contents, error) -> {
+            if (error != null) {
+                final Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                if (cause instanceof IOException) {
+                    // reported the same way as by a synchronous load
+                    throw new CompletionException(new ParsingException(UNKNOWN_POS, UNKNOWN_POS, options.header(), null, cause));
+                }
+                throw error instanceof CompletionException ? (CompletionException) error : new CompletionException(error);
+            }
+
+            if (contents == null) { // no file present
+                return this.createNode(options);
+            }
+
+            try {
+                return this.load(new ByteArrayInputStream(contents), options);
+            } catch (final ParsingException ex) {
+                throw new CompletionException(ex);
+            }
+        }, executor);
+        result.whenComplete((node, error) -> {
+            if (result.isCancelled()) {
+                read.cancel(false);
+            }
+        });
+        return result;
+    }
+
     /**
      * Using a created node, attempt to read a configuration file.
      *
@@ -191,19 +374,21 @@ public abstract class AbstractConfigurationLoader<N extends ScopedConfigurationN
             throw new ConfigurateException(node, "No sink present to write to!");
         }
         this.checkCanWrite(node);
-        try (Writer writer = this.sink.call()) {
-            writeHeaderInternal(writer);
-            if (this.headerMode != HeaderMode.NONE) {
-                final @Nullable String header = node.options().header();
-                if (header != null && !header.isEmpty()) {
-                    final Iterator<String> lines = defaultCommentHandler().toComment(CONFIGURATE_LINE_PATTERN.splitAsStream(header)).iterator();
-                    while (lines.hasNext()) {
-                        writer.write(lines.next());
-                        writer.write(SYSTEM_LINE_SEPARATOR);
-                    }
-                    writer.write(SYSTEM_LINE_SEPARATOR);
-                }
+        if (this.sink instanceof PathSink) {
+            // skip the character writer, so implementations can encode directly.
+            // output is buffered by the writer or generator, so the file stream is not
+            try (OutputStream stream = AtomicFiles.unbufferedAtomicOutputStream(((PathSink) this.sink).path)) {
+                this.saveWithHeader(node, stream);
+            } catch (final ConfigurateException ex) {
+                throw ex;
+            } catch (final Exception ex) {
+                throw new ConfigurateException(node, ex);
             }
+            return;
+        }
+
+        try (Writer writer = this.sink.call()) {
+            this.writeHeader(node, writer);
             saveInternal(node, writer);
         } catch (final ConfigurateException ex) {
             throw ex;
@@ -212,6 +397,52 @@ public abstract class AbstractConfigurationLoader<N extends ScopedConfigurationN
         }
     }
 
+    /**
+     * Save a node to an output stream, encoded as UTF-8.
+     *
+     * <p>This ignores the loader's sink, and will not close the stream.</p>
+     *
+     * @param node the node to save
+     * @param stream the stream to write to
+     * @throws ConfigurateException if any sort of error occurs with writing or
+     *     generating the configuration
+     * @since 4.3.0
+     */
+    public void save(final ConfigurationNode node, final OutputStream stream) throws ConfigurateException {
+        requireNonNull(stream, "stream");
+        this.checkCanWrite(node);
+        try {
+            this.saveWithHeader(node, stream);
+            stream.flush();
+        } catch (final ConfigurateException ex) {
+            throw ex;
+        } catch (final Exception ex) {
+            throw new ConfigurateException(node, ex);
+        }
+    }
+
+    private void saveWithHeader(final ConfigurationNode node, final OutputStream stream) throws IOException {
+        final Writer headerWriter = new OutputStreamWriter(stream, StandardCharsets.UTF_8);
+        this.writeHeader(node, headerWriter);
+        headerWriter.flush(); // not closed, so the stream remains open
+        this.saveInternal(node, stream);
+    }
+
+    private void writeHeader(final ConfigurationNode node, final Writer writer) throws IOException {
+        writeHeaderInternal(writer);
+        if (this.headerMode != HeaderMode.NONE) {
+            final @Nullable String header = node.options().header();
+            if (header != null && !header.isEmpty()) {
+                final Iterator<String> lines = defaultCommentHandler().toComment(CONFIGURATE_LINE_PATTERN.splitAsStream(header)).iterator();
+                while (lines.hasNext()) {
+                    writer.write(lines.next());
+                    writer.write(SYSTEM_LINE_SEPARATOR);
+                }
+                writer.write(SYSTEM_LINE_SEPARATOR);
+            }
+        }
+    }
+
     /**
      * Perform format-specific validation of a node.
      *
@@ -247,6 +478,33 @@ public abstract class AbstractConfigurationLoader<N extends ScopedConfigurationN
     @ForOverride
     protected abstract void saveInternal(ConfigurationNode node, Writer writer) throws ConfigurateException;
 
+    /**
+     * Perform a save of the node to the provided stream, encoded as UTF-8.
+     *
+     * <p>This is used when saving to a {@link Builder#path(Path) path}, or
+     * to a stream. Formats able to generate bytes directly should override
+     * this method to avoid the overhead of encoding characters. By default,
+     * output is written through {@link #saveInternal(ConfigurationNode, Writer)}.</p>
+     *
+     * <p>The stream may not be buffered, so implementations should buffer
+     * their own output. Implementations must not close the stream.</p>
+     *
+     * @param node node to save
+     * @param stream stream to output to
+     * @throws ConfigurateException if any of the node's data is unsavable
+     * @since 4.3.0
+     */
+    @ForOverride
+    protected void saveInternal(final ConfigurationNode node, final OutputStream stream) throws ConfigurateException {
+        final Writer writer = new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8));
+        this.saveInternal(node, writer);
+        try {
+            writer.flush();
+        } catch (final IOException ex) {
+            throw new ConfigurateException(node, ex);
+        }
+    }
+
     @Override
     public ConfigurationOptions defaultOptions() {
         return this.defaultOptions;
@@ -283,6 +541,16 @@ public abstract class AbstractConfigurationLoader<N extends ScopedConfigurationN
          */
         public static final Option<HeaderMode> HEADER_MODE = UNSAFE_SCHEMA.enumOption("header", HeaderMode.class, HeaderMode.PRESERVE);
 
+        /**
+         * The maximum number of idle parser or generator instances the
+         * created loader will retain for reuse, for formats whose
+         * implementation supports this.
+         *
+         * @see #reusePoolSize(int)
+         * @since 4.3.0
+         */
+        public static final Option<Integer> REUSE_POOL_SIZE = UNSAFE_SCHEMA.intOption("reuse-pool-size", 8);
+
         @Deprecated
         protected HeaderMode headerMode;
         private OptionState.@MonotonicNonNull Builder optionBuilder;
@@ -290,6 +558,7 @@ public abstract class AbstractConfigurationLoader<N extends ScopedConfigurationN
         protected @Nullable Callable<BufferedReader> source;
         protected @Nullable Callable<BufferedWriter> sink;
         protected ConfigurationOptions defaultOptions = ConfigurationOptions.defaults();
+        private PathFilter pathFilter = PathFilter.all();
 
         /**
          * Create a new builder.
@@ -410,8 +679,8 @@ public abstract class AbstractConfigurationLoader<N extends ScopedConfigurationN
          */
         public T path(final Path path) {
             final Path absPath = requireNonNull(path, "path").toAbsolutePath();
-            this.source = () -> Files.newBufferedReader(absPath, StandardCharsets.UTF_8);
-            this.sink = AtomicFiles.atomicWriterFactory(absPath, StandardCharsets.UTF_8);
+            this.source = new PathSource(absPath);
+            this.sink = new PathSink(absPath);
             return self();
         }
 
@@ -504,6 +773,58 @@ public abstract class AbstractConfigurationLoader<N extends ScopedConfigurationN
             return this.optionState().value(HEADER_MODE);
         }
 
+        /**
+         * Sets the maximum number of idle parser or generator instances the
+         * resultant loader should retain for reuse between operations.
+         *
+         * <p>Instances are only retained while idle, so this does not limit
+         * the number of concurrent operations. A size of zero disables
+         * reuse entirely.</p>
+         *
+         * @param size the maximum number of idle instances
+         * @return this builder (for chaining)
+         * @since 4.3.0
+         */
+        public T reusePoolSize(final int size) {
+            if (size < 0) {
+                throw new IllegalArgumentException("Pool size must be non-negative, but was " + size);
+            }
+            this.optionStateBuilder().value(Builder.REUSE_POOL_SIZE, size);
+            return self();
+        }
+
+        /**
+         * Sets the filter selecting which parts of a document the
+         * resultant loader will read.
+         *
+         * <p>Loaders for streaming formats will skip any values that are
+         * not accepted while parsing, without creating nodes for them. Other
+         * loaders will remove those values once the document
+         * has been loaded.</p>
+         *
+         * <p>Only loading is affected. Saving a filtered node will replace
+         * the entire document with the values that were loaded.</p>
+         *
+         * @param filter the path filter
+         * @return this builder (for chaining)
+         * @since 4.3.0
+         */
+        public T pathFilter(final PathFilter filter) {
+            this.pathFilter = requireNonNull(filter, "filter");
+            return self();
+        }
+
+        /**
+         * Gets the filter selecting which parts of a document the resultant
+         * loader will read.
+         *
+         * @return the path filter
+         * @since 4.3.0
+         */
+        public PathFilter pathFilter() {
+            return this.pathFilter;
+        }
+
         /**
          * Sets the default configuration options to be used by the
          * resultant loader.
@@ -581,4 +902,38 @@ public abstract class AbstractConfigurationLoader<N extends ScopedConfigurationN
 
     }
 
+    /**
+     * A sink writing to a file, exposing the path so it can be written
+     * to as a byte stream as well.
+     */
+    static final class PathSink implements Callable<BufferedWriter> {
+        final Path path;
+
+        PathSink(final Path path) {
+            this.path = path;
+        }
+
+        @Override
+        public BufferedWriter call() throws IOException {
+            return AtomicFiles.atomicBufferedWriter(this.path, StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * A source reading from a file, exposing the path so it can be read
+     * asynchronously as well.
+     */
+    static final class PathSource implements Callable<BufferedReader> {
+        final Path path;
+
+        PathSource(final Path path) {
+            this.path = path;
+        }
+
+        @Override
+        public BufferedReader call() throws IOException {
+            return Files.newBufferedReader(this.path, StandardCharsets.UTF_8);
+        }
+    }
+
 }
@@ -0,0 +1,140 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.loader;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Utilities for performing file reads without blocking the calling thread.
+ */
+final class AsyncFiles {
+
+    /**
+     * The largest array size that can safely be allocated on most VMs.
+     */
+    private static final int MAX_LENGTH = Integer.MAX_VALUE - 8;
+
+    private AsyncFiles() {
+    }
+
+    /**
+     * Read the entire contents of a file.
+     *
+     * <p>Opening the file and finding its size may block, so they are
+     * performed on the provided executor. The contents are then read
+     * asynchronously.</p>
+     *
+     * <p>The returned future will complete with {@code null} if the file
+     * does not exist. Cancelling the returned future will close the file,
+     * aborting any read in progress.</p>
+     *
+     * @param path the file to read
+     * @param executor the executor to open the file on
+     * @return a future providing the file's contents
+     */
+    static CompletableFuture<byte @Nullable []> readAll(final Path path, final Executor executor) {
+        final CompletableFuture<byte @Nullable []> result = new CompletableFuture<>();
+        try {
+            executor.execute(() -> startRead(path, result));
+        } catch (final RejectedExecutionException ex) {
+            result.completeExceptionally(ex);
+        }
+        return result;
+    }
+
+    private static void startRead(final Path path, final CompletableFuture<byte @Nullable []> result) {
+        if (result.isDone()) { // cancelled before the file was opened
+            return;
+        }
+
+        final AsynchronousFileChannel channel;
+        try {
+            channel = AsynchronousFileChannel.open(path, StandardOpenOption.READ);
+        } catch (final NoSuchFileException ex) {
+            result.complete(null);
+            return;
+        } catch (final IOException ex) {
+            result.completeExceptionally(ex);
+            return;
+        }
+
+        // on completion, failure, or cancellation
+        result.whenComplete((contents, error) -> closeQuietly(channel));
+        try {
+            final long size = channel.size();
+            if (size > MAX_LENGTH) {
+                throw new IOException("File " + path + " is too large to read into memory (" + size + " bytes)");
+            }
+            final ByteBuffer buffer = ByteBuffer.allocate((int) size);
+            channel.read(buffer, 0, buffer, new ReadHandler(channel, result));
+        } catch (final IOException ex) {
+            result.completeExceptionally(ex);
+        }
+    }
+
+    private static void closeQuietly(final AsynchronousFileChannel channel) {
+        try {
+            channel.close();
+        } catch (final IOException ignored) {
+            // nothing useful can be done
+        }
+    }
+
+    private static final class ReadHandler implements CompletionHandler<Integer, ByteBuffer> {
+        private final AsynchronousFileChannel channel;
+        private final CompletableFuture<byte @Nullable []> result;
+
+        ReadHandler(final AsynchronousFileChannel channel, final CompletableFuture<byte @Nullable []> result) {
+            this.channel = channel;
+            this.result = result;
+        }
+
+        @Override
+        public void completed(final Integer read, final ByteBuffer buffer) {
+            if (this.result.isDone()) { // cancelled
+                return;
+            }
+
+            if (read == -1) {
+                // the file was truncated while being read
+                this.result.complete(Arrays.copyOf(buffer.array(), buffer.position()));
+            } else if (!buffer.hasRemaining()) {
+                this.result.complete(buffer.array());
+            } else {
+                this.channel.read(buffer, buffer.position(), buffer, this);
+            }
+        }
+
+        @Override
+        public void failed(final Throwable error, final ByteBuffer buffer) {
+            this.result.completeExceptionally(error);
+        }
+    }
+
+}
@@ -18,9 +18,12 @@ package org.spongepowered.configurate.loader;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedOutputStream;
 import java.io.BufferedWriter;
+import java.io.FilterOutputStream;
 import java.io.FilterWriter;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Writer;
 import java.nio.charset.Charset;
 import java.nio.file.AccessDeniedException;
@@ -67,7 +70,44 @@ public final class AtomicFiles {
      * @throws IOException for any underlying filesystem errors
      * @since 4.0.0
      */
-    public static BufferedWriter atomicBufferedWriter(Path path, final Charset charset) throws IOException {
+    public static BufferedWriter atomicBufferedWriter(final Path path, final Charset charset) throws IOException {
+        final Path targetPath = resolveTarget(path);
+        final Path writePath = prepareWritePath(targetPath);
+        final BufferedWriter output = Files.newBufferedWriter(writePath, charset);
+        return new BufferedWriter(new AtomicFileWriter(writePath, targetPath, output));
+    }
+
+    /**
+     * Creates and returns an "atomic" output stream for the given path.
+     *
+     * <p>This is intended for binary formats. The same guarantees apply as
+     * for {@link #atomicBufferedWriter(Path, Charset)}.</p>
+     *
+     * @param path the path
+     * @return a new output stream
+     * @throws IOException for any underlying filesystem errors
+     * @since 4.3.0
+     */
+    public static OutputStream atomicOutputStream(final Path path) throws IOException {
+        return new BufferedOutputStream(unbufferedAtomicOutputStream(path));
+    }
+
+    /**
+     * Creates an "atomic" output stream that does not buffer its output,
+     * for writers that already do their own buffering.
+     *
+     * @param path the path
+     * @return a new output stream
+     * @throws IOException for any underlying filesystem errors
+     */
+    static OutputStream unbufferedAtomicOutputStream(final Path path) throws IOException {
+        final Path targetPath = resolveTarget(path);
+        final Path writePath = prepareWritePath(targetPath);
+        final OutputStream output = Files.newOutputStream(writePath);
+        return new AtomicFileOutputStream(writePath, targetPath, output);
+    }
+
+    private static Path resolveTarget(Path path) {
         // absolute
         path = path.toAbsolutePath();
 
@@ -79,15 +119,17 @@ public final class AtomicFiles {
         } catch (final UnsupportedOperationException | IOException ex) {
             // ignore
         }
+        return path;
+    }
 
+    private static Path prepareWritePath(final Path path) throws IOException {
         final Path writePath = temporaryPath(path.getParent(), path.getFileName().toString());
         if (Files.exists(path)) {
             Files.copy(path, writePath, StandardCopyOption.COPY_ATTRIBUTES, StandardCopyOption.REPLACE_EXISTING);
         }
 
         createDirectoriesIfNecessary(writePath.getParent());
-        final BufferedWriter output = Files.newBufferedWriter(writePath, charset);
-        return new BufferedWriter(new AtomicFileWriter(writePath, path, output));
+        return writePath;
     }
 
     // symlink-aware directory creation
@@ -117,29 +159,57 @@ public final class AtomicFiles {
         @Override
         public void close() throws IOException {
             super.close();
-            try {
-                Files.move(this.writePath, this.targetPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
-            } catch (final AccessDeniedException ex) {
-                // Sometimes because of file locking this will fail... Let's just try again and hope for the best
-                // Thanks Windows!
-                for (int tries = 0; tries < MAX_TRIES; ++tries) {
-                    // Pause for a bit
-                    try {
-                        Thread.sleep(5L * (tries + 1));
-                        Files.move(this.writePath, this.targetPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
-                        return;
-                    } catch (final AccessDeniedException ex2) {
-                        if (tries == MAX_TRIES - 1) {
-                            throw ex;
-                        }
-                    } catch (final InterruptedException exInterrupt) {
-                        Thread.currentThread().interrupt();
+            moveIntoPlace(this.writePath, this.targetPath);
+        }
+
+    }
+
+    private static class AtomicFileOutputStream extends FilterOutputStream {
+
+        private final Path targetPath;
+        private final Path writePath;
+
+        protected AtomicFileOutputStream(final Path writePath, final Path targetPath, final OutputStream wrapping) {
+            super(wrapping);
+            this.writePath = writePath;
+            this.targetPath = targetPath;
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            this.out.write(b, off, len); // avoid FilterOutputStream's byte-at-a-time default
+        }
+
+        @Override
+        public void close() throws IOException {
+            super.close();
+            moveIntoPlace(this.writePath, this.targetPath);
+        }
+
+    }
+
+    private static void moveIntoPlace(final Path writePath, final Path targetPath) throws IOException {
+        try {
+            Files.move(writePath, targetPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (final AccessDeniedException ex) {
+            // Sometimes because of file locking this will fail... Let's just try again and hope for the best
+            // Thanks Windows!
+            for (int tries = 0; tries < MAX_TRIES; ++tries) {
+                // Pause for a bit
+                try {
+                    Thread.sleep(5L * (tries + 1));
+                    Files.move(writePath, targetPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                    return;
+                } catch (final AccessDeniedException ex2) {
+                    if (tries == MAX_TRIES - 1) {
                         throw ex;
                     }
+                } catch (final InterruptedException exInterrupt) {
+                    Thread.currentThread().interrupt();
+                    throw ex;
                 }
             }
         }
-
     }
 
 }
@@ -0,0 +1,393 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.loader;
+
+import static java.util.Objects.requireNonNull;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.configurate.BasicConfigurationNode;
+import org.spongepowered.configurate.ConfigurateException;
+import org.spongepowered.configurate.ConfigurationNode;
+import org.spongepowered.configurate.util.UnmodifiableCollections;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Load many configuration files at once, in parallel.
+ *
+ * <p>The loader used for each file is chosen based on its extension, using
+ * the formats known to {@link ConfigurationFormat#forExtension(String)}.</p>
+ *
+ * <p>At most {@link Builder#parallelism(int) parallelism} files will be
+ * loaded at any one time. Every file will be attempted, and an error loading
+ * one file will not prevent any others from being loaded.</p>
+ *
+ * @since 4.3.0
+ */
+public final class BulkLoader {
+
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    private final int parallelism;
+    private final @Nullable Executor executor;
+    private final ConfigurationNode formatOptions;
+    private final int maxDepth;
+
+    /**
+     * Create a new builder for a bulk loader.
+     *
+     * @return a new builder
+     * @since 4.3.0
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    BulkLoader(final Builder builder) {
+        this.parallelism = builder.parallelism;
+        this.executor = builder.executor;
+        this.formatOptions = builder.formatOptions;
+        this.maxDepth = builder.recursive ? Integer.MAX_VALUE : 1;
+    }
+
+    /**
+     * Load every file in a directory that has a known configuration format.
+     *
+     * <p>Files with extensions not handled by any known format
+     * are ignored.</p>
+     *
+     * @param directory the directory to load from
+     * @return the results of loading
+     * @throws IOException if the directory could not be listed
+     * @since 4.3.0
+     */
+    public Result loadDirectory(final Path directory) throws IOException {
+        return this.load(this.listDirectory(directory));
+    }
+
+    /**
+     * Load every file in a directory that has a known configuration format,
+     * without blocking the calling thread.
+     *
+     * <p>Files with extensions not handled by any known format
+     * are ignored.</p>
+     *
+     * @param directory the directory to load from
+     * @return a future providing the results of loading
+     * @throws IOException if the directory could not be listed
+     * @since 4.3.0
+     */
+    public CompletableFuture<Result> loadDirectoryAsync(final Path directory) throws IOException {
+        return this.loadAsync(this.listDirectory(directory));
+    }
+
+    /**
+     * Load each of the provided files.
+     *
+     * <p>Any file without a known configuration format will be reported
+     * as an error.</p>
+     *
+     * @param files the files to load
+     * @return the results of loading
+     * @since 4.3.0
+     */
+    public Result load(final Collection<Path> files) {
+        return this.loadAsync(files).join();
+    }
+
+    /**
+     * Load each of the provided files, without blocking the calling thread.
+     *
+     * <p>Any file without a known configuration format will be reported
+     * as an error.</p>
+     *
+     * @param files the files to load
+     * @return a future providing the results of loading
+     * @since 4.3.0
+     */
+    public CompletableFuture<Result> loadAsync(final Collection<Path> files) {
+        final Path[] paths = requireNonNull(files, "files").toArray(new Path[0]);
+        final @Nullable Object[] results = new Object[paths.length];
+        if (paths.length == 0) {
+            return CompletableFuture.completedFuture(this.collect(paths, results));
+        }
+
+        // each worker claims the next unloaded file until none remain
+        final AtomicInteger next = new AtomicInteger();
+        final Runnable worker = () -> {
+            int idx;
+            while ((idx = next.getAndIncrement()) < paths.length) {
+                results[idx] = this.loadOne(paths[idx]);
+            }
+        };
+
+        final Executor executor = this.executor == null ? BulkLoader::startThread : this.executor;
+        final CompletableFuture<?>[] workers = new CompletableFuture<?>[Math.min(this.parallelism, paths.length)];
+        for (int i = 0; i < workers.length; ++i) {
+            workers[i] = CompletableFuture.runAsync(worker, executor);
+        }
+        return CompletableFuture.allOf(workers).thenApply(ignored -> this.collect(paths, results));
+    }
+
+    private List<Path> listDirectory(final Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(requireNonNull(directory, "directory"), this.maxDepth)) {
+            return files
+                .filter(Files::isRegularFile)
+                .filter(file -> {
+                    final @Nullable String extension = extension(file);
+                    return extension != null && ConfigurationFormat.forExtension(extension) != null;
+                })
+                .sorted()
+                .collect(Collectors.toList());
+        }
+    }
+
+    private Object loadOne(final Path file) {
+        try {
+            final @Nullable String extension = extension(file);
+            final @Nullable ConfigurationFormat format = extension == null ? null : ConfigurationFormat.forExtension(extension);
+            if (format == null) {
+                throw new ConfigurateException("No known configuration format can load the file " + file);
+            }
+            return format.create(file, this.formatOptions).load();
+        } catch (final ConfigurateException ex) {
+            return ex;
+        } catch (final RuntimeException ex) {
+            return new ConfigurateException("Unknown error occurred while loading " + file, ex);
+        }
+    }
+
+    private Result collect(final Path[] paths, final @Nullable Object[] results) {
+        final Map<Path, ConfigurationNode> nodes = new LinkedHashMap<>();
+        final Map<Path, ConfigurateException> errors = new LinkedHashMap<>();
+        for (int i = 0; i < paths.length; ++i) {
+            final @Nullable Object result = results[i];
+            if (result instanceof ConfigurationNode) {
+                nodes.put(paths[i], (ConfigurationNode) result);
+            } else if (result instanceof ConfigurateException) {
+                errors.put(paths[i], (ConfigurateException) result);
+            }
+        }
+        return new Result(UnmodifiableCollections.copyOf(nodes), UnmodifiableCollections.copyOf(errors));
+    }
+
+    private static @Nullable String extension(final Path file) {
+        final @Nullable Path fileName = file.getFileName();
+        if (fileName == null) {
+            return null;
+        }
+        final String name = fileName.toString();
+        final int dotIdx = name.lastIndexOf('.');
+        return dotIdx == -1 ? null : name.substring(dotIdx + 1);
+    }
+
+    private static void startThread(final Runnable task) {
+        final Thread thread = new Thread(task, "Configurate-BulkLoader-" + THREAD_COUNTER.getAndIncrement());
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * The outcome of a bulk load.
+     *
+     * <p>Every file that was attempted will be present in exactly one of
+     * {@link #nodes()} or {@link #errors()}. Both maps will iterate in the
+     * order files were provided to the loader.</p>
+     *
+     * @since 4.3.0
+     */
+    public static final class Result {
+
+        private final Map<Path, ConfigurationNode> nodes;
+        private final Map<Path, ConfigurateException> errors;
+        private final @Nullable ConfigurateException failure;
+
+        Result(final Map<Path, ConfigurationNode> nodes, final Map<Path, ConfigurateException> errors) {
+            this.nodes = nodes;
+            this.errors = errors;
+            this.failure = aggregate(errors);
+        }
+
+        /**
+         * Combine errors into a new exception, leaving the error for each
+         * file unchanged.
+         *
+         * @param errors the errors to combine
+         * @return the combined error, if any occurred
+         */
+        private static @Nullable ConfigurateException aggregate(final Map<Path, ConfigurateException> errors) {
+            if (errors.isEmpty()) {
+                return null;
+            }
+
+            final ConfigurateException aggregate = new ConfigurateException(errors.size() + " of the requested files could not be loaded");
+            for (final ConfigurateException error : errors.values()) {
+                aggregate.addSuppressed(error);
+            }
+            return aggregate;
+        }
+
+        /**
+         * Get the nodes for all files that loaded successfully.
+         *
+         * @return the loaded nodes, by file
+         * @since 4.3.0
+         */
+        public Map<Path, ConfigurationNode> nodes() {
+            return this.nodes;
+        }
+
+        /**
+         * Get the errors encountered for any files that could not be loaded.
+         *
+         * @return the errors, by file
+         * @since 4.3.0
+         */
+        public Map<Path, ConfigurateException> errors() {
+            return this.errors;
+        }
+
+        /**
+         * Get whether every file was loaded successfully.
+         *
+         * @return if no errors occurred
+         * @since 4.3.0
+         */
+        public boolean successful() {
+            return this.errors.isEmpty();
+        }
+
+        /**
+         * Throw an exception if any file could not be loaded.
+         *
+         * <p>The thrown exception has the error for each file attached as a
+         * suppressed exception. Repeated calls throw the same exception.</p>
+         *
+         * @return this result, for chaining
+         * @throws ConfigurateException if any errors occurred
+         * @since 4.3.0
+         */
+        public Result throwIfFailed() throws ConfigurateException {
+            if (this.failure != null) {
+                throw this.failure;
+            }
+            return this;
+        }
+
+    }
+
+    /**
+     * A builder for bulk loaders.
+     *
+     * @since 4.3.0
+     */
+    public static final class Builder {
+
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+        private @Nullable Executor executor;
+        private ConfigurationNode formatOptions = BasicConfigurationNode.root();
+        private boolean recursive;
+
+        Builder() {
+        }
+
+        /**
+         * Set the maximum number of files to load at once.
+         *
+         * <p>By default, this is the number of available processors.</p>
+         *
+         * @param parallelism the maximum parallelism, at least one
+         * @return this builder
+         * @since 4.3.0
+         */
+        public Builder parallelism(final int parallelism) {
+            if (parallelism < 1) {
+                throw new IllegalArgumentException("Parallelism must be at least 1, but was " + parallelism);
+            }
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Set the executor to load files on.
+         *
+         * <p>No more than {@link #parallelism(int)} tasks will be submitted
+         * to this executor for any one load. If no executor is set, new
+         * daemon threads will be started for each load.</p>
+         *
+         * @param executor the executor to use
+         * @return this builder
+         * @since 4.3.0
+         */
+        public Builder executor(final @Nullable Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Set options used to configure each loader.
+         *
+         * @param options the options node
+         * @return this builder
+         * @see ConfigurationFormat#create(Path, ConfigurationNode)
+         * @since 4.3.0
+         */
+        public Builder formatOptions(final ConfigurationNode options) {
+            this.formatOptions = requireNonNull(options, "options");
+            return this;
+        }
+
+        /**
+         * Set whether loading a directory will include files
+         * in subdirectories.
+         *
+         * <p>By default, only files directly within a directory
+         * will be loaded.</p>
+         *
+         * @param recursive whether to descend into subdirectories
+         * @return this builder
+         * @since 4.3.0
+         */
+        public Builder recursive(final boolean recursive) {
+            this.recursive = recursive;
+            return this;
+        }
+
+        /**
+         * Create a new bulk loader with the current settings.
+         *
+         * @return the new loader
+         * @since 4.3.0
+         */
+        public BulkLoader build() {
+            return new BulkLoader(this);
+        }
+
+    }
+
+}
@@ -16,6 +16,8 @@
  */
 package org.spongepowered.configurate.loader;
 
+import static java.util.Objects.requireNonNull;
+
 import org.spongepowered.configurate.ConfigurateException;
 import org.spongepowered.configurate.ConfigurationNode;
 import org.spongepowered.configurate.ConfigurationNodeFactory;
@@ -24,6 +26,9 @@ import org.spongepowered.configurate.reference.ConfigurationReference;
 import org.spongepowered.configurate.reference.WatchServiceListener;
 
 import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 
 /**
@@ -70,6 +75,53 @@ public interface ConfigurationLoader<N extends ConfigurationNode> extends Config
      */
     N load(ConfigurationOptions options) throws ConfigurateException;
 
+    /**
+     * Load a {@link ConfigurationNode} without blocking the calling thread.
+     *
+     * <p>The {@link #defaultOptions() default options} will be used to
+     * construct the resultant configuration nodes.</p>
+     *
+     * @param executor the executor to parse the configuration on
+     * @return a future providing the newly constructed node
+     * @see #loadAsync(ConfigurationOptions, Executor)
+     * @since 4.3.0
+     */
+    default CompletableFuture<N> loadAsync(final Executor executor) {
+        return this.loadAsync(this.defaultOptions(), executor);
+    }
+
+    /**
+     * Load a {@link ConfigurationNode} without blocking the calling thread.
+     *
+     * <p>All reading and parsing is performed on the provided executor,
+     * or on other background threads. Any executor can be used, including a
+     * virtual thread per task executor when running on a JVM that
+     * supports them.</p>
+     *
+     * <p>Cancelling the returned future will prevent the load from starting
+     * if it has not already begun. Loaders may also abort reading that is
+     * already in progress, but parsing that has begun will always
+     * run to completion.</p>
+     *
+     * <p>Any error that would be thrown by {@link #load(ConfigurationOptions)}
+     * will instead complete the future exceptionally.</p>
+     *
+     * @param options the options to load with
+     * @param executor the executor to parse the configuration on
+     * @return a future providing the newly constructed node
+     * @since 4.3.0
+     */
+    default CompletableFuture<N> loadAsync(final ConfigurationOptions options, final Executor executor) {
+        requireNonNull(options, "options");
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return this.load(options);
+            } catch (final ConfigurateException ex) {
+                throw new CompletionException(ex);
+            }
+        }, requireNonNull(executor, "executor"));
+    }
+
     /**
      * Attempts to load data from the defined source into a {@link ConfigurationReference}.
      * The returned reference will not reload automatically.
@@ -92,6 +144,35 @@ public interface ConfigurationLoader<N extends ConfigurationNode> extends Config
      */
     void save(ConfigurationNode node) throws ConfigurateException;
 
+    /**
+     * Save a {@link ConfigurationNode} without blocking the calling thread.
+     *
+     * <p>Generating and writing the document is performed on the
+     * provided executor.</p>
+     *
+     * <p>Cancelling the returned future will prevent the save from starting
+     * if it has not already begun. A save that is in progress will always
+     * run to completion, so no partial document is ever written.</p>
+     *
+     * <p>Any error that would be thrown by {@link #save(ConfigurationNode)}
+     * will instead complete the future exceptionally.</p>
+     *
+     * @param node the node to save
+     * @param executor the executor to write on
+     * @return a future completing once the node has been written
+     * @since 4.3.0
+     */
+    default CompletableFuture<Void> saveAsync(final ConfigurationNode node, final Executor executor) {
+        requireNonNull(node, "node");
+        return CompletableFuture.runAsync(() -> {
+            try {
+                this.save(node);
+            } catch (final ConfigurateException ex) {
+                throw new CompletionException(ex);
+            }
+        }, requireNonNull(executor, "executor"));
+    }
+
     /**
      * Gets if this loader is capable of loading configurations.
      *
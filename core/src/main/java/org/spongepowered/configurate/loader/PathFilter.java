@@ -0,0 +1,334 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.loader;
+
+import static java.util.Objects.requireNonNull;
+
+import org.spongepowered.configurate.ConfigurationNode;
+import org.spongepowered.configurate.NodePath;
+import org.spongepowered.configurate.util.UnmodifiableCollections;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A set of patterns selecting which parts of a document a loader will read.
+ *
+ * <p>Each pattern is a {@link NodePath}. Within a pattern, the element
+ * {@value #ANY} matches any single key, and {@value #ANY_DEPTH} matches any
+ * number of keys, including none. All other elements must match exactly,
+ * comparing their string forms (so list indices may be written as either
+ * numbers or strings).</p>
+ *
+ * <p>A node is included when it falls within the subtree selected by any
+ * include pattern, or when there are no include patterns. A node is
+ * excluded when it falls within the subtree selected by any exclude
+ * pattern. Exclusions always take priority over inclusions. Parent nodes
+ * of included nodes are retained as containers, but will not hold any
+ * other values.</p>
+ *
+ * @since 4.3.0
+ */
+public final class PathFilter {
+
+    /**
+     * A pattern element that matches any single key.
+     *
+     * @since 4.3.0
+     */
+    public static final String ANY = "*";
+
+    /**
+     * A pattern element that matches any number of keys.
+     *
+     * @since 4.3.0
+     */
+    public static final String ANY_DEPTH = "**";
+
+    private static final PathFilter ALL = new PathFilter(Collections.emptyList(), Collections.emptyList());
+
+    private static final int WITHIN = 1;
+    private static final int ANCESTOR = 2;
+
+    private final List<Object[]> includes;
+    private final List<Object[]> excludes;
+
+    /**
+     * Get a filter that accepts every node.
+     *
+     * @return the filter accepting every node
+     * @since 4.3.0
+     */
+    public static PathFilter all() {
+        return ALL;
+    }
+
+    /**
+     * Create a new builder for a path filter.
+     *
+     * @return a new builder
+     * @since 4.3.0
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    PathFilter(final List<Object[]> includes, final List<Object[]> excludes) {
+        this.includes = includes;
+        this.excludes = excludes;
+    }
+
+    /**
+     * Get whether this filter accepts every node, so no filtering
+     * has to be performed.
+     *
+     * @return if this filter accepts everything
+     * @since 4.3.0
+     */
+    public boolean acceptsAll() {
+        return this.includes.isEmpty() && this.excludes.isEmpty();
+    }
+
+    /**
+     * Decide how the node at a certain path should be read.
+     *
+     * @param path the path of the node, relative to the root of the document
+     * @return the decision
+     * @since 4.3.0
+     */
+    public Decision test(final NodePath path) {
+        requireNonNull(path, "path");
+        final int excluded = matchAny(this.excludes, path);
+        if ((excluded & WITHIN) != 0) {
+            return Decision.SKIP;
+        }
+
+        final int included = this.includes.isEmpty() ? WITHIN : matchAny(this.includes, path);
+        if ((included & WITHIN) == 0) {
+            return (included & ANCESTOR) != 0 ? Decision.DESCEND : Decision.SKIP;
+        }
+
+        return (excluded & ANCESTOR) != 0 ? Decision.INCLUDE : Decision.INCLUDE_ALL;
+    }
+
+    /**
+     * Remove every value not accepted by this filter from an
+     * already-loaded node.
+     *
+     * <p>Loaders that cannot skip values while parsing will use this method
+     * to filter the loaded document. The node's path is used as the
+     * path relative to the document root.</p>
+     *
+     * @param node the node to filter
+     * @since 4.3.0
+     */
+    public void prune(final ConfigurationNode node) {
+        if (this.acceptsAll()) {
+            return;
+        }
+        this.prune(node, this.test(node.path()));
+    }
+
+    private void prune(final ConfigurationNode node, final Decision decision) {
+        switch (decision) {
+            case INCLUDE_ALL:
+                return;
+            case SKIP:
+                node.raw(null);
+                return;
+            default:
+                break;
+        }
+
+        if (node.isMap()) {
+            for (final Map.Entry<Object, ? extends ConfigurationNode> child : node.childrenMap().entrySet()) {
+                this.prune(child.getValue(), this.test(child.getValue().path()));
+            }
+        } else if (node.isList()) {
+            final List<? extends ConfigurationNode> children = node.childrenList();
+            // work backwards, so removing elements does not change the paths of those not yet tested
+            for (int i = children.size() - 1; i >= 0; --i) {
+                this.prune(children.get(i), this.test(children.get(i).path()));
+            }
+        } else if (decision == Decision.DESCEND) {
+            node.raw(null);
+            return;
+        }
+
+        if (decision == Decision.DESCEND && node.empty()) {
+            node.raw(null);
+        }
+    }
+
+    private static int matchAny(final List<Object[]> patterns, final NodePath path) {
+        int result = 0;
+        for (final Object[] pattern : patterns) {
+            result |= match(pattern, 0, path, 0);
+            if ((result & WITHIN) != 0) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Match the remainder of a pattern against the remainder of a path.
+     *
+     * @return {@link #WITHIN} if the pattern matches some prefix of the path,
+     *      {@link #ANCESTOR} if the pattern could match some path
+     *      beginning with the path, or both
+     */
+    private static int match(final Object[] pattern, final int patternIdx, final NodePath path, final int pathIdx) {
+        if (patternIdx == pattern.length) {
+            return WITHIN;
+        }
+        final Object element = pattern[patternIdx];
+        if (ANY_DEPTH.equals(element)) {
+            int result = match(pattern, patternIdx + 1, path, pathIdx);
+            if (pathIdx < path.size()) {
+                result |= match(pattern, patternIdx, path, pathIdx + 1);
+            } else {
+                result |= ANCESTOR;
+            }
+            return result;
+        }
+
+        if (pathIdx == path.size()) {
+            return ANCESTOR;
+        }
+        if (ANY.equals(element) || element.toString().equals(path.get(pathIdx).toString())) {
+            return match(pattern, patternIdx + 1, path, pathIdx + 1);
+        }
+        return 0;
+    }
+
+    /**
+     * How a node should be read.
+     *
+     * @since 4.3.0
+     */
+    public enum Decision {
+        /**
+         * The node and all its descendants are not accepted, and
+         * should not be read.
+         *
+         * @since 4.3.0
+         */
+        SKIP,
+        /**
+         * The node may contain accepted descendants, but has no value
+         * of its own.
+         *
+         * <p>Each child should be tested. Scalar values at this path are not
+         * accepted, and an empty map or list should not be created.</p>
+         *
+         * @since 4.3.0
+         */
+        DESCEND,
+        /**
+         * The node is accepted, but some of its descendants may not be.
+         *
+         * <p>Each child should be tested.</p>
+         *
+         * @since 4.3.0
+         */
+        INCLUDE,
+        /**
+         * The node and all of its descendants are accepted.
+         *
+         * @since 4.3.0
+         */
+        INCLUDE_ALL
+    }
+
+    /**
+     * A builder for path filters.
+     *
+     * @since 4.3.0
+     */
+    public static final class Builder {
+
+        private final List<Object[]> includes = new ArrayList<>();
+        private final List<Object[]> excludes = new ArrayList<>();
+
+        Builder() {
+        }
+
+        /**
+         * Include the subtree matched by a pattern.
+         *
+         * @param pattern the pattern to include
+         * @return this builder
+         * @since 4.3.0
+         */
+        public Builder include(final NodePath pattern) {
+            this.includes.add(requireNonNull(pattern, "pattern").array());
+            return this;
+        }
+
+        /**
+         * Include the subtree matched by a pattern.
+         *
+         * @param pattern the elements of the pattern to include
+         * @return this builder
+         * @since 4.3.0
+         */
+        public Builder include(final Object... pattern) {
+            return this.include(NodePath.of(pattern));
+        }
+
+        /**
+         * Exclude the subtree matched by a pattern.
+         *
+         * @param pattern the pattern to exclude
+         * @return this builder
+         * @since 4.3.0
+         */
+        public Builder exclude(final NodePath pattern) {
+            this.excludes.add(requireNonNull(pattern, "pattern").array());
+            return this;
+        }
+
+        /**
+         * Exclude the subtree matched by a pattern.
+         *
+         * @param pattern the elements of the pattern to exclude
+         * @return this builder
+         * @since 4.3.0
+         */
+        public Builder exclude(final Object... pattern) {
+            return this.exclude(NodePath.of(pattern));
+        }
+
+        /**
+         * Create a new filter from the current patterns.
+         *
+         * @return the new filter
+         * @since 4.3.0
+         */
+        public PathFilter build() {
+            if (this.includes.isEmpty() && this.excludes.isEmpty()) {
+                return ALL;
+            }
+            return new PathFilter(UnmodifiableCollections.copyOf(this.includes), UnmodifiableCollections.copyOf(this.excludes));
+        }
+
+    }
+
+}
@@ -0,0 +1,251 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.loader;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.auto.value.AutoValue;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.configurate.util.CheckedFunction;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * A bounded pool of objects that are expensive to create and may not be used
+ * by multiple threads at once, such as parsers or generators.
+ *
+ * <p>Objects are created on demand when no idle instance is available, so
+ * acquiring never blocks. At most {@link #capacity()} idle objects are
+ * retained once released, and any others are discarded, so the number of
+ * retained objects does not grow with the number of threads using a
+ * loader.</p>
+ *
+ * @param <T> the pooled type
+ * @since 4.3.0
+ */
+public final class ReusablePool<T> {
+
+    private final Supplier<? extends T> factory;
+    private final int capacity;
+    private final ArrayBlockingQueue<T> idle;
+    private final LongAdder acquisitions = new LongAdder();
+    private final LongAdder creations = new LongAdder();
+    private final LongAdder discards = new LongAdder();
+
+    /**
+     * Create a new pool.
+     *
+     * <p>A capacity of zero disables pooling, creating a new instance for
+     * every acquisition.</p>
+     *
+     * @param factory the factory to create new instances
+     * @param capacity the maximum number of idle instances to retain
+     * @param <T> the pooled type
+     * @return a new pool
+     * @since 4.3.0
+     */
+    public static <T> ReusablePool<T> create(final Supplier<? extends T> factory, final int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Pool capacity must be non-negative, but was " + capacity);
+        }
+        return new ReusablePool<>(requireNonNull(factory, "factory"), capacity);
+    }
+
+    private ReusablePool(final Supplier<? extends T> factory, final int capacity) {
+        this.factory = factory;
+        this.capacity = capacity;
+        this.idle = new ArrayBlockingQueue<>(Math.max(capacity, 1));
+    }
+
+    /**
+     * Get the maximum number of idle instances this pool will retain.
+     *
+     * @return the capacity
+     * @since 4.3.0
+     */
+    public int capacity() {
+        return this.capacity;
+    }
+
+    /**
+     * Take an instance from the pool, or create a new one if none
+     * are available.
+     *
+     * <p>The instance should be returned with {@link #release(Object)} once
+     * the caller is done with it.</p>
+     *
+     * @return an instance for exclusive use by the caller
+     * @since 4.3.0
+     */
+    public T acquire() {
+        this.acquisitions.increment();
+        final @Nullable T existing = this.idle.poll();
+        if (existing != null) {
+            return existing;
+        }
+        this.creations.increment();
+        return requireNonNull(this.factory.get(), "factory returned null");
+    }
+
+    /**
+     * Return an instance to the pool.
+     *
+     * <p>If the pool is full, the instance is discarded.</p>
+     *
+     * @param instance the instance, which must not be used by the caller
+     *     after release
+     * @since 4.3.0
+     */
+    public void release(final T instance) {
+        if (this.capacity == 0 || !this.idle.offer(requireNonNull(instance, "instance"))) {
+            this.discards.increment();
+        }
+    }
+
+    /**
+     * Perform an action with an instance borrowed from this pool.
+     *
+     * @param action the action to perform
+     * @param <V> the result type
+     * @param <E> the exception type thrown by the action
+     * @return the action's result
+     * @throws E if thrown by the action
+     * @since 4.3.0
+     */
+    public <V, E extends Exception> V use(final CheckedFunction<? super T, V, E> action) throws E {
+        final T instance = this.acquire();
+        try {
+            return action.apply(instance);
+        } finally {
+            this.release(instance);
+        }
+    }
+
+    /**
+     * Get a snapshot of the current utilization of this pool.
+     *
+     * @return current metrics
+     * @since 4.3.0
+     */
+    public Metrics metrics() {
+        return Metrics.of(
+            this.capacity,
+            this.idle.size(),
+            this.acquisitions.sum(),
+            this.creations.sum(),
+            this.discards.sum()
+        );
+    }
+
+    /**
+     * A point-in-time view of pool utilization.
+     *
+     * @since 4.3.0
+     */
+    @AutoValue
+    public abstract static class Metrics {
+
+        private static final Metrics EMPTY = of(0, 0, 0, 0, 0);
+
+        static Metrics empty() {
+            return EMPTY;
+        }
+
+        static Metrics of(final int capacity, final int idle, final long acquisitions, final long creations, final long discards) {
+            return new AutoValue_ReusablePool_Metrics(capacity, idle, acquisitions, creations, discards);
+        }
+
+        Metrics() {
+        }
+
+        /**
+         * The maximum number of idle instances retained.
+         *
+         * @return the capacity
+         * @since 4.3.0
+         */
+        public abstract int capacity();
+
+        /**
+         * The number of instances currently waiting to be reused.
+         *
+         * @return the idle count
+         * @since 4.3.0
+         */
+        public abstract int idle();
+
+        /**
+         * The total number of times an instance has been acquired.
+         *
+         * @return the acquisition count
+         * @since 4.3.0
+         */
+        public abstract long acquisitions();
+
+        /**
+         * The total number of instances created because none were idle.
+         *
+         * @return the creation count
+         * @since 4.3.0
+         */
+        public abstract long creations();
+
+        /**
+         * The total number of instances dropped on release because the pool
+         * was already full.
+         *
+         * @return the discard count
+         * @since 4.3.0
+         */
+        public abstract long discards();
+
+        /**
+         * The fraction of acquisitions that were served by an
+         * existing instance.
+         *
+         * @return a ratio between 0 and 1
+         * @since 4.3.0
+         */
+        public final double reuseRatio() {
+            final long acquisitions = this.acquisitions();
+            if (acquisitions == 0) {
+                return 0;
+            }
+            return (double) (acquisitions - this.creations()) / acquisitions;
+        }
+
+        /**
+         * Combine these metrics with another set of metrics.
+         *
+         * @param other the other metrics
+         * @return the summed metrics
+         */
+        Metrics plus(final Metrics other) {
+            return of(
+                this.capacity() + other.capacity(),
+                this.idle() + other.idle(),
+                this.acquisitions() + other.acquisitions(),
+                this.creations() + other.creations(),
+                this.discards() + other.discards()
+            );
+        }
+
+    }
+
+}
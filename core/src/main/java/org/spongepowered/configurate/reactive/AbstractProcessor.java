@@ -18,9 +18,6 @@ package org.spongepowered.configurate.reactive;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
 
-import java.util.Iterator;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
@@ -36,13 +33,28 @@ abstract class AbstractProcessor<V, R extends AbstractProcessor.Registration<V>>
     private static final int CLOSED_VALUE = Integer.MIN_VALUE / 2;
     final AtomicInteger subscriberCount = new AtomicInteger();
     volatile @Nullable Subscriber<V> fallbackHandler;
-    protected final Set<R> registrations = ConcurrentHashMap.newKeySet();
+    // copied on write, so the registrations can be read on each submit without locking or allocation
+    protected final CopyOnWriteArray<R> registrations = new CopyOnWriteArray<>();
     protected final Executor executor;
+    // only present when the overflow policy bounds the number of queued values
+    protected final @Nullable DispatchQueue<V> queue;
 
     protected AbstractProcessor(final Executor executor) {
+        this(executor, OverflowPolicy.unbounded());
+    }
+
+    protected AbstractProcessor(final Executor executor, final OverflowPolicy overflow) {
         this.executor = executor;
+        this.queue = overflow.kind() == OverflowPolicy.Kind.UNBOUNDED ? null : new DispatchQueue<>(overflow, executor, this::deliver);
     }
 
+    /**
+     * Deliver a value to every subscriber.
+     *
+     * @param value the value to deliver
+     */
+    protected abstract void deliver(V value);
+
     @Override
     public Executor executor() {
         return this.executor;
@@ -78,14 +90,14 @@ abstract class AbstractProcessor<V, R extends AbstractProcessor.Registration<V>>
     public void onClose() {
         this.executor.execute(() -> {
             this.subscriberCount.set(CLOSED_VALUE);
-            for (Registration<V> reg : this.registrations) {
+            final Object[] registrations = this.registrations.clear();
+            for (int i = 0; i < registrations.length; ++i) {
                 try {
-                    reg.onClose();
+                    this.registrations.get(registrations, i).onClose();
                 } catch (final Exception t) {
                     // not much we can do here, maybe log?
                 }
             }
-            this.registrations.clear();
         });
     }
 
@@ -96,13 +108,13 @@ abstract class AbstractProcessor<V, R extends AbstractProcessor.Registration<V>>
      * @param processor the processor
      */
     protected void forEachOrRemove(final Consumer<R> processor) {
-        for (final Iterator<R> it = this.registrations.iterator(); it.hasNext(); ) {
-            final R reg = it.next();
+        final Object[] registrations = this.registrations.snapshot();
+        for (int i = 0; i < registrations.length; ++i) {
+            final R reg = this.registrations.get(registrations, i);
             try {
                 processor.accept(reg);
             } catch (final Exception t) {
-                it.remove();
-                this.subscriberCount.getAndDecrement();
+                this.remove(reg);
                 try {
                     reg.onError(t);
                 } catch (final Exception t2) { // really? how rude
@@ -112,6 +124,17 @@ abstract class AbstractProcessor<V, R extends AbstractProcessor.Registration<V>>
         }
     }
 
+    /**
+     * Remove a registration, if it is still registered.
+     *
+     * @param reg the registration to remove
+     */
+    protected void remove(final R reg) {
+        if (this.registrations.remove(reg)) {
+            this.subscriberCount.getAndDecrement();
+        }
+    }
+
     @Override
     public void fallbackHandler(final @Nullable Subscriber<V> subscriber) {
         this.fallbackHandler = subscriber;
@@ -121,10 +144,10 @@ abstract class AbstractProcessor<V, R extends AbstractProcessor.Registration<V>>
     public boolean closeIfUnsubscribed() {
         this.executor.execute(() -> {
             if (this.subscriberCount.compareAndSet(0, CLOSED_VALUE)) {
-                for (Registration<V> reg : this.registrations) {
-                    reg.onClose();
+                final Object[] registrations = this.registrations.clear();
+                for (int i = 0; i < registrations.length; ++i) {
+                    this.registrations.get(registrations, i).onClose();
                 }
-                this.registrations.clear();
             }
         });
         return this.subscriberCount.get() <= 0; // will close or already closed
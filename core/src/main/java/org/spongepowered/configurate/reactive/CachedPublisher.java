@@ -19,8 +19,6 @@ package org.spongepowered.configurate.reactive;
 import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 
 /**
@@ -35,7 +33,7 @@ import java.util.concurrent.Executor;
 class CachedPublisher<V> implements Publisher.Cached<V>, AutoCloseable {
 
     private final Publisher<V> parent;
-    private final Set<Subscriber<? super V>> subscribers = ConcurrentHashMap.newKeySet();
+    private final CopyOnWriteArray<Subscriber<? super V>> subscribers = new CopyOnWriteArray<>();
     private volatile @MonotonicNonNull V value;
     private final Disposable closer;
 
@@ -96,7 +94,10 @@ class CachedPublisher<V> implements Publisher.Cached<V>, AutoCloseable {
     @Override
     public void submit(final V value) {
         this.value = value;
-        this.subscribers.forEach(it -> it.submit(value));
+        final Object[] subscribers = this.subscribers.snapshot();
+        for (int i = 0; i < subscribers.length; ++i) {
+            this.subscribers.get(subscribers, i).submit(value);
+        }
     }
 
     @Override
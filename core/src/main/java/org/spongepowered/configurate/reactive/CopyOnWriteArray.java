@@ -0,0 +1,99 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.reactive;
+
+import java.util.Arrays;
+
+/**
+ * An array of elements that is copied on every modification.
+ *
+ * <p>Reading the current elements never locks or allocates, so this is
+ * suited to subscriber lists that are read on every submission, but
+ * rarely change. Elements are kept in the order they were added.</p>
+ *
+ * @param <E> element type
+ */
+final class CopyOnWriteArray<E> {
+
+    private static final Object[] EMPTY = new Object[0];
+
+    private volatile Object[] elements = EMPTY;
+
+    /**
+     * Get the current elements.
+     *
+     * <p>The returned array must not be modified. Use {@link #get(Object[], int)}
+     * to access its elements.</p>
+     *
+     * @return the current elements
+     */
+    Object[] snapshot() {
+        return this.elements;
+    }
+
+    @SuppressWarnings("unchecked")
+    E get(final Object[] snapshot, final int index) {
+        return (E) snapshot[index];
+    }
+
+    boolean isEmpty() {
+        return this.elements.length == 0;
+    }
+
+    synchronized void add(final E element) {
+        final Object[] existing = this.elements;
+        final Object[] updated = Arrays.copyOf(existing, existing.length + 1);
+        updated[existing.length] = element;
+        this.elements = updated;
+    }
+
+    /**
+     * Remove an element, compared by identity.
+     *
+     * @param element the element to remove
+     * @return whether the element was present
+     */
+    synchronized boolean remove(final Object element) {
+        final Object[] existing = this.elements;
+        for (int i = 0; i < existing.length; ++i) {
+            if (existing[i] == element) {
+                if (existing.length == 1) {
+                    this.elements = EMPTY;
+                } else {
+                    final Object[] updated = new Object[existing.length - 1];
+                    System.arraycopy(existing, 0, updated, 0, i);
+                    System.arraycopy(existing, i + 1, updated, i, existing.length - i - 1);
+                    this.elements = updated;
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Remove all elements.
+     *
+     * @return the elements that were present
+     */
+    synchronized Object[] clear() {
+        final Object[] existing = this.elements;
+        this.elements = EMPTY;
+        return existing;
+    }
+
+}
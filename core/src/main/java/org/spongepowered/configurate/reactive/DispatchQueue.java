@@ -0,0 +1,125 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.reactive;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+/**
+ * A queue of values waiting to be delivered by a processor, bounded
+ * according to an {@link OverflowPolicy}.
+ *
+ * <p>At most one task draining the queue is submitted to the executor
+ * at a time.</p>
+ *
+ * @param <V> value type
+ */
+final class DispatchQueue<V> {
+
+    private final OverflowPolicy policy;
+    private final Executor executor;
+    private final Consumer<V> delivery;
+    private final ArrayDeque<V> queue = new ArrayDeque<>();
+    // guarded by this.queue
+    private @Nullable Thread drainer;
+    private boolean scheduled;
+
+    DispatchQueue(final OverflowPolicy policy, final Executor executor, final Consumer<V> delivery) {
+        this.policy = policy;
+        this.executor = executor;
+        this.delivery = delivery;
+    }
+
+    /**
+     * Queue a value for delivery.
+     *
+     * @param value the value to deliver
+     * @return whether the value was accepted, rather than dropped
+     */
+    boolean offer(final V value) {
+        synchronized (this.queue) {
+            switch (this.policy.kind()) {
+                case LATEST:
+                    this.queue.clear();
+                    break;
+                case DROP:
+                    if (this.queue.size() >= this.policy.capacity()) {
+                        return false;
+                    }
+                    break;
+                case BLOCK:
+                    while (this.queue.size() >= this.policy.capacity() && this.drainer != Thread.currentThread()) {
+                        try {
+                            this.queue.wait();
+                        } catch (final InterruptedException ex) {
+                            Thread.currentThread().interrupt();
+                            return false;
+                        }
+                    }
+                    break;
+                default:
+                    break;
+            }
+            this.queue.add(value);
+            if (this.scheduled) {
+                return true;
+            }
+            this.scheduled = true;
+        }
+
+        try {
+            this.executor.execute(this::drain);
+        } catch (final RuntimeException ex) {
+            synchronized (this.queue) {
+                this.scheduled = false;
+                this.queue.clear();
+                this.queue.notifyAll();
+            }
+            throw ex;
+        }
+        return true;
+    }
+
+    private void drain() {
+        while (true) {
+            final V next;
+            synchronized (this.queue) {
+                final @Nullable V polled = this.queue.poll();
+                if (polled == null) {
+                    this.scheduled = false;
+                    this.drainer = null;
+                    return;
+                }
+                next = polled;
+                this.drainer = Thread.currentThread();
+                this.queue.notifyAll();
+            }
+
+            try {
+                this.delivery.accept(next);
+            } catch (final RuntimeException ex) {
+                // the remaining values should still be delivered
+                final Thread current = Thread.currentThread();
+                current.getUncaughtExceptionHandler().uncaughtException(current, ex);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,137 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.reactive;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Controls how a {@link Processor} queues values that arrive faster than
+ * its subscribers can receive them.
+ *
+ * <p>By default, each value submitted to a processor that delivers on an
+ * {@link Executor} becomes its own task, so a slow subscriber can cause
+ * an unbounded number of tasks to queue up. With any other policy, a
+ * processor holds at most one task on its executor at a time, which
+ * delivers queued values one after another. The next value is only taken
+ * from the queue once every subscriber has received the previous one.</p>
+ *
+ * @see Processor#create(Executor, OverflowPolicy)
+ * @see Processor#createTransactional(Executor, OverflowPolicy)
+ * @since 4.3.0
+ */
+public final class OverflowPolicy {
+
+    private static final OverflowPolicy UNBOUNDED = new OverflowPolicy(Kind.UNBOUNDED, Integer.MAX_VALUE);
+    private static final OverflowPolicy LATEST = new OverflowPolicy(Kind.LATEST, 1);
+
+    private final Kind kind;
+    private final int capacity;
+
+    /**
+     * Get a policy that queues every value without limit.
+     *
+     * <p>This is the default for all processors.</p>
+     *
+     * @return the unbounded policy
+     * @since 4.3.0
+     */
+    public static OverflowPolicy unbounded() {
+        return UNBOUNDED;
+    }
+
+    /**
+     * Get a policy that only keeps the most recent value waiting to
+     * be delivered.
+     *
+     * <p>Values replaced before they can be delivered are discarded. This
+     * suits streams where only the current state matters, such as
+     * configuration updates.</p>
+     *
+     * @return the conflating policy
+     * @since 4.3.0
+     */
+    public static OverflowPolicy latest() {
+        return LATEST;
+    }
+
+    /**
+     * Get a policy that discards newly submitted values while the queue
+     * is full.
+     *
+     * @param capacity the number of values that may wait to be delivered
+     * @return a dropping policy
+     * @since 4.3.0
+     */
+    public static OverflowPolicy drop(final int capacity) {
+        return new OverflowPolicy(Kind.DROP, checkCapacity(capacity));
+    }
+
+    /**
+     * Get a policy that blocks the submitting thread while the queue
+     * is full.
+     *
+     * <p>Values submitted by a subscriber while it is receiving a value from
+     * the same processor are queued without blocking, since waiting for that
+     * subscriber to finish could never succeed.</p>
+     *
+     * @param capacity the number of values that may wait to be delivered
+     * @return a blocking policy
+     * @since 4.3.0
+     */
+    public static OverflowPolicy block(final int capacity) {
+        return new OverflowPolicy(Kind.BLOCK, checkCapacity(capacity));
+    }
+
+    private static int checkCapacity(final int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be at least 1, but was " + capacity);
+        }
+        return capacity;
+    }
+
+    private OverflowPolicy(final Kind kind, final int capacity) {
+        this.kind = kind;
+        this.capacity = capacity;
+    }
+
+    Kind kind() {
+        return this.kind;
+    }
+
+    /**
+     * Get the number of values that may wait to be delivered.
+     *
+     * @return the queue capacity
+     * @since 4.3.0
+     */
+    public int capacity() {
+        return this.capacity;
+    }
+
+    @Override
+    public String toString() {
+        return "OverflowPolicy{kind=" + this.kind + ", capacity=" + this.capacity + "}";
+    }
+
+    enum Kind {
+        UNBOUNDED,
+        LATEST,
+        DROP,
+        BLOCK
+    }
+
+}
@@ -16,6 +16,8 @@
  */
 package org.spongepowered.configurate.reactive;
 
+import static java.util.Objects.requireNonNull;
+
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.configurate.util.CheckedFunction;
 
@@ -65,6 +67,25 @@ public interface Processor<I, O> extends Publisher<O>, Subscriber<I> {
         return new ProcessorImpl<>(executor);
     }
 
+    /**
+     * Create a {@link Processor} instance that broadcasts submitted values to
+     * its subscribers on the provided executor, queueing values according to
+     * an overflow policy.
+     *
+     * <p>With the {@link OverflowPolicy#unbounded() unbounded} policy, values
+     * are delivered on the submitting thread, as with
+     * {@link #create(Executor)}.</p>
+     *
+     * @param <V> the type
+     * @param executor task executor
+     * @param overflow the policy for values that can't be delivered yet
+     * @return a new processor instance
+     * @since 4.3.0
+     */
+    static <V> Processor.Iso<V> create(final Executor executor, final OverflowPolicy overflow) {
+        return new ProcessorImpl<>(executor, requireNonNull(overflow, "overflow"));
+    }
+
     /**
      * Create a processor instance that is aware of transactions.
      *
@@ -79,7 +100,9 @@ public interface Processor<I, O> extends Publisher<O>, Subscriber<I> {
     /**
      * Create a processor instance that is aware of transactions.
      *
-     * <p>Operations will be submitted to the provided executor.</p>
+     * <p>Operations will be submitted to the provided executor. Each
+     * submitted value is delivered to every subscriber, in the order they
+     * subscribed, by a single task.</p>
      *
      * @param exec executor to run operations on
      * @param <V> the value type
@@ -90,6 +113,37 @@ public interface Processor<I, O> extends Publisher<O>, Subscriber<I> {
         return new TransactionalProcessorImpl<>(exec);
     }
 
+    /**
+     * Create a processor instance that is aware of transactions, queueing
+     * values according to an overflow policy.
+     *
+     * @param exec executor to run operations on
+     * @param overflow the policy for values that can't be delivered yet
+     * @param <V> the value type
+     * @return a new transactional processor
+     * @since 4.3.0
+     */
+    static <V> Processor.TransactionalIso<V> createTransactional(final Executor exec, final OverflowPolicy overflow) {
+        return new TransactionalProcessorImpl<>(exec, requireNonNull(overflow, "overflow"));
+    }
+
+    /**
+     * Get an executor that runs tasks immediately, on the thread
+     * submitting them.
+     *
+     * <p>Processors created with this executor deliver each value to all
+     * subscribers on the submitting thread, without allocating a task for
+     * the submission. This suits values that are updated at a high rate by
+     * a single thread, where handing off to another thread would cost more
+     * than the subscribers themselves.</p>
+     *
+     * @return the synchronous executor
+     * @since 4.3.0
+     */
+    static Executor synchronous() {
+        return DirectExecutor.INSTANCE;
+    }
+
     /**
      * {@inheritDoc}
      */
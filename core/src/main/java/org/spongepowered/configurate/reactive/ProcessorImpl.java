@@ -18,7 +18,6 @@ package org.spongepowered.configurate.reactive;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
 
-import java.util.Iterator;
 import java.util.concurrent.Executor;
 
 // Java 9 has reactive API... but we can't use that :(
@@ -28,22 +27,34 @@ class ProcessorImpl<V> extends AbstractProcessor<V, RegistrationImpl<V>> impleme
         super(exec);
     }
 
+    ProcessorImpl(final Executor exec, final OverflowPolicy overflow) {
+        super(exec, overflow);
+    }
+
     @Override
     public void submit(final V value) {
+        final @Nullable DispatchQueue<V> queue = this.queue;
+        if (queue != null) {
+            queue.offer(value);
+        } else {
+            this.deliver(value);
+        }
+    }
+
+    @Override
+    protected void deliver(final V value) {
         if (this.subscriberCount.get() >= 0) {
-            boolean handled = false;
-            for (Iterator<RegistrationImpl<V>> it = this.registrations.iterator(); it.hasNext(); ) {
-                final RegistrationImpl<V> reg = it.next();
+            final Object[] registrations = this.registrations.snapshot();
+            for (int i = 0; i < registrations.length; ++i) {
+                final RegistrationImpl<V> reg = this.registrations.get(registrations, i);
                 try {
-                    handled = true;
                     reg.submit(value);
                 } catch (final Exception t) {
-                    it.remove();
-                    this.subscriberCount.getAndDecrement();
+                    this.remove(reg);
                     reg.subscriber.onError(t);
                 }
             }
-            if (!handled) {
+            if (registrations.length == 0) {
                 final @Nullable Subscriber<V> fallback = this.fallbackHandler;
                 if (fallback != null) {
                     fallback.submit(value);
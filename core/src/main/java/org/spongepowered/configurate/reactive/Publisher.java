@@ -127,6 +127,29 @@ public interface Publisher<V> {
         return new CachedPublisher<>(this, initialValue);
     }
 
+    /**
+     * Create a publisher that receives values from this one through a queue
+     * bounded by an overflow policy, and delivers them on this publisher's
+     * executor.
+     *
+     * <p>A slow subscriber to the returned publisher will not hold up this
+     * publisher, and will not cause more than one task to be queued on the
+     * executor at a time. For example, {@link OverflowPolicy#latest()}
+     * ensures such a subscriber only ever receives the latest value.</p>
+     *
+     * <p>The returned publisher is subscribed to this one until this
+     * publisher is closed. It is not transaction-aware.</p>
+     *
+     * @param overflow the policy for values that can't be delivered yet
+     * @return a new publisher
+     * @since 4.3.0
+     */
+    default Publisher<V> overflow(final OverflowPolicy overflow) {
+        final Processor.Iso<V> processor = Processor.create(this.executor(), overflow);
+        this.subscribe(processor);
+        return processor;
+    }
+
     /**
      * Get the executor used to handle published events.
      *
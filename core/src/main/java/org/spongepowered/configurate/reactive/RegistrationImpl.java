@@ -33,9 +33,7 @@ class RegistrationImpl<V> implements AbstractProcessor.Registration<V> {
 
     @Override
     public void dispose() {
-        if (this.holder.registrations.remove(this)) {
-            this.holder.subscriberCount.getAndDecrement();
-        }
+        this.holder.remove(this);
     }
 
     @Override
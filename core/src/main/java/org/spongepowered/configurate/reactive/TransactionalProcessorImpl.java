@@ -18,7 +18,6 @@ package org.spongepowered.configurate.reactive;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
 
-import java.util.Iterator;
 import java.util.concurrent.Executor;
 
 class TransactionalProcessorImpl<V> extends AbstractProcessor<V, TransactionalRegistration<V>> implements Processor.TransactionalIso<V> {
@@ -27,29 +26,44 @@ class TransactionalProcessorImpl<V> extends AbstractProcessor<V, TransactionalRe
         super(executor);
     }
 
+    protected TransactionalProcessorImpl(final Executor executor, final OverflowPolicy overflow) {
+        super(executor, overflow);
+    }
+
     @Override
     public void submit(final V item) {
-        executor.execute(() -> TransactionalIso.super.submit(item));
+        // one task delivers to every subscriber, in the order they subscribed
+        final @Nullable DispatchQueue<V> queue = this.queue;
+        if (queue != null) {
+            queue.offer(item);
+        } else if (this.executor == DirectExecutor.INSTANCE) {
+            this.deliver(item);
+        } else {
+            this.executor.execute(() -> this.deliver(item));
+        }
+    }
+
+    @Override
+    protected void deliver(final V item) {
+        TransactionalIso.super.submit(item);
     }
 
     @Override
     public void beginTransaction(final V newValue) throws TransactionFailedException {
         if (this.subscriberCount.get() >= 0) {
-            boolean handled = false;
-            for (Iterator<TransactionalRegistration<V>> it = this.registrations.iterator(); it.hasNext(); ) {
-                final TransactionalRegistration<V> reg = it.next();
+            final Object[] registrations = this.registrations.snapshot();
+            for (int i = 0; i < registrations.length; ++i) {
+                final TransactionalRegistration<V> reg = this.registrations.get(registrations, i);
                 try {
-                    handled = true;
                     reg.beginTransaction(newValue);
                 } catch (final TransactionFailedException ex) {
                     throw ex;
                 } catch (final Exception t) {
-                    it.remove();
-                    subscriberCount.getAndDecrement();
+                    this.remove(reg);
                     reg.onError(t);
                 }
             }
-            if (!handled) {
+            if (registrations.length == 0) {
                 final @Nullable Subscriber<V> fallback = this.fallbackHandler;
                 if (fallback != null) {
                     fallback.submit(newValue);
@@ -32,9 +32,7 @@ interface TransactionalRegistration<V> extends AbstractProcessor.Registration<V>
 
     @Override
     default void dispose() {
-        if (holder().registrations.remove(this)) {
-            holder().subscriberCount.getAndDecrement();
-        }
+        holder().remove(this);
     }
 
     @Override
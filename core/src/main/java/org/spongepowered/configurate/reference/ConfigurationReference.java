@@ -16,6 +16,9 @@
  */
 package org.spongepowered.configurate.reference;
 
+import static java.util.Objects.requireNonNull;
+
+import com.google.auto.value.AutoValue;
 import io.leangen.geantyref.TypeToken;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.configurate.ConfigurateException;
@@ -29,7 +32,6 @@ import org.spongepowered.configurate.serialize.SerializationException;
 
 import java.nio.file.Path;
 import java.util.Map;
-import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 
 /**
@@ -43,6 +45,9 @@ public interface ConfigurationReference<N extends ConfigurationNode> extends Aut
     /**
      * Create a new configuration reference that will only update when loaded.
      *
+     * <p>Updates will be delivered on the
+     * {@link TaskExecutor#shared() shared task executor}.</p>
+     *
      * @param loader the loader to load and save from
      * @param <N> the type of node
      * @return the newly created reference, with an initial load performed
@@ -51,7 +56,7 @@ public interface ConfigurationReference<N extends ConfigurationNode> extends Aut
      */
     static <N extends ScopedConfigurationNode<N>> ConfigurationReference<N>
             fixed(final ConfigurationLoader<? extends N> loader) throws ConfigurateException {
-        final ConfigurationReference<N> ret = new ManualConfigurationReference<>(loader, ForkJoinPool.commonPool());
+        final ConfigurationReference<N> ret = new ManualConfigurationReference<>(loader, TaskExecutor.shared());
         ret.load();
         return ret;
     }
@@ -73,8 +78,38 @@ public interface ConfigurationReference<N extends ConfigurationNode> extends Aut
     static <T extends ScopedConfigurationNode<T>> ConfigurationReference<T>
             watching(final Function<Path, ConfigurationLoader<? extends T>> loaderCreator, final Path file, final WatchServiceListener listener)
             throws ConfigurateException {
-        final WatchingConfigurationReference<T> ret = new WatchingConfigurationReference<>(loaderCreator.apply(file), listener.taskExecutor);
-        ret.load();
+        return watching(loaderCreator, file, listener, listener.reloadPolicy);
+    }
+
+    /**
+     * Create a new configuration reference that will automatically update when
+     * triggered by the provided {@link WatchServiceListener}, reloading
+     * according to a specific policy.
+     *
+     * @param loaderCreator a function that can create a {@link ConfigurationLoader}
+     * @param file the file to load this configuration from
+     * @param listener the watch service listener that will receive events
+     * @param policy the policy controlling when reloads are performed
+     * @param <T> the node type
+     * @return the created reference
+     * @throws ConfigurateException if the underlying loader fails to load
+     *         a configuration
+     * @see WatchServiceListener#listenToConfiguration(Function, Path, ReloadPolicy)
+     * @since 4.3.0
+     */
+    static <T extends ScopedConfigurationNode<T>> ConfigurationReference<T> watching(
+        final Function<Path, ConfigurationLoader<? extends T>> loaderCreator,
+        final Path file,
+        final WatchServiceListener listener,
+        final ReloadPolicy policy
+    ) throws ConfigurateException {
+        final WatchingConfigurationReference<T> ret = new WatchingConfigurationReference<>(
+            loaderCreator.apply(file),
+            file,
+            listener,
+            requireNonNull(policy, "policy")
+        );
+        ret.reload();
         ret.disposable(listener.listenToFile(file, ret));
 
         return ret;
@@ -86,6 +121,9 @@ public interface ConfigurationReference<N extends ConfigurationNode> extends Aut
      * <p>If the load fails, this reference will continue pointing to old
      * configuration values.
      *
+     * <p>Any changes held by a write-behind {@link #savePolicy() save policy}
+     * are saved before loading.</p>
+     *
      * @throws ConfigurateException when an error occurs
      * @since 4.0.0
      */
@@ -133,6 +171,47 @@ public interface ConfigurationReference<N extends ConfigurationNode> extends Aut
      */
     Publisher<N> updateAsync(Function<N, ? extends N> updater);
 
+    /**
+     * Get the policy controlling when changes made through value references
+     * are saved.
+     *
+     * @return the current save policy
+     * @since 4.3.0
+     */
+    default SavePolicy savePolicy() {
+        return SavePolicy.immediate();
+    }
+
+    /**
+     * Set the policy controlling when changes made through value references
+     * are saved.
+     *
+     * <p>Any changes held by the previous policy will be saved
+     * when they were due.</p>
+     *
+     * @param policy the new save policy
+     * @throws UnsupportedOperationException if this reference does not
+     *     support deferred saving
+     * @since 4.3.0
+     */
+    default void savePolicy(final SavePolicy policy) {
+        if (requireNonNull(policy, "policy").writeBehind()) {
+            throw new UnsupportedOperationException("Write-behind saving is not supported by " + this.getClass());
+        }
+    }
+
+    /**
+     * Save any changes that are being held by a write-behind
+     * {@link SavePolicy}.
+     *
+     * <p>If there are no unsaved changes, this does nothing.</p>
+     *
+     * @throws ConfigurateException when an error occurs in the underlying IO
+     * @since 4.3.0
+     */
+    default void flush() throws ConfigurateException {
+    }
+
     /**
      * Get the base node this reference refers to.
      *
@@ -396,11 +475,36 @@ public interface ConfigurationReference<N extends ConfigurationNode> extends Aut
      * publisher will be transaction-aware, i.e. any {@link TransactionalSubscriber} attached will progress through
      * their phases appropriately
      *
+     * <p>Updates are delivered one at a time. If further updates arrive
+     * while one is being delivered, only the most recent will be delivered
+     * next.</p>
+     *
      * @return the publisher
      * @since 4.0.0
      */
     Publisher<N> updates();
 
+    /**
+     * Access a {@link Publisher} that will broadcast the node at a path
+     * whenever an update changes it.
+     *
+     * <p>Each update is compared to the previous one once, and only the
+     * publishers for paths that changed, or that contain or are contained
+     * by a changed path, will receive the new node. Like {@link #updates()},
+     * the returned publisher is transaction-aware.</p>
+     *
+     * <p>Value references created by {@link #referenceTo(TypeToken, NodePath)}
+     * and its overloads receive their updates this way, so unchanged values
+     * are not deserialized again.</p>
+     *
+     * @param path the path from the root node
+     * @return the publisher
+     * @since 4.3.0
+     */
+    default Publisher<N> updates(final NodePath path) {
+        return this.updates().map(node -> node.node(path));
+    }
+
     /**
      * A stream that will receive errors that occur while loading or saving to
      * this reference.
@@ -410,12 +514,79 @@ public interface ConfigurationReference<N extends ConfigurationNode> extends Aut
      */
     Publisher<Map.Entry<ErrorPhase, Throwable>> errors();
 
+    /**
+     * Get statistics about reloads performed in response to file
+     * system events.
+     *
+     * <p>References that are not updated automatically will report
+     * no events.</p>
+     *
+     * @return current metrics
+     * @since 4.3.0
+     */
+    default ReloadMetrics reloadMetrics() {
+        return ReloadMetrics.empty();
+    }
+
     /**
      * {@inheritDoc}
+     *
+     * <p>Any changes held by a write-behind {@link SavePolicy} will be saved
+     * before the reference is closed.</p>
      */
     @Override
     void close();
 
+    /**
+     * A point-in-time view of the reloads performed by a reference.
+     *
+     * @since 4.3.0
+     */
+    @AutoValue
+    abstract class ReloadMetrics {
+
+        private static final ReloadMetrics EMPTY = of(0, 0, 0);
+
+        static ReloadMetrics empty() {
+            return EMPTY;
+        }
+
+        static ReloadMetrics of(final long eventsReceived, final long reloads, final long skippedUnchanged) {
+            return new AutoValue_ConfigurationReference_ReloadMetrics(eventsReceived, reloads, skippedUnchanged);
+        }
+
+        ReloadMetrics() {
+        }
+
+        /**
+         * The total number of file system events received.
+         *
+         * @return the event count
+         * @since 4.3.0
+         */
+        public abstract long eventsReceived();
+
+        /**
+         * The total number of times the configuration was reloaded
+         * in response to events.
+         *
+         * @return the reload count
+         * @since 4.3.0
+         */
+        public abstract long reloads();
+
+        /**
+         * The total number of reloads skipped because the file's content had
+         * not changed.
+         *
+         * @return the skipped reload count
+         * @see ReloadPolicy#skipUnchanged()
+         * @since 4.3.0
+         */
+        public abstract long skippedUnchanged();
+
+    }
+
     /**
      * Representing the phase where an error occurred.
      *
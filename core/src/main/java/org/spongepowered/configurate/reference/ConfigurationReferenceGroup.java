@@ -0,0 +1,522 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.reference;
+
+import static java.util.Objects.requireNonNull;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.configurate.ConfigurateException;
+import org.spongepowered.configurate.ConfigurationNode;
+import org.spongepowered.configurate.ScopedConfigurationNode;
+import org.spongepowered.configurate.reactive.Processor;
+import org.spongepowered.configurate.reactive.Publisher;
+import org.spongepowered.configurate.reactive.TransactionFailedException;
+import org.spongepowered.configurate.reference.ConfigurationReference.ErrorPhase;
+import org.spongepowered.configurate.util.UnmodifiableCollections;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A set of configuration references that are reloaded together.
+ *
+ * <p>When the group is reloaded, every member is read in parallel. The new
+ * nodes are then published in a single transaction across the
+ * {@link ConfigurationReference#updates() updates} of every member that
+ * changed, and the {@link #updates() updates} of the group itself. If any
+ * member fails to load, or any transactional subscriber rejects its new
+ * value, no member is changed.</p>
+ *
+ * <p>Watching references in a group do not reload individually. A change to
+ * any of their files will instead reload the whole group, once no further
+ * changes have been seen for the group's
+ * {@link Builder#quietPeriod(Duration) quiet period}. This way, files that
+ * are changed together are observed together.</p>
+ *
+ * <p>Changes held by the {@link SavePolicy} of a member are saved before it
+ * is read, as for {@link ConfigurationReference#load()}. The exception is a
+ * watching member that skips unchanged files, whose file has changed since it
+ * was last read or written. It is read without saving its held changes, and
+ * they are discarded once its new node is published.</p>
+ *
+ * <p>While changes are published, the loader of each member that changed is
+ * locked, as it is while the member is read. If a member is saved or loaded
+ * between being read and being published, the reload fails rather than
+ * replacing the newer node with the one that was read.</p>
+ *
+ * <p>Members must have been created by {@link ConfigurationReference}'s
+ * factory methods, and may only belong to one group at a time.</p>
+ *
+ * @since 4.3.0
+ */
+public final class ConfigurationReferenceGroup implements AutoCloseable {
+
+    private final List<ManualConfigurationReference<?>> members;
+    private final Executor executor;
+    private final long quietPeriodNanos;
+    private final Processor.TransactionalIso<Map<ConfigurationReference<?>, ConfigurationNode>> updates;
+    private final AtomicBoolean reloadPending = new AtomicBoolean();
+    private CompletableFuture<?> lastReload = CompletableFuture.completedFuture(null);
+    private volatile long lastRequestTime;
+    private volatile boolean closed;
+
+    /**
+     * Create a new builder for a reference group.
+     *
+     * @return a new builder
+     * @since 4.3.0
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    ConfigurationReferenceGroup(final Builder builder) {
+        this.members = UnmodifiableCollections.copyOf(builder.members);
+        // reloads are handed off from the shared scheduler's thread, which must not run them
+        this.executor = TaskExecutor.internal(builder.executor);
+        this.quietPeriodNanos = builder.quietPeriod.toNanos();
+        this.updates = Processor.createTransactional(this.executor);
+    }
+
+    /**
+     * Get the references in this group.
+     *
+     * @return the members, in the order they were added
+     * @since 4.3.0
+     */
+    public List<ConfigurationReference<?>> members() {
+        return UnmodifiableCollections.copyOf(new ArrayList<ConfigurationReference<?>>(this.members));
+    }
+
+    /**
+     * Get the current node of every member.
+     *
+     * @return the nodes, by member, in the order members were added
+     * @since 4.3.0
+     */
+    public Map<ConfigurationReference<?>, ConfigurationNode> nodes() {
+        final Map<ConfigurationReference<?>, ConfigurationNode> nodes = new LinkedHashMap<>();
+        for (final ManualConfigurationReference<?> member : this.members) {
+            nodes.put(member, member.node());
+        }
+        return Collections.unmodifiableMap(nodes);
+    }
+
+    /**
+     * Access the {@link Publisher} that will receive the nodes of every
+     * member, each time a reload changes any of them.
+     *
+     * <p>The publisher is transaction-aware, and its transaction is shared
+     * with the updates of each member that changed.</p>
+     *
+     * @return the publisher
+     * @see #nodes()
+     * @since 4.3.0
+     */
+    public Publisher<Map<ConfigurationReference<?>, ConfigurationNode>> updates() {
+        return this.updates;
+    }
+
+    /**
+     * Reload every member, and publish any changes together.
+     *
+     * <p>Watching members configured to skip unchanged files will only be
+     * read if their file has changed. If no member changed, nothing
+     * is published.</p>
+     *
+     * <p>This method waits for members to be read on the group's executor,
+     * so it must not be called from a task running on that executor. Use
+     * {@link #reloadAsync()} there instead.</p>
+     *
+     * @return whether any member changed
+     * @throws ConfigurateException if any member could not be loaded, with
+     *     errors from further members attached as suppressed exceptions
+     * @throws TransactionFailedException if a subscriber rejected the update
+     * @since 4.3.0
+     */
+    public boolean reload() throws ConfigurateException, TransactionFailedException {
+        try {
+            return this.reloadAsync().join();
+        } catch (final CompletionException ex) {
+            final Throwable cause = ex.getCause();
+            if (cause instanceof ConfigurateException) {
+                throw (ConfigurateException) cause;
+            } else if (cause instanceof TransactionFailedException) {
+                throw (TransactionFailedException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Reload every member, and publish any changes together, without waiting
+     * for the reload to complete.
+     *
+     * <p>Reloads are performed one at a time, in the order they
+     * were requested.</p>
+     *
+     * @return a future completing with whether any member changed, or
+     *     exceptionally with the errors that would be thrown by
+     *     {@link #reload()}
+     * @see #reload()
+     * @since 4.3.0
+     */
+    public synchronized CompletableFuture<Boolean> reloadAsync() {
+        final CompletableFuture<Boolean> result = this.lastReload
+            .handle((changed, error) -> null)
+            .thenCompose(ignored -> this.readAndPublish());
+        this.lastReload = result;
+        return result;
+    }
+
+    private CompletableFuture<Boolean> readAndPublish() {
+        final List<CompletableFuture<Pending<?>>> reads = new ArrayList<>(this.members.size());
+        for (final ManualConfigurationReference<?> member : this.members) {
+            reads.add(CompletableFuture.supplyAsync(() -> read(member), this.executor));
+        }
+        // publish once every read has finished, without blocking a thread while waiting
+        return CompletableFuture.allOf(reads.toArray(new CompletableFuture<?>[0]))
+            .handle((ignored, error) -> {
+                try {
+                    return this.publish(reads);
+                } catch (final ConfigurateException | TransactionFailedException ex) {
+                    throw new CompletionException(ex);
+                }
+            });
+    }
+
+    private boolean publish(final List<CompletableFuture<Pending<?>>> reads) throws ConfigurateException, TransactionFailedException {
+        final List<Pending<?>> pending = new ArrayList<>(reads.size());
+        @Nullable ConfigurateException failure = null;
+        for (final CompletableFuture<Pending<?>> read : reads) {
+            try {
+                pending.add(read.join()); // already complete
+            } catch (final CompletionException ex) {
+                final ConfigurateException error = ex.getCause() instanceof ConfigurateException
+                    ? (ConfigurateException) ex.getCause()
+                    : new ConfigurateException(ex.getCause());
+                if (failure == null) {
+                    failure = error;
+                } else {
+                    failure.addSuppressed(error);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+
+        final List<Pending<?>> changed = new ArrayList<>();
+        for (final Pending<?> member : pending) {
+            if (member.node != null) {
+                changed.add(member);
+            }
+        }
+        if (!changed.isEmpty()) {
+            this.publishLocked(pending, changed, 0);
+        }
+
+        for (final Pending<?> member : pending) {
+            if (member.node == null) {
+                member.reference.reloadedByGroup(false);
+            }
+        }
+        return !changed.isEmpty();
+    }
+
+    /**
+     * Lock the loader of every changed member, then publish.
+     *
+     * @param all every member
+     * @param changed the members that changed
+     * @param locked the number of members already locked
+     * @throws ConfigurateException if a member changed since it was read
+     * @throws TransactionFailedException if a subscriber rejected the update
+     */
+    private void publishLocked(
+        final List<Pending<?>> all,
+        final List<Pending<?>> changed,
+        final int locked
+    ) throws ConfigurateException, TransactionFailedException {
+        if (locked < changed.size()) {
+            synchronized (changed.get(locked).reference.loader()) {
+                this.publishLocked(all, changed, locked + 1);
+            }
+            return;
+        }
+
+        for (final Pending<?> member : changed) {
+            if (member.reference.changeCount() != member.changeCount) {
+                final ConfigurateException ex = new ConfigurateException(member.reference.node(),
+                    "Configuration was changed while its group was being reloaded");
+                member.reference.errorListener.submit(UnmodifiableCollections.immutableMapEntry(ErrorPhase.LOADING, ex));
+                throw ex;
+            }
+        }
+        this.publish(all, changed);
+        for (final Pending<?> member : changed) {
+            member.reference.reloadedByGroup(true);
+        }
+    }
+
+    private void publish(final List<Pending<?>> all, final List<Pending<?>> changed) throws TransactionFailedException {
+        final Map<ConfigurationReference<?>, ConfigurationNode> nodes = new LinkedHashMap<>();
+        for (final Pending<?> member : all) {
+            nodes.put(member.reference, member.node == null ? member.reference.node() : member.node);
+        }
+
+        // every transaction must be prepared before any is committed
+        final List<Pending<?>> begun = new ArrayList<>(changed.size());
+        try {
+            for (final Pending<?> member : changed) {
+                begun.add(member);
+                member.begin();
+            }
+            this.updates.beginTransaction(Collections.unmodifiableMap(nodes));
+        } catch (final TransactionFailedException | RuntimeException ex) {
+            for (final Pending<?> member : begun) {
+                member.rollback();
+            }
+            this.updates.rollback();
+            for (final Pending<?> member : changed) {
+                member.reference.errorListener.submit(UnmodifiableCollections.immutableMapEntry(ErrorPhase.LOADING, ex));
+            }
+            throw ex;
+        }
+
+        for (final Pending<?> member : changed) {
+            member.assign();
+        }
+        for (final Pending<?> member : changed) {
+            member.commit();
+        }
+        this.updates.commit();
+    }
+
+    private static <N extends ScopedConfigurationNode<N>> Pending<N> read(final ManualConfigurationReference<N> member) {
+        try {
+            synchronized (member.loader()) {
+                final @Nullable N node = member.read();
+                return new Pending<>(member, node, member.changeCount());
+            }
+        } catch (final ConfigurateException ex) {
+            member.errorListener.submit(UnmodifiableCollections.immutableMapEntry(ErrorPhase.LOADING, ex));
+            throw new CompletionException(ex);
+        }
+    }
+
+    /**
+     * Reload the group once no further requests have been made for
+     * the quiet period.
+     */
+    void scheduleReload() {
+        this.lastRequestTime = System.nanoTime();
+        if (this.reloadPending.compareAndSet(false, true)) {
+            this.scheduleReload(this.quietPeriodNanos);
+        }
+    }
+
+    private void scheduleReload(final long delayNanos) {
+        try {
+            if (delayNanos <= 0) {
+                this.executor.execute(this::reloadWhenQuiet);
+            } else {
+                SharedScheduler.INSTANCE.schedule(() -> this.scheduleReload(0), delayNanos, TimeUnit.NANOSECONDS);
+            }
+        } catch (final RejectedExecutionException ex) {
+            this.reloadPending.set(false);
+        }
+    }
+
+    @SuppressWarnings("FutureReturnValueIgnored") // errors are reported to the members' error listeners
+    private void reloadWhenQuiet() {
+        if (this.closed) {
+            this.reloadPending.set(false);
+            return;
+        }
+
+        final long remaining = this.quietPeriodNanos - (System.nanoTime() - this.lastRequestTime);
+        if (remaining > 0) {
+            this.scheduleReload(remaining);
+            return;
+        }
+
+        this.reloadPending.set(false);
+        this.reloadAsync();
+    }
+
+    /**
+     * Remove this group from its members, so they reload individually again.
+     *
+     * <p>The members themselves are not closed.</p>
+     *
+     * @since 4.3.0
+     */
+    @Override
+    public void close() {
+        this.closed = true;
+        for (final ManualConfigurationReference<?> member : this.members) {
+            if (member.group == this) {
+                member.group = null;
+            }
+        }
+        this.updates.onClose();
+    }
+
+    /**
+     * The result of reading one member of the group.
+     *
+     * @param <N> node type
+     */
+    private static final class Pending<N extends ScopedConfigurationNode<N>> {
+
+        final ManualConfigurationReference<N> reference;
+        final @Nullable N node;
+        final long changeCount;
+
+        Pending(final ManualConfigurationReference<N> reference, final @Nullable N node, final long changeCount) {
+            this.reference = reference;
+            this.node = node;
+            this.changeCount = changeCount;
+        }
+
+        void begin() throws TransactionFailedException {
+            this.reference.updateListener.beginTransaction(requireNonNull(this.node, "node"));
+        }
+
+        void assign() {
+            // only still held if the file changed after they were made
+            this.reference.discardHeld();
+            this.reference.replaceNode(requireNonNull(this.node, "node"));
+        }
+
+        void commit() {
+            this.reference.updateListener.commit();
+        }
+
+        void rollback() {
+            this.reference.updateListener.rollback();
+        }
+
+    }
+
+    /**
+     * A builder for reference groups.
+     *
+     * @since 4.3.0
+     */
+    public static final class Builder {
+
+        private final List<ManualConfigurationReference<?>> members = new ArrayList<>();
+        private Executor executor = TaskExecutor.shared();
+        private Duration quietPeriod = Duration.ZERO;
+
+        Builder() {
+        }
+
+        /**
+         * Add a reference to the group.
+         *
+         * @param reference the reference to add
+         * @return this builder
+         * @throws IllegalArgumentException if the reference was not created
+         *     by Configurate, or has already been added
+         * @since 4.3.0
+         */
+        public Builder add(final ConfigurationReference<?> reference) {
+            if (!(requireNonNull(reference, "reference") instanceof ManualConfigurationReference<?>)) {
+                throw new IllegalArgumentException("References of type " + reference.getClass() + " cannot be grouped");
+            }
+            if (this.members.contains(reference)) {
+                throw new IllegalArgumentException("Reference " + reference + " has already been added");
+            }
+            this.members.add((ManualConfigurationReference<?>) reference);
+            return this;
+        }
+
+        /**
+         * Set the executor that members will be read on.
+         *
+         * <p>By default, the {@link TaskExecutor#shared() shared task executor}
+         * is used.</p>
+         *
+         * @param executor the executor to use
+         * @return this builder
+         * @since 4.3.0
+         */
+        public Builder executor(final Executor executor) {
+            this.executor = requireNonNull(executor, "executor");
+            return this;
+        }
+
+        /**
+         * Set the time that must pass without changes to any watched member
+         * before the group is reloaded.
+         *
+         * <p>This is in addition to any quiet period of the members' own
+         * {@link ReloadPolicy}. By default, there is no quiet period.</p>
+         *
+         * @param quietPeriod the quiet period, not negative
+         * @return this builder
+         * @since 4.3.0
+         */
+        public Builder quietPeriod(final Duration quietPeriod) {
+            if (requireNonNull(quietPeriod, "quietPeriod").isNegative()) {
+                throw new IllegalArgumentException("Quiet period must not be negative, but was " + quietPeriod);
+            }
+            this.quietPeriod = quietPeriod;
+            return this;
+        }
+
+        /**
+         * Create a new group with the current members.
+         *
+         * @return the new group
+         * @throws IllegalStateException if any member already belongs
+         *     to another group
+         * @since 4.3.0
+         */
+        public ConfigurationReferenceGroup build() {
+            final ConfigurationReferenceGroup group = new ConfigurationReferenceGroup(this);
+            synchronized (ConfigurationReferenceGroup.class) {
+                for (final ManualConfigurationReference<?> member : this.members) {
+                    if (member.group != null) {
+                        throw new IllegalStateException("Reference " + member + " already belongs to a group");
+                    }
+                }
+                for (final ManualConfigurationReference<?> member : this.members) {
+                    member.group = group;
+                }
+            }
+            return group;
+        }
+
+    }
+
+}
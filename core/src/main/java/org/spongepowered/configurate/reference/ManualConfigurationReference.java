@@ -26,12 +26,17 @@ import org.spongepowered.configurate.ConfigurationNode;
 import org.spongepowered.configurate.NodePath;
 import org.spongepowered.configurate.ScopedConfigurationNode;
 import org.spongepowered.configurate.loader.ConfigurationLoader;
+import org.spongepowered.configurate.reactive.OverflowPolicy;
 import org.spongepowered.configurate.reactive.Processor;
 import org.spongepowered.configurate.reactive.Publisher;
 import org.spongepowered.configurate.serialize.SerializationException;
+import org.spongepowered.configurate.util.UnmodifiableCollections;
 
 import java.util.Map;
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 /**
@@ -43,11 +48,25 @@ class ManualConfigurationReference<N extends ScopedConfigurationNode<N>> impleme
     private final ConfigurationLoader<? extends N> loader;
     protected final Processor.TransactionalIso<N> updateListener;
     protected final Processor.Iso<Map.Entry<ErrorPhase, Throwable>> errorListener;
+    final PathUpdateDispatcher<N> pathUpdates;
+    volatile @Nullable ConfigurationReferenceGroup group;
+    private final Executor taskExecutor;
+    private volatile SavePolicy savePolicy = SavePolicy.immediate();
+    // guarded by this.loader
+    private boolean unsaved;
+    private @Nullable ScheduledFuture<?> pendingSave;
+    private long changeCount;
 
-    ManualConfigurationReference(final ConfigurationLoader<? extends N> loader, final Executor taskExecutor) {
+    ManualConfigurationReference(final ConfigurationLoader<? extends N> loader, final Executor executor) {
+        // tasks are submitted while holding the loader's lock, so must never run on the submitting thread
+        final Executor taskExecutor = TaskExecutor.internal(executor);
         this.loader = loader;
-        this.updateListener = Processor.createTransactional(taskExecutor);
+        this.taskExecutor = taskExecutor;
+        // only the latest node matters, so updates that can't be delivered yet are replaced
+        this.updateListener = Processor.createTransactional(taskExecutor, OverflowPolicy.latest());
         this.errorListener = Processor.create(taskExecutor);
+        this.pathUpdates = new PathUpdateDispatcher<>(taskExecutor);
+        this.updateListener.subscribe(this.pathUpdates);
         this.errorListener.fallbackHandler(it -> {
             System.err.println("Unhandled error while performing a " + it.getKey() + " for a "
                 + "configuration reference: " + it.getValue());
@@ -58,10 +77,66 @@ class ManualConfigurationReference<N extends ScopedConfigurationNode<N>> impleme
     @Override
     public final void load() throws ConfigurateException {
         synchronized (this.loader) {
+            // changes held for saving would otherwise be replaced
+            this.flush();
             this.updateListener.submit(this.node = this.loader.load());
+            this.changeCount++;
         }
     }
 
+    /**
+     * Get the number of times the node has been replaced, saved, or
+     * changed by a value reference.
+     *
+     * <p>This must be called while holding the lock on the loader.</p>
+     *
+     * @return the change count
+     */
+    final long changeCount() {
+        return this.changeCount;
+    }
+
+    /**
+     * Replace the node with one that has been read, without publishing it.
+     *
+     * <p>This must be called while holding the lock on the loader.</p>
+     *
+     * @param node the new node
+     */
+    final void replaceNode(final N node) {
+        this.node = node;
+        this.changeCount++;
+    }
+
+    /**
+     * Read the configuration without publishing it.
+     *
+     * <p>As for {@link #load()}, any held changes are saved first.</p>
+     *
+     * <p>This must be called while holding the lock on the loader.</p>
+     *
+     * @return the newly loaded node, or {@code null} if the configuration
+     *     is known to be unchanged
+     * @throws ConfigurateException if held changes could not be saved, or
+     *     the configuration could not be loaded
+     */
+    @Nullable N read() throws ConfigurateException {
+        // changes held for saving would otherwise be replaced
+        this.flush();
+        return this.loader.load();
+    }
+
+    /**
+     * Called after a group containing this reference has reloaded it, once
+     * any new node has been committed.
+     *
+     * <p>This is not called if the reload failed or was rolled back.</p>
+     *
+     * @param changed whether a new node was loaded
+     */
+    void reloadedByGroup(final boolean changed) {
+    }
+
     @Override
     public final void save() throws ConfigurateException {
         save(this.node);
@@ -72,21 +147,103 @@ class ManualConfigurationReference<N extends ScopedConfigurationNode<N>> impleme
     public void save(final ConfigurationNode newNode) throws ConfigurateException {
         requireNonNull(newNode, "newNode");
         synchronized (this.loader) {
+            this.changeCount++;
             final ConfigurationNode existing = this.node;
             if (existing.getClass().equals(newNode.getClass())) {
                 // Set
                 this.node = (N) newNode;
                 this.loader.save(this.node);
+                // any held changes were part of this save
+                this.discardHeld();
                 if (newNode != existing) {
                     this.updateListener.submit(this.node);
                 }
             } else {
                 this.loader.save(this.node.from(newNode));
+                this.discardHeld();
                 this.updateListener.submit(this.node);
             }
         }
     }
 
+    /**
+     * Forget any changes held for a write-behind save.
+     *
+     * <p>This is used once held changes have been saved, or when they have
+     * been replaced by a reload of a file that changed after them.</p>
+     */
+    final void discardHeld() {
+        synchronized (this.loader) {
+            this.unsaved = false;
+            final @Nullable ScheduledFuture<?> pending = this.pendingSave;
+            if (pending != null) {
+                pending.cancel(false);
+                this.pendingSave = null;
+            }
+        }
+    }
+
+    /**
+     * Save after a change made through a value reference, according to the
+     * current save policy.
+     *
+     * @throws ConfigurateException if saving immediately, and the save fails
+     */
+    final void saveChanged() throws ConfigurateException {
+        final SavePolicy policy = this.savePolicy;
+        if (!policy.writeBehind()) {
+            save();
+            return;
+        }
+
+        synchronized (this.loader) {
+            this.unsaved = true;
+            this.changeCount++;
+            if (this.pendingSave == null) {
+                try {
+                    this.pendingSave = SharedScheduler.INSTANCE.schedule(
+                        () -> this.taskExecutor.execute(this::flushHeld),
+                        policy.maxDelay().toNanos(),
+                        TimeUnit.NANOSECONDS
+                    );
+                } catch (final RejectedExecutionException ex) {
+                    save();
+                }
+            }
+        }
+    }
+
+    private void flushHeld() {
+        synchronized (this.loader) {
+            // if this save fails, the next change will schedule another
+            this.pendingSave = null;
+        }
+        try {
+            flush();
+        } catch (final ConfigurateException ex) {
+            this.errorListener.submit(UnmodifiableCollections.immutableMapEntry(ErrorPhase.SAVING, ex));
+        }
+    }
+
+    @Override
+    public final SavePolicy savePolicy() {
+        return this.savePolicy;
+    }
+
+    @Override
+    public final void savePolicy(final SavePolicy policy) {
+        this.savePolicy = requireNonNull(policy, "policy");
+    }
+
+    @Override
+    public final void flush() throws ConfigurateException {
+        synchronized (this.loader) {
+            if (this.unsaved) {
+                save();
+            }
+        }
+    }
+
     @Override
     public final Publisher<N> saveAsync() {
         return Publisher.execute(() -> {
@@ -140,6 +297,11 @@ class ManualConfigurationReference<N extends ScopedConfigurationNode<N>> impleme
         return this.updateListener;
     }
 
+    @Override
+    public final Publisher<N> updates(final NodePath path) {
+        return this.pathUpdates.updates(requireNonNull(path, "path"));
+    }
+
     @Override
     public final Publisher<Map.Entry<ErrorPhase, Throwable>> errors() {
         return this.errorListener;
@@ -147,6 +309,7 @@ class ManualConfigurationReference<N extends ScopedConfigurationNode<N>> impleme
 
     @Override
     public void close() {
+        this.flushHeld();
         this.updateListener.onClose();
     }
 
@@ -0,0 +1,369 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.reference;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.configurate.ConfigurationNode;
+import org.spongepowered.configurate.NodePath;
+import org.spongepowered.configurate.ScopedConfigurationNode;
+import org.spongepowered.configurate.reactive.Disposable;
+import org.spongepowered.configurate.reactive.Processor;
+import org.spongepowered.configurate.reactive.Publisher;
+import org.spongepowered.configurate.reactive.Subscriber;
+import org.spongepowered.configurate.reactive.TransactionFailedException;
+import org.spongepowered.configurate.reactive.TransactionalSubscriber;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+/**
+ * Deliver updates to a configuration tree only to those paths that
+ * have changed.
+ *
+ * <p>Each new root node is compared to a copy of the previous one, producing
+ * the set of paths that changed. Registered paths are stored as a tree, so
+ * that only those at, above, or below a changed path are visited. The node at
+ * each affected path is then submitted to the publisher for that path, within
+ * the transaction of the update.</p>
+ *
+ * <p>When defaults are copied, paths with no node in the new tree are always
+ * updated, so that their subscribers can copy defaults into the new tree.</p>
+ *
+ * <p>Paths are only registered while they have subscribers. When no path is
+ * registered, updates are neither copied nor compared. The next update after
+ * a path is registered again is then delivered to every registered path,
+ * since there is nothing to compare it to.</p>
+ *
+ * @param <N> node type
+ */
+final class PathUpdateDispatcher<N extends ScopedConfigurationNode<N>> implements TransactionalSubscriber<N> {
+
+    private final Executor executor;
+    private final Entry<N> root;
+    private final Set<NodePath> dirty = ConcurrentHashMap.newKeySet();
+    private @Nullable N previous;
+
+    // transaction state
+    private final List<Entry<N>> pending = new ArrayList<>();
+    private final List<NodePath> pendingDirty = new ArrayList<>();
+    private @Nullable N pendingPrevious;
+    private boolean inTransaction;
+
+    PathUpdateDispatcher(final Executor executor) {
+        this.executor = executor;
+        this.root = new Entry<>(null, NodePath.path(), executor);
+    }
+
+    /**
+     * Get a publisher for the node at a path, that only receives updates
+     * which change that node or any of its descendants.
+     *
+     * @param path the path to watch
+     * @return the publisher for the path
+     */
+    Publisher<N> updates(final NodePath path) {
+        return new PathPublisher(path);
+    }
+
+    /**
+     * Get whether any path currently has subscribers.
+     *
+     * @return whether any path is registered
+     */
+    boolean hasEntries() {
+        return this.root.processor.hasSubscribers() || !this.root.children.isEmpty();
+    }
+
+    private synchronized Disposable subscribe(final NodePath path, final Subscriber<? super N> subscriber) {
+        Entry<N> entry = this.root;
+        for (final Object key : path) {
+            entry = entry.child(key, this.executor);
+        }
+        final Entry<N> subscribed = entry;
+        final Disposable registration = subscribed.processor.subscribe(subscriber);
+        if (!subscribed.processor.hasSubscribers()) { // already closed
+            this.prune(subscribed);
+        }
+        return () -> {
+            registration.dispose();
+            this.prune(subscribed);
+        };
+    }
+
+    /**
+     * Remove an entry, and any ancestors, that no longer have subscribers
+     * or children.
+     *
+     * @param entry the entry that may be unused
+     */
+    private synchronized void prune(final Entry<N> entry) {
+        Entry<N> current = entry;
+        while (current.parent != null && current.children.isEmpty() && !current.processor.hasSubscribers()) {
+            current.parent.children.remove(current.path.get(current.path.size() - 1), current);
+            current = current.parent;
+        }
+    }
+
+    /**
+     * Mark a path as changed, so that it will be included in the next update
+     * regardless of whether its content differs.
+     *
+     * <p>This is used when a value has been changed in memory, since the
+     * previous tree will no longer reflect what subscribers last saw.</p>
+     *
+     * @param path the changed path
+     */
+    void markChanged(final NodePath path) {
+        this.dirty.add(path);
+    }
+
+    @Override
+    public synchronized void beginTransaction(final N newValue) throws TransactionFailedException {
+        this.inTransaction = true;
+        this.pending.clear();
+        this.pendingDirty.clear();
+        for (final NodePath path : this.dirty) {
+            this.dirty.remove(path);
+            this.pendingDirty.add(path);
+        }
+
+        if (!this.hasEntries()) {
+            // nobody to notify, so skip copying and comparing the tree
+            this.pendingPrevious = null;
+            return;
+        }
+
+        final Set<Entry<N>> affected = new LinkedHashSet<>();
+        final @Nullable N previous = this.previous;
+        if (previous == null) {
+            this.root.collectAll(affected);
+        } else {
+            final List<NodePath> changed = new ArrayList<>(this.pendingDirty);
+            diff(NodePath.path(), previous, newValue, changed);
+            for (final NodePath path : changed) {
+                this.root.collectAffected(path, 0, affected);
+            }
+            if (newValue.options().shouldCopyDefaults()) {
+                // subscribers may copy defaults into missing nodes, which must be repeated for every new tree
+                this.root.collectVirtual(newValue, affected);
+            }
+        }
+
+        this.pendingPrevious = newValue.copy();
+        for (final Entry<N> entry : affected) {
+            this.pending.add(entry);
+            entry.processor.beginTransaction(newValue.node(entry.path));
+        }
+    }
+
+    @Override
+    public synchronized void commit() {
+        if (!this.inTransaction) {
+            return;
+        }
+        this.inTransaction = false;
+        this.previous = this.pendingPrevious;
+        this.pendingPrevious = null;
+        this.pendingDirty.clear();
+        for (final Entry<N> entry : this.pending) {
+            entry.processor.commit();
+        }
+        this.pending.clear();
+    }
+
+    @Override
+    public synchronized void rollback() {
+        if (!this.inTransaction) {
+            return;
+        }
+        this.inTransaction = false;
+        this.pendingPrevious = null;
+        // these paths have still not been seen by subscribers
+        this.dirty.addAll(this.pendingDirty);
+        this.pendingDirty.clear();
+        for (final Entry<N> entry : this.pending) {
+            entry.processor.rollback();
+        }
+        this.pending.clear();
+    }
+
+    @Override
+    public void onError(final Throwable thrown) {
+        this.root.forEach(entry -> entry.processor.onError(thrown));
+    }
+
+    @Override
+    public void onClose() {
+        this.root.forEach(entry -> entry.processor.onClose());
+    }
+
+    /**
+     * Find the shallowest paths at which two trees differ.
+     *
+     * <p>Maps are compared key by key. Any other values, including lists, are
+     * compared as a whole, since list indices do not identify an element
+     * across changes.</p>
+     *
+     * @param path the path of the nodes being compared
+     * @param previous the previous node
+     * @param current the current node
+     * @param changed the list to add changed paths to
+     */
+    static void diff(final NodePath path, final ConfigurationNode previous, final ConfigurationNode current, final Collection<NodePath> changed) {
+        if (previous.isMap() && current.isMap()) {
+            final Map<Object, ? extends ConfigurationNode> previousChildren = previous.childrenMap();
+            final Map<Object, ? extends ConfigurationNode> currentChildren = current.childrenMap();
+            for (final Map.Entry<Object, ? extends ConfigurationNode> child : currentChildren.entrySet()) {
+                final @Nullable ConfigurationNode previousChild = previousChildren.get(child.getKey());
+                if (previousChild == null) {
+                    changed.add(path.withAppendedChild(child.getKey()));
+                } else {
+                    diff(path.withAppendedChild(child.getKey()), previousChild, child.getValue(), changed);
+                }
+            }
+            for (final Object key : previousChildren.keySet()) {
+                if (!currentChildren.containsKey(key)) {
+                    changed.add(path.withAppendedChild(key));
+                }
+            }
+        } else if (!previous.equals(current)) {
+            changed.add(path);
+        }
+    }
+
+    /**
+     * A node in the tree of registered paths.
+     *
+     * @param <N> node type
+     */
+    static final class Entry<N> {
+
+        final @Nullable Entry<N> parent;
+        final NodePath path;
+        final Processor.TransactionalIso<N> processor;
+        final Map<Object, Entry<N>> children = new ConcurrentHashMap<>();
+
+        Entry(final @Nullable Entry<N> parent, final NodePath path, final Executor executor) {
+            this.parent = parent;
+            this.path = path;
+            this.processor = Processor.createTransactional(executor);
+        }
+
+        Entry<N> child(final Object key, final Executor executor) {
+            return this.children.computeIfAbsent(key, k -> new Entry<>(this, this.path.withAppendedChild(k), executor));
+        }
+
+        /**
+         * Collect every entry whose path is an ancestor or descendant of,
+         * or equal to, a changed path.
+         *
+         * @param changed the changed path
+         * @param depth the depth of this entry
+         * @param affected the set to add entries to
+         */
+        void collectAffected(final NodePath changed, final int depth, final Set<Entry<N>> affected) {
+            if (depth == changed.size()) {
+                this.collectAll(affected);
+                return;
+            }
+            if (this.processor.hasSubscribers()) {
+                affected.add(this);
+            }
+            final @Nullable Entry<N> child = this.children.get(changed.get(depth));
+            if (child != null) {
+                child.collectAffected(changed, depth + 1, affected);
+            }
+        }
+
+        void collectAll(final Set<Entry<N>> affected) {
+            this.forEach(entry -> {
+                if (entry.processor.hasSubscribers()) {
+                    affected.add(entry);
+                }
+            });
+        }
+
+        /**
+         * Collect every entry whose node does not exist in a tree.
+         *
+         * @param tree the root of the tree
+         * @param affected the set to add entries to
+         */
+        void collectVirtual(final ConfigurationNode tree, final Set<Entry<N>> affected) {
+            this.forEach(entry -> {
+                if (entry.processor.hasSubscribers() && tree.node(entry.path).virtual()) {
+                    affected.add(entry);
+                }
+            });
+        }
+
+        void forEach(final Consumer<Entry<N>> action) {
+            action.accept(this);
+            for (final Entry<N> child : this.children.values()) {
+                child.forEach(action);
+            }
+        }
+
+    }
+
+    /**
+     * A publisher for one path, that registers the path only while it
+     * has subscribers.
+     */
+    private final class PathPublisher implements Publisher<N> {
+
+        private final NodePath path;
+
+        PathPublisher(final NodePath path) {
+            this.path = path;
+        }
+
+        @Override
+        public Disposable subscribe(final Subscriber<? super N> subscriber) {
+            return PathUpdateDispatcher.this.subscribe(this.path, subscriber);
+        }
+
+        @Override
+        public boolean hasSubscribers() {
+            synchronized (PathUpdateDispatcher.this) {
+                Entry<N> entry = PathUpdateDispatcher.this.root;
+                for (final Object key : this.path) {
+                    final @Nullable Entry<N> child = entry.children.get(key);
+                    if (child == null) {
+                        return false;
+                    }
+                    entry = child;
+                }
+                return entry.processor.hasSubscribers();
+            }
+        }
+
+        @Override
+        public Executor executor() {
+            return PathUpdateDispatcher.this.executor;
+        }
+
+    }
+
+}
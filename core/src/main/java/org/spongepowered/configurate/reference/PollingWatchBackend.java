@@ -0,0 +1,192 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.reference;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.FileSystem;
+import java.nio.file.Path;
+import java.nio.file.ProviderMismatchException;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+
+/**
+ * A backend that detects changes by periodically scanning
+ * watched directories.
+ *
+ * <p>This is useful on file systems where native change notifications are
+ * unavailable or unreliable, such as network and overlay file systems.
+ * Each watch service scans every directory registered with it on a single
+ * thread, reading the attributes of each file once per scan. A file is
+ * considered modified when its modification time, size, or file key (its
+ * inode, on most systems) changes.</p>
+ *
+ * @since 4.3.0
+ */
+public final class PollingWatchBackend implements WatchBackend {
+
+    private final Duration interval;
+    private final Duration jitter;
+    private final boolean hashContents;
+
+    static Builder builder() {
+        return new Builder();
+    }
+
+    PollingWatchBackend(final Builder builder) {
+        this.interval = builder.interval;
+        this.jitter = builder.jitter;
+        this.hashContents = builder.hashContents;
+    }
+
+    /**
+     * Get the average time between scans.
+     *
+     * @return the scan interval
+     * @since 4.3.0
+     */
+    public Duration interval() {
+        return this.interval;
+    }
+
+    /**
+     * Get the maximum random variation applied to each scan interval.
+     *
+     * @return the scan jitter
+     * @since 4.3.0
+     */
+    public Duration jitter() {
+        return this.jitter;
+    }
+
+    /**
+     * Get whether file contents are hashed to confirm modifications.
+     *
+     * @return whether contents are hashed
+     * @since 4.3.0
+     */
+    public boolean hashContents() {
+        return this.hashContents;
+    }
+
+    @Override
+    public WatchService newWatchService(final FileSystem fileSystem) {
+        return new PollingWatchService(this.interval.toNanos(), this.jitter.toNanos(), this.hashContents);
+    }
+
+    @Override
+    public WatchKey register(final WatchService service, final Path directory, final WatchEvent.Kind<?>[] events) throws IOException {
+        if (!(service instanceof PollingWatchService)) {
+            throw new ProviderMismatchException("Watch service " + service + " was not created by a polling backend");
+        }
+        return ((PollingWatchService) service).register(directory, events);
+    }
+
+    @Override
+    public String toString() {
+        return "PollingWatchBackend{interval=" + this.interval + ", jitter=" + this.jitter + ", hashContents=" + this.hashContents + "}";
+    }
+
+    /**
+     * A builder for polling backends.
+     *
+     * @since 4.3.0
+     */
+    public static final class Builder {
+
+        private Duration interval = Duration.ofSeconds(1);
+        private Duration jitter = Duration.ZERO;
+        private boolean hashContents;
+
+        Builder() {
+        }
+
+        /**
+         * Set the average time between scans.
+         *
+         * <p>By default, directories are scanned every second.</p>
+         *
+         * @param interval the scan interval, greater than zero
+         * @return this builder
+         * @since 4.3.0
+         */
+        public Builder interval(final Duration interval) {
+            requireNonNull(interval, "interval");
+            if (interval.isNegative() || interval.isZero()) {
+                throw new IllegalArgumentException("Scan interval must be positive, but was " + interval);
+            }
+            this.interval = interval;
+            return this;
+        }
+
+        /**
+         * Set the maximum random variation applied to each scan interval.
+         *
+         * <p>Jitter spreads the scans of many watch services over time, rather
+         * than having them all read the file system at once. By default,
+         * no jitter is applied.</p>
+         *
+         * @param jitter the jitter, not negative
+         * @return this builder
+         * @since 4.3.0
+         */
+        public Builder jitter(final Duration jitter) {
+            if (requireNonNull(jitter, "jitter").isNegative()) {
+                throw new IllegalArgumentException("Jitter must not be negative, but was " + jitter);
+            }
+            this.jitter = jitter;
+            return this;
+        }
+
+        /**
+         * Set whether file contents are hashed to confirm modifications.
+         *
+         * <p>When enabled, a file whose attributes change but whose content
+         * is unchanged, such as one that has only been touched, will not
+         * produce an event. Files are only read when their
+         * attributes change.</p>
+         *
+         * @param hashContents whether to hash file contents
+         * @return this builder
+         * @since 4.3.0
+         */
+        public Builder hashContents(final boolean hashContents) {
+            this.hashContents = hashContents;
+            return this;
+        }
+
+        /**
+         * Create a new polling backend.
+         *
+         * @return the new backend
+         * @throws IllegalStateException if the jitter is not less than
+         *     the interval
+         * @since 4.3.0
+         */
+        public PollingWatchBackend build() {
+            if (this.jitter.compareTo(this.interval) >= 0) {
+                throw new IllegalStateException("Jitter " + this.jitter + " must be less than the interval " + this.interval);
+            }
+            return new PollingWatchBackend(this);
+        }
+
+    }
+
+}
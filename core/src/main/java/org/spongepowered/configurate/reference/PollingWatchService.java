@@ -0,0 +1,402 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.reference;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.NotDirectoryException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A watch service that scans registered directories for changes
+ * on a fixed schedule.
+ */
+final class PollingWatchService implements WatchService {
+
+    private static final ThreadFactory THREAD_FACTORY = new PrefixedNameThreadFactory("Configurate-PollingWatch", true);
+    private static final Object CLOSED = new Object();
+
+    private final long intervalNanos;
+    private final long jitterNanos;
+    private final boolean hashContents;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(THREAD_FACTORY);
+    private final Map<Path, Key> keys = new ConcurrentHashMap<>();
+    // contains keys, or the CLOSED marker once closed
+    private final BlockingQueue<Object> signalled = new LinkedBlockingQueue<>();
+    private volatile boolean closed;
+    private boolean scanning;
+
+    PollingWatchService(final long intervalNanos, final long jitterNanos, final boolean hashContents) {
+        this.intervalNanos = intervalNanos;
+        this.jitterNanos = jitterNanos;
+        this.hashContents = hashContents;
+    }
+
+    WatchKey register(final Path directory, final WatchEvent.Kind<?>[] events) throws IOException {
+        this.checkOpen();
+        final Set<WatchEvent.Kind<?>> kinds = new HashSet<>(Arrays.asList(events));
+        synchronized (this.keys) {
+            final @Nullable Key existing = this.keys.get(directory);
+            if (existing != null && existing.isValid()) {
+                existing.kinds = kinds;
+                return existing;
+            }
+
+            final Key key = new Key(directory, kinds, this.scan(directory, Collections.emptyMap(), null));
+            this.keys.put(directory, key);
+            if (!this.scanning) {
+                this.scanning = true;
+                this.scheduleScan();
+            }
+            return key;
+        }
+    }
+
+    private void scheduleScan() {
+        long delay = this.intervalNanos;
+        if (this.jitterNanos > 0) {
+            delay += ThreadLocalRandom.current().nextLong(-this.jitterNanos, this.jitterNanos + 1);
+        }
+
+        try {
+            this.scheduler.schedule(this::scanAll, Math.max(delay, 0), TimeUnit.NANOSECONDS);
+        } catch (final RejectedExecutionException ex) {
+            // closed
+        }
+    }
+
+    private void scanAll() {
+        if (this.closed) {
+            return;
+        }
+
+        for (final Key key : this.keys.values()) {
+            if (!key.isValid()) {
+                continue;
+            }
+
+            final List<WatchEvent<?>> events = new ArrayList<>();
+            try {
+                key.states = this.scan(key.directory, key.states, key.kinds, events);
+            } catch (final NoSuchFileException | NotDirectoryException ex) {
+                // the directory is gone, so the key can no longer be used
+                key.cancel();
+                key.signal(Collections.emptyList());
+                continue;
+            } catch (final IOException | RuntimeException ex) {
+                continue; // try again on the next scan
+            }
+
+            if (!events.isEmpty()) {
+                key.signal(events);
+            }
+        }
+        this.scheduleScan();
+    }
+
+    private Map<Path, FileState> scan(
+        final Path directory,
+        final Map<Path, FileState> previous,
+        final @Nullable List<WatchEvent<?>> events
+    ) throws IOException {
+        return this.scan(directory, previous, Collections.emptySet(), events);
+    }
+
+    /**
+     * Read the current state of every file in a directory.
+     *
+     * @param directory the directory to scan
+     * @param previous the state from the previous scan
+     * @param kinds the kinds of events to report
+     * @param events a list to add events to, if they should be reported
+     * @return the new state of the directory
+     * @throws IOException if the directory could not be read
+     */
+    private Map<Path, FileState> scan(
+        final Path directory,
+        final Map<Path, FileState> previous,
+        final Set<WatchEvent.Kind<?>> kinds,
+        final @Nullable List<WatchEvent<?>> events
+    ) throws IOException {
+        final Map<Path, FileState> current = new HashMap<>(Math.max(16, previous.size() * 4 / 3 + 1));
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory)) {
+            for (final Path entry : entries) {
+                final BasicFileAttributes attributes;
+                try {
+                    // a single call provides all attributes that are compared
+                    attributes = Files.readAttributes(entry, BasicFileAttributes.class);
+                } catch (final NoSuchFileException ex) {
+                    continue; // removed while scanning
+                }
+
+                final Path name = entry.getFileName();
+                final @Nullable FileState before = previous.get(name);
+                FileState after = new FileState(attributes.lastModifiedTime(), attributes.size(), attributes.fileKey(), null);
+                if (before != null && before.sameAttributes(after)) {
+                    after = before;
+                } else {
+                    if (this.hashContents && !attributes.isDirectory()) {
+                        after = after.withHash(hash(entry));
+                    }
+                    if (before == null) {
+                        report(events, kinds, StandardWatchEventKinds.ENTRY_CREATE, name);
+                    } else if (!this.hashContents || before.hash == null || !Arrays.equals(before.hash, after.hash)) {
+                        report(events, kinds, StandardWatchEventKinds.ENTRY_MODIFY, name);
+                    }
+                }
+                current.put(name, after);
+            }
+        }
+
+        for (final Path name : previous.keySet()) {
+            if (!current.containsKey(name)) {
+                report(events, kinds, StandardWatchEventKinds.ENTRY_DELETE, name);
+            }
+        }
+        return current;
+    }
+
+    private static void report(
+        final @Nullable List<WatchEvent<?>> events,
+        final Set<WatchEvent.Kind<?>> kinds,
+        final WatchEvent.Kind<Path> kind,
+        final Path name
+    ) {
+        if (events != null && kinds.contains(kind)) {
+            events.add(new Event(kind, name));
+        }
+    }
+
+    private static byte @Nullable [] hash(final Path file) {
+        try (InputStream stream = Files.newInputStream(file)) {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            final byte[] buffer = new byte[8192];
+            int read;
+            while ((read = stream.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+            return digest.digest();
+        } catch (final IOException | NoSuchAlgorithmException ex) {
+            return null; // always treated as changed
+        }
+    }
+
+    private void checkOpen() {
+        if (this.closed) {
+            throw new ClosedWatchServiceException();
+        }
+    }
+
+    private @Nullable WatchKey unwrap(final @Nullable Object key) {
+        if (key == CLOSED) {
+            this.signalled.offer(CLOSED); // for any other waiting threads
+            throw new ClosedWatchServiceException();
+        }
+        return (WatchKey) key;
+    }
+
+    @Override
+    public @Nullable WatchKey poll() {
+        this.checkOpen();
+        return this.unwrap(this.signalled.poll());
+    }
+
+    @Override
+    public @Nullable WatchKey poll(final long timeout, final TimeUnit unit) throws InterruptedException {
+        this.checkOpen();
+        return this.unwrap(this.signalled.poll(timeout, unit));
+    }
+
+    @Override
+    public WatchKey take() throws InterruptedException {
+        this.checkOpen();
+        return Objects.requireNonNull(this.unwrap(this.signalled.take()));
+    }
+
+    @Override
+    public void close() {
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+        this.scheduler.shutdownNow();
+        for (final Key key : this.keys.values()) {
+            key.valid = false;
+        }
+        this.keys.clear();
+        this.signalled.clear();
+        this.signalled.offer(CLOSED);
+    }
+
+    /**
+     * The attributes of a file when it was last scanned.
+     */
+    static final class FileState {
+        final FileTime modified;
+        final long size;
+        final @Nullable Object fileKey;
+        final byte @Nullable [] hash;
+
+        FileState(final FileTime modified, final long size, final @Nullable Object fileKey, final byte @Nullable [] hash) {
+            this.modified = modified;
+            this.size = size;
+            this.fileKey = fileKey;
+            this.hash = hash;
+        }
+
+        boolean sameAttributes(final FileState other) {
+            return this.size == other.size && this.modified.equals(other.modified) && Objects.equals(this.fileKey, other.fileKey);
+        }
+
+        FileState withHash(final byte @Nullable [] hash) {
+            return new FileState(this.modified, this.size, this.fileKey, hash);
+        }
+    }
+
+    /**
+     * A registration of one directory.
+     */
+    final class Key implements WatchKey {
+        final Path directory;
+        volatile Set<WatchEvent.Kind<?>> kinds;
+        volatile Map<Path, FileState> states; // only modified by the scanning thread
+        volatile boolean valid = true;
+        private final List<WatchEvent<?>> pending = new ArrayList<>();
+        private boolean queued;
+
+        Key(final Path directory, final Set<WatchEvent.Kind<?>> kinds, final Map<Path, FileState> states) {
+            this.directory = directory;
+            this.kinds = kinds;
+            this.states = states;
+        }
+
+        synchronized void signal(final List<WatchEvent<?>> events) {
+            this.pending.addAll(events);
+            if (!this.queued) {
+                this.queued = true;
+                PollingWatchService.this.signalled.offer(this);
+            }
+        }
+
+        @Override
+        public boolean isValid() {
+            return this.valid && !PollingWatchService.this.closed;
+        }
+
+        @Override
+        public synchronized List<WatchEvent<?>> pollEvents() {
+            final List<WatchEvent<?>> events = new ArrayList<>(this.pending);
+            this.pending.clear();
+            return events;
+        }
+
+        @Override
+        public synchronized boolean reset() {
+            if (!this.isValid()) {
+                return false;
+            }
+            if (this.pending.isEmpty()) {
+                this.queued = false;
+            } else {
+                PollingWatchService.this.signalled.offer(this);
+            }
+            return true;
+        }
+
+        @Override
+        public void cancel() {
+            this.valid = false;
+            PollingWatchService.this.keys.remove(this.directory, this);
+        }
+
+        @Override
+        public Path watchable() {
+            return this.directory;
+        }
+
+        @Override
+        public String toString() {
+            return "PollingWatchService.Key{directory=" + this.directory + ", valid=" + this.valid + "}";
+        }
+    }
+
+    /**
+     * A single change detected by a scan.
+     */
+    static final class Event implements WatchEvent<Path> {
+        private final Kind<Path> kind;
+        private final Path context;
+
+        Event(final Kind<Path> kind, final Path context) {
+            this.kind = kind;
+            this.context = context;
+        }
+
+        @Override
+        public Kind<Path> kind() {
+            return this.kind;
+        }
+
+        @Override
+        public int count() {
+            return 1;
+        }
+
+        @Override
+        public Path context() {
+            return this.context;
+        }
+
+        @Override
+        public String toString() {
+            return "Event{kind=" + this.kind + ", context=" + this.context + "}";
+        }
+    }
+
+}
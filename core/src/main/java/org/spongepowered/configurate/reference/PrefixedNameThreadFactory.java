@@ -16,6 +16,10 @@
  */
 package org.spongepowered.configurate.reference;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -36,6 +40,27 @@ class PrefixedNameThreadFactory implements ThreadFactory {
         this.daemon = daemon;
     }
 
+    /**
+     * Create a factory for virtual threads named with the provided prefix,
+     * if the current runtime supports virtual threads.
+     *
+     * @param prefix the thread name prefix
+     * @return a virtual thread factory, or {@code null} if unsupported
+     */
+    static @Nullable ThreadFactory virtual(final String prefix) {
+        // accessed reflectively, since virtual threads are only available from Java 21
+        try {
+            final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            final Method ofVirtual = Thread.class.getMethod("ofVirtual");
+            final Method name = builderClass.getMethod("name", String.class, long.class);
+            final Method factory = builderClass.getMethod("factory");
+            final Object builder = name.invoke(ofVirtual.invoke(null), prefix.endsWith("-") ? prefix : (prefix + "-"), 0L);
+            return (ThreadFactory) factory.invoke(builder);
+        } catch (final ClassNotFoundException | NoSuchMethodException | IllegalAccessException | InvocationTargetException ex) {
+            return null;
+        }
+    }
+
     @Override
     public Thread newThread(final Runnable runnable) {
         final Thread ret = new Thread(runnable, this.name + this.counter.getAndIncrement());
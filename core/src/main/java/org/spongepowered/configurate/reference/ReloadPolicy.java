@@ -0,0 +1,160 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.reference;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Controls how a watching {@link ConfigurationReference} reloads in response
+ * to file system events.
+ *
+ * <p>Saving a file commonly produces a burst of events, such as a create,
+ * several modifications, and a delete when the file is replaced. Events that
+ * arrive while a reload is waiting to run are always combined into that
+ * reload. A {@link Builder#quietPeriod(Duration) quiet period} can
+ * additionally delay each reload until no events have been received for some
+ * time, so that a burst only causes one reload, performed once the file has
+ * been completely written.</p>
+ *
+ * @see WatchServiceListener#listenToConfiguration(Function, Path, ReloadPolicy)
+ * @since 4.3.0
+ */
+public final class ReloadPolicy {
+
+    private static final ReloadPolicy IMMEDIATE = builder().build();
+
+    private final Duration quietPeriod;
+    private final boolean skipUnchanged;
+
+    /**
+     * Get a policy that reloads as soon as any event is received.
+     *
+     * @return the immediate policy
+     * @since 4.3.0
+     */
+    public static ReloadPolicy immediate() {
+        return IMMEDIATE;
+    }
+
+    /**
+     * Create a new builder for a reload policy.
+     *
+     * @return a new builder
+     * @since 4.3.0
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    ReloadPolicy(final Builder builder) {
+        this.quietPeriod = builder.quietPeriod;
+        this.skipUnchanged = builder.skipUnchanged;
+    }
+
+    /**
+     * Get the time that must pass without any further events before
+     * a reload is performed.
+     *
+     * @return the quiet period
+     * @since 4.3.0
+     */
+    public Duration quietPeriod() {
+        return this.quietPeriod;
+    }
+
+    /**
+     * Get whether reloads will be skipped when the content of the file has
+     * not changed since it was last loaded or saved.
+     *
+     * @return whether unchanged files are skipped
+     * @since 4.3.0
+     */
+    public boolean skipUnchanged() {
+        return this.skipUnchanged;
+    }
+
+    @Override
+    public String toString() {
+        return "ReloadPolicy{quietPeriod=" + this.quietPeriod + ", skipUnchanged=" + this.skipUnchanged + "}";
+    }
+
+    /**
+     * A builder for reload policies.
+     *
+     * @since 4.3.0
+     */
+    public static final class Builder {
+
+        private Duration quietPeriod = Duration.ZERO;
+        private boolean skipUnchanged;
+
+        Builder() {
+        }
+
+        /**
+         * Set the time that must pass without any further events before
+         * a reload is performed.
+         *
+         * <p>Each event received while a reload is waiting restarts the quiet
+         * period. By default, there is no quiet period.</p>
+         *
+         * @param quietPeriod the quiet period, not negative
+         * @return this builder
+         * @since 4.3.0
+         */
+        public Builder quietPeriod(final Duration quietPeriod) {
+            if (requireNonNull(quietPeriod, "quietPeriod").isNegative()) {
+                throw new IllegalArgumentException("Quiet period must not be negative, but was " + quietPeriod);
+            }
+            this.quietPeriod = quietPeriod;
+            return this;
+        }
+
+        /**
+         * Set whether reloads will be skipped when the content of the file
+         * has not changed since it was last loaded or saved.
+         *
+         * <p>When enabled, the file's size and modification time are checked
+         * before each reload. If those have changed, the file is hashed, and is
+         * only parsed if its hash differs. This is disabled by default.</p>
+         *
+         * @param skipUnchanged whether to skip unchanged files
+         * @return this builder
+         * @since 4.3.0
+         */
+        public Builder skipUnchanged(final boolean skipUnchanged) {
+            this.skipUnchanged = skipUnchanged;
+            return this;
+        }
+
+        /**
+         * Create a new policy with the current settings.
+         *
+         * @return the new policy
+         * @since 4.3.0
+         */
+        public ReloadPolicy build() {
+            return new ReloadPolicy(this);
+        }
+
+    }
+
+}
@@ -0,0 +1,157 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.reference;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+
+/**
+ * Controls when changes made through a {@link ValueReference} are written
+ * to disk.
+ *
+ * <p>By default, every call to {@link ValueReference#setAndSave(Object)}
+ * writes the entire configuration immediately. A write-behind policy instead
+ * marks the owning {@link ConfigurationReference} as changed, and writes it
+ * once the {@link Builder#maxDelay(Duration) maximum delay} has passed since
+ * the first unsaved change. Any further changes made in that time are
+ * included in the same write.</p>
+ *
+ * <p>Unsaved changes can be written early with
+ * {@link ConfigurationReference#flush()}, and are written when the reference
+ * is closed, {@link ConfigurationReference#load() loaded}, or reloaded by a
+ * watching reference or {@link ConfigurationReferenceGroup}. When a watching
+ * reference that {@link ReloadPolicy#skipUnchanged() skips unchanged files}
+ * reloads a file that has changed since it was last read or written, any
+ * unsaved changes are discarded instead, since the file was modified after
+ * they were made.</p>
+ *
+ * @see ConfigurationReference#savePolicy(SavePolicy)
+ * @since 4.3.0
+ */
+public final class SavePolicy {
+
+    private static final SavePolicy IMMEDIATE = builder().build();
+
+    private final Duration maxDelay;
+
+    /**
+     * Get a policy that saves as soon as any value is changed.
+     *
+     * @return the immediate policy
+     * @since 4.3.0
+     */
+    public static SavePolicy immediate() {
+        return IMMEDIATE;
+    }
+
+    /**
+     * Get a policy that combines any changes made within the maximum delay
+     * into a single save.
+     *
+     * @param maxDelay the maximum time to hold unsaved changes
+     * @return a new write-behind policy
+     * @since 4.3.0
+     */
+    public static SavePolicy writeBehind(final Duration maxDelay) {
+        return builder().maxDelay(maxDelay).build();
+    }
+
+    /**
+     * Create a new builder for a save policy.
+     *
+     * @return a new builder
+     * @since 4.3.0
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    SavePolicy(final Builder builder) {
+        this.maxDelay = builder.maxDelay;
+    }
+
+    /**
+     * Get the longest time a change may be held before it is saved.
+     *
+     * @return the maximum delay
+     * @since 4.3.0
+     */
+    public Duration maxDelay() {
+        return this.maxDelay;
+    }
+
+    /**
+     * Get whether saves are deferred by this policy.
+     *
+     * @return whether the maximum delay is non-zero
+     * @since 4.3.0
+     */
+    public boolean writeBehind() {
+        return !this.maxDelay.isZero();
+    }
+
+    @Override
+    public String toString() {
+        return "SavePolicy{maxDelay=" + this.maxDelay + "}";
+    }
+
+    /**
+     * A builder for save policies.
+     *
+     * @since 4.3.0
+     */
+    public static final class Builder {
+
+        private Duration maxDelay = Duration.ZERO;
+
+        Builder() {
+        }
+
+        /**
+         * Set the longest time a change may be held before it is saved.
+         *
+         * <p>The delay starts with the first change made since the last save,
+         * and is not extended by further changes, so a steady stream of
+         * changes will still be saved at this interval. By default, there is
+         * no delay.</p>
+         *
+         * @param maxDelay the maximum delay, not negative
+         * @return this builder
+         * @since 4.3.0
+         */
+        public Builder maxDelay(final Duration maxDelay) {
+            if (requireNonNull(maxDelay, "maxDelay").isNegative()) {
+                throw new IllegalArgumentException("Maximum delay must not be negative, but was " + maxDelay);
+            }
+            this.maxDelay = maxDelay;
+            return this;
+        }
+
+        /**
+         * Create a new policy with the current settings.
+         *
+         * @return the new policy
+         * @since 4.3.0
+         */
+        public SavePolicy build() {
+            return new SavePolicy(this);
+        }
+
+    }
+
+}
@@ -0,0 +1,43 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.reference;
+
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+
+/**
+ * Holder for the timer shared by references that delay work, so it is only
+ * created when first used.
+ *
+ * <p>This delays quiet-period reloads of watching references and groups,
+ * and write-behind saves.</p>
+ *
+ * <p>Scheduled tasks should only hand work off to another executor, since
+ * they all run on a single thread.</p>
+ */
+final class SharedScheduler {
+
+    static final ScheduledThreadPoolExecutor INSTANCE;
+
+    static {
+        INSTANCE = new ScheduledThreadPoolExecutor(1, new PrefixedNameThreadFactory("Configurate-Scheduler", true));
+        INSTANCE.setRemoveOnCancelPolicy(true);
+    }
+
+    private SharedScheduler() {
+    }
+
+}
@@ -0,0 +1,51 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.reference;
+
+import java.io.IOException;
+import java.nio.file.FileSystem;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+
+/**
+ * A backend using the watch service provided by each file system.
+ */
+final class SystemWatchBackend implements WatchBackend {
+
+    static final SystemWatchBackend INSTANCE = new SystemWatchBackend();
+
+    private SystemWatchBackend() {
+    }
+
+    @Override
+    public WatchService newWatchService(final FileSystem fileSystem) throws IOException {
+        return fileSystem.newWatchService();
+    }
+
+    @Override
+    public WatchKey register(final WatchService service, final Path directory, final WatchEvent.Kind<?>[] events) throws IOException {
+        return directory.register(service, events);
+    }
+
+    @Override
+    public String toString() {
+        return "SystemWatchBackend";
+    }
+
+}
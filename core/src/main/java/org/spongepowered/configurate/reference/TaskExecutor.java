@@ -0,0 +1,352 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.reference;
+
+import com.google.auto.value.AutoValue;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An executor for configuration work, such as reloading files and
+ * notifying subscribers of changes.
+ *
+ * <p>Configuration work often blocks on file I/O, so it is kept away from
+ * the common {@link java.util.concurrent.ForkJoinPool}, where it would
+ * compete with parallel streams and other computation. On Java 21 and newer,
+ * each task runs on its own virtual thread. Otherwise, tasks run on a small
+ * pool of daemon threads.</p>
+ *
+ * <p>The number of tasks waiting to start is bounded. Once the limit is
+ * reached, further tasks are run on the submitting thread, slowing down
+ * whatever is producing them. Tasks submitted by Configurate itself are
+ * queued past the limit instead, since they are often submitted from threads
+ * that must not run them, such as a watch service thread, or while holding
+ * the lock on a loader.</p>
+ *
+ * <p>The {@link #shared() shared executor} is the default for
+ * {@link ConfigurationReference}s and {@link WatchServiceListener}s.</p>
+ *
+ * @since 4.3.0
+ */
+public final class TaskExecutor implements Executor {
+
+    private static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
+    private final Executor delegate;
+    private final int queueCapacity;
+    private final boolean virtual;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder started = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder callerRuns = new LongAdder();
+    private final LongAdder totalLatencyNanos = new LongAdder();
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+    private final Executor internal = new Internal();
+    private boolean shared;
+    private volatile boolean shutdown;
+
+    /**
+     * Get the executor shared by all configuration references and watch
+     * service listeners that are not given another executor.
+     *
+     * @return the shared executor
+     * @since 4.3.0
+     */
+    public static TaskExecutor shared() {
+        return Shared.INSTANCE;
+    }
+
+    /**
+     * Create a new executor.
+     *
+     * <p>Platform threads are only used when virtual threads are disabled,
+     * or not supported by the runtime.</p>
+     *
+     * @param name the prefix for the names of threads created
+     * @param threads the number of platform threads to run tasks on
+     * @param queueCapacity the number of tasks that may wait to start
+     * @param virtualThreads whether to run tasks on virtual threads,
+     *     if supported
+     * @return a new executor
+     * @since 4.3.0
+     */
+    public static TaskExecutor create(final String name, final int threads, final int queueCapacity, final boolean virtualThreads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Thread count must be at least 1, but was " + threads);
+        }
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException("Queue capacity must be at least 1, but was " + queueCapacity);
+        }
+
+        final @Nullable ThreadFactory virtual = virtualThreads ? PrefixedNameThreadFactory.virtual(name) : null;
+        if (virtual != null) {
+            return new TaskExecutor(task -> virtual.newThread(task).start(), queueCapacity, true);
+        }
+
+        final ThreadPoolExecutor pool = new ThreadPoolExecutor(
+            threads,
+            threads,
+            60, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(), // bounded by the queued task count
+            new PrefixedNameThreadFactory(name, true)
+        );
+        pool.allowCoreThreadTimeOut(true);
+        return new TaskExecutor(pool, queueCapacity, false);
+    }
+
+    /**
+     * Get a view of an executor for tasks submitted by Configurate itself.
+     *
+     * <p>If the executor is a {@link TaskExecutor}, the view never runs tasks
+     * on the submitting thread. Any other executor is returned unchanged.</p>
+     *
+     * @param executor the executor
+     * @return the executor to submit internal tasks to
+     */
+    static Executor internal(final Executor executor) {
+        return executor instanceof TaskExecutor ? ((TaskExecutor) executor).internal : executor;
+    }
+
+    private TaskExecutor(final Executor delegate, final int queueCapacity, final boolean virtual) {
+        this.delegate = delegate;
+        this.queueCapacity = queueCapacity;
+        this.virtual = virtual;
+    }
+
+    /**
+     * Get whether tasks are run on virtual threads.
+     *
+     * @return whether virtual threads are used
+     * @since 4.3.0
+     */
+    public boolean virtualThreads() {
+        return this.virtual;
+    }
+
+    /**
+     * Stop accepting new tasks.
+     *
+     * <p>Tasks that have already been submitted will still run, but any
+     * further tasks are rejected with a {@link RejectedExecutionException}.
+     * The {@link #shared() shared executor} cannot be shut down.</p>
+     *
+     * @throws IllegalStateException if this is the shared executor
+     * @since 4.3.0
+     */
+    public void shutdown() {
+        if (this.shared) {
+            throw new IllegalStateException("The shared task executor cannot be shut down");
+        }
+        this.shutdown = true;
+        if (this.delegate instanceof ExecutorService) {
+            ((ExecutorService) this.delegate).shutdown();
+        }
+    }
+
+    @Override
+    public void execute(final Runnable command) {
+        this.execute(command, true);
+    }
+
+    private void execute(final Runnable command, final boolean callerMayRun) {
+        if (this.shutdown) {
+            throw new RejectedExecutionException("Task executor " + this + " has been shut down");
+        }
+        this.submitted.increment();
+        if (this.queued.incrementAndGet() > this.queueCapacity && callerMayRun) {
+            this.queued.decrementAndGet();
+            this.callerRuns.increment();
+            this.run(command, System.nanoTime());
+            return;
+        }
+
+        final long submittedAt = System.nanoTime();
+        try {
+            this.delegate.execute(() -> {
+                this.queued.decrementAndGet();
+                this.run(command, submittedAt);
+            });
+        } catch (final RuntimeException ex) {
+            this.queued.decrementAndGet();
+            throw ex;
+        }
+    }
+
+    private void run(final Runnable command, final long submittedAt) {
+        final long latency = System.nanoTime() - submittedAt;
+        this.started.increment();
+        this.totalLatencyNanos.add(latency);
+        this.maxLatencyNanos.accumulateAndGet(latency, Math::max);
+        try {
+            command.run();
+        } finally {
+            this.completed.increment();
+        }
+    }
+
+    private TaskExecutor markShared() {
+        this.shared = true;
+        return this;
+    }
+
+    /**
+     * Get statistics about the tasks run by this executor.
+     *
+     * @return current metrics
+     * @since 4.3.0
+     */
+    public Metrics metrics() {
+        final long started = this.started.sum();
+        final long totalLatency = this.totalLatencyNanos.sum();
+        return Metrics.of(
+            this.queued.get(),
+            this.submitted.sum(),
+            this.completed.sum(),
+            this.callerRuns.sum(),
+            Duration.ofNanos(started == 0 ? 0 : totalLatency / started),
+            Duration.ofNanos(this.maxLatencyNanos.get())
+        );
+    }
+
+    @Override
+    public String toString() {
+        return "TaskExecutor{virtual=" + this.virtual + ", queueCapacity=" + this.queueCapacity + "}";
+    }
+
+    /**
+     * A view of this executor that queues tasks past the limit, rather than
+     * running them on the submitting thread.
+     */
+    private final class Internal implements Executor {
+
+        @Override
+        public void execute(final Runnable command) {
+            TaskExecutor.this.execute(command, false);
+        }
+
+        @Override
+        public String toString() {
+            return "Internal" + TaskExecutor.this;
+        }
+
+    }
+
+    /**
+     * Holder for the shared executor, so it is only created when first used.
+     */
+    static final class Shared {
+
+        static final TaskExecutor INSTANCE = create(
+            "Configurate-Task",
+            Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors())),
+            DEFAULT_QUEUE_CAPACITY,
+            true
+        ).markShared();
+
+        private Shared() {
+        }
+
+    }
+
+    /**
+     * Statistics about the tasks run by an executor.
+     *
+     * @since 4.3.0
+     */
+    @AutoValue
+    public abstract static class Metrics {
+
+        static Metrics of(
+            final int queueDepth,
+            final long submitted,
+            final long completed,
+            final long callerRuns,
+            final Duration averageLatency,
+            final Duration maxLatency
+        ) {
+            return new AutoValue_TaskExecutor_Metrics(queueDepth, submitted, completed, callerRuns, averageLatency, maxLatency);
+        }
+
+        Metrics() {
+        }
+
+        /**
+         * The number of tasks currently waiting to start.
+         *
+         * @return the queue depth
+         * @since 4.3.0
+         */
+        public abstract int queueDepth();
+
+        /**
+         * The total number of tasks submitted.
+         *
+         * @return the submitted task count
+         * @since 4.3.0
+         */
+        public abstract long submitted();
+
+        /**
+         * The total number of tasks that have finished running.
+         *
+         * @return the completed task count
+         * @since 4.3.0
+         */
+        public abstract long completed();
+
+        /**
+         * The total number of tasks run on the submitting thread because
+         * too many tasks were waiting.
+         *
+         * @return the count of tasks run by their caller
+         * @since 4.3.0
+         */
+        public abstract long callerRuns();
+
+        /**
+         * The average time started tasks waited between being submitted
+         * and starting to run.
+         *
+         * @return the average latency
+         * @since 4.3.0
+         */
+        public abstract Duration averageLatency();
+
+        /**
+         * The longest time any task has waited between being submitted
+         * and starting to run.
+         *
+         * @return the maximum latency
+         * @since 4.3.0
+         */
+        public abstract Duration maxLatency();
+
+    }
+
+}
@@ -29,6 +29,10 @@ import java.util.function.Function;
  * configuration file. Subscribers will be provided the current value upon
  * subscription, followed by any changes.
  *
+ * <p>An update to the configuration that leaves the node at this reference's
+ * path structurally unchanged will not be deserialized again, and will not
+ * be delivered to subscribers.</p>
+ *
  * @param <T> the type of value to return
  * @param <N> the type of node
  * @since 4.0.0
@@ -64,6 +68,10 @@ public interface ValueReference<T, N extends ConfigurationNode> extends Publishe
      * <p>Any serialization errors will be provided to the error callback of the
      * owning {@link ConfigurationReference}
      *
+     * <p>If the owning reference has a write-behind {@link SavePolicy}, the
+     * save will be deferred, and any error while saving will be provided to
+     * its error callback.</p>
+     *
      * @param value the value
      * @return true if successful, false if serialization fails
      * @since 4.0.0
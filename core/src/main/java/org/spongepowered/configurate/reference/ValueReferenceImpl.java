@@ -53,14 +53,15 @@ class ValueReferenceImpl<T extends @Nullable Object, N extends ScopedConfigurati
         }
         this.serializer = serializer;
 
-        this.deserialized = root.updateListener.map(n -> {
+        // only updates that change our node are delivered
+        this.deserialized = root.pathUpdates.updates(path).map(n -> {
             try {
-                return deserializedValueFrom(n, def);
+                return deserializedValue(n, def);
             } catch (final SerializationException e) {
                 root.errorListener.submit(UnmodifiableCollections.immutableMapEntry(ErrorPhase.VALUE, e));
                 throw new TransactionFailedException(e);
             }
-        }).cache(deserializedValueFrom(root.node(), def));
+        }).cache(deserializedValue(root.node().node(path), def));
     }
 
     ValueReferenceImpl(final ManualConfigurationReference<N> root, final NodePath path, final Class<T> type,
@@ -68,8 +69,7 @@ class ValueReferenceImpl<T extends @Nullable Object, N extends ScopedConfigurati
         this(root, path, TypeToken.get(type), def);
     }
 
-    private @Nullable T deserializedValueFrom(final N parent, final @Nullable T defaultVal) throws SerializationException {
-        final N node = parent.node(this.path);
+    private @Nullable T deserializedValue(final N node, final @Nullable T defaultVal) throws SerializationException {
         if (!node.virtual()) {
             return this.serializer.deserialize(this.type.getType(), node);
         }
@@ -89,6 +89,7 @@ class ValueReferenceImpl<T extends @Nullable Object, N extends ScopedConfigurati
     public boolean set(final @Nullable T value) {
         try {
             this.serializer.serialize(this.type.getType(), value, node());
+            this.root.pathUpdates.markChanged(this.path);
             this.deserialized.submit(value);
             return true;
         } catch (final SerializationException e) {
@@ -101,7 +102,7 @@ class ValueReferenceImpl<T extends @Nullable Object, N extends ScopedConfigurati
     public boolean setAndSave(final @Nullable T value) {
         try {
             if (set(value)) {
-                this.root.save();
+                this.root.saveChanged();
                 return true;
             }
         } catch (final ConfigurateException e) {
@@ -114,8 +115,9 @@ class ValueReferenceImpl<T extends @Nullable Object, N extends ScopedConfigurati
     public Publisher<Boolean> setAndSaveAsync(final @Nullable T value) {
         return Publisher.execute(() -> {
             this.serializer.serialize(this.type.getType(), value, node());
+            this.root.pathUpdates.markChanged(this.path);
             this.deserialized.submit(value);
-            this.root.save();
+            this.root.saveChanged();
             return true;
         }, this.root.updates().executor());
     }
@@ -136,8 +138,9 @@ class ValueReferenceImpl<T extends @Nullable Object, N extends ScopedConfigurati
             final @Nullable T orig = get();
             final T updated = action.apply(orig);
             this.serializer.serialize(this.type.getType(), updated, node());
+            this.root.pathUpdates.markChanged(this.path);
             this.deserialized.submit(updated);
-            this.root.save();
+            this.root.saveChanged();
             return true;
         }, this.root.updates().executor());
     }
@@ -0,0 +1,85 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.reference;
+
+import java.io.IOException;
+import java.nio.file.FileSystem;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+
+/**
+ * A source of file change events for a {@link WatchServiceListener}.
+ *
+ * <p>Backends provide their own {@link WatchService} implementation,
+ * producing the same stream of {@link WatchKey keys} and
+ * {@link WatchEvent events} as the system watch service, so listeners
+ * behave identically whichever backend is used.</p>
+ *
+ * @since 4.3.0
+ */
+public interface WatchBackend {
+
+    /**
+     * Get a backend using the native watch service provided by
+     * a file system.
+     *
+     * <p>This is the default backend.</p>
+     *
+     * @return the system backend
+     * @see FileSystem#newWatchService()
+     * @since 4.3.0
+     */
+    static WatchBackend system() {
+        return SystemWatchBackend.INSTANCE;
+    }
+
+    /**
+     * Create a builder for a backend that detects changes by periodically
+     * scanning watched directories.
+     *
+     * @return a new builder
+     * @since 4.3.0
+     */
+    static PollingWatchBackend.Builder polling() {
+        return PollingWatchBackend.builder();
+    }
+
+    /**
+     * Create a new watch service.
+     *
+     * @param fileSystem the file system that watched paths will be from
+     * @return a new watch service
+     * @throws IOException if the watch service could not be created
+     * @since 4.3.0
+     */
+    WatchService newWatchService(FileSystem fileSystem) throws IOException;
+
+    /**
+     * Register a directory with a watch service created by this backend.
+     *
+     * @param service the watch service
+     * @param directory the directory to watch
+     * @param events the kinds of events to report
+     * @return a key representing the registration
+     * @throws IOException if the directory could not be registered
+     * @since 4.3.0
+     */
+    WatchKey register(WatchService service, Path directory, WatchEvent.Kind<?>[] events) throws IOException;
+
+}
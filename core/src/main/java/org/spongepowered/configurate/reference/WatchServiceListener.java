@@ -39,7 +39,6 @@ import java.util.HashSet;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
-import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ThreadFactory;
 import java.util.function.Function;
 
@@ -66,10 +65,12 @@ public final class WatchServiceListener implements AutoCloseable {
     private static final int PARALLEL_THRESHOLD = 100;
     private static final ThreadFactory DEFAULT_THREAD_FACTORY = new PrefixedNameThreadFactory("Configurate-WatchService", true);
 
-    private final WatchService watchService;
+    private final WatchBackend backend;
+    private final WatchService[] watchServices;
     private volatile boolean open = true;
-    private final Thread executor;
+    private final Thread[] executors;
     final Executor taskExecutor;
+    final ReloadPolicy reloadPolicy;
     @SuppressWarnings("PMD.LooseCoupling") // we use implementation-specific API
     private final ConcurrentHashMap<Path, DirectoryListenerRegistration> activeListeners = new ConcurrentHashMap<>();
     private static final ThreadLocal<IOException> exceptionHolder = new ThreadLocal<>();
@@ -86,8 +87,9 @@ public final class WatchServiceListener implements AutoCloseable {
     }
 
     /**
-     * Create a new {@link WatchServiceListener} using a new cached thread pool
-     * executor and the default filesystem.
+     * Create a new {@link WatchServiceListener} using the
+     * {@link TaskExecutor#shared() shared task executor} and the
+     * default filesystem.
      *
      * @return a new instance with default values
      * @throws IOException if a watch service cannot be created
@@ -95,60 +97,105 @@ public final class WatchServiceListener implements AutoCloseable {
      * @since 4.0.0
      */
     public static WatchServiceListener create() throws IOException {
-        return new WatchServiceListener(DEFAULT_THREAD_FACTORY, FileSystems.getDefault(), ForkJoinPool.commonPool());
+        return new WatchServiceListener(DEFAULT_THREAD_FACTORY, FileSystems.getDefault(), TaskExecutor.shared(), ReloadPolicy.immediate(), 1, WatchBackend.system());
     }
 
-    private WatchServiceListener(final ThreadFactory factory, final FileSystem fileSystem, final Executor taskExecutor) throws IOException {
-        this.watchService = fileSystem.newWatchService();
-        this.executor = factory.newThread(() -> {
-            while (this.open) {
-                final WatchKey key;
-                try {
-                    key = this.watchService.take();
-                } catch (final InterruptedException e) {
-                    this.open = false;
-                    Thread.currentThread().interrupt();
-                    break;
-                } catch (final ClosedWatchServiceException e) {
-                    break;
-                }
-                final Path watched = (Path) key.watchable();
-                final DirectoryListenerRegistration registration = this.activeListeners.get(watched);
-                if (registration != null) {
-                    final Set<Object> seenContexts = new HashSet<>();
-                    for (WatchEvent<?> event : key.pollEvents()) {
-                        if (!key.isValid()) {
-                            break;
-                        }
-
-                        if (!seenContexts.add(event.context())) {
-                            continue;
-                        }
-
-                        // Process listeners
-                        registration.submit(event);
-                        if (registration.closeIfEmpty()) {
-                            key.cancel();
-                            break;
-                        }
-                    }
-
-                    // If the watch key is no longer valid, send all listeners a close event
-                    if (!key.reset()) {
-                        final DirectoryListenerRegistration oldListeners = this.activeListeners.remove(watched);
-                        oldListeners.onClose();
+    private WatchServiceListener(
+        final ThreadFactory factory,
+        final FileSystem fileSystem,
+        final Executor taskExecutor,
+        final ReloadPolicy reloadPolicy,
+        final int shards,
+        final WatchBackend backend
+    ) throws IOException {
+        this.backend = backend;
+        this.watchServices = new WatchService[shards];
+        try {
+            for (int i = 0; i < shards; ++i) {
+                this.watchServices[i] = backend.newWatchService(fileSystem);
+            }
+        } catch (final IOException ex) {
+            for (final @Nullable WatchService service : this.watchServices) {
+                if (service != null) {
+                    try {
+                        service.close();
+                    } catch (final IOException suppressed) {
+                        ex.addSuppressed(suppressed);
                     }
                 }
-                try {
-                    Thread.sleep(20);
-                } catch (final InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    break;
-                }
             }
-        });
-        this.taskExecutor = taskExecutor;
-        this.executor.start();
+            throw ex;
+        }
+
+        this.executors = new Thread[shards];
+        for (int i = 0; i < shards; ++i) {
+            final WatchService service = this.watchServices[i];
+            this.executors[i] = factory.newThread(() -> this.processEvents(service));
+        }
+        // reloads are scheduled from the watch service threads, which must not run them
+        this.taskExecutor = TaskExecutor.internal(taskExecutor);
+        this.reloadPolicy = reloadPolicy;
+        for (final Thread executor : this.executors) {
+            executor.start();
+        }
+    }
+
+    private void processEvents(final WatchService service) {
+        while (this.open) {
+            @Nullable WatchKey key;
+            try {
+                key = service.take();
+            } catch (final InterruptedException e) {
+                this.open = false;
+                Thread.currentThread().interrupt();
+                break;
+            } catch (final ClosedWatchServiceException e) {
+                break;
+            }
+
+            // handle every key that is already signalled before blocking again
+            try {
+                do {
+                    this.processKey(key);
+                } while ((key = service.poll()) != null);
+            } catch (final ClosedWatchServiceException e) {
+                break;
+            }
+        }
+    }
+
+    private void processKey(final WatchKey key) {
+        final Path watched = (Path) key.watchable();
+        final @Nullable DirectoryListenerRegistration registration = this.activeListeners.get(watched);
+        if (registration == null) {
+            return;
+        }
+
+        final Set<Object> seenContexts = new HashSet<>();
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (!key.isValid()) {
+                break;
+            }
+
+            if (!seenContexts.add(event.context())) {
+                continue;
+            }
+
+            // Process listeners
+            registration.submit(event);
+            if (registration.closeIfEmpty()) {
+                key.cancel();
+                break;
+            }
+        }
+
+        // If the watch key is no longer valid, send all listeners a close event
+        if (!key.reset()) {
+            final @Nullable DirectoryListenerRegistration oldListeners = this.activeListeners.remove(watched);
+            if (oldListeners != null) {
+                oldListeners.onClose();
+            }
+        }
     }
 
     /**
@@ -163,7 +210,9 @@ public final class WatchServiceListener implements AutoCloseable {
     private DirectoryListenerRegistration registration(final Path directory) throws ConfigurateException {
         final @Nullable DirectoryListenerRegistration reg = this.activeListeners.computeIfAbsent(directory, dir -> {
             try {
-                return new DirectoryListenerRegistration(dir.register(this.watchService, DEFAULT_WATCH_EVENTS), this.taskExecutor);
+                // directories are spread across watch services, so each thread only handles its share
+                final WatchService service = this.watchServices[Math.floorMod(dir.hashCode(), this.watchServices.length)];
+                return new DirectoryListenerRegistration(this.backend.register(service, dir, DEFAULT_WATCH_EVENTS), this.taskExecutor);
             } catch (final IOException ex) {
                 exceptionHolder.set(ex);
                 return null;
@@ -234,15 +283,42 @@ public final class WatchServiceListener implements AutoCloseable {
         return ConfigurationReference.watching(loaderFunc, path, this);
     }
 
+    /**
+     * Create a new {@link ConfigurationReference} subscribed to FS updates,
+     * reloading according to a specific policy.
+     *
+     * @param loaderFunc function that will create a new loader
+     * @param path path to to for changes
+     * @param policy the policy controlling when reloads are performed
+     * @param <N> node type
+     * @return new reference
+     * @throws ConfigurateException if unable to complete an initial load of
+     *      the configuration.
+     * @since 4.3.0
+     */
+    public <N extends ScopedConfigurationNode<N>> ConfigurationReference<N> listenToConfiguration(
+        final Function<Path, ConfigurationLoader<? extends N>> loaderFunc,
+        final Path path,
+        final ReloadPolicy policy
+    ) throws ConfigurateException {
+        return ConfigurationReference.watching(loaderFunc, path, this, policy);
+    }
+
     @Override
     public void close() throws IOException {
         this.open = false;
-        this.watchService.close();
+        for (final WatchService service : this.watchServices) {
+            service.close();
+        }
         this.activeListeners.forEachValue(PARALLEL_THRESHOLD, DirectoryListenerRegistration::onClose);
         this.activeListeners.clear();
         try {
-            this.executor.interrupt();
-            this.executor.join();
+            for (final Thread executor : this.executors) {
+                executor.interrupt();
+            }
+            for (final Thread executor : this.executors) {
+                executor.join();
+            }
         } catch (final InterruptedException e) {
             throw new IOException("Failed to await termination of executor thread!");
         }
@@ -259,6 +335,10 @@ public final class WatchServiceListener implements AutoCloseable {
         private @Nullable ThreadFactory threadFactory;
         private @Nullable FileSystem fileSystem;
         private @Nullable Executor taskExecutor;
+        private ReloadPolicy reloadPolicy = ReloadPolicy.immediate();
+        private int watchThreads = 1;
+        private boolean virtualThreads;
+        private WatchBackend backend = WatchBackend.system();
 
         private Builder() { }
 
@@ -275,10 +355,62 @@ public final class WatchServiceListener implements AutoCloseable {
             return this;
         }
 
+        /**
+         * Set the number of threads that will wait for file system events.
+         *
+         * <p>Each watched directory is handled by one of these threads, each
+         * with its own watch service, so events for many directories can be
+         * received in parallel. By default, one thread is used.</p>
+         *
+         * @param threads the number of watch threads, at least one
+         * @return this builder
+         * @since 4.3.0
+         */
+        public Builder watchThreads(final int threads) {
+            if (threads < 1) {
+                throw new IllegalArgumentException("At least one watch thread is required, but " + threads + " were requested");
+            }
+            this.watchThreads = threads;
+            return this;
+        }
+
+        /**
+         * Set whether watch threads will be virtual threads, when no
+         * {@link #threadFactory(ThreadFactory) thread factory} is set.
+         *
+         * <p>Virtual threads are only available on Java 21 and newer. On older
+         * runtimes, platform daemon threads will be used instead.</p>
+         *
+         * @param virtualThreads whether to use virtual threads
+         * @return this builder
+         * @since 4.3.0
+         */
+        public Builder virtualThreads(final boolean virtualThreads) {
+            this.virtualThreads = virtualThreads;
+            return this;
+        }
+
+        /**
+         * Set the backend used to detect changes to files.
+         *
+         * <p>By default, the {@link WatchBackend#system() native watch
+         * service} of the file system is used. A
+         * {@link WatchBackend#polling() polling} backend can be used on file
+         * systems where native events are unavailable or unreliable.</p>
+         *
+         * @param backend the backend to use
+         * @return this builder
+         * @since 4.3.0
+         */
+        public Builder backend(final WatchBackend backend) {
+            this.backend = requireNonNull(backend, "backend");
+            return this;
+        }
+
         /**
          * Set the executor that will be used to execute tasks queued based on
          * received events. By default, the
-         * {@link ForkJoinPool#commonPool() common pool} is used.
+         * {@link TaskExecutor#shared() shared task executor} is used.
          *
          * @param executor the executor to use
          * @return this builder
@@ -303,6 +435,22 @@ public final class WatchServiceListener implements AutoCloseable {
             return this;
         }
 
+        /**
+         * Set the policy used by configuration references created through
+         * this listener when no other policy is specified.
+         *
+         * <p>By default, references reload {@link ReloadPolicy#immediate()
+         * immediately}.</p>
+         *
+         * @param policy the default reload policy
+         * @return this builder
+         * @since 4.3.0
+         */
+        public Builder reloadPolicy(final ReloadPolicy policy) {
+            this.reloadPolicy = requireNonNull(policy, "policy");
+            return this;
+        }
+
         /**
          * Create a new listener, using default values for any unset parameters.
          *
@@ -312,7 +460,8 @@ public final class WatchServiceListener implements AutoCloseable {
          */
         public WatchServiceListener build() throws IOException {
             if (this.threadFactory == null) {
-                this.threadFactory = DEFAULT_THREAD_FACTORY;
+                final @Nullable ThreadFactory virtual = this.virtualThreads ? PrefixedNameThreadFactory.virtual("Configurate-WatchService") : null;
+                this.threadFactory = virtual == null ? DEFAULT_THREAD_FACTORY : virtual;
             }
 
             if (this.fileSystem == null) {
@@ -320,10 +469,10 @@ public final class WatchServiceListener implements AutoCloseable {
             }
 
             if (this.taskExecutor == null) {
-                this.taskExecutor = ForkJoinPool.commonPool();
+                this.taskExecutor = TaskExecutor.shared();
             }
 
-            return new WatchServiceListener(this.threadFactory, this.fileSystem, this.taskExecutor);
+            return new WatchServiceListener(this.threadFactory, this.fileSystem, this.taskExecutor, this.reloadPolicy, this.watchThreads, this.backend);
         }
 
     }
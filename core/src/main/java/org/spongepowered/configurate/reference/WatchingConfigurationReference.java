@@ -25,21 +25,138 @@ import org.spongepowered.configurate.reactive.Disposable;
 import org.spongepowered.configurate.reactive.Subscriber;
 import org.spongepowered.configurate.util.UnmodifiableCollections;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
 import java.nio.file.StandardWatchEventKinds;
 import java.nio.file.WatchEvent;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Objects;
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * A reference to a configuration node, that may or may not be updating.
+ *
+ * <p>Events are coalesced, so that any events received while a reload is
+ * waiting to run will be handled by that reload.</p>
  */
 class WatchingConfigurationReference<N extends ScopedConfigurationNode<N>>
         extends ManualConfigurationReference<N> implements Subscriber<WatchEvent<?>> {
 
+    private static final byte[] MISSING_FILE = new byte[0];
+    // coarser than the modification time resolution of any common file system
+    private static final long RACY_WINDOW_MILLIS = 2000;
+
+    private final Path file;
+    private final WatchServiceListener listener;
+    private final ReloadPolicy policy;
+    private final long quietPeriodNanos;
+    private final AtomicBoolean reloadPending = new AtomicBoolean();
+    private volatile long lastEventTime;
     private volatile boolean saveSuppressed;
+    private volatile boolean closed;
+    private volatile byte @Nullable [] contentHash;
+    private volatile @Nullable Fingerprint fingerprint;
+    // observed by the last read, recorded only once its node is published
+    private volatile byte @Nullable [] readContentHash;
+    private volatile @Nullable Fingerprint readFingerprint;
     private @Nullable Disposable disposable;
 
-    WatchingConfigurationReference(final ConfigurationLoader<? extends N> loader, final Executor taskExecutor) {
-        super(loader, taskExecutor);
+    private final LongAdder eventsReceived = new LongAdder();
+    private final LongAdder reloads = new LongAdder();
+    private final LongAdder skippedUnchanged = new LongAdder();
+
+    WatchingConfigurationReference(
+        final ConfigurationLoader<? extends N> loader,
+        final Path file,
+        final WatchServiceListener listener,
+        final ReloadPolicy policy
+    ) {
+        super(loader, listener.taskExecutor);
+        this.file = file;
+        this.listener = listener;
+        this.policy = policy;
+        this.quietPeriodNanos = policy.quietPeriod().toNanos();
+    }
+
+    /**
+     * Load the configuration, unless the policy allows skipping unchanged
+     * files and the file has not changed since it was last read or written.
+     *
+     * <p>The file's attributes are checked first, so an unchanged file does
+     * not need to be read at all. Its content is only hashed when the
+     * attributes differ, or are too recent to be trusted.</p>
+     *
+     * @return whether a load was performed
+     * @throws ConfigurateException if the configuration could not be loaded
+     */
+    boolean reload() throws ConfigurateException {
+        synchronized (loader()) {
+            final @Nullable N loaded = this.read();
+            if (loaded == null) {
+                return false;
+            }
+            // only still held if the file changed after they were made
+            this.discardHeld();
+            this.replaceNode(loaded);
+            this.updateListener.submit(loaded);
+            this.recordRead();
+            return true;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>When skipping unchanged files, held changes are left held if the
+     * file is unchanged. If the file has changed since it was last read or
+     * written, it is loaded without saving them, so they can be discarded
+     * once the new node is published.</p>
+     *
+     * <p>The attributes and hash of a file that has changed are not recorded
+     * until the returned node has been published, so a read that fails or
+     * is rolled back will be retried on the next event.</p>
+     */
+    @Override
+    @Nullable N read() throws ConfigurateException {
+        this.readFingerprint = null;
+        this.readContentHash = null;
+        if (!this.policy.skipUnchanged()) {
+            return super.read();
+        }
+
+        final @Nullable Fingerprint attributes = Fingerprint.read(this.file);
+        if (attributes != null && attributes.sameAs(this.fingerprint)) {
+            return null;
+        }
+
+        final byte @Nullable [] hash = this.hashContent();
+        if (hash != null && Arrays.equals(hash, this.contentHash)) {
+            // the published node is still current
+            this.fingerprint = attributes;
+            return null;
+        }
+        this.readFingerprint = attributes;
+        this.readContentHash = hash;
+        return loader().load();
+    }
+
+    private void recordRead() {
+        if (this.policy.skipUnchanged()) {
+            this.fingerprint = this.readFingerprint;
+            this.contentHash = this.readContentHash;
+        }
+        this.readFingerprint = null;
+        this.readContentHash = null;
     }
 
     @Override
@@ -48,6 +165,11 @@ class WatchingConfigurationReference<N extends ScopedConfigurationNode<N>>
             try {
                 this.saveSuppressed = true;
                 super.save(newNode);
+                if (this.policy.skipUnchanged()) {
+                    // the events caused by this save won't need a reload
+                    this.fingerprint = Fingerprint.read(this.file);
+                    this.contentHash = this.hashContent();
+                }
             } finally {
                 this.saveSuppressed = false;
             }
@@ -56,6 +178,7 @@ class WatchingConfigurationReference<N extends ScopedConfigurationNode<N>>
 
     @Override
     public void close() {
+        this.closed = true;
         super.close();
         if (this.disposable != null) {
             this.disposable.dispose();
@@ -65,15 +188,92 @@ class WatchingConfigurationReference<N extends ScopedConfigurationNode<N>>
 
     @Override
     public void submit(final WatchEvent<?> item) {
+        this.eventsReceived.increment();
         if (!this.saveSuppressed || item.kind() == StandardWatchEventKinds.ENTRY_MODIFY) {
-            try {
-                load();
-            } catch (final Exception e) {
-                this.errorListener.submit(UnmodifiableCollections.immutableMapEntry(ErrorPhase.LOADING, e));
+            this.lastEventTime = System.nanoTime();
+            if (this.reloadPending.compareAndSet(false, true)) {
+                this.scheduleReload(this.quietPeriodNanos);
+            }
+        }
+    }
+
+    private void scheduleReload(final long delayNanos) {
+        try {
+            if (delayNanos <= 0) {
+                this.listener.taskExecutor.execute(this::reloadWhenQuiet);
+            } else {
+                // the scheduler's thread only hands the reload off to the task executor
+                SharedScheduler.INSTANCE.schedule(() -> this.scheduleReload(0), delayNanos, TimeUnit.NANOSECONDS);
             }
+        } catch (final RejectedExecutionException ex) {
+            // the listener has been closed
+            this.reloadPending.set(false);
         }
     }
 
+    private void reloadWhenQuiet() {
+        if (this.closed) {
+            this.reloadPending.set(false);
+            return;
+        }
+
+        final long remaining = this.quietPeriodNanos - (System.nanoTime() - this.lastEventTime);
+        if (remaining > 0) {
+            this.scheduleReload(remaining);
+            return;
+        }
+
+        // cleared before loading, so any event received during the load will schedule another
+        this.reloadPending.set(false);
+        final @Nullable ConfigurationReferenceGroup group = this.group;
+        if (group != null) {
+            // the group will reload all of its members together
+            group.scheduleReload();
+            return;
+        }
+        try {
+            if (this.reload()) {
+                this.reloads.increment();
+            } else {
+                this.skippedUnchanged.increment();
+            }
+        } catch (final Exception e) {
+            this.errorListener.submit(UnmodifiableCollections.immutableMapEntry(ErrorPhase.LOADING, e));
+        }
+    }
+
+    private byte @Nullable [] hashContent() {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException ex) {
+            return null; // required to be present on every platform
+        }
+
+        try {
+            return digest.digest(Files.readAllBytes(this.file));
+        } catch (final NoSuchFileException ex) {
+            return MISSING_FILE;
+        } catch (final IOException ex) {
+            return null; // let the loader report the error
+        }
+    }
+
+    @Override
+    void reloadedByGroup(final boolean changed) {
+        if (changed) {
+            this.recordRead();
+            this.reloads.increment();
+        } else {
+            this.skippedUnchanged.increment();
+        }
+    }
+
+    @Override
+    public ReloadMetrics reloadMetrics() {
+        return ReloadMetrics.of(this.eventsReceived.sum(), this.reloads.sum(), this.skippedUnchanged.sum());
+    }
+
     @Override
     public void onError(final Throwable thrown) {
         this.errorListener.submit(UnmodifiableCollections.immutableMapEntry(ErrorPhase.UNKNOWN, thrown));
@@ -88,4 +288,46 @@ class WatchingConfigurationReference<N extends ScopedConfigurationNode<N>>
         this.disposable = disposable;
     }
 
+    /**
+     * The attributes of a file when it was last read or written.
+     *
+     * <p>A matching fingerprint is only trusted if the file had not been
+     * modified shortly before the fingerprint was taken, since a further write
+     * within the resolution of the file system's timestamps would not change
+     * the modification time.</p>
+     */
+    static final class Fingerprint {
+
+        private final FileTime modified;
+        private final long size;
+        private final @Nullable Object fileKey;
+        private final long observedAt;
+
+        Fingerprint(final FileTime modified, final long size, final @Nullable Object fileKey, final long observedAt) {
+            this.modified = modified;
+            this.size = size;
+            this.fileKey = fileKey;
+            this.observedAt = observedAt;
+        }
+
+        static @Nullable Fingerprint read(final Path file) {
+            final long observedAt = System.currentTimeMillis();
+            try {
+                final BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                return new Fingerprint(attributes.lastModifiedTime(), attributes.size(), attributes.fileKey(), observedAt);
+            } catch (final IOException ex) {
+                return null;
+            }
+        }
+
+        boolean sameAs(final @Nullable Fingerprint previous) {
+            return previous != null
+                && previous.modified.toMillis() + RACY_WINDOW_MILLIS < previous.observedAt
+                && this.modified.equals(previous.modified)
+                && this.size == previous.size
+                && Objects.equals(this.fileKey, previous.fileKey);
+        }
+
+    }
+
 }
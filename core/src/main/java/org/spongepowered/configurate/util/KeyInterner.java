@@ -0,0 +1,43 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.util;
+
+/**
+ * A strategy for sharing equal map keys between configuration nodes.
+ *
+ * <p>When many similar configurations are loaded, the same keys will be
+ * read many times. An interner allows equal keys to be represented by a single
+ * instance, reducing the memory used by loaded trees.</p>
+ *
+ * <p>Implementations must be thread-safe.</p>
+ *
+ * @see KeyInterners for default implementations
+ * @since 4.3.0
+ */
+@FunctionalInterface
+public interface KeyInterner {
+
+    /**
+     * Get a canonical instance equal to the provided key.
+     *
+     * @param key the key to intern
+     * @return a key equal to {@code key}, possibly a shared instance
+     * @since 4.3.0
+     */
+    String intern(String key);
+
+}
@@ -0,0 +1,160 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.util;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Default implementations of {@link KeyInterner}.
+ *
+ * @since 4.3.0
+ */
+public final class KeyInterners {
+
+    private static final int MAX_BOUNDED_SIZE = 1 << 30;
+    private static final int WEAK_POOL_STRIPES = 16;
+
+    private KeyInterners() {}
+
+    /**
+     * Returns a {@link KeyInterner} that performs no interning.
+     *
+     * <p>Every key will be kept as provided. This is the default.</p>
+     *
+     * @return an interner that returns keys unchanged
+     * @since 4.3.0
+     */
+    public static KeyInterner none() {
+        return DefaultInterner.NONE;
+    }
+
+    /**
+     * Returns a {@link KeyInterner} backed by a single JVM-wide pool.
+     *
+     * <p>Keys are weakly held, so the pool will only retain keys that are
+     * still in use somewhere else. The pool is split into stripes by key
+     * hash, each with its own lock, so loaders interning on different
+     * threads rarely wait on one another.</p>
+     *
+     * @return an interner sharing keys across the whole JVM
+     * @since 4.3.0
+     */
+    public static KeyInterner weakPool() {
+        return DefaultInterner.WEAK_POOL;
+    }
+
+    /**
+     * Create a new {@link KeyInterner} with a fixed-size cache.
+     *
+     * <p>The cache has one slot per key, for {@code size} rounded up to the
+     * next power of two. It will never hold more keys than that. When two keys
+     * compete for the same slot, the newer key replaces the older one, so
+     * interning is best-effort. This is appropriate to share between the
+     * nodes produced by one loader, when those nodes are expected to have a
+     * similar structure.</p>
+     *
+     * @param size the minimum number of slots, rounded up to a power of two
+     *     to give the maximum number of keys held
+     * @return a new bounded interner
+     * @since 4.3.0
+     */
+    public static KeyInterner bounded(final int size) {
+        if (size < 1 || size > MAX_BOUNDED_SIZE) {
+            throw new IllegalArgumentException("Size must be between 1 and " + MAX_BOUNDED_SIZE + ", but was " + size);
+        }
+        return new BoundedInterner(size);
+    }
+
+    private enum DefaultInterner implements KeyInterner {
+        NONE {
+            @Override
+            public String intern(final String key) {
+                return key;
+            }
+        },
+        WEAK_POOL {
+            private final WeakPool pool = new WeakPool(WEAK_POOL_STRIPES);
+
+            @Override
+            public String intern(final String key) {
+                return this.pool.intern(key);
+            }
+        }
+    }
+
+    private static final class WeakPool {
+        private final Map<String, WeakReference<String>>[] stripes;
+        private final int mask;
+
+        @SuppressWarnings("unchecked") // generic array creation
+        WeakPool(final int stripes) {
+            this.stripes = new Map[stripes];
+            for (int i = 0; i < stripes; ++i) {
+                this.stripes[i] = new WeakHashMap<>();
+            }
+            this.mask = stripes - 1;
+        }
+
+        String intern(final String key) {
+            final int hash = key.hashCode();
+            final Map<String, WeakReference<String>> stripe = this.stripes[(hash ^ (hash >>> 16)) & this.mask];
+            synchronized (stripe) {
+                final @Nullable WeakReference<String> existingRef = stripe.get(key);
+                final @Nullable String existing = existingRef == null ? null : existingRef.get();
+                if (existing != null) {
+                    return existing;
+                }
+                stripe.put(key, new WeakReference<>(key));
+                return key;
+            }
+        }
+    }
+
+    private static final class BoundedInterner implements KeyInterner {
+        private final AtomicReferenceArray<@Nullable String> slots;
+        private final int mask;
+
+        BoundedInterner(final int size) {
+            final int capacity = size == 1 ? 1 : Integer.highestOneBit(size - 1) << 1;
+            this.slots = new AtomicReferenceArray<>(capacity);
+            this.mask = capacity - 1;
+        }
+
+        @Override
+        public String intern(final String key) {
+            final int hash = key.hashCode();
+            final int idx = (hash ^ (hash >>> 16)) & this.mask;
+            final @Nullable String existing = this.slots.get(idx);
+            if (key.equals(existing)) {
+                return existing;
+            }
+            this.slots.lazySet(idx, key);
+            return key;
+        }
+
+        @Override
+        public String toString() {
+            return "BoundedInterner{size=" + this.slots.length() + '}';
+        }
+    }
+
+}
@@ -0,0 +1,142 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class LazyNodesTest {
+
+    @Test
+    void testMaterializedOnAccess() {
+        final AtomicInteger calls = new AtomicInteger();
+        final BasicConfigurationNode root = BasicConfigurationNode.root();
+        LazyNodes.defer(root.node("section"), false, (node, payload) -> {
+            calls.incrementAndGet();
+            node.node("value").raw(payload);
+        }, "hello");
+
+        assertTrue(LazyNodes.isDeferred(root.node("section")));
+        assertEquals("hello", LazyNodes.deferredPayload(root.node("section")));
+        assertFalse(root.node("section").virtual());
+        assertEquals(0, calls.get());
+
+        assertEquals("hello", root.node("section", "value").raw());
+        assertEquals(1, calls.get());
+        assertFalse(LazyNodes.isDeferred(root.node("section")));
+        assertNull(LazyNodes.deferredPayload(root.node("section")));
+
+        root.node("section", "value").raw();
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void testDeferredList() {
+        final BasicConfigurationNode root = BasicConfigurationNode.root();
+        LazyNodes.defer(root, true, (node, payload) -> {
+            for (final Object element : (Object[]) payload) {
+                node.appendListNode().raw(element);
+            }
+        }, new Object[] {1, 2, 3});
+
+        assertTrue(root.isList());
+        assertEquals(Arrays.asList(1, 2, 3), root.raw());
+    }
+
+    @Test
+    void testCopyRemainsDeferred() {
+        final AtomicInteger calls = new AtomicInteger();
+        final BasicConfigurationNode root = BasicConfigurationNode.root();
+        LazyNodes.defer(root.node("section"), false, (node, payload) -> {
+            calls.incrementAndGet();
+            node.node("value").raw(payload);
+        }, 5);
+
+        final BasicConfigurationNode copy = root.copy();
+        assertTrue(LazyNodes.isDeferred(copy.node("section")));
+        assertEquals(0, calls.get());
+
+        copy.node("section", "value").raw(6);
+        assertEquals(1, calls.get());
+        assertTrue(LazyNodes.isDeferred(root.node("section")));
+        assertEquals(5, root.node("section", "value").raw());
+        assertEquals(6, copy.node("section", "value").raw());
+    }
+
+    @Test
+    void testFailedMaterializeRemainsDeferred() {
+        final BasicConfigurationNode root = BasicConfigurationNode.root();
+        LazyNodes.defer(root, false, (node, payload) -> {
+            throw new ConfigurateException(node, "broken");
+        }, "payload");
+
+        assertThrows(LazyNodes.MaterializationException.class, root::childrenMap);
+        assertTrue(LazyNodes.isDeferred(root));
+        assertThrows(ConfigurateException.class, () -> LazyNodes.materialize(root));
+    }
+
+    @Test
+    void testTypeQueriesRemainDeferred() {
+        final AtomicInteger calls = new AtomicInteger();
+        final BasicConfigurationNode root = BasicConfigurationNode.root();
+        final LazyNodes.Materializer materializer = (node, payload) -> {
+            calls.incrementAndGet();
+            node.node("value").raw(payload);
+        };
+        LazyNodes.defer(root.node("first"), false, materializer, "hello");
+        LazyNodes.defer(root.node("list"), true, (node, payload) -> node.appendListNode().raw(payload), "world");
+
+        assertTrue(root.node("first").isMap());
+        assertFalse(root.node("first").isList());
+        assertFalse(root.node("first").isNull());
+        assertFalse(root.node("first").empty());
+        assertTrue(root.node("list").isList());
+        assertFalse(root.node("list").isMap());
+
+        final BasicConfigurationNode copy = root.copy();
+        assertEquals(root, copy);
+        assertEquals(0, calls.get());
+
+        // deferred content is still equal to the same content once read
+        copy.node("first", "value").raw();
+        assertEquals(1, calls.get());
+        assertEquals(root.node("first"), copy.node("first"));
+        assertEquals(root.node("first").hashCode(), copy.node("first").hashCode());
+        assertEquals(root.hashCode(), copy.hashCode());
+    }
+
+    @Test
+    void testHashCodeUsesContent() {
+        final BasicConfigurationNode first = BasicConfigurationNode.root();
+        first.node("value").raw("a");
+        final BasicConfigurationNode second = BasicConfigurationNode.root();
+        second.node("value").raw("b");
+
+        // maps with different content should not all share one hash
+        assertNotEquals(first.hashCode(), second.hashCode());
+    }
+
+}
@@ -17,6 +17,9 @@
 package org.spongepowered.configurate.loader;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
@@ -35,6 +38,11 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 class AbstractConfigurationLoaderTest {
 
@@ -121,4 +129,80 @@ class AbstractConfigurationLoaderTest {
         assertEquals("i'm a shortcut!", expected);
     }
 
+    @Test
+    void testLoadAsyncFromPath(final @TempDir Path tempDir) throws IOException, ExecutionException, InterruptedException {
+        final Path file = tempDir.resolve("async.txt");
+        Files.write(file, "loaded without blocking".getBytes(StandardCharsets.UTF_8));
+
+        final TestConfigurationLoader loader = TestConfigurationLoader.builder().path(file).build();
+        final BasicConfigurationNode node = loader.loadAsync(Runnable::run).get();
+
+        assertEquals("loaded without blocking", node.getString());
+    }
+
+    @Test
+    void testLoadAsyncNonexistentFile(final @TempDir Path tempDir) throws ExecutionException, InterruptedException {
+        final TestConfigurationLoader loader = TestConfigurationLoader.builder().path(tempDir.resolve("missing.txt")).build();
+        final BasicConfigurationNode node = loader.loadAsync(Runnable::run).get();
+
+        assertTrue(node.empty());
+        assertNull(node.raw());
+    }
+
+    @Test
+    void testLoadAsyncOpensFileOnExecutor(final @TempDir Path tempDir) {
+        final TestConfigurationLoader loader = TestConfigurationLoader.builder().path(tempDir.resolve("missing.txt")).build();
+        final List<Runnable> pending = new ArrayList<>();
+        final CompletableFuture<BasicConfigurationNode> result = loader.loadAsync(pending::add);
+
+        // the file system is only touched by the executor, never by the caller
+        assertEquals(1, pending.size());
+        pending.remove(0).run();
+        assertFalse(result.isDone());
+
+        pending.remove(0).run();
+        assertTrue(result.join().empty());
+    }
+
+    @Test
+    void testLoadAsyncReadErrorIsParsingException(final @TempDir Path tempDir) {
+        // a directory can be opened, but not read as a file
+        final TestConfigurationLoader loader = TestConfigurationLoader.builder().path(tempDir).build();
+        final ExecutionException ex = assertThrows(ExecutionException.class, () -> loader.loadAsync(Runnable::run).get());
+
+        assertTrue(ex.getCause() instanceof ParsingException);
+        assertTrue(ex.getCause().getCause() instanceof IOException);
+    }
+
+    @Test
+    void testSaveAsync(final @TempDir Path tempDir) throws IOException, ExecutionException, InterruptedException {
+        final Path file = tempDir.resolve("async-save.txt");
+        final TestConfigurationLoader loader = TestConfigurationLoader.builder().path(file).build();
+
+        loader.saveAsync(BasicConfigurationNode.root().raw("saved in the background"), Runnable::run).get();
+
+        assertEquals("saved in the background", readToString(file));
+    }
+
+    @Test
+    void testCancelledLoadNeverParses(final @TempDir Path tempDir) throws IOException {
+        final Path file = tempDir.resolve("cancelled.txt");
+        Files.write(file, "never read".getBytes(StandardCharsets.UTF_8));
+        final List<Runnable> pending = new ArrayList<>();
+        final AtomicBoolean opened = new AtomicBoolean();
+
+        final TestConfigurationLoader loader = TestConfigurationLoader.builder()
+            .source(() -> {
+                opened.set(true);
+                return Files.newBufferedReader(file, StandardCharsets.UTF_8);
+            })
+            .build();
+        final CompletableFuture<BasicConfigurationNode> result = loader.loadAsync(pending::add);
+        assertTrue(result.cancel(false));
+        pending.forEach(Runnable::run);
+
+        assertTrue(result.isCancelled());
+        assertFalse(opened.get());
+    }
+
 }
@@ -0,0 +1,92 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.loader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.spongepowered.configurate.ConfigurateException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class BulkLoaderTest {
+
+    @Test
+    void testUnknownFormatsReportedPerFile(final @TempDir Path tempDir) {
+        final Path first = tempDir.resolve("first.unknown-format");
+        final Path second = tempDir.resolve("no-extension");
+
+        final BulkLoader.Result result = BulkLoader.builder().build().load(Arrays.asList(first, second));
+
+        assertFalse(result.successful());
+        assertTrue(result.nodes().isEmpty());
+        assertEquals(Arrays.asList(first, second), Arrays.asList(result.errors().keySet().toArray()));
+
+        final ConfigurateException thrown = assertThrows(ConfigurateException.class, result::throwIfFailed);
+        assertEquals(Arrays.asList(result.errors().values().toArray()), Arrays.asList(thrown.getSuppressed()));
+        // each file's error remains specific to that file
+        assertEquals(0, result.errors().get(first).getSuppressed().length);
+
+        // throwing again must not attach the same errors twice
+        assertSame(thrown, assertThrows(ConfigurateException.class, result::throwIfFailed));
+        assertEquals(2, thrown.getSuppressed().length);
+    }
+
+    @Test
+    void testDirectoryIgnoresUnknownFormats(final @TempDir Path tempDir) throws IOException {
+        Files.write(tempDir.resolve("notes.unknown-format"), "hello".getBytes(StandardCharsets.UTF_8));
+
+        final BulkLoader.Result result = BulkLoader.builder().build().loadDirectory(tempDir);
+
+        assertTrue(result.successful());
+        assertTrue(result.nodes().isEmpty());
+    }
+
+    @Test
+    void testWorkersBoundedByParallelism(final @TempDir Path tempDir) {
+        final AtomicInteger submitted = new AtomicInteger();
+        final BulkLoader loader = BulkLoader.builder()
+            .parallelism(2)
+            .executor(task -> {
+                submitted.incrementAndGet();
+                task.run();
+            })
+            .build();
+
+        final BulkLoader.Result result = loader.load(Collections.nCopies(10, tempDir.resolve("entity.unknown-format")));
+
+        assertEquals(2, submitted.get());
+        assertEquals(1, result.errors().size());
+    }
+
+    @Test
+    void testInvalidParallelismRejected() {
+        assertThrows(IllegalArgumentException.class, () -> BulkLoader.builder().parallelism(0));
+    }
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.loader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.spongepowered.configurate.NodePath.path;
+
+import org.junit.jupiter.api.Test;
+import org.spongepowered.configurate.BasicConfigurationNode;
+import org.spongepowered.configurate.ConfigurationNode;
+
+import java.util.Arrays;
+
+class PathFilterTest {
+
+    @Test
+    void testEmptyAcceptsAll() {
+        final PathFilter filter = PathFilter.builder().build();
+        assertSame(PathFilter.all(), filter);
+        assertTrue(filter.acceptsAll());
+        assertEquals(PathFilter.Decision.INCLUDE_ALL, filter.test(path("anything", "at", "all")));
+    }
+
+    @Test
+    void testInclude() {
+        final PathFilter filter = PathFilter.builder()
+            .include("server", "network")
+            .build();
+
+        assertFalse(filter.acceptsAll());
+        assertEquals(PathFilter.Decision.DESCEND, filter.test(path()));
+        assertEquals(PathFilter.Decision.DESCEND, filter.test(path("server")));
+        assertEquals(PathFilter.Decision.INCLUDE_ALL, filter.test(path("server", "network")));
+        assertEquals(PathFilter.Decision.INCLUDE_ALL, filter.test(path("server", "network", "port")));
+        assertEquals(PathFilter.Decision.SKIP, filter.test(path("server", "motd")));
+        assertEquals(PathFilter.Decision.SKIP, filter.test(path("client")));
+    }
+
+    @Test
+    void testWildcards() {
+        final PathFilter filter = PathFilter.builder()
+            .include("worlds", PathFilter.ANY, "spawn")
+            .include(PathFilter.ANY_DEPTH, "enabled")
+            .build();
+
+        assertEquals(PathFilter.Decision.DESCEND, filter.test(path("worlds", "nether")));
+        assertEquals(PathFilter.Decision.INCLUDE_ALL, filter.test(path("worlds", "nether", "spawn", "x")));
+        assertEquals(PathFilter.Decision.DESCEND, filter.test(path("worlds", "nether", "border")));
+        assertEquals(PathFilter.Decision.INCLUDE_ALL, filter.test(path("enabled")));
+        assertEquals(PathFilter.Decision.INCLUDE_ALL, filter.test(path("a", "b", "c", "enabled")));
+        assertEquals(PathFilter.Decision.DESCEND, filter.test(path("a", "b", "c")));
+    }
+
+    @Test
+    void testExcludeTakesPriority() {
+        final PathFilter filter = PathFilter.builder()
+            .include("server")
+            .exclude("server", "secrets")
+            .exclude(PathFilter.ANY_DEPTH, "password")
+            .build();
+
+        assertEquals(PathFilter.Decision.INCLUDE, filter.test(path("server")));
+        assertEquals(PathFilter.Decision.SKIP, filter.test(path("server", "secrets")));
+        assertEquals(PathFilter.Decision.SKIP, filter.test(path("server", "db", "password")));
+        assertEquals(PathFilter.Decision.INCLUDE, filter.test(path("server", "db")));
+    }
+
+    @Test
+    void testListIndices() {
+        final PathFilter filter = PathFilter.builder()
+            .include("thresholds", 1)
+            .build();
+
+        assertEquals(PathFilter.Decision.INCLUDE_ALL, filter.test(path("thresholds", 1)));
+        assertEquals(PathFilter.Decision.INCLUDE_ALL, filter.test(path("thresholds", "1")));
+        assertEquals(PathFilter.Decision.SKIP, filter.test(path("thresholds", 0)));
+    }
+
+    @Test
+    void testPrune() {
+        final ConfigurationNode node = BasicConfigurationNode.root(n -> {
+            n.node("server", "network", "port").raw(25565);
+            n.node("server", "network", "host").raw("localhost");
+            n.node("server", "motd").raw("hello");
+            n.node("server", "version").raw(3);
+            n.node("client", "name").raw("steve");
+            n.node("values").raw(Arrays.asList(1, 2, 3));
+        });
+
+        PathFilter.builder()
+            .include("server", "network")
+            .include("values", 2)
+            .exclude("server", "network", "host")
+            .build()
+            .prune(node);
+
+        assertEquals(25565, node.node("server", "network", "port").raw());
+        assertTrue(node.node("server", "network", "host").virtual());
+        assertTrue(node.node("server", "motd").virtual());
+        assertTrue(node.node("client").virtual());
+        assertEquals(Arrays.asList(3), node.node("values").raw());
+    }
+
+}
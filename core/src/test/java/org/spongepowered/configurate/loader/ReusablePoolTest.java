@@ -0,0 +1,80 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.loader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+class ReusablePoolTest {
+
+    @Test
+    void testInstancesReused() {
+        final AtomicInteger created = new AtomicInteger();
+        final ReusablePool<Object> pool = ReusablePool.create(() -> {
+            created.incrementAndGet();
+            return new Object();
+        }, 2);
+
+        final Object first = pool.acquire();
+        pool.release(first);
+        assertSame(first, pool.acquire());
+        assertEquals(1, created.get());
+
+        final ReusablePool.Metrics metrics = pool.metrics();
+        assertEquals(2, metrics.acquisitions());
+        assertEquals(1, metrics.creations());
+        assertEquals(0, metrics.idle());
+        assertEquals(0.5, metrics.reuseRatio());
+    }
+
+    @Test
+    void testIdleInstancesBounded() {
+        final ReusablePool<Object> pool = ReusablePool.create(Object::new, 1);
+
+        final Object first = pool.acquire();
+        final Object second = pool.acquire();
+        assertNotSame(first, second);
+        pool.release(first);
+        pool.release(second);
+
+        final ReusablePool.Metrics metrics = pool.metrics();
+        assertEquals(1, metrics.idle());
+        assertEquals(1, metrics.discards());
+    }
+
+    @Test
+    void testZeroCapacityDisablesReuse() {
+        final ReusablePool<Object> pool = ReusablePool.create(Object::new, 0);
+
+        final Object first = pool.use(instance -> instance);
+        assertNotSame(first, pool.use(instance -> instance));
+        assertEquals(2, pool.metrics().creations());
+        assertEquals(0, pool.metrics().idle());
+    }
+
+    @Test
+    void testNegativeCapacityRejected() {
+        assertThrows(IllegalArgumentException.class, () -> ReusablePool.create(Object::new, -1));
+    }
+
+}
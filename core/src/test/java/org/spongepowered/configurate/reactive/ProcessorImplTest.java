@@ -22,6 +22,15 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
 class ProcessorImplTest {
 
     /**
@@ -194,4 +203,87 @@ class ProcessorImplTest {
         assertEquals("World", values[1]);
     }
 
+    @Test
+    void testLatestConflates() {
+        final List<Runnable> tasks = new ArrayList<>();
+        final Processor.Iso<String> proc = Processor.create(tasks::add, OverflowPolicy.latest());
+        final List<String> received = new ArrayList<>();
+        proc.subscribe(received::add);
+
+        proc.submit("a");
+        proc.submit("b");
+        proc.submit("c");
+        assertEquals(1, tasks.size());
+
+        tasks.remove(0).run();
+        assertEquals(Collections.singletonList("c"), received);
+        assertTrue(tasks.isEmpty());
+    }
+
+    @Test
+    void testDropWhenFull() {
+        final List<Runnable> tasks = new ArrayList<>();
+        final Processor.Iso<String> proc = Processor.create(tasks::add, OverflowPolicy.drop(2));
+        final List<String> received = new ArrayList<>();
+        proc.subscribe(received::add);
+
+        proc.submit("a");
+        proc.submit("b");
+        proc.submit("c");
+        assertEquals(1, tasks.size());
+
+        tasks.remove(0).run();
+        assertEquals(Arrays.asList("a", "b"), received);
+    }
+
+    @Test
+    void testBlockWhenFull() throws InterruptedException {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final Processor.Iso<Integer> proc = Processor.create(executor, OverflowPolicy.block(1));
+            final CountDownLatch release = new CountDownLatch(1);
+            final List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+            proc.subscribe(value -> {
+                try {
+                    release.await();
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                received.add(value);
+            });
+
+            final Thread submitter = new Thread(() -> {
+                for (int i = 0; i < 5; ++i) {
+                    proc.submit(i);
+                }
+            });
+            submitter.start();
+            submitter.join(200);
+            assertTrue(submitter.isAlive()); // waiting for the subscriber
+
+            release.countDown();
+            submitter.join(5000);
+            assertFalse(submitter.isAlive());
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+            assertEquals(Arrays.asList(0, 1, 2, 3, 4), received);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testPublisherOverflow() {
+        final List<Runnable> tasks = new ArrayList<>();
+        final Processor.Iso<String> source = Processor.create(tasks::add);
+        final List<String> received = new ArrayList<>();
+        source.overflow(OverflowPolicy.latest()).subscribe(received::add);
+
+        source.submit("a");
+        source.submit("b");
+        assertEquals(1, tasks.size());
+        tasks.remove(0).run();
+        assertEquals(Collections.singletonList("b"), received);
+    }
+
 }
@@ -18,11 +18,18 @@ package org.spongepowered.configurate.reactive;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
 class TransactionalProcessorTest {
 
     private <V> Processor.TransactionalIso<V> create() {
@@ -75,6 +82,50 @@ class TransactionalProcessorTest {
         assertEquals(1, subject2.rollBackCount);
     }
 
+    @Test
+    void testDeliveredInSubscriptionOrder() {
+        final Processor.TransactionalIso<String> proc = Processor.createTransactional(Processor.synchronous());
+        final List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < 16; ++i) {
+            final int idx = i;
+            proc.subscribe(value -> order.add(idx));
+        }
+
+        proc.submit("test");
+        assertEquals(IntStream.range(0, 16).boxed().collect(Collectors.toList()), order);
+    }
+
+    @Test
+    void testOneTaskPerSubmit() {
+        final List<Runnable> tasks = new ArrayList<>();
+        final Processor.TransactionalIso<String> proc = Processor.createTransactional(tasks::add);
+        final List<String> received = new ArrayList<>();
+        proc.subscribe(received::add);
+        proc.subscribe(received::add);
+
+        proc.submit("a");
+        proc.submit("b");
+        assertEquals(2, tasks.size());
+        assertTrue(received.isEmpty());
+
+        tasks.forEach(Runnable::run);
+        assertEquals(Arrays.asList("a", "a", "b", "b"), received);
+    }
+
+    @Test
+    void testUnsubscribeDuringDelivery() {
+        final Processor.TransactionalIso<String> proc = Processor.createTransactional(Processor.synchronous());
+        final List<String> received = new ArrayList<>();
+        final Disposable[] first = new Disposable[1];
+        first[0] = proc.subscribe(value -> first[0].dispose());
+        proc.subscribe(received::add);
+
+        proc.submit("a");
+        proc.submit("b");
+        assertEquals(Arrays.asList("a", "b"), received);
+        assertTrue(proc.hasSubscribers());
+    }
+
     static class SubscriberTransactionalTest implements TransactionalSubscriber<String> {
         boolean shouldThrow;
         @MonotonicNonNull String value;
@@ -0,0 +1,296 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.reference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.spongepowered.configurate.BasicConfigurationNode;
+import org.spongepowered.configurate.ConfigurateException;
+import org.spongepowered.configurate.ConfigurationNode;
+import org.spongepowered.configurate.NodePath;
+import org.spongepowered.configurate.loader.TestConfigurationLoader;
+import org.spongepowered.configurate.reactive.Processor;
+import org.spongepowered.configurate.reactive.TransactionFailedException;
+import org.spongepowered.configurate.reactive.TransactionalSubscriber;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+class ConfigurationReferenceGroupTest {
+
+    @Test
+    void testReloadPublishesOnce(final @TempDir Path tempDir) throws Exception {
+        final ManualConfigurationReference<BasicConfigurationNode> first = reference(tempDir.resolve("first.txt"), "a");
+        final ManualConfigurationReference<BasicConfigurationNode> second = reference(tempDir.resolve("second.txt"), "b");
+        try (ConfigurationReferenceGroup group = ConfigurationReferenceGroup.builder()
+            .add(first)
+            .add(second)
+            .executor(Processor.synchronous())
+            .build()) {
+            final List<String> combined = new ArrayList<>();
+            group.updates().subscribe(nodes -> combined.add(join(nodes)));
+            final List<String> firstUpdates = new ArrayList<>();
+            first.updates().subscribe(node -> firstUpdates.add(node.getString()));
+
+            Files.write(tempDir.resolve("first.txt"), "c".getBytes(StandardCharsets.UTF_8));
+            Files.write(tempDir.resolve("second.txt"), "d".getBytes(StandardCharsets.UTF_8));
+            assertTrue(group.reload());
+
+            assertEquals(Arrays.asList("c,d"), combined);
+            assertEquals(Arrays.asList("c"), firstUpdates);
+            assertEquals("c,d", join(group.nodes()));
+        }
+    }
+
+    @Test
+    void testRejectedUpdateChangesNothing(final @TempDir Path tempDir) throws Exception {
+        final ManualConfigurationReference<BasicConfigurationNode> first = reference(tempDir.resolve("first.txt"), "a");
+        final ManualConfigurationReference<BasicConfigurationNode> second = reference(tempDir.resolve("second.txt"), "b");
+        try (ConfigurationReferenceGroup group = ConfigurationReferenceGroup.builder()
+            .add(first)
+            .add(second)
+            .executor(Processor.synchronous())
+            .build()) {
+            final List<String> firstUpdates = new ArrayList<>();
+            first.updates().subscribe(node -> firstUpdates.add(node.getString()));
+            second.updates().subscribe(new TransactionalSubscriber<BasicConfigurationNode>() {
+                @Override
+                public void beginTransaction(final BasicConfigurationNode newValue) throws TransactionFailedException {
+                    throw new TransactionFailedException(new IllegalArgumentException("rejected"));
+                }
+
+                @Override
+                public void commit() {
+                }
+
+                @Override
+                public void rollback() {
+                }
+            });
+
+            Files.write(tempDir.resolve("first.txt"), "c".getBytes(StandardCharsets.UTF_8));
+            Files.write(tempDir.resolve("second.txt"), "d".getBytes(StandardCharsets.UTF_8));
+            assertThrows(TransactionFailedException.class, group::reload);
+
+            assertTrue(firstUpdates.isEmpty());
+            assertEquals("a,b", join(group.nodes()));
+        }
+    }
+
+    @Test
+    void testRejectedUpdateRetriedAndReported(final @TempDir Path tempDir) throws Exception {
+        final Path file = tempDir.resolve("watched.txt");
+        Files.write(file, "a".getBytes(StandardCharsets.UTF_8));
+        try (WatchServiceListener listener = WatchServiceListener.builder().taskExecutor(Runnable::run).build()) {
+            final WatchingConfigurationReference<BasicConfigurationNode> member = watching(file, listener, true);
+            try (ConfigurationReferenceGroup group = ConfigurationReferenceGroup.builder()
+                .add(member)
+                .executor(Processor.synchronous())
+                .build()) {
+                final List<Throwable> errors = new ArrayList<>();
+                member.errors().subscribe(error -> errors.add(error.getValue()));
+                final AtomicBoolean reject = new AtomicBoolean(true);
+                member.updates().subscribe(new TransactionalSubscriber<BasicConfigurationNode>() {
+                    @Override
+                    public void beginTransaction(final BasicConfigurationNode newValue) throws TransactionFailedException {
+                        if (reject.get()) {
+                            throw new TransactionFailedException(new IllegalArgumentException("rejected"));
+                        }
+                    }
+
+                    @Override
+                    public void commit() {
+                    }
+
+                    @Override
+                    public void rollback() {
+                    }
+                });
+
+                Files.write(file, "b".getBytes(StandardCharsets.UTF_8));
+                assertThrows(TransactionFailedException.class, group::reload);
+                assertEquals(1, errors.size());
+                assertTrue(errors.get(0) instanceof TransactionFailedException);
+                assertEquals("a", member.node().getString());
+
+                // the rejected file must not be considered already read
+                reject.set(false);
+                assertTrue(group.reload());
+                assertEquals("b", member.node().getString());
+                assertEquals(1, member.reloadMetrics().reloads());
+            }
+        }
+    }
+
+    @Test
+    void testWatchedReloadOnSingleThread(final @TempDir Path tempDir) throws Exception {
+        final Path file = tempDir.resolve("watched.txt");
+        Files.write(file, "a".getBytes(StandardCharsets.UTF_8));
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try (WatchServiceListener listener = WatchServiceListener.builder().taskExecutor(Runnable::run).build()) {
+            final WatchingConfigurationReference<BasicConfigurationNode> member = watching(file, listener, false);
+            final ManualConfigurationReference<BasicConfigurationNode> other = reference(tempDir.resolve("other.txt"), "c");
+            try (ConfigurationReferenceGroup group = ConfigurationReferenceGroup.builder()
+                .add(member)
+                .add(other)
+                .executor(executor)
+                .build()) {
+                final CountDownLatch published = new CountDownLatch(1);
+                group.updates().subscribe(nodes -> published.countDown());
+
+                Files.write(file, "b".getBytes(StandardCharsets.UTF_8));
+                member.submit(event(file));
+
+                // reloading on the group's only thread must not wait for reads queued behind it
+                assertTrue(published.await(10, TimeUnit.SECONDS));
+                assertEquals("b", member.node().getString());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testReloadKeepsWriteBehindChanges(final @TempDir Path tempDir) throws Exception {
+        final Path file = tempDir.resolve("first.txt");
+        final ManualConfigurationReference<BasicConfigurationNode> first = reference(file, "a");
+        first.savePolicy(SavePolicy.writeBehind(Duration.ofHours(1)));
+        try (ConfigurationReferenceGroup group = ConfigurationReferenceGroup.builder()
+            .add(first)
+            .executor(Processor.synchronous())
+            .build()) {
+            final ValueReference<String, BasicConfigurationNode> value = first.referenceTo(String.class, NodePath.path());
+            assertTrue(value.setAndSave("b"));
+            assertEquals("a", new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+
+            // held changes are saved before the member is read, rather than replaced
+            group.reload();
+            assertEquals("b", first.node().getString());
+            assertEquals("b", new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void testSaveDuringReloadNotReplaced(final @TempDir Path tempDir) throws Exception {
+        final ManualConfigurationReference<BasicConfigurationNode> first = reference(tempDir.resolve("first.txt"), "a");
+        final ManualConfigurationReference<BasicConfigurationNode> second = reference(tempDir.resolve("second.txt"), "b");
+        final List<Runnable> tasks = new ArrayList<>();
+        try (ConfigurationReferenceGroup group = ConfigurationReferenceGroup.builder()
+            .add(first)
+            .add(second)
+            .executor(tasks::add)
+            .build()) {
+            final CompletableFuture<Boolean> reload = group.reloadAsync();
+            assertEquals(2, tasks.size());
+
+            // save the first member after it has been read, but before the group publishes
+            tasks.get(0).run();
+            first.save(BasicConfigurationNode.root().raw("c"));
+            tasks.get(1).run();
+
+            final CompletionException thrown = assertThrows(CompletionException.class, reload::join);
+            assertTrue(thrown.getCause() instanceof ConfigurateException);
+            assertEquals("c", first.node().getString());
+            assertEquals("b", second.node().getString());
+        }
+    }
+
+    @Test
+    void testMemberOfOneGroup(final @TempDir Path tempDir) throws Exception {
+        final ManualConfigurationReference<BasicConfigurationNode> first = reference(tempDir.resolve("first.txt"), "a");
+        try (ConfigurationReferenceGroup group = ConfigurationReferenceGroup.builder().add(first).build()) {
+            assertThrows(IllegalStateException.class, () -> ConfigurationReferenceGroup.builder().add(first).build());
+            assertFalse(group.members().isEmpty());
+        }
+        // closing the group releases its members
+        ConfigurationReferenceGroup.builder().add(first).build().close();
+    }
+
+    private static ManualConfigurationReference<BasicConfigurationNode> reference(final Path file, final String content) throws Exception {
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        final ManualConfigurationReference<BasicConfigurationNode> reference =
+            new ManualConfigurationReference<>(TestConfigurationLoader.builder().path(file).build(), Processor.synchronous());
+        reference.load();
+        return reference;
+    }
+
+    private static WatchingConfigurationReference<BasicConfigurationNode> watching(
+        final Path file,
+        final WatchServiceListener listener,
+        final boolean skipUnchanged
+    ) throws Exception {
+        final WatchingConfigurationReference<BasicConfigurationNode> reference = new WatchingConfigurationReference<>(
+            TestConfigurationLoader.builder().path(file).build(),
+            file,
+            listener,
+            ReloadPolicy.builder().skipUnchanged(skipUnchanged).build()
+        );
+        reference.reload();
+        return reference;
+    }
+
+    private static WatchEvent<Path> event(final Path file) {
+        return new WatchEvent<Path>() {
+            @Override
+            public Kind<Path> kind() {
+                return StandardWatchEventKinds.ENTRY_MODIFY;
+            }
+
+            @Override
+            public int count() {
+                return 1;
+            }
+
+            @Override
+            public Path context() {
+                return file.getFileName();
+            }
+        };
+    }
+
+    private static String join(final Map<ConfigurationReference<?>, ConfigurationNode> nodes) {
+        final StringBuilder builder = new StringBuilder();
+        for (final ConfigurationNode node : nodes.values()) {
+            if (builder.length() > 0) {
+                builder.append(',');
+            }
+            builder.append(node.getString());
+        }
+        return builder.toString();
+    }
+
+}
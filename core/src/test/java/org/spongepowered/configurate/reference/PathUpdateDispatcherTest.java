@@ -0,0 +1,113 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.reference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.spongepowered.configurate.NodePath.path;
+
+import org.junit.jupiter.api.Test;
+import org.spongepowered.configurate.BasicConfigurationNode;
+import org.spongepowered.configurate.NodePath;
+import org.spongepowered.configurate.reactive.Disposable;
+import org.spongepowered.configurate.reactive.Publisher;
+import org.spongepowered.configurate.serialize.SerializationException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+class PathUpdateDispatcherTest {
+
+    @Test
+    void testDiff() throws SerializationException {
+        final BasicConfigurationNode previous = BasicConfigurationNode.root(n -> {
+            n.node("a", "b").raw(1);
+            n.node("a", "c").raw(2);
+            n.node("list").setList(String.class, Arrays.asList("x", "y"));
+            n.node("removed").raw(true);
+        });
+        final BasicConfigurationNode current = previous.copy();
+        current.node("a", "c").raw(3);
+        current.node("list").appendListNode().raw("z");
+        current.removeChild("removed");
+        current.node("added").raw("hello");
+
+        final List<NodePath> changed = new ArrayList<>();
+        PathUpdateDispatcher.diff(NodePath.path(), previous, current, changed);
+        assertEquals(
+            new HashSet<>(Arrays.asList(path("a", "c"), path("list"), path("removed"), path("added"))),
+            new HashSet<>(changed)
+        );
+    }
+
+    @Test
+    void testOnlyAffectedPathsNotified() {
+        final PathUpdateDispatcher<BasicConfigurationNode> dispatcher = new PathUpdateDispatcher<>(Runnable::run);
+        final List<NodePath> notified = new ArrayList<>();
+        for (final NodePath path : Arrays.asList(path(), path("a"), path("a", "b"), path("a", "c"), path("d"))) {
+            dispatcher.updates(path).subscribe(node -> notified.add(path));
+        }
+
+        final BasicConfigurationNode first = BasicConfigurationNode.root(n -> {
+            n.node("a", "b").raw(1);
+            n.node("a", "c").raw(2);
+            n.node("d").raw(3);
+        });
+        dispatcher.submit(first);
+        assertEquals(5, notified.size()); // nothing to compare to
+
+        notified.clear();
+        dispatcher.submit(first.copy());
+        assertEquals(0, notified.size());
+
+        final BasicConfigurationNode second = first.copy();
+        second.node("a", "b").raw(4);
+        dispatcher.submit(second);
+        assertEquals(new HashSet<>(Arrays.asList(path(), path("a"), path("a", "b"))), new HashSet<>(notified));
+
+        notified.clear();
+        dispatcher.markChanged(path("d"));
+        dispatcher.submit(second.copy());
+        assertEquals(new HashSet<>(Arrays.asList(path(), path("d"))), new HashSet<>(notified));
+    }
+
+    @Test
+    void testUnsubscribedPathsPruned() {
+        final PathUpdateDispatcher<BasicConfigurationNode> dispatcher = new PathUpdateDispatcher<>(Runnable::run);
+        final Publisher<BasicConfigurationNode> updates = dispatcher.updates(path("a", "b"));
+        final List<Object> received = new ArrayList<>();
+        final Disposable first = updates.subscribe(node -> received.add(node.raw()));
+        final Disposable second = updates.subscribe(node -> received.add(node.raw()));
+        assertTrue(dispatcher.hasEntries());
+
+        first.dispose();
+        assertTrue(updates.hasSubscribers());
+        second.dispose();
+        assertFalse(updates.hasSubscribers());
+        assertFalse(dispatcher.hasEntries());
+
+        // updates without subscribers are not compared, but are still delivered once subscribed again
+        dispatcher.submit(BasicConfigurationNode.root(n -> n.node("a", "b").raw(1)));
+        updates.subscribe(node -> received.add(node.raw()));
+        dispatcher.submit(BasicConfigurationNode.root(n -> n.node("a", "b").raw(1)));
+        assertEquals(Arrays.asList(1), received);
+    }
+
+}
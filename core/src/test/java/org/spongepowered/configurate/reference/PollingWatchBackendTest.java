@@ -0,0 +1,147 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.reference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.spongepowered.configurate.ConfigurateException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+class PollingWatchBackendTest {
+
+    private static final WatchEvent.Kind<?>[] ALL_EVENTS = {
+        StandardWatchEventKinds.ENTRY_CREATE,
+        StandardWatchEventKinds.ENTRY_DELETE,
+        StandardWatchEventKinds.ENTRY_MODIFY
+    };
+
+    @Test
+    void testEventsReported(final @TempDir Path tempDir) throws IOException, InterruptedException {
+        final Path existing = Files.write(tempDir.resolve("existing.txt"), "one".getBytes(StandardCharsets.UTF_8));
+        final PollingWatchBackend backend = WatchBackend.polling().interval(Duration.ofMillis(20)).build();
+
+        try (WatchService service = backend.newWatchService(FileSystems.getDefault())) {
+            final WatchKey key = backend.register(service, tempDir, ALL_EVENTS);
+            assertEquals(tempDir, key.watchable());
+
+            Files.write(existing, "version two".getBytes(StandardCharsets.UTF_8));
+            final WatchEvent<?> modify = this.nextEvent(service);
+            assertEquals(StandardWatchEventKinds.ENTRY_MODIFY, modify.kind());
+            assertEquals(existing.getFileName(), modify.context());
+
+            final Path created = Files.write(tempDir.resolve("created.txt"), "new".getBytes(StandardCharsets.UTF_8));
+            final WatchEvent<?> create = this.nextEvent(service);
+            assertEquals(StandardWatchEventKinds.ENTRY_CREATE, create.kind());
+            assertEquals(created.getFileName(), create.context());
+
+            Files.delete(created);
+            final WatchEvent<?> delete = this.nextEvent(service);
+            assertEquals(StandardWatchEventKinds.ENTRY_DELETE, delete.kind());
+            assertEquals(created.getFileName(), delete.context());
+        }
+    }
+
+    @Test
+    void testTouchIgnoredWithHashing(final @TempDir Path tempDir) throws IOException, InterruptedException {
+        final Path file = Files.write(tempDir.resolve("file.txt"), "one".getBytes(StandardCharsets.UTF_8));
+        final PollingWatchBackend backend = WatchBackend.polling()
+            .interval(Duration.ofMillis(20))
+            .hashContents(true)
+            .build();
+
+        try (WatchService service = backend.newWatchService(FileSystems.getDefault())) {
+            backend.register(service, tempDir, ALL_EVENTS);
+
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() - 60_000));
+            assertNull(service.poll(200, TimeUnit.MILLISECONDS));
+
+            Files.write(file, "version two".getBytes(StandardCharsets.UTF_8));
+            assertEquals(StandardWatchEventKinds.ENTRY_MODIFY, this.nextEvent(service).kind());
+        }
+    }
+
+    @Test
+    void testDeletedDirectoryInvalidatesKey(final @TempDir Path tempDir) throws IOException, InterruptedException {
+        final Path directory = Files.createDirectory(tempDir.resolve("watched"));
+        final PollingWatchBackend backend = WatchBackend.polling().interval(Duration.ofMillis(20)).build();
+
+        try (WatchService service = backend.newWatchService(FileSystems.getDefault())) {
+            final WatchKey registered = backend.register(service, directory, ALL_EVENTS);
+            Files.delete(directory);
+
+            final @Nullable WatchKey key = service.poll(10, TimeUnit.SECONDS);
+            assertNotNull(key);
+            assertEquals(registered, key);
+            assertFalse(key.reset());
+        }
+    }
+
+    @Test
+    void testRejectsForeignWatchService(final @TempDir Path tempDir) throws IOException {
+        try (WatchService service = FileSystems.getDefault().newWatchService()) {
+            assertThrows(RuntimeException.class, () -> WatchBackend.polling().build().register(service, tempDir, ALL_EVENTS));
+        }
+    }
+
+    @Test
+    void testListenerWithPollingBackend(final @TempDir Path tempDir) throws IOException, ConfigurateException {
+        final Path file = Files.write(tempDir.resolve("listened.txt"), "one".getBytes(StandardCharsets.UTF_8));
+        try (WatchServiceListener listener = WatchServiceListener.builder()
+                .backend(WatchBackend.polling().interval(Duration.ofMillis(20)).build())
+                .build()) {
+            final CountDownLatch changed = new CountDownLatch(1);
+            listener.listenToFile(file, event -> changed.countDown());
+
+            assertTimeout(Duration.ofMinutes(1), () -> {
+                Files.write(file, "version two".getBytes(StandardCharsets.UTF_8));
+                changed.await();
+            });
+        }
+    }
+
+    private WatchEvent<?> nextEvent(final WatchService service) throws InterruptedException {
+        final @Nullable WatchKey key = service.poll(10, TimeUnit.SECONDS);
+        assertNotNull(key, "No event received");
+        final List<WatchEvent<?>> events = key.pollEvents();
+        key.reset();
+        assertEquals(1, events.size(), () -> "Expected one event, but got " + events);
+        return events.get(0);
+    }
+
+}
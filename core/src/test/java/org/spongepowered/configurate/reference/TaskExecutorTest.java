@@ -0,0 +1,137 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.reference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+class TaskExecutorTest {
+
+    @Test
+    void testMetrics() throws InterruptedException {
+        final TaskExecutor executor = TaskExecutor.create("Test-Task", 1, 16, false);
+        try {
+            assertFalse(executor.virtualThreads());
+
+            final CountDownLatch started = new CountDownLatch(1);
+            final CountDownLatch release = new CountDownLatch(1);
+            final CountDownLatch done = new CountDownLatch(3);
+            executor.execute(blocking(started, release, done::countDown));
+            executor.execute(done::countDown);
+            executor.execute(done::countDown);
+            final long waitStart = System.nanoTime();
+
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            assertEquals(2, executor.metrics().queueDepth());
+
+            final long waited = System.nanoTime() - waitStart;
+            release.countDown();
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+            final TaskExecutor.Metrics metrics = executor.metrics();
+            assertEquals(3, metrics.submitted());
+            assertEquals(0, metrics.queueDepth());
+            // the last task was queued before waiting began, and could not start until released
+            assertTrue(metrics.maxLatency().toNanos() >= waited);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testCallerRunsWhenFull() throws InterruptedException {
+        final TaskExecutor executor = TaskExecutor.create("Test-Task", 1, 1, false);
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        try {
+            executor.execute(blocking(started, release, () -> { }));
+            // once the first task has started, the queue is empty
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            executor.execute(() -> { }); // queued
+            final Thread caller = Thread.currentThread();
+            final Thread[] ranOn = new Thread[1];
+            executor.execute(() -> ranOn[0] = Thread.currentThread());
+            assertEquals(caller, ranOn[0]);
+            assertEquals(1, executor.metrics().callerRuns());
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testInternalTasksQueuedWhenFull() throws InterruptedException {
+        final TaskExecutor executor = TaskExecutor.create("Test-Task", 1, 1, false);
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(2);
+        try {
+            final Executor internal = TaskExecutor.internal(executor);
+            internal.execute(blocking(started, release, () -> { }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            // fill the queue, then submit past its limit
+            internal.execute(done::countDown);
+            final Thread caller = Thread.currentThread();
+            final Thread[] ranOn = new Thread[1];
+            internal.execute(() -> {
+                ranOn[0] = Thread.currentThread();
+                done.countDown();
+            });
+            assertEquals(2, executor.metrics().queueDepth());
+            assertEquals(0, executor.metrics().callerRuns());
+
+            release.countDown();
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+            assertNotEquals(caller, ranOn[0]);
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testRejectsAfterShutdown() {
+        final TaskExecutor executor = TaskExecutor.create("Test-Task", 1, 1, false);
+        executor.shutdown();
+        assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> { }));
+        assertThrows(IllegalStateException.class, () -> TaskExecutor.shared().shutdown());
+    }
+
+    private static Runnable blocking(final CountDownLatch started, final CountDownLatch release, final Runnable then) {
+        return () -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            then.run();
+        };
+    }
+
+}
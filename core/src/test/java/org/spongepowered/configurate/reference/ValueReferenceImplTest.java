@@ -0,0 +1,160 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.reference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.spongepowered.configurate.BasicConfigurationNode;
+import org.spongepowered.configurate.ConfigurateException;
+import org.spongepowered.configurate.NodePath;
+import org.spongepowered.configurate.loader.TestConfigurationLoader;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+class ValueReferenceImplTest {
+
+    @Test
+    void testUnchangedSubtreeNotDelivered(final @TempDir Path tempDir) throws Exception {
+        final Path file = tempDir.resolve("value.txt");
+        Files.write(file, "one".getBytes(StandardCharsets.UTF_8));
+
+        final ManualConfigurationReference<BasicConfigurationNode> reference =
+            new ManualConfigurationReference<>(TestConfigurationLoader.builder().path(file).build(), Runnable::run);
+        reference.load();
+
+        final ValueReference<String, BasicConfigurationNode> value = reference.referenceTo(String.class, NodePath.path());
+        final List<String> received = new ArrayList<>();
+        value.subscribe(received::add);
+        assertEquals(1, received.size());
+
+        reference.load();
+        assertEquals(1, received.size());
+
+        Files.write(file, "two".getBytes(StandardCharsets.UTF_8));
+        reference.load();
+        assertEquals(2, received.size());
+        assertEquals("two", value.get());
+    }
+
+    @Test
+    void testSetUpdatesSnapshot(final @TempDir Path tempDir) throws Exception {
+        final Path file = tempDir.resolve("value.txt");
+        Files.write(file, "one".getBytes(StandardCharsets.UTF_8));
+
+        final ManualConfigurationReference<BasicConfigurationNode> reference =
+            new ManualConfigurationReference<>(TestConfigurationLoader.builder().path(file).build(), Runnable::run);
+        reference.load();
+
+        final ValueReference<String, BasicConfigurationNode> value = reference.referenceTo(String.class, NodePath.path());
+        value.set("two");
+        assertEquals("two", value.get());
+
+        // reloading discards the unsaved value
+        reference.load();
+        assertEquals("one", value.get());
+    }
+
+    @Test
+    void testDefaultsCopiedOnReload(final @TempDir Path tempDir) throws Exception {
+        final Path file = tempDir.resolve("value.txt");
+        Files.write(file, "one".getBytes(StandardCharsets.UTF_8));
+
+        final ManualConfigurationReference<BasicConfigurationNode> reference = new ManualConfigurationReference<>(
+            TestConfigurationLoader.builder().path(file).defaultOptions(o -> o.shouldCopyDefaults(true)).build(),
+            Runnable::run
+        );
+        reference.load();
+
+        reference.referenceTo(String.class, NodePath.path("missing"), "fallback");
+        assertEquals("fallback", reference.node().node("missing").getString());
+
+        // each reloaded tree is also missing the node, so receives the default again
+        for (int i = 0; i < 2; ++i) {
+            reference.load();
+            assertEquals("fallback", reference.node().node("missing").getString());
+        }
+    }
+
+    @Test
+    void testWriteBehindCoalesced(final @TempDir Path tempDir) throws Exception {
+        final Path file = tempDir.resolve("value.txt");
+        Files.write(file, "one".getBytes(StandardCharsets.UTF_8));
+
+        final ManualConfigurationReference<BasicConfigurationNode> reference =
+            new ManualConfigurationReference<>(TestConfigurationLoader.builder().path(file).build(), Runnable::run);
+        reference.load();
+        reference.savePolicy(SavePolicy.writeBehind(Duration.ofHours(1)));
+
+        final ValueReference<String, BasicConfigurationNode> value = reference.referenceTo(String.class, NodePath.path());
+        assertTrue(value.setAndSave("two"));
+        assertTrue(value.setAndSave("three"));
+        assertEquals("one", read(file));
+
+        reference.flush();
+        assertEquals("three", read(file));
+
+        // held changes are written on close
+        assertTrue(value.setAndSave("four"));
+        assertEquals("three", read(file));
+        reference.close();
+        assertEquals("four", read(file));
+    }
+
+    @Test
+    void testWriteBehindKeptUntilSaved(final @TempDir Path tempDir) throws Exception {
+        final Path file = tempDir.resolve("value.txt");
+        Files.write(file, "one".getBytes(StandardCharsets.UTF_8));
+
+        final ManualConfigurationReference<BasicConfigurationNode> reference =
+            new ManualConfigurationReference<>(TestConfigurationLoader.builder().path(file).build(), Runnable::run);
+        reference.load();
+        reference.savePolicy(SavePolicy.writeBehind(Duration.ofHours(1)));
+
+        // held changes are written before loading replaces them
+        final ValueReference<String, BasicConfigurationNode> value = reference.referenceTo(String.class, NodePath.path());
+        assertTrue(value.setAndSave("two"));
+        reference.load();
+        assertEquals("two", read(file));
+        assertEquals("two", value.get());
+
+        // a failed save leaves the changes held
+        assertTrue(value.setAndSave("three"));
+        Files.delete(file);
+        final Path blocker = Files.createDirectory(file).resolve("blocker");
+        Files.createFile(blocker);
+        assertThrows(ConfigurateException.class, reference::flush);
+        Files.delete(blocker);
+        Files.delete(file);
+        reference.flush();
+        assertEquals("three", read(file));
+    }
+
+    private static String read(final Path file) throws IOException {
+        return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+    }
+
+}
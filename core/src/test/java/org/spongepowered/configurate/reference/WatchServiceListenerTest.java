@@ -35,6 +35,7 @@ import java.nio.file.StandardOpenOption;
 import java.time.Duration;
 import java.util.Collections;
 import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.CyclicBarrier;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -111,6 +112,32 @@ class WatchServiceListenerTest {
         });
     }
 
+    @Test
+    void testShardedVirtualListener() throws IOException, ConfigurateException {
+        final Path tempFolder = Files.createTempDirectory("configurate-test");
+        final Path first = Files.createDirectory(tempFolder.resolve("first")).resolve("file.txt");
+        final Path second = Files.createDirectory(tempFolder.resolve("second")).resolve("file.txt");
+        Files.write(first, Collections.singleton("version one"), StandardOpenOption.SYNC, StandardOpenOption.CREATE);
+        Files.write(second, Collections.singleton("version one"), StandardOpenOption.SYNC, StandardOpenOption.CREATE);
+
+        try (WatchServiceListener sharded = WatchServiceListener.builder()
+                .watchThreads(3)
+                .virtualThreads(true)
+                .build()) {
+            final CountDownLatch firstChanged = new CountDownLatch(1);
+            final CountDownLatch secondChanged = new CountDownLatch(1);
+            sharded.listenToFile(first, event -> firstChanged.countDown());
+            sharded.listenToFile(second, event -> secondChanged.countDown());
+
+            assertTimeout(Duration.ofMinutes(1), () -> {
+                Files.write(first, Collections.singleton("version two"), StandardOpenOption.SYNC);
+                Files.write(second, Collections.singleton("version two"), StandardOpenOption.SYNC);
+                firstChanged.await();
+                secondChanged.await();
+            });
+        }
+    }
+
     @Test
     @Disabled
     void testListenToDirectory() throws IOException, ConfigurateException {
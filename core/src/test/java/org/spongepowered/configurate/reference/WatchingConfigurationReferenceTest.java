@@ -0,0 +1,146 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.reference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.spongepowered.configurate.BasicConfigurationNode;
+import org.spongepowered.configurate.loader.TestConfigurationLoader;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+
+class WatchingConfigurationReferenceTest {
+
+    @Test
+    void testBurstCoalesced(final @TempDir Path tempDir) throws Exception {
+        final Path file = tempDir.resolve("burst.txt");
+        Files.write(file, "one".getBytes(StandardCharsets.UTF_8));
+
+        try (WatchServiceListener listener = WatchServiceListener.create()) {
+            final WatchingConfigurationReference<BasicConfigurationNode> reference = reference(
+                file,
+                listener,
+                ReloadPolicy.builder().quietPeriod(Duration.ofMillis(100)).build()
+            );
+
+            Files.write(file, "two".getBytes(StandardCharsets.UTF_8));
+            for (int i = 0; i < 5; ++i) {
+                reference.submit(event(file));
+            }
+
+            assertTimeout(Duration.ofSeconds(10), () -> {
+                while (reference.reloadMetrics().reloads() < 1) {
+                    Thread.sleep(10);
+                }
+            });
+            Thread.sleep(200); // no further reloads should follow
+
+            final ConfigurationReference.ReloadMetrics metrics = reference.reloadMetrics();
+            assertEquals(5, metrics.eventsReceived());
+            assertEquals(1, metrics.reloads());
+            assertEquals("two", reference.node().getString());
+        }
+    }
+
+    @Test
+    void testUnchangedContentSkipped(final @TempDir Path tempDir) throws Exception {
+        final Path file = tempDir.resolve("unchanged.txt");
+        Files.write(file, "one".getBytes(StandardCharsets.UTF_8));
+
+        try (WatchServiceListener listener = WatchServiceListener.builder().taskExecutor(Runnable::run).build()) {
+            final WatchingConfigurationReference<BasicConfigurationNode> reference = reference(
+                file,
+                listener,
+                ReloadPolicy.builder().skipUnchanged(true).build()
+            );
+
+            reference.submit(event(file));
+            assertEquals(1, reference.reloadMetrics().skippedUnchanged());
+            assertEquals(0, reference.reloadMetrics().reloads());
+
+            Files.write(file, "two".getBytes(StandardCharsets.UTF_8));
+            reference.submit(event(file));
+            assertEquals(1, reference.reloadMetrics().reloads());
+            assertEquals("two", reference.node().getString());
+
+            // our own saves don't need to be read back
+            reference.save(BasicConfigurationNode.root().raw("three"));
+            reference.submit(event(file));
+            assertEquals(2, reference.reloadMetrics().skippedUnchanged());
+            assertEquals(1, reference.reloadMetrics().reloads());
+        }
+    }
+
+    @Test
+    void testFingerprintTrustedOnceSettled(final @TempDir Path tempDir) throws Exception {
+        final Path file = tempDir.resolve("settled.txt");
+        Files.write(file, "one".getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() - 60_000));
+
+        final WatchingConfigurationReference.Fingerprint first = WatchingConfigurationReference.Fingerprint.read(file);
+        assertTrue(WatchingConfigurationReference.Fingerprint.read(file).sameAs(first));
+
+        Files.write(file, "two".getBytes(StandardCharsets.UTF_8));
+        assertFalse(WatchingConfigurationReference.Fingerprint.read(file).sameAs(first));
+
+        // a recent modification could be followed by another within the same timestamp
+        final WatchingConfigurationReference.Fingerprint recent = WatchingConfigurationReference.Fingerprint.read(file);
+        assertFalse(WatchingConfigurationReference.Fingerprint.read(file).sameAs(recent));
+    }
+
+    private static WatchingConfigurationReference<BasicConfigurationNode> reference(
+        final Path file,
+        final WatchServiceListener listener,
+        final ReloadPolicy policy
+    ) throws Exception {
+        final WatchingConfigurationReference<BasicConfigurationNode> reference =
+            new WatchingConfigurationReference<>(TestConfigurationLoader.builder().path(file).build(), file, listener, policy);
+        reference.reload();
+        return reference;
+    }
+
+    private static WatchEvent<Path> event(final Path file) {
+        return new WatchEvent<Path>() {
+            @Override
+            public Kind<Path> kind() {
+                return StandardWatchEventKinds.ENTRY_MODIFY;
+            }
+
+            @Override
+            public int count() {
+                return 1;
+            }
+
+            @Override
+            public Path context() {
+                return file.getFileName();
+            }
+        };
+    }
+
+}
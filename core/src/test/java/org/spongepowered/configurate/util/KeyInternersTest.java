@@ -0,0 +1,91 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.util;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import org.spongepowered.configurate.BasicConfigurationNode;
+import org.spongepowered.configurate.ConfigurationNode;
+import org.spongepowered.configurate.ConfigurationOptions;
+import org.spongepowered.configurate.serialize.SerializationException;
+
+import java.util.Collections;
+
+class KeyInternersTest {
+
+    @Test
+    void testNoneReturnsKeyUnchanged() {
+        final String first = new String("hello");
+        final String second = new String("hello");
+        assertSame(first, KeyInterners.none().intern(first));
+        assertSame(second, KeyInterners.none().intern(second));
+    }
+
+    @Test
+    void testWeakPoolSharesEqualKeys() {
+        final String first = new String("weak-pool-key");
+        final String second = new String("weak-pool-key");
+        assertSame(KeyInterners.weakPool().intern(first), KeyInterners.weakPool().intern(second));
+    }
+
+    @Test
+    void testWeakPoolSharesKeysAcrossStripes() {
+        final String[] keys = new String[64];
+        for (int i = 0; i < keys.length; ++i) {
+            keys[i] = KeyInterners.weakPool().intern(new String("striped-key-" + i));
+        }
+        for (int i = 0; i < keys.length; ++i) {
+            assertSame(keys[i], KeyInterners.weakPool().intern(new String("striped-key-" + i)));
+        }
+    }
+
+    @Test
+    void testBoundedSharesEqualKeys() {
+        final KeyInterner interner = KeyInterners.bounded(16);
+        final String first = new String("bounded-key");
+        assertSame(first, interner.intern(first));
+        assertSame(first, interner.intern(new String("bounded-key")));
+    }
+
+    @Test
+    void testSeparateBoundedInternersIndependent() {
+        final String first = new String("bounded-key");
+        final String second = new String("bounded-key");
+        assertNotSame(KeyInterners.bounded(4).intern(first), KeyInterners.bounded(4).intern(second));
+    }
+
+    @Test
+    void testBoundedRejectsInvalidSize() {
+        assertThrows(IllegalArgumentException.class, () -> KeyInterners.bounded(0));
+    }
+
+    @Test
+    void testNodesShareInternedKeys() throws SerializationException {
+        final ConfigurationOptions options = ConfigurationOptions.defaults().keyInterner(KeyInterners.bounded(64));
+        final ConfigurationNode first = BasicConfigurationNode.root(options);
+        final ConfigurationNode second = BasicConfigurationNode.root(options);
+
+        first.node(new String("tenant")).set("a");
+        second.set(Collections.singletonMap(new String("tenant"), "b"));
+
+        assertSame(first.node("tenant").key(), second.node("tenant").key());
+    }
+
+}
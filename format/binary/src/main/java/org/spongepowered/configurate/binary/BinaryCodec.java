@@ -0,0 +1,605 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.binary;
+
+import io.leangen.geantyref.GenericTypeReflector;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.configurate.AttributedConfigurationNode;
+import org.spongepowered.configurate.CommentedConfigurationNodeIntermediary;
+import org.spongepowered.configurate.ConfigurationNode;
+import org.spongepowered.configurate.RepresentationHint;
+import org.spongepowered.configurate.loader.ParsingException;
+import org.spongepowered.configurate.util.UnmodifiableCollections;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encoding and decoding of node trees in the binary format.
+ *
+ * <p>A document consists of a magic number and version, an optional header,
+ * and the root node. Each node begins with a single byte, holding the value
+ * type in the low nibble and flags for any present metadata in the high
+ * nibble. Metadata follows in flag order, then the value itself. All
+ * variable-length data is length-prefixed, and map keys that repeat are
+ * written once and then referred to by index.</p>
+ */
+final class BinaryCodec {
+
+    static final int VERSION = 1;
+    private static final byte[] MAGIC = {'C', 'F', 'G', 'B'};
+
+    // document flags
+    private static final int DOC_HAS_HEADER = 1;
+
+    // node flags
+    private static final int HAS_COMMENT = 1 << 4;
+    private static final int HAS_ATTRIBUTES = 1 << 5;
+    private static final int HAS_HINTS = 1 << 6;
+    private static final int HAS_TAG_NAME = 1 << 7;
+    private static final int TYPE_MASK = 0x0F;
+
+    // value types
+    private static final int TYPE_NULL = 0;
+    private static final int TYPE_MAP = 1;
+    private static final int TYPE_LIST = 2;
+    private static final int TYPE_STRING = 3;
+    private static final int TYPE_TRUE = 4;
+    private static final int TYPE_FALSE = 5;
+    private static final int TYPE_BYTE = 6;
+    private static final int TYPE_SHORT = 7;
+    private static final int TYPE_CHAR = 8;
+    private static final int TYPE_INT = 9;
+    private static final int TYPE_LONG = 10;
+    private static final int TYPE_FLOAT = 11;
+    private static final int TYPE_DOUBLE = 12;
+    private static final int TYPE_BIG_INTEGER = 13;
+    private static final int TYPE_BIG_DECIMAL = 14;
+    private static final int TYPE_ENUM = 15; // only valid for hint values
+
+    private final Map<String, RepresentationHint<?>> hints;
+
+    BinaryCodec(final Iterable<RepresentationHint<?>> hints) {
+        final Map<String, RepresentationHint<?>> byId = new HashMap<>();
+        for (final RepresentationHint<?> hint : hints) {
+            byId.put(hint.identifier(), hint);
+        }
+        this.hints = UnmodifiableCollections.copyOf(byId);
+    }
+
+    // Encoding //
+
+    void encode(final ConfigurationNode node, final @Nullable String header, final OutputStream stream) throws IOException {
+        final Output out = new Output();
+        out.write(MAGIC);
+        out.write(VERSION);
+        out.write(header == null ? 0 : DOC_HAS_HEADER);
+        if (header != null) {
+            out.writeString(header);
+        }
+        this.writeNode(out, node);
+        out.writeTo(stream);
+    }
+
+    private void writeNode(final Output out, final ConfigurationNode node) throws IOException {
+        final @Nullable String comment = node instanceof CommentedConfigurationNodeIntermediary<?>
+            ? ((CommentedConfigurationNodeIntermediary<?>) node).comment() : null;
+        final @Nullable AttributedConfigurationNode attributed = node instanceof AttributedConfigurationNode
+            ? (AttributedConfigurationNode) node : null;
+        final List<Map.Entry<RepresentationHint<?>, ?>> hints = this.knownHints(node);
+
+        int flags = 0;
+        if (comment != null) {
+            flags |= HAS_COMMENT;
+        }
+        if (attributed != null && attributed.hasAttributes()) {
+            flags |= HAS_ATTRIBUTES;
+        }
+        if (!hints.isEmpty()) {
+            flags |= HAS_HINTS;
+        }
+        if (attributed != null) {
+            flags |= HAS_TAG_NAME;
+        }
+
+        if (node.isMap()) {
+            out.write(flags | TYPE_MAP);
+            this.writeMetadata(out, flags, comment, attributed, hints);
+            final Map<Object, ? extends ConfigurationNode> children = node.childrenMap();
+            out.writeVarInt(children.size());
+            for (final Map.Entry<Object, ? extends ConfigurationNode> child : children.entrySet()) {
+                this.writeKey(out, child.getKey());
+                this.writeNode(out, child.getValue());
+            }
+        } else if (node.isList()) {
+            out.write(flags | TYPE_LIST);
+            this.writeMetadata(out, flags, comment, attributed, hints);
+            final List<? extends ConfigurationNode> children = node.childrenList();
+            out.writeVarInt(children.size());
+            for (final ConfigurationNode child : children) {
+                this.writeNode(out, child);
+            }
+        } else {
+            final @Nullable Object value = node.rawScalar();
+            out.write(flags | scalarType(value));
+            this.writeMetadata(out, flags, comment, attributed, hints);
+            writeScalar(out, value);
+        }
+    }
+
+    private void writeMetadata(
+        final Output out,
+        final int flags,
+        final @Nullable String comment,
+        final @Nullable AttributedConfigurationNode attributed,
+        final List<Map.Entry<RepresentationHint<?>, ?>> hints
+    ) throws IOException {
+        if (comment != null) {
+            out.writeString(comment);
+        }
+        if ((flags & HAS_ATTRIBUTES) != 0 && attributed != null) {
+            final Map<String, String> attributes = attributed.attributes();
+            out.writeVarInt(attributes.size());
+            for (final Map.Entry<String, String> attribute : attributes.entrySet()) {
+                out.writeString(attribute.getKey());
+                out.writeString(attribute.getValue());
+            }
+        }
+        if ((flags & HAS_HINTS) != 0) {
+            out.writeVarInt(hints.size());
+            for (final Map.Entry<RepresentationHint<?>, ?> hint : hints) {
+                out.writeString(hint.getKey().identifier());
+                final Object value = hint.getValue();
+                if (value instanceof Enum<?>) {
+                    out.write(TYPE_ENUM);
+                    out.writeString(((Enum<?>) value).name());
+                } else {
+                    out.write(scalarType(value));
+                    writeScalar(out, value);
+                }
+            }
+        }
+        if (attributed != null) {
+            out.writeString(attributed.tagName());
+        }
+    }
+
+    private List<Map.Entry<RepresentationHint<?>, ?>> knownHints(final ConfigurationNode node) {
+        if (this.hints.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        final Map<RepresentationHint<?>, ?> own = node.ownHints();
+        if (own.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final List<Map.Entry<RepresentationHint<?>, ?>> known = new ArrayList<>(own.size());
+        for (final Map.Entry<RepresentationHint<?>, ?> hint : own.entrySet()) {
+            if (hint.getKey().equals(this.hints.get(hint.getKey().identifier()))) {
+                known.add(hint);
+            }
+        }
+        return known;
+    }
+
+    private void writeKey(final Output out, final Object key) throws IOException {
+        if (key instanceof String) {
+            out.write(TYPE_STRING);
+            final @Nullable Integer existing = out.keys.get(key);
+            if (existing != null) {
+                out.writeVarInt(existing + 1);
+            } else {
+                out.writeVarInt(0);
+                out.writeString((String) key);
+                out.keys.put((String) key, out.keys.size());
+            }
+        } else {
+            out.write(scalarType(key));
+            writeScalar(out, key);
+        }
+    }
+
+    private static int scalarType(final @Nullable Object value) throws IOException {
+        if (value == null) {
+            return TYPE_NULL;
+        } else if (value instanceof String) {
+            return TYPE_STRING;
+        } else if (value instanceof Boolean) {
+            return (Boolean) value ? TYPE_TRUE : TYPE_FALSE;
+        } else if (value instanceof Byte) {
+            return TYPE_BYTE;
+        } else if (value instanceof Short) {
+            return TYPE_SHORT;
+        } else if (value instanceof Character) {
+            return TYPE_CHAR;
+        } else if (value instanceof Integer) {
+            return TYPE_INT;
+        } else if (value instanceof Long) {
+            return TYPE_LONG;
+        } else if (value instanceof Float) {
+            return TYPE_FLOAT;
+        } else if (value instanceof Double) {
+            return TYPE_DOUBLE;
+        } else if (value instanceof BigInteger) {
+            return TYPE_BIG_INTEGER;
+        } else if (value instanceof BigDecimal) {
+            return TYPE_BIG_DECIMAL;
+        } else {
+            throw new IOException("Values of type " + value.getClass() + " cannot be written in the binary format");
+        }
+    }
+
+    private static void writeScalar(final Output out, final @Nullable Object value) throws IOException {
+        if (value instanceof String) {
+            out.writeString((String) value);
+        } else if (value instanceof Byte || value instanceof Short || value instanceof Integer) {
+            out.writeVarLong(((Number) value).intValue());
+        } else if (value instanceof Character) {
+            out.writeVarLong((Character) value);
+        } else if (value instanceof Long) {
+            out.writeVarLong((Long) value);
+        } else if (value instanceof Float) {
+            out.writeFixed(Float.floatToRawIntBits((Float) value), Integer.BYTES);
+        } else if (value instanceof Double) {
+            out.writeFixed(Double.doubleToRawLongBits((Double) value), Long.BYTES);
+        } else if (value instanceof BigInteger) {
+            out.writeBytes(((BigInteger) value).toByteArray());
+        } else if (value instanceof BigDecimal) {
+            out.writeVarLong(((BigDecimal) value).scale());
+            out.writeBytes(((BigDecimal) value).unscaledValue().toByteArray());
+        }
+        // null and booleans are fully described by their type
+    }
+
+    // Decoding //
+
+    /**
+     * Decode a document into the provided node.
+     *
+     * @param data the document
+     * @param target a function creating the destination node, provided the
+     *     document header
+     * @param <N> the node type
+     * @return the populated node
+     * @throws ParsingException if the document is invalid
+     */
+    <N extends ConfigurationNode> N decode(final byte[] data, final HeaderAwareFactory<N> target) throws ParsingException {
+        final Input in = new Input(data);
+        try {
+            for (final byte b : MAGIC) {
+                if (in.read() != b) {
+                    throw in.error("Not a binary configuration document", null);
+                }
+            }
+            final int version = in.read();
+            if (version != VERSION) {
+                throw in.error("Unsupported binary configuration version " + version, null);
+            }
+            final int docFlags = in.read();
+            final @Nullable String header = (docFlags & DOC_HAS_HEADER) != 0 ? in.readString() : null;
+
+            final N node = target.create(header);
+            this.readNode(in, node);
+            if (in.remaining() != 0) {
+                throw in.error("Unexpected trailing data after root node", null);
+            }
+            return node;
+        } catch (final IndexOutOfBoundsException ex) {
+            throw in.error("Unexpected end of document", ex);
+        }
+    }
+
+    private void readNode(final Input in, final ConfigurationNode node) throws ParsingException {
+        final int typeAndFlags = in.read();
+        final int type = typeAndFlags & TYPE_MASK;
+
+        if ((typeAndFlags & HAS_COMMENT) != 0) {
+            final String comment = in.readString();
+            if (node instanceof CommentedConfigurationNodeIntermediary<?>) {
+                ((CommentedConfigurationNodeIntermediary<?>) node).comment(comment);
+            }
+        }
+        if ((typeAndFlags & HAS_ATTRIBUTES) != 0) {
+            final int count = in.readVarInt();
+            for (int i = 0; i < count; ++i) {
+                final String name = in.readString();
+                final String value = in.readString();
+                if (node instanceof AttributedConfigurationNode) {
+                    ((AttributedConfigurationNode) node).addAttribute(name, value);
+                }
+            }
+        }
+        if ((typeAndFlags & HAS_HINTS) != 0) {
+            final int count = in.readVarInt();
+            for (int i = 0; i < count; ++i) {
+                this.readHint(in, node);
+            }
+        }
+        if ((typeAndFlags & HAS_TAG_NAME) != 0) {
+            final String tagName = in.readString();
+            if (node instanceof AttributedConfigurationNode) {
+                ((AttributedConfigurationNode) node).tagName(tagName);
+            }
+        }
+
+        try {
+            if (type == TYPE_MAP) {
+                this.readMapChildren(in, node);
+            } else if (type == TYPE_LIST) {
+                this.readListChildren(in, node);
+            } else {
+                node.raw(readScalar(in, type));
+            }
+        } catch (final IllegalArgumentException ex) {
+            throw in.error(ex.getMessage(), ex);
+        }
+    }
+
+    private void readMapChildren(final Input in, final ConfigurationNode node) throws ParsingException {
+        final int size = in.readVarInt();
+        if (size == 0) {
+            node.raw(Collections.emptyMap());
+            return;
+        }
+        for (int i = 0; i < size; ++i) {
+            final Object key = this.readKey(in);
+            this.readNode(in, node.node(key));
+        }
+    }
+
+    private void readListChildren(final Input in, final ConfigurationNode node) throws ParsingException {
+        final int size = in.readVarInt();
+        if (size == 0) {
+            node.raw(Collections.emptyList());
+            return;
+        }
+        for (int i = 0; i < size; ++i) {
+            this.readNode(in, node.appendListNode());
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void readHint(final Input in, final ConfigurationNode node) throws ParsingException {
+        final String identifier = in.readString();
+        final int type = in.read();
+        final @Nullable Object value;
+        if (type == TYPE_ENUM) {
+            value = in.readString();
+        } else {
+            value = readScalar(in, type);
+        }
+
+        final @Nullable RepresentationHint<?> hint = this.hints.get(identifier);
+        if (hint == null || value == null) {
+            return; // unknown to this loader
+        }
+        final Class<?> erased = GenericTypeReflector.erase(hint.valueType().getType());
+        if (type == TYPE_ENUM) {
+            if (!erased.isEnum()) {
+                return;
+            }
+            try {
+                node.hint((RepresentationHint) hint, Enum.valueOf((Class) erased, (String) value));
+            } catch (final IllegalArgumentException ex) {
+                // constant no longer exists, ignore
+            }
+        } else if (erased.isInstance(value)) {
+            node.hint((RepresentationHint) hint, value);
+        }
+    }
+
+    private Object readKey(final Input in) throws ParsingException {
+        final int type = in.read();
+        if (type == TYPE_STRING) {
+            final int ref = in.readVarInt();
+            if (ref == 0) {
+                final String key = in.readString();
+                in.keys.add(key);
+                return key;
+            } else if (ref > in.keys.size()) {
+                throw in.error("Unknown key reference " + ref, null);
+            }
+            return in.keys.get(ref - 1);
+        }
+
+        final @Nullable Object key = readScalar(in, type);
+        if (key == null) {
+            throw in.error("Map keys must not be null", null);
+        }
+        return key;
+    }
+
+    private static @Nullable Object readScalar(final Input in, final int type) throws ParsingException {
+        switch (type) {
+            case TYPE_NULL: return null;
+            case TYPE_STRING: return in.readString();
+            case TYPE_TRUE: return Boolean.TRUE;
+            case TYPE_FALSE: return Boolean.FALSE;
+            case TYPE_BYTE: return (byte) in.readVarLong();
+            case TYPE_SHORT: return (short) in.readVarLong();
+            case TYPE_CHAR: return (char) in.readVarLong();
+            case TYPE_INT: return (int) in.readVarLong();
+            case TYPE_LONG: return in.readVarLong();
+            case TYPE_FLOAT: return Float.intBitsToFloat((int) in.readFixed(Integer.BYTES));
+            case TYPE_DOUBLE: return Double.longBitsToDouble(in.readFixed(Long.BYTES));
+            case TYPE_BIG_INTEGER: return new BigInteger(in.readBytes());
+            case TYPE_BIG_DECIMAL:
+                final int scale = (int) in.readVarLong();
+                return new BigDecimal(new BigInteger(in.readBytes()), scale);
+            default:
+                throw in.error("Unknown value type " + type, null);
+        }
+    }
+
+    /**
+     * A factory for destination nodes, that is able to receive the header
+     * read from the document.
+     *
+     * @param <N> the node type
+     */
+    @FunctionalInterface
+    interface HeaderAwareFactory<N extends ConfigurationNode> {
+
+        N create(@Nullable String header);
+
+    }
+
+    /**
+     * A growable buffer, written to its destination in one operation.
+     */
+    static final class Output extends ByteArrayOutputStream {
+
+        final Map<String, Integer> keys = new HashMap<>();
+
+        Output() {
+            super(4096);
+        }
+
+        void writeVarInt(final int value) {
+            int remaining = value;
+            while ((remaining & ~0x7F) != 0) {
+                this.write((remaining & 0x7F) | 0x80);
+                remaining >>>= 7;
+            }
+            this.write(remaining);
+        }
+
+        void writeVarLong(final long value) {
+            long remaining = (value << 1) ^ (value >> 63); // zig-zag, so small negative numbers stay small
+            while ((remaining & ~0x7FL) != 0) {
+                this.write((int) ((remaining & 0x7F) | 0x80));
+                remaining >>>= 7;
+            }
+            this.write((int) remaining);
+        }
+
+        void writeFixed(final long value, final int bytes) {
+            for (int i = bytes - 1; i >= 0; --i) {
+                this.write((int) (value >>> (i * 8)));
+            }
+        }
+
+        void writeBytes(final byte[] bytes) {
+            this.writeVarInt(bytes.length);
+            this.write(bytes, 0, bytes.length);
+        }
+
+        void writeString(final String value) {
+            this.writeBytes(value.getBytes(StandardCharsets.UTF_8));
+        }
+
+    }
+
+    /**
+     * A cursor over a fully read document.
+     */
+    static final class Input {
+
+        final List<String> keys = new ArrayList<>();
+        private final byte[] data;
+        private int position;
+
+        Input(final byte[] data) {
+            this.data = data;
+        }
+
+        int remaining() {
+            return this.data.length - this.position;
+        }
+
+        int read() {
+            if (this.position >= this.data.length) {
+                throw new IndexOutOfBoundsException();
+            }
+            return this.data[this.position++] & 0xFF;
+        }
+
+        int readVarInt() throws ParsingException {
+            int result = 0;
+            for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+                final int b = this.read();
+                result |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    if (result < 0) {
+                        throw this.error("Negative length", null);
+                    }
+                    return result;
+                }
+            }
+            throw this.error("Malformed variable-length integer", null);
+        }
+
+        long readVarLong() throws ParsingException {
+            long result = 0;
+            for (int shift = 0; shift < Long.SIZE; shift += 7) {
+                final int b = this.read();
+                result |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return (result >>> 1) ^ -(result & 1);
+                }
+            }
+            throw this.error("Malformed variable-length integer", null);
+        }
+
+        long readFixed(final int bytes) {
+            long result = 0;
+            for (int i = 0; i < bytes; ++i) {
+                result = (result << 8) | this.read();
+            }
+            return result;
+        }
+
+        byte[] readBytes() throws ParsingException {
+            final int length = this.readLength();
+            final byte[] ret = new byte[length];
+            System.arraycopy(this.data, this.position, ret, 0, length);
+            this.position += length;
+            return ret;
+        }
+
+        String readString() throws ParsingException {
+            final int length = this.readLength();
+            final String ret = new String(this.data, this.position, length, StandardCharsets.UTF_8);
+            this.position += length;
+            return ret;
+        }
+
+        private int readLength() throws ParsingException {
+            final int length = this.readVarInt();
+            if (length > this.remaining()) {
+                throw this.error("Length " + length + " exceeds remaining document size", null);
+            }
+            return length;
+        }
+
+        ParsingException error(final @Nullable String message, final @Nullable Throwable cause) {
+            // the binary format has no lines, so the byte offset is reported as the column
+            return new ParsingException(ParsingException.UNKNOWN_POS, this.position, null, message, cause);
+        }
+
+    }
+
+}
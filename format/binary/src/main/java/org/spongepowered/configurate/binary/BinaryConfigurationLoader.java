@@ -0,0 +1,281 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.binary;
+
+import static java.util.Objects.requireNonNull;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.configurate.AttributedConfigurationNode;
+import org.spongepowered.configurate.ConfigurateException;
+import org.spongepowered.configurate.ConfigurationNode;
+import org.spongepowered.configurate.ConfigurationOptions;
+import org.spongepowered.configurate.RepresentationHint;
+import org.spongepowered.configurate.loader.AtomicFiles;
+import org.spongepowered.configurate.loader.ConfigurationLoader;
+import org.spongepowered.configurate.loader.ParsingException;
+import org.spongepowered.configurate.reference.ConfigurationReference;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.function.UnaryOperator;
+
+/**
+ * A loader for a compact binary representation of configuration trees.
+ *
+ * <p>This format is not intended to be edited by hand. Instead, it provides
+ * a representation of a node tree that can be loaded without any text
+ * parsing, for example as a cached snapshot of a configuration written in
+ * another format (see {@link SnapshotCachingLoader}).</p>
+ *
+ * <p>Value types, comments, XML-style attributes and tag names are all
+ * preserved. Representation hints are preserved when they have been
+ * {@link Builder#hints(RepresentationHint[]) registered} on the loader, and
+ * have scalar or enum values.</p>
+ *
+ * @since 4.3.0
+ */
+public final class BinaryConfigurationLoader implements ConfigurationLoader<AttributedConfigurationNode> {
+
+    private final @Nullable Callable<InputStream> source;
+    private final @Nullable Callable<OutputStream> sink;
+    private final ConfigurationOptions defaultOptions;
+    private final BinaryCodec codec;
+
+    /**
+     * Create a new builder for a binary loader.
+     *
+     * @return a new builder
+     * @since 4.3.0
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    BinaryConfigurationLoader(final Builder builder) {
+        this.source = builder.source;
+        this.sink = builder.sink;
+        this.defaultOptions = builder.defaultOptions;
+        this.codec = builder.codec();
+    }
+
+    @Override
+    public AttributedConfigurationNode load(final ConfigurationOptions options) throws ConfigurateException {
+        if (this.source == null) {
+            throw new ParsingException(ParsingException.UNKNOWN_POS, ParsingException.UNKNOWN_POS, "", "No source present to read from!", null);
+        }
+
+        final byte[] data;
+        try (InputStream is = this.source.call()) {
+            data = readFully(is);
+        } catch (final FileNotFoundException | NoSuchFileException ex) {
+            // Squash -- there's nothing to read
+            return this.createNode(options);
+        } catch (final Exception ex) {
+            throw new ParsingException(ParsingException.UNKNOWN_POS, ParsingException.UNKNOWN_POS, null, null, ex);
+        }
+        return this.codec.decode(data, header -> this.createNode(header == null ? options : options.header(header)));
+    }
+
+    @Override
+    public ConfigurationReference<AttributedConfigurationNode> loadToReference() throws ConfigurateException {
+        return ConfigurationReference.fixed(this);
+    }
+
+    @Override
+    public void save(final ConfigurationNode node) throws ConfigurateException {
+        if (this.sink == null) {
+            throw new ConfigurateException(node, new IOException("No sink present to write to!"));
+        }
+
+        try (OutputStream os = this.sink.call()) {
+            this.codec.encode(node, node.options().header(), os);
+        } catch (final IOException ex) {
+            throw new ConfigurateException(node, ex);
+        } catch (final Exception ex) {
+            throw new ConfigurateException(node, "Unknown error occurred while saving", ex);
+        }
+    }
+
+    @Override
+    public AttributedConfigurationNode createNode(final ConfigurationOptions options) {
+        return AttributedConfigurationNode.root("root", options);
+    }
+
+    @Override
+    public ConfigurationOptions defaultOptions() {
+        return this.defaultOptions;
+    }
+
+    @Override
+    public boolean canLoad() {
+        return this.source != null;
+    }
+
+    @Override
+    public boolean canSave() {
+        return this.sink != null;
+    }
+
+    static byte[] readFully(final InputStream is) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(is.available(), 4096));
+        final byte[] buffer = new byte[8192];
+        int read;
+        while ((read = is.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Builds a {@link BinaryConfigurationLoader}.
+     *
+     * @since 4.3.0
+     */
+    public static final class Builder {
+
+        private @Nullable Callable<InputStream> source;
+        private @Nullable Callable<OutputStream> sink;
+        private ConfigurationOptions defaultOptions = ConfigurationOptions.defaults();
+        private final List<RepresentationHint<?>> hints = new ArrayList<>();
+
+        Builder() {
+        }
+
+        /**
+         * Set the file to read from and write to.
+         *
+         * <p>The file will be read in a single operation, and written
+         * atomically.</p>
+         *
+         * @param path the file
+         * @return this builder
+         * @since 4.3.0
+         */
+        public Builder path(final Path path) {
+            final Path absPath = requireNonNull(path, "path").toAbsolutePath();
+            this.source = () -> Files.newInputStream(absPath);
+            this.sink = () -> AtomicFiles.atomicOutputStream(absPath);
+            return this;
+        }
+
+        /**
+         * Set a URL to read from.
+         *
+         * <p>This will clear any sink, as URLs cannot be written to.</p>
+         *
+         * @param url the URL
+         * @return this builder
+         * @since 4.3.0
+         */
+        public Builder url(final URL url) {
+            requireNonNull(url, "url");
+            this.source = url::openStream;
+            this.sink = null;
+            return this;
+        }
+
+        /**
+         * Set the source to read from.
+         *
+         * @param source the source
+         * @return this builder
+         * @since 4.3.0
+         */
+        public Builder source(final @Nullable Callable<InputStream> source) {
+            this.source = source;
+            return this;
+        }
+
+        /**
+         * Set the sink to write to.
+         *
+         * @param sink the sink
+         * @return this builder
+         * @since 4.3.0
+         */
+        public Builder sink(final @Nullable Callable<OutputStream> sink) {
+            this.sink = sink;
+            return this;
+        }
+
+        /**
+         * Set the default options for nodes created by this loader.
+         *
+         * @param defaultOptions the options
+         * @return this builder
+         * @since 4.3.0
+         */
+        public Builder defaultOptions(final ConfigurationOptions defaultOptions) {
+            this.defaultOptions = requireNonNull(defaultOptions, "defaultOptions");
+            return this;
+        }
+
+        /**
+         * Modify the default options for nodes created by this loader.
+         *
+         * @param defaultOptions an operator to modify the options
+         * @return this builder
+         * @since 4.3.0
+         */
+        public Builder defaultOptions(final UnaryOperator<ConfigurationOptions> defaultOptions) {
+            this.defaultOptions = requireNonNull(defaultOptions.apply(this.defaultOptions), "defaultOptions (updated)");
+            return this;
+        }
+
+        /**
+         * Register representation hints that should be preserved.
+         *
+         * <p>Hints are matched by identifier when loading. Only hints with
+         * scalar or enum values can be preserved.</p>
+         *
+         * @param hints the hints to preserve
+         * @return this builder
+         * @since 4.3.0
+         */
+        public Builder hints(final RepresentationHint<?>... hints) {
+            this.hints.addAll(Arrays.asList(hints));
+            return this;
+        }
+
+        BinaryCodec codec() {
+            return new BinaryCodec(this.hints);
+        }
+
+        /**
+         * Create a new loader with the current settings.
+         *
+         * @return a new loader
+         * @since 4.3.0
+         */
+        public BinaryConfigurationLoader build() {
+            return new BinaryConfigurationLoader(this);
+        }
+
+    }
+
+}
@@ -0,0 +1,270 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.binary;
+
+import static java.util.Objects.requireNonNull;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.configurate.ConfigurateException;
+import org.spongepowered.configurate.ConfigurationNode;
+import org.spongepowered.configurate.ConfigurationOptions;
+import org.spongepowered.configurate.RepresentationHint;
+import org.spongepowered.configurate.ScopedConfigurationNode;
+import org.spongepowered.configurate.loader.AbstractConfigurationLoader;
+import org.spongepowered.configurate.loader.AtomicFiles;
+import org.spongepowered.configurate.loader.ConfigurationLoader;
+import org.spongepowered.configurate.loader.ParsingException;
+import org.spongepowered.configurate.reference.ConfigurationReference;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+/**
+ * A loader that keeps a binary snapshot alongside a text configuration,
+ * and loads from that snapshot when the text configuration is unchanged.
+ *
+ * <p>The snapshot records the modification time, size, and a checksum of the
+ * text file it was created from. When all three match the current text file,
+ * the snapshot is loaded instead of parsing the text. The checksum is only
+ * computed once the modification time and size match. Otherwise, the text
+ * file is loaded with the wrapped loader, and a new snapshot is written.
+ * When the wrapped loader is an {@link AbstractConfigurationLoader}, it
+ * parses the contents already read, so the text file is only read once.</p>
+ *
+ * <p>The snapshot is purely a cache: if it cannot be read or written, loading
+ * silently falls back to the wrapped loader. Saving through this loader writes
+ * the text file and removes the snapshot, so it will be recreated on the
+ * next load.</p>
+ *
+ * @param <N> the node type
+ * @since 4.3.0
+ */
+public final class SnapshotCachingLoader<N extends ScopedConfigurationNode<N>> implements ConfigurationLoader<N> {
+
+    /**
+     * The suffix appended to a text file's name to locate its snapshot.
+     *
+     * @since 4.3.0
+     */
+    public static final String SNAPSHOT_SUFFIX = ".snapshot";
+
+    private static final int SNAPSHOT_MAGIC = 0x43464753; // CFGS
+
+    private final ConfigurationLoader<N> delegate;
+    private final Path textFile;
+    private final Path snapshotFile;
+    private final BinaryCodec codec;
+
+    /**
+     * Create a caching loader for the text file at {@code textFile}.
+     *
+     * <p>The snapshot will be stored next to the text file, with the
+     * {@link #SNAPSHOT_SUFFIX} appended to its name.</p>
+     *
+     * @param delegate the loader for the text file, which must read from
+     *     and write to {@code textFile}
+     * @param textFile the text file
+     * @param hints representation hints to preserve in the snapshot
+     * @param <N> the node type
+     * @return a new caching loader
+     * @since 4.3.0
+     */
+    public static <N extends ScopedConfigurationNode<N>> SnapshotCachingLoader<N> wrap(
+        final ConfigurationLoader<N> delegate,
+        final Path textFile,
+        final RepresentationHint<?>... hints
+    ) {
+        final Path absolute = requireNonNull(textFile, "textFile").toAbsolutePath();
+        return wrap(delegate, absolute, absolute.resolveSibling(absolute.getFileName() + SNAPSHOT_SUFFIX), hints);
+    }
+
+    /**
+     * Create a caching loader for the text file at {@code textFile}, storing
+     * its snapshot at {@code snapshotFile}.
+     *
+     * @param delegate the loader for the text file, which must read from
+     *     and write to {@code textFile}
+     * @param textFile the text file
+     * @param snapshotFile the location of the snapshot
+     * @param hints representation hints to preserve in the snapshot
+     * @param <N> the node type
+     * @return a new caching loader
+     * @since 4.3.0
+     */
+    public static <N extends ScopedConfigurationNode<N>> SnapshotCachingLoader<N> wrap(
+        final ConfigurationLoader<N> delegate,
+        final Path textFile,
+        final Path snapshotFile,
+        final RepresentationHint<?>... hints
+    ) {
+        return new SnapshotCachingLoader<>(
+            requireNonNull(delegate, "delegate"),
+            requireNonNull(textFile, "textFile").toAbsolutePath(),
+            requireNonNull(snapshotFile, "snapshotFile").toAbsolutePath(),
+            new BinaryCodec(Arrays.asList(hints))
+        );
+    }
+
+    private SnapshotCachingLoader(final ConfigurationLoader<N> delegate, final Path textFile, final Path snapshotFile, final BinaryCodec codec) {
+        this.delegate = delegate;
+        this.textFile = textFile;
+        this.snapshotFile = snapshotFile;
+        this.codec = codec;
+    }
+
+    /**
+     * Get the location snapshots are stored at.
+     *
+     * @return the snapshot file
+     * @since 4.3.0
+     */
+    public Path snapshotFile() {
+        return this.snapshotFile;
+    }
+
+    @Override
+    public N load(final ConfigurationOptions options) throws ConfigurateException {
+        final byte[] text;
+        final long modified;
+        try {
+            modified = Files.getLastModifiedTime(this.textFile).toMillis();
+            text = Files.readAllBytes(this.textFile);
+        } catch (final NoSuchFileException ex) {
+            // nothing to snapshot, let the delegate decide what an absent file means
+            return this.delegate.load(options);
+        } catch (final IOException ex) {
+            throw new ParsingException(ParsingException.UNKNOWN_POS, ParsingException.UNKNOWN_POS, null, null, ex);
+        }
+
+        final @Nullable N cached = this.loadSnapshot(options, modified, text);
+        if (cached != null) {
+            return cached;
+        }
+
+        final N loaded;
+        if (this.delegate instanceof AbstractConfigurationLoader<?>) {
+            // parse what was already read rather than reading the file again
+            loaded = ((AbstractConfigurationLoader<N>) this.delegate).load(new ByteArrayInputStream(text), options);
+        } else {
+            loaded = this.delegate.load(options);
+        }
+        this.writeSnapshot(loaded, modified, text.length, checksum(text));
+        return loaded;
+    }
+
+    private @Nullable N loadSnapshot(final ConfigurationOptions options, final long modified, final byte[] text) {
+        final byte[] snapshot;
+        try {
+            snapshot = Files.readAllBytes(this.snapshotFile);
+        } catch (final IOException ex) {
+            return null; // no usable snapshot
+        }
+
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(snapshot))) {
+            // the checksum covers the whole text file, so only compute it once the cheaper checks pass
+            if (in.readInt() != SNAPSHOT_MAGIC
+                || in.readLong() != modified
+                || in.readLong() != text.length
+                || in.readLong() != checksum(text)) {
+                return null;
+            }
+            final int prefix = Integer.BYTES + 3 * Long.BYTES;
+            return this.codec.decode(
+                Arrays.copyOfRange(snapshot, prefix, snapshot.length),
+                header -> this.delegate.createNode(header == null ? options : options.header(header))
+            );
+        } catch (final IOException ex) {
+            // stale or corrupt snapshot, will be replaced
+            return null;
+        }
+    }
+
+    private void writeSnapshot(final ConfigurationNode node, final long modified, final long size, final long checksum) {
+        try {
+            // only record the snapshot if the text file was not changed while it was being loaded
+            if (Files.getLastModifiedTime(this.textFile).toMillis() != modified) {
+                return;
+            }
+
+            // encode fully before touching the file, so a node that cannot be encoded leaves no snapshot behind
+            final ByteArrayOutputStream body = new ByteArrayOutputStream();
+            this.codec.encode(node, node.options().header(), body);
+
+            try (OutputStream os = AtomicFiles.atomicOutputStream(this.snapshotFile);
+                 DataOutputStream out = new DataOutputStream(os)) {
+                out.writeInt(SNAPSHOT_MAGIC);
+                out.writeLong(modified);
+                out.writeLong(size);
+                out.writeLong(checksum);
+                body.writeTo(out);
+            }
+        } catch (final IOException ex) {
+            // the snapshot is only a cache, the next load will try again
+        }
+    }
+
+    private static long checksum(final byte[] data) {
+        final CRC32 crc = new CRC32();
+        crc.update(data, 0, data.length);
+        return crc.getValue();
+    }
+
+    @Override
+    public ConfigurationReference<N> loadToReference() throws ConfigurateException {
+        return ConfigurationReference.fixed(this);
+    }
+
+    @Override
+    public void save(final ConfigurationNode node) throws ConfigurateException {
+        this.delegate.save(node);
+        try {
+            Files.deleteIfExists(this.snapshotFile);
+        } catch (final IOException ex) {
+            // a stale snapshot will not match the new text file, so this is safe to ignore
+        }
+    }
+
+    @Override
+    public N createNode(final ConfigurationOptions options) {
+        return this.delegate.createNode(options);
+    }
+
+    @Override
+    public ConfigurationOptions defaultOptions() {
+        return this.delegate.defaultOptions();
+    }
+
+    @Override
+    public boolean canLoad() {
+        return this.delegate.canLoad();
+    }
+
+    @Override
+    public boolean canSave() {
+        return this.delegate.canSave();
+    }
+
+}
@@ -0,0 +1,54 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.binary;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.spongepowered.configurate.BasicConfigurationNode;
+import org.spongepowered.configurate.ConfigurateException;
+import org.spongepowered.configurate.ConfigurationNode;
+import org.spongepowered.configurate.loader.ConfigurationFormat;
+
+import java.nio.file.Path;
+
+class BinaryConfigurationFormatTest {
+
+    @Test
+    void testBinaryFormatPresent() {
+        final @Nullable ConfigurationFormat format = ConfigurationFormat.forExtension("cfgb");
+        assertNotNull(format);
+    }
+
+    @Test
+    void testLoadBinary(final @TempDir Path tempDir) throws ConfigurateException {
+        final Path file = tempDir.resolve("simple.cfgb");
+        final ConfigurationNode source = BasicConfigurationNode.root();
+        source.node("test").raw(true);
+        BinaryConfigurationLoader.builder().path(file).build().save(source);
+
+        final @Nullable ConfigurationFormat format = ConfigurationFormat.forExtension("cfgb");
+        final ConfigurationNode node = format.create(file).load();
+        assertTrue(node.node("test").getBoolean());
+        assertEquals(source.raw(), node.raw());
+    }
+
+}
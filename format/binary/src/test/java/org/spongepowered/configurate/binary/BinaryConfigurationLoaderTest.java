@@ -0,0 +1,155 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.binary;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.spongepowered.configurate.AttributedConfigurationNode;
+import org.spongepowered.configurate.BasicConfigurationNode;
+import org.spongepowered.configurate.ConfigurateException;
+import org.spongepowered.configurate.ConfigurationNode;
+import org.spongepowered.configurate.ConfigurationOptions;
+import org.spongepowered.configurate.RepresentationHint;
+import org.spongepowered.configurate.loader.ParsingException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+
+class BinaryConfigurationLoaderTest {
+
+    private static final RepresentationHint<String> STYLE = RepresentationHint.of("style", String.class);
+    private static final RepresentationHint<TestMode> MODE = RepresentationHint.of("mode", TestMode.class);
+
+    enum TestMode {
+        FIRST,
+        SECOND
+    }
+
+    @Test
+    void testScalarTypesRoundtrip() throws ConfigurateException {
+        final ConfigurationNode source = BasicConfigurationNode.root(n -> {
+            n.node("string").raw("hello");
+            n.node("true").raw(true);
+            n.node("false").raw(false);
+            n.node("byte").raw((byte) -3);
+            n.node("short").raw((short) 300);
+            n.node("char").raw('c');
+            n.node("int").raw(-42);
+            n.node("long").raw(Long.MIN_VALUE);
+            n.node("float").raw(1.5f);
+            n.node("double").raw(Math.PI);
+            n.node("big-integer").raw(BigInteger.TEN.pow(40));
+            n.node("big-decimal").raw(new BigDecimal("-12345.678900"));
+            n.node("list").raw(Arrays.asList(1, "two", 3L));
+            n.node("empty-list").raw(Collections.emptyList());
+            n.node("empty-map").raw(Collections.emptyMap());
+            n.node(5).raw("integer key");
+        });
+
+        final AttributedConfigurationNode loaded = roundtrip(BinaryConfigurationLoader.builder(), source);
+
+        assertEquals(source.raw(), loaded.raw());
+        assertTrue(loaded.node("empty-list").isList());
+        assertTrue(loaded.node("empty-map").isMap());
+    }
+
+    @Test
+    void testMetadataRoundtrip() throws ConfigurateException {
+        final AttributedConfigurationNode source = AttributedConfigurationNode.root("server", n -> {
+            n.addAttribute("version", "2");
+            n.comment("the server");
+            n.node("host").comment("where to connect").raw("localhost");
+            n.node("host").hint(STYLE, "quoted");
+            n.node("port").hint(MODE, TestMode.SECOND).raw(25565);
+        });
+
+        final AttributedConfigurationNode loaded = roundtrip(BinaryConfigurationLoader.builder().hints(STYLE, MODE), source);
+
+        assertEquals("server", loaded.tagName());
+        assertEquals(Collections.singletonMap("version", "2"), loaded.attributes());
+        assertEquals("the server", loaded.comment());
+        assertEquals("where to connect", loaded.node("host").comment());
+        assertEquals("quoted", loaded.node("host").ownHints().get(STYLE));
+        assertEquals(TestMode.SECOND, loaded.node("port").ownHints().get(MODE));
+        assertEquals(25565, loaded.node("port").raw());
+    }
+
+    @Test
+    void testHeaderRoundtrip() throws ConfigurateException {
+        final ConfigurationNode source = BasicConfigurationNode.root(ConfigurationOptions.defaults().header("a header"));
+        source.node("value").raw("present");
+
+        final AttributedConfigurationNode loaded = roundtrip(BinaryConfigurationLoader.builder(), source);
+
+        assertEquals("a header", loaded.options().header());
+    }
+
+    @Test
+    void testRepeatedKeysShared() throws ConfigurateException {
+        final ConfigurationNode source = BasicConfigurationNode.root(n -> {
+            for (int i = 0; i < 3; ++i) {
+                n.appendListNode().node("repeated-key").raw(i);
+            }
+        });
+
+        final AttributedConfigurationNode loaded = roundtrip(BinaryConfigurationLoader.builder(), source);
+
+        assertEquals(source.raw(), loaded.raw());
+    }
+
+    @Test
+    void testTruncatedDocumentRejected(final @TempDir Path tempDir) throws Exception {
+        final Path file = tempDir.resolve("truncated.cfgb");
+        final BinaryConfigurationLoader loader = BinaryConfigurationLoader.builder().path(file).build();
+        loader.save(BasicConfigurationNode.root(n -> n.node("key").raw("some value")));
+
+        final byte[] data = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(data, data.length - 3));
+
+        assertThrows(ParsingException.class, loader::load);
+    }
+
+    @Test
+    void testMissingFileLoadsEmpty(final @TempDir Path tempDir) throws ConfigurateException {
+        final AttributedConfigurationNode node = BinaryConfigurationLoader.builder()
+            .path(tempDir.resolve("missing.cfgb"))
+            .build()
+            .load();
+
+        assertTrue(node.empty());
+    }
+
+    private static AttributedConfigurationNode roundtrip(
+        final BinaryConfigurationLoader.Builder builder,
+        final ConfigurationNode node
+    ) throws ConfigurateException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        builder.sink(() -> out).build().save(node);
+        return builder.source(() -> new ByteArrayInputStream(out.toByteArray())).build().load();
+    }
+
+}
@@ -0,0 +1,146 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.binary;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.spongepowered.configurate.CommentedConfigurationNode;
+import org.spongepowered.configurate.ConfigurateException;
+import org.spongepowered.configurate.hocon.HoconConfigurationLoader;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class SnapshotCachingLoaderTest {
+
+    @Test
+    void testSnapshotWrittenOnFirstLoad(final @TempDir Path tempDir) throws IOException {
+        final Path config = write(tempDir.resolve("test.conf"), "# the key\nkey = value\n");
+        final SnapshotCachingLoader<CommentedConfigurationNode> loader = caching(config);
+
+        final CommentedConfigurationNode node = loader.load();
+
+        assertEquals("value", node.node("key").getString());
+        assertEquals("the key", node.node("key").comment());
+        assertTrue(Files.exists(loader.snapshotFile()));
+    }
+
+    @Test
+    void testSnapshotUsedWhenUnchanged(final @TempDir Path tempDir) throws IOException {
+        final Path config = write(tempDir.resolve("test.conf"), "key = value\n");
+        final SnapshotCachingLoader<CommentedConfigurationNode> loader = caching(config);
+        loader.load();
+
+        // replace the snapshot body with a tree the text file could not produce
+        final CommentedConfigurationNode marker = CommentedConfigurationNode.root();
+        marker.node("key").raw("from snapshot");
+        final byte[] snapshot = Files.readAllBytes(loader.snapshotFile());
+        final ByteArrayOutputStream replaced = new ByteArrayOutputStream();
+        replaced.write(snapshot, 0, Integer.BYTES + 3 * Long.BYTES);
+        new BinaryCodec(Collections.emptyList()).encode(marker, null, replaced);
+        Files.write(loader.snapshotFile(), replaced.toByteArray());
+
+        assertEquals("from snapshot", loader.load().node("key").getString());
+    }
+
+    @Test
+    void testSnapshotPreservesComments(final @TempDir Path tempDir) throws IOException {
+        final Path config = write(tempDir.resolve("test.conf"), "# the key\nkey = value\n");
+        final SnapshotCachingLoader<CommentedConfigurationNode> loader = caching(config);
+        final CommentedConfigurationNode fromText = loader.load();
+        final CommentedConfigurationNode fromSnapshot = loader.load();
+
+        assertEquals(fromText, fromSnapshot);
+        assertEquals("the key", fromSnapshot.node("key").comment());
+    }
+
+    @Test
+    void testSnapshotIgnoredWhenTextChanged(final @TempDir Path tempDir) throws IOException {
+        final Path config = write(tempDir.resolve("test.conf"), "key = value\n");
+        final SnapshotCachingLoader<CommentedConfigurationNode> loader = caching(config);
+        loader.load();
+        final FileTime originalTime = Files.getLastModifiedTime(config);
+
+        // same mtime, different content: the checksum must catch this
+        write(config, "key = other\n");
+        Files.setLastModifiedTime(config, originalTime);
+
+        assertEquals("other", loader.load().node("key").getString());
+    }
+
+    @Test
+    void testTextReadOnceOnSnapshotMiss(final @TempDir Path tempDir) throws IOException {
+        final Path config = write(tempDir.resolve("test.conf"), "key = value\n");
+        final AtomicInteger opened = new AtomicInteger();
+        final HoconConfigurationLoader delegate = HoconConfigurationLoader.builder()
+            .source(() -> {
+                opened.incrementAndGet();
+                return Files.newBufferedReader(config, StandardCharsets.UTF_8);
+            })
+            .build();
+        final SnapshotCachingLoader<CommentedConfigurationNode> loader = SnapshotCachingLoader.wrap(delegate, config);
+
+        assertEquals("value", loader.load().node("key").getString());
+        assertTrue(Files.exists(loader.snapshotFile()));
+        assertEquals(0, opened.get(), "the delegate should parse the contents already read");
+    }
+
+    @Test
+    void testCorruptSnapshotFallsBackToText(final @TempDir Path tempDir) throws IOException {
+        final Path config = write(tempDir.resolve("test.conf"), "key = value\n");
+        final SnapshotCachingLoader<CommentedConfigurationNode> loader = caching(config);
+        loader.load();
+
+        final byte[] snapshot = Files.readAllBytes(loader.snapshotFile());
+        snapshot[snapshot.length - 1] ^= 0x7F;
+        Files.write(loader.snapshotFile(), snapshot);
+
+        assertEquals("value", loader.load().node("key").getString());
+    }
+
+    @Test
+    void testSaveInvalidatesSnapshot(final @TempDir Path tempDir) throws IOException {
+        final Path config = write(tempDir.resolve("test.conf"), "key = value\n");
+        final SnapshotCachingLoader<CommentedConfigurationNode> loader = caching(config);
+        final CommentedConfigurationNode node = loader.load();
+
+        node.node("key").raw("saved");
+        loader.save(node);
+
+        assertFalse(Files.exists(loader.snapshotFile()));
+        assertEquals("saved", loader.load().node("key").getString());
+    }
+
+    private static SnapshotCachingLoader<CommentedConfigurationNode> caching(final Path config) {
+        return SnapshotCachingLoader.wrap(HoconConfigurationLoader.builder().path(config).build(), config);
+    }
+
+    private static Path write(final Path file, final String contents) throws IOException {
+        return Files.write(file, contents.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -0,0 +1,365 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.gson;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.configurate.ConfigurationNode;
+import org.spongepowered.configurate.NodePath;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * A {@link JsonReader} that reads the contents of a configuration node.
+ *
+ * <p>This allows Gson {@link com.google.gson.TypeAdapter TypeAdapters} to
+ * read directly from a node, without first converting the node to a
+ * {@link com.google.gson.JsonElement} tree or to JSON text.</p>
+ *
+ * <p>Map and list nodes are read as objects and arrays. Booleans, numbers
+ * and strings are read as their corresponding JSON values, and any other
+ * scalar value is read as a string. Null and virtual nodes are read
+ * as {@code null}.</p>
+ *
+ * @since 4.3.0
+ */
+public final class ConfigurationNodeJsonReader extends JsonReader {
+
+    private static final Object CLOSED = new Object();
+
+    /**
+     * Holds nodes not yet read, and cursors over the children of the
+     * objects and arrays being read.
+     */
+    private final Deque<Object> stack = new ArrayDeque<>();
+    private final int rootDepth;
+    private ConfigurationNode current;
+
+    /**
+     * Create a new reader over the contents of a node.
+     *
+     * @param node the node to read
+     * @since 4.3.0
+     */
+    public ConfigurationNodeJsonReader(final ConfigurationNode node) {
+        super(new PromotionSource());
+        this.current = requireNonNull(node, "node");
+        this.rootDepth = node.path().size();
+        this.stack.push(node);
+        try {
+            // place the base reader inside an object, ready for the first name
+            super.beginObject();
+        } catch (final IOException ex) {
+            throw new AssertionError(ex); // the source never fails
+        }
+    }
+
+    @Override
+    public JsonToken peek() throws IOException {
+        final @Nullable Object top = this.stack.peek();
+        if (top == null) {
+            return JsonToken.END_DOCUMENT;
+        } else if (top == CLOSED) {
+            throw new IllegalStateException("JsonReader is closed");
+        } else if (top instanceof ObjectCursor) {
+            if (!((ObjectCursor) top).children.hasNext()) {
+                return JsonToken.END_OBJECT;
+            }
+            return this.namePromoted() ? JsonToken.STRING : JsonToken.NAME;
+        } else if (top instanceof ArrayCursor) {
+            final Iterator<? extends ConfigurationNode> children = ((ArrayCursor) top).children;
+            if (!children.hasNext()) {
+                return JsonToken.END_ARRAY;
+            }
+            this.push(children.next());
+            return this.peek();
+        }
+
+        final ConfigurationNode node = (ConfigurationNode) top;
+        if (node.isMap()) {
+            return JsonToken.BEGIN_OBJECT;
+        } else if (node.isList()) {
+            return JsonToken.BEGIN_ARRAY;
+        }
+
+        final @Nullable Object value = node.rawScalar();
+        if (value == null) {
+            return JsonToken.NULL;
+        } else if (value instanceof Boolean) {
+            return JsonToken.BOOLEAN;
+        } else if (value instanceof Number) {
+            return JsonToken.NUMBER;
+        } else {
+            return JsonToken.STRING;
+        }
+    }
+
+    /**
+     * Get whether Gson has promoted the next name to a value.
+     *
+     * <p>Gson's map adapter promotes names by changing the private state of
+     * the base {@link JsonReader}, which we can only observe through
+     * {@link JsonReader#peek()}. The base reader reads from a
+     * {@link PromotionSource}, which always provides it with another name
+     * to promote.</p>
+     *
+     * @return whether the next name should be read as a string
+     * @throws IOException never
+     */
+    private boolean namePromoted() throws IOException {
+        return super.peek() == JsonToken.STRING;
+    }
+
+    /**
+     * Read the next name, as a value if it has been promoted.
+     *
+     * @return the key of the next entry
+     * @throws IOException never
+     */
+    private Object takeName() throws IOException {
+        if (this.namePromoted()) {
+            // consume the promoted name and a value, ready for the next promotion
+            super.nextString();
+            super.nextString();
+        }
+        final Map.Entry<Object, ? extends ConfigurationNode> entry = ((ObjectCursor) this.stack.element()).children.next();
+        this.push(entry.getValue());
+        return entry.getKey();
+    }
+
+    private void expect(final JsonToken expected) throws IOException {
+        final JsonToken actual = this.peek();
+        if (actual != expected) {
+            throw new IllegalStateException("Expected " + expected + " but was " + actual + this.locationString());
+        }
+    }
+
+    private void push(final ConfigurationNode node) {
+        this.current = node;
+        this.stack.push(node);
+    }
+
+    private ConfigurationNode popNode() {
+        final ConfigurationNode node = (ConfigurationNode) this.stack.pop();
+        this.current = node;
+        return node;
+    }
+
+    private @Nullable Object popScalar(final JsonToken expected, final JsonToken alternate) throws IOException {
+        final JsonToken actual = this.peek();
+        if (actual != expected && actual != alternate) {
+            throw new IllegalStateException("Expected " + expected + " but was " + actual + this.locationString());
+        }
+        if (this.stack.element() instanceof ObjectCursor) {
+            return this.takeName(); // a promoted name
+        }
+        return this.popNode().rawScalar();
+    }
+
+    @Override
+    public void beginArray() throws IOException {
+        this.expect(JsonToken.BEGIN_ARRAY);
+        this.stack.push(new ArrayCursor(this.popNode().childrenList().iterator()));
+    }
+
+    @Override
+    public void endArray() throws IOException {
+        this.expect(JsonToken.END_ARRAY);
+        this.stack.pop();
+    }
+
+    @Override
+    public void beginObject() throws IOException {
+        this.expect(JsonToken.BEGIN_OBJECT);
+        this.stack.push(new ObjectCursor(this.popNode().childrenMap().entrySet().iterator()));
+    }
+
+    @Override
+    public void endObject() throws IOException {
+        this.expect(JsonToken.END_OBJECT);
+        this.stack.pop();
+    }
+
+    @Override
+    public boolean hasNext() throws IOException {
+        final JsonToken token = this.peek();
+        return token != JsonToken.END_OBJECT && token != JsonToken.END_ARRAY && token != JsonToken.END_DOCUMENT;
+    }
+
+    @Override
+    public String nextName() throws IOException {
+        this.expect(JsonToken.NAME);
+        return String.valueOf(this.takeName());
+    }
+
+    @Override
+    public String nextString() throws IOException {
+        return String.valueOf(this.popScalar(JsonToken.STRING, JsonToken.NUMBER));
+    }
+
+    @Override
+    public boolean nextBoolean() throws IOException {
+        return (Boolean) requireNonNull(this.popScalar(JsonToken.BOOLEAN, JsonToken.BOOLEAN));
+    }
+
+    @Override
+    public void nextNull() throws IOException {
+        this.expect(JsonToken.NULL);
+        this.popNode();
+    }
+
+    @Override
+    public double nextDouble() throws IOException {
+        final Object value = requireNonNull(this.popScalar(JsonToken.NUMBER, JsonToken.STRING));
+        final double result = value instanceof Number ? ((Number) value).doubleValue() : Double.parseDouble(value.toString());
+        if (!this.isLenient() && (Double.isNaN(result) || Double.isInfinite(result))) {
+            throw new NumberFormatException("JSON forbids NaN and infinities: " + result + this.locationString());
+        }
+        return result;
+    }
+
+    @Override
+    public long nextLong() throws IOException {
+        final Object value = requireNonNull(this.popScalar(JsonToken.NUMBER, JsonToken.STRING));
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).longValue();
+        }
+
+        final String text = value.toString();
+        try {
+            return Long.parseLong(text);
+        } catch (final NumberFormatException ex) {
+            final double asDouble = value instanceof Number ? ((Number) value).doubleValue() : Double.parseDouble(text);
+            final long result = (long) asDouble;
+            if (result != asDouble) { // not an exact integer, or too large for a long
+                throw new NumberFormatException("Expected a long but was " + text + this.locationString());
+            }
+            return result;
+        }
+    }
+
+    @Override
+    public int nextInt() throws IOException {
+        final long value = this.nextLong();
+        final int result = (int) value;
+        if (result != value) {
+            throw new NumberFormatException("Expected an int but was " + value + this.locationString());
+        }
+        return result;
+    }
+
+    @Override
+    public void skipValue() throws IOException {
+        final JsonToken token = this.peek();
+        if (token == JsonToken.NAME || (token == JsonToken.STRING && this.stack.element() instanceof ObjectCursor)) {
+            this.takeName();
+        } else {
+            this.stack.pop();
+        }
+    }
+
+    @Override
+    public void close() {
+        this.stack.clear();
+        this.stack.push(CLOSED);
+    }
+
+    @Override
+    public String getPath() {
+        final StringBuilder result = new StringBuilder("$");
+        final NodePath path = this.current.path();
+        for (int i = this.rootDepth; i < path.size(); ++i) {
+            final Object element = path.get(i);
+            if (element instanceof Integer) {
+                result.append('[').append(element).append(']');
+            } else {
+                result.append('.').append(element);
+            }
+        }
+        return result.toString();
+    }
+
+    private String locationString() {
+        return " at path " + this.getPath();
+    }
+
+    @Override
+    public String toString() {
+        return this.getClass().getSimpleName() + this.locationString();
+    }
+
+    static final class ObjectCursor {
+
+        final Iterator<? extends Map.Entry<Object, ? extends ConfigurationNode>> children;
+
+        ObjectCursor(final Iterator<? extends Map.Entry<Object, ? extends ConfigurationNode>> children) {
+            this.children = children;
+        }
+
+    }
+
+    static final class ArrayCursor {
+
+        final Iterator<? extends ConfigurationNode> children;
+
+        ArrayCursor(final Iterator<? extends ConfigurationNode> children) {
+            this.children = children;
+        }
+
+    }
+
+    /**
+     * An endless object for the base reader, of the form
+     * <code>{"":"","":"",...</code>.
+     */
+    static final class PromotionSource extends Reader {
+
+        private static final String REPEATED = "\"\":\"\",";
+
+        private boolean started;
+        private int index;
+
+        @Override
+        public int read(final char[] buffer, final int offset, final int count) {
+            int written = 0;
+            if (!this.started && count > 0) {
+                this.started = true;
+                buffer[offset] = '{';
+                written++;
+            }
+            while (written < count) {
+                buffer[offset + written++] = REPEATED.charAt(this.index);
+                this.index = (this.index + 1) % REPEATED.length();
+            }
+            return written;
+        }
+
+        @Override
+        public void close() {
+        }
+
+    }
+
+}
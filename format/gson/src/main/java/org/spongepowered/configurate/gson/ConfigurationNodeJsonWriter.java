@@ -0,0 +1,290 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.gson;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.gson.stream.JsonWriter;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.configurate.ConfigurationNode;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * A {@link JsonWriter} that writes values into a configuration node.
+ *
+ * <p>This allows Gson {@link com.google.gson.TypeAdapter TypeAdapters} to
+ * write directly to a node, without first producing a
+ * {@link com.google.gson.JsonElement} tree or JSON text.</p>
+ *
+ * <p>Objects are written as map nodes, and arrays as list nodes. When an
+ * object is written to a node that is already a map, existing children
+ * are updated in place, preserving any comments or other metadata, and
+ * children that were not written are removed. Writing a null value
+ * removes the target node.</p>
+ *
+ * @since 4.3.0
+ */
+public final class ConfigurationNodeJsonWriter extends JsonWriter {
+
+    private static final Writer UNWRITABLE_WRITER = new Writer() {
+        @Override
+        public void write(final char[] buffer, final int offset, final int counter) {
+            throw new AssertionError();
+        }
+
+        @Override
+        public void flush() {
+            throw new AssertionError();
+        }
+
+        @Override
+        public void close() {
+            throw new AssertionError();
+        }
+    };
+
+    private final ConfigurationNode root;
+    private final Deque<Frame> stack = new ArrayDeque<>();
+    private boolean rootWritten;
+
+    /**
+     * Create a new writer that will write into a node.
+     *
+     * <p>The node will be replaced by the single top-level value
+     * that is written.</p>
+     *
+     * @param root the node to write to
+     * @since 4.3.0
+     */
+    public ConfigurationNodeJsonWriter(final ConfigurationNode root) {
+        super(UNWRITABLE_WRITER);
+        this.root = requireNonNull(root, "root");
+    }
+
+    /**
+     * Get the node that will receive the next value.
+     *
+     * @return the target node
+     */
+    private ConfigurationNode nextTarget() {
+        final @Nullable Frame frame = this.stack.peek();
+        if (frame == null) {
+            if (this.rootWritten) {
+                throw new IllegalStateException("JSON must have only one top-level value.");
+            }
+            this.rootWritten = true;
+            return this.root;
+        }
+
+        final @Nullable Set<Object> unvisited = frame.unvisited;
+        if (unvisited == null) {
+            return frame.node.appendListNode();
+        }
+
+        final @Nullable String name = frame.pendingName;
+        if (name == null) {
+            throw new IllegalStateException("Expected a name before writing a value in an object");
+        }
+        frame.pendingName = null;
+        unvisited.remove(name);
+        return frame.node.node(name);
+    }
+
+    private Frame top(final boolean object) {
+        final @Nullable Frame frame = this.stack.peek();
+        if (frame == null || (frame.unvisited != null) != object) {
+            throw new IllegalStateException("Not currently writing " + (object ? "an object" : "an array"));
+        }
+        return frame;
+    }
+
+    @Override
+    public JsonWriter beginArray() throws IOException {
+        final ConfigurationNode target = this.nextTarget();
+        target.raw(Collections.emptyList());
+        this.stack.push(new Frame(target, null));
+        return this;
+    }
+
+    @Override
+    public JsonWriter endArray() {
+        this.top(false);
+        this.stack.pop();
+        return this;
+    }
+
+    @Override
+    public JsonWriter beginObject() throws IOException {
+        final ConfigurationNode target = this.nextTarget();
+        final Set<Object> unvisited;
+        if (target.isMap()) {
+            unvisited = new HashSet<>(target.childrenMap().keySet());
+        } else {
+            target.raw(Collections.emptyMap());
+            unvisited = new HashSet<>();
+        }
+        this.stack.push(new Frame(target, unvisited));
+        return this;
+    }
+
+    @Override
+    public JsonWriter endObject() {
+        final Frame frame = this.top(true);
+        if (frame.pendingName != null) {
+            throw new IllegalStateException("Dangling name: " + frame.pendingName);
+        }
+        for (final Object key : requireNonNull(frame.unvisited)) {
+            frame.node.removeChild(key);
+        }
+        this.stack.pop();
+        return this;
+    }
+
+    @Override
+    public JsonWriter name(final String name) {
+        requireNonNull(name, "name");
+        final Frame frame = this.top(true);
+        if (frame.pendingName != null) {
+            throw new IllegalStateException("Name already written: " + frame.pendingName);
+        }
+        frame.pendingName = name;
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(final @Nullable String value) throws IOException {
+        if (value == null) {
+            return this.nullValue();
+        }
+        this.nextTarget().set(value);
+        return this;
+    }
+
+    @Override
+    public JsonWriter jsonValue(final @Nullable String value) throws IOException {
+        if (value == null) {
+            return this.nullValue();
+        }
+        this.nextTarget().from(GsonConfigurationLoader.builder().lenient(this.isLenient()).buildAndLoadString(value));
+        return this;
+    }
+
+    @Override
+    public JsonWriter nullValue() {
+        this.nextTarget().raw(null);
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(final boolean value) throws IOException {
+        this.nextTarget().set(value);
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(final @Nullable Boolean value) throws IOException {
+        if (value == null) {
+            return this.nullValue();
+        }
+        return this.value(value.booleanValue());
+    }
+
+    @Override
+    public JsonWriter value(final double value) throws IOException {
+        this.checkFinite(value);
+        this.nextTarget().set(value);
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(final long value) throws IOException {
+        this.nextTarget().set(value);
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(final @Nullable Number value) throws IOException {
+        if (value == null) {
+            return this.nullValue();
+        }
+        this.checkFinite(value.doubleValue());
+
+        if (value instanceof Integer || value instanceof Long || value instanceof Double || value instanceof Float
+            || value instanceof BigInteger || value instanceof BigDecimal) {
+            this.nextTarget().set(value);
+        } else { // such as gson's lazily parsed numbers, or other custom types
+            this.nextTarget().set(parseNumber(value.toString()));
+        }
+        return this;
+    }
+
+    private void checkFinite(final double value) {
+        if (!this.isLenient() && (Double.isNaN(value) || Double.isInfinite(value))) {
+            throw new IllegalArgumentException("Numeric values must be finite, but was " + value);
+        }
+    }
+
+    private static Number parseNumber(final String number) {
+        if (number.indexOf('.') != -1 || number.indexOf('e') != -1 || number.indexOf('E') != -1) {
+            return Double.parseDouble(number);
+        }
+        try {
+            final long value = Long.parseLong(number);
+            if ((int) value == value) {
+                return (int) value;
+            }
+            return value;
+        } catch (final NumberFormatException ex) {
+            return new BigInteger(number);
+        }
+    }
+
+    @Override
+    public void flush() {
+        // values are written immediately
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!this.stack.isEmpty()) {
+            throw new IOException("Incomplete document");
+        }
+    }
+
+    static final class Frame {
+
+        final ConfigurationNode node;
+        final @Nullable Set<Object> unvisited; // null for arrays
+        @Nullable String pendingName;
+
+        Frame(final ConfigurationNode node, final @Nullable Set<Object> unvisited) {
+            this.node = node;
+            this.unvisited = unvisited;
+        }
+
+    }
+
+}
@@ -16,12 +16,15 @@
  */
 package org.spongepowered.configurate.gson;
 
+import static java.util.Objects.requireNonNull;
+
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonNull;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
 import com.google.gson.JsonPrimitive;
+import com.google.gson.TypeAdapter;
 import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonToken;
 import com.google.gson.stream.JsonWriter;
@@ -34,10 +37,13 @@ import org.spongepowered.configurate.BasicConfigurationNode;
 import org.spongepowered.configurate.ConfigurateException;
 import org.spongepowered.configurate.ConfigurationNode;
 import org.spongepowered.configurate.ConfigurationOptions;
+import org.spongepowered.configurate.NodePath;
 import org.spongepowered.configurate.loader.AbstractConfigurationLoader;
 import org.spongepowered.configurate.loader.CommentHandler;
 import org.spongepowered.configurate.loader.CommentHandlers;
 import org.spongepowered.configurate.loader.ParsingException;
+import org.spongepowered.configurate.loader.PathFilter;
+import org.spongepowered.configurate.serialize.TypeSerializer;
 import org.spongepowered.configurate.serialize.TypeSerializerCollection;
 import org.spongepowered.configurate.util.Strings;
 import org.spongepowered.configurate.util.UnmodifiableCollections;
@@ -45,6 +51,8 @@ import org.spongepowered.configurate.util.UnmodifiableCollections;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.Collections;
 import java.util.Set;
 
@@ -57,7 +65,7 @@ import java.util.Set;
 public final class GsonConfigurationLoader extends AbstractConfigurationLoader<BasicConfigurationNode> {
 
     private static final Set<Class<?>> NATIVE_TYPES = UnmodifiableCollections.toSet(
-            Double.class, Float.class, Long.class, Integer.class, Boolean.class, String.class);
+            Double.class, Float.class, Long.class, Integer.class, BigInteger.class, BigDecimal.class, Boolean.class, String.class);
     private static final TypeSerializerCollection GSON_SERIALIZERS = TypeSerializerCollection.defaults().childBuilder()
             .register(JsonElement.class, JsonElementSerializer.INSTANCE)
             .build();
@@ -93,6 +101,23 @@ public final class GsonConfigurationLoader extends AbstractConfigurationLoader<B
         return GSON_SERIALIZERS;
     }
 
+    /**
+     * Create a type serializer that uses a Gson {@link TypeAdapter}.
+     *
+     * <p>The adapter reads from and writes to nodes directly, using a
+     * {@link ConfigurationNodeJsonReader} and
+     * {@link ConfigurationNodeJsonWriter}, without any intermediate
+     * {@link JsonElement} tree or JSON text.</p>
+     *
+     * @param adapter the type adapter
+     * @param <T> the type handled by the adapter
+     * @return a new type serializer
+     * @since 4.3.0
+     */
+    public static <T> TypeSerializer<T> typeAdapterSerializer(final TypeAdapter<T> adapter) {
+        return new TypeAdapterSerializer<>(requireNonNull(adapter, "adapter"));
+    }
+
     /**
      * Builds a {@link GsonConfigurationLoader}.
      *
@@ -100,6 +125,7 @@ public final class GsonConfigurationLoader extends AbstractConfigurationLoader<B
      * <ul>
      *     <li>{@link #INDENT}</li>
      *     <li>{@link #LENIENT}</li>
+     *     <li>{@link #LOSSLESS_NUMBERS}</li>
      * </ul>
      *
      * @since 4.0.0
@@ -129,6 +155,15 @@ public final class GsonConfigurationLoader extends AbstractConfigurationLoader<B
          */
         public static final Option<Boolean> LENIENT = UNSAFE_SCHEMA.booleanOption("gson:lenient", true);
 
+        /**
+         * If the resultant loader should read numbers without any loss
+         * of precision.
+         *
+         * @see #losslessNumbers(boolean)
+         * @since 4.3.0
+         */
+        public static final Option<Boolean> LOSSLESS_NUMBERS = UNSAFE_SCHEMA.booleanOption("gson:lossless-numbers", false);
+
         Builder() {
             this.defaultOptions(DEFAULT_OPTIONS);
         }
@@ -183,6 +218,35 @@ public final class GsonConfigurationLoader extends AbstractConfigurationLoader<B
             return this.optionState().value(LENIENT);
         }
 
+        /**
+         * Sets if the resultant loader should read numbers without any loss
+         * of precision.
+         *
+         * <p>Integers are always read as {@link Integer} or {@link Long}
+         * values when they fit. When lossless reading is enabled, larger
+         * integers are read as {@link BigInteger}s and all decimal numbers
+         * as {@link BigDecimal}s. Otherwise, both are read as
+         * {@link Double} values.</p>
+         *
+         * @param lossless whether to read numbers losslessly
+         * @return this builder (for chaining)
+         * @since 4.3.0
+         */
+        public @NonNull Builder losslessNumbers(final boolean lossless) {
+            this.optionStateBuilder().value(LOSSLESS_NUMBERS, lossless);
+            return this;
+        }
+
+        /**
+         * Gets if the resultant loader should read numbers losslessly.
+         *
+         * @return whether numbers are read losslessly
+         * @since 4.3.0
+         */
+        public boolean losslessNumbers() {
+            return this.optionState().value(LOSSLESS_NUMBERS);
+        }
+
         @Override
         public @NonNull GsonConfigurationLoader build() {
             this.defaultOptions(o -> o.nativeTypes(NATIVE_TYPES));
@@ -191,11 +255,13 @@ public final class GsonConfigurationLoader extends AbstractConfigurationLoader<B
     }
 
     private final boolean lenient;
+    private final boolean lossless;
     private final String indent;
 
     GsonConfigurationLoader(final Builder builder) {
         super(builder, new CommentHandler[] {CommentHandlers.DOUBLE_SLASH, CommentHandlers.SLASH_BLOCK, CommentHandlers.HASH});
         this.lenient = builder.lenient();
+        this.lossless = builder.losslessNumbers();
         this.indent = Strings.repeat(" ", builder.indent());
     }
 
@@ -220,12 +286,95 @@ public final class GsonConfigurationLoader extends AbstractConfigurationLoader<B
 
         try (JsonReader parser = new JsonReader(reader)) {
             parser.setLenient(this.lenient);
-            this.parseValue(parser, node);
+            final PathFilter filter = this.pathFilter();
+            if (filter.acceptsAll()) {
+                this.parseValue(parser, node);
+            } else {
+                final NodePath root = NodePath.path();
+                final PathFilter.Decision decision = filter.test(root);
+                if (decision == PathFilter.Decision.SKIP) {
+                    parser.skipValue();
+                } else {
+                    this.parseFiltered(parser, node, root, decision, filter);
+                }
+            }
         } catch (final IOException ex) {
             throw ParsingException.wrap(node, ex);
         }
     }
 
+    @Override
+    protected boolean filtersWhileParsing() {
+        return true;
+    }
+
+    /**
+     * Read a value, skipping any children that are not accepted by
+     * the filter.
+     *
+     * @param parser the parser, positioned at the value to read
+     * @param node the node to read into
+     * @param path the path of the value within the document
+     * @param decision the filter's decision for this value
+     * @param filter the filter to test children with
+     * @throws IOException if unable to read
+     */
+    private void parseFiltered(
+        final JsonReader parser,
+        final BasicConfigurationNode node,
+        final NodePath path,
+        final PathFilter.Decision decision,
+        final PathFilter filter
+    ) throws IOException {
+        if (decision == PathFilter.Decision.INCLUDE_ALL) {
+            this.parseValue(parser, node);
+            return;
+        }
+
+        switch (parser.peek()) {
+            case BEGIN_OBJECT:
+                parser.beginObject();
+                if (decision == PathFilter.Decision.INCLUDE) {
+                    node.raw(Collections.emptyMap());
+                }
+                while (parser.hasNext()) {
+                    final String key = parser.nextName();
+                    final NodePath childPath = path.withAppendedChild(key);
+                    final PathFilter.Decision childDecision = filter.test(childPath);
+                    if (childDecision == PathFilter.Decision.SKIP) {
+                        parser.skipValue();
+                    } else {
+                        this.parseFiltered(parser, node.node(key), childPath, childDecision, filter);
+                    }
+                }
+                parser.endObject();
+                break;
+            case BEGIN_ARRAY:
+                parser.beginArray();
+                if (decision == PathFilter.Decision.INCLUDE) {
+                    node.raw(Collections.emptyList());
+                }
+                int index = 0;
+                while (parser.hasNext()) {
+                    final NodePath childPath = path.withAppendedChild(index++);
+                    final PathFilter.Decision childDecision = filter.test(childPath);
+                    if (childDecision == PathFilter.Decision.SKIP) {
+                        parser.skipValue();
+                    } else {
+                        this.parseFiltered(parser, node.appendListNode(), childPath, childDecision, filter);
+                    }
+                }
+                parser.endArray();
+                break;
+            default:
+                if (decision == PathFilter.Decision.INCLUDE) {
+                    this.parseValue(parser, node);
+                } else { // scalars are not accepted where the filter only descends
+                    parser.skipValue();
+                }
+        }
+    }
+
     private void parseValue(final JsonReader parser, final BasicConfigurationNode node) throws ParsingException {
         final JsonToken token;
         try {
@@ -276,16 +425,43 @@ public final class GsonConfigurationLoader extends AbstractConfigurationLoader<B
     }
 
     private Number readNumber(final JsonReader reader) throws IOException {
+        if (JsonReaderAccess.peekedLong(reader)) {
+            // already parsed by the reader, no need to create a string
+            return narrow(reader.nextLong());
+        }
+
         final String number = reader.nextString();
-        if (number.contains(".")) {
+        if (isDecimal(number)) {
+            // NaN and infinities, accepted when lenient, can only be represented as a double
+            if (this.lossless && Character.isDigit(number.charAt(number.length() - 1))) {
+                return new BigDecimal(number);
+            }
             return Double.parseDouble(number);
         }
-        final long nextLong = Long.parseLong(number);
-        final int nextInt = (int) nextLong;
-        if (nextInt == nextLong) {
-            return nextInt;
+        try {
+            return narrow(Long.parseLong(number));
+        } catch (final NumberFormatException ex) {
+            // too large for a long
+            return this.lossless ? new BigInteger(number) : Double.parseDouble(number);
+        }
+    }
+
+    private static Number narrow(final long value) {
+        final int intValue = (int) value;
+        if (intValue == value) {
+            return intValue;
+        }
+        return value;
+    }
+
+    private static boolean isDecimal(final String number) {
+        for (int i = 0, length = number.length(); i < length; ++i) {
+            final char c = number.charAt(i);
+            if (c == '.' || c == 'e' || c == 'E' || c == 'N' || c == 'I') {
+                return true;
+            }
         }
-        return nextLong;
+        return false;
     }
 
     private void parseArray(final JsonReader parser, final BasicConfigurationNode node) throws IOException {
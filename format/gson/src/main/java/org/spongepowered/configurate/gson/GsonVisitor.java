@@ -26,6 +26,8 @@ import org.spongepowered.configurate.ConfigurationVisitor;
 import org.spongepowered.configurate.NodePath;
 
 import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 
 final class GsonVisitor implements ConfigurationVisitor<JsonWriter, Void, ConfigurateException> {
 
@@ -99,6 +101,8 @@ final class GsonVisitor implements ConfigurationVisitor<JsonWriter, Void, Config
                 writer.value((Long) value);
             } else if (value instanceof Integer) {
                 writer.value((Integer) value);
+            } else if (value instanceof BigInteger || value instanceof BigDecimal) {
+                writer.value((Number) value);
             } else if (value instanceof Boolean) {
                 writer.value((Boolean) value);
             } else {
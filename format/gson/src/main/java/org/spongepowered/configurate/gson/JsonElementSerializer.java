@@ -16,26 +16,27 @@
  */
 package org.spongepowered.configurate.gson;
 
+import com.google.gson.Gson;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonNull;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonPrimitive;
+import com.google.gson.TypeAdapter;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.configurate.ConfigurationNode;
 import org.spongepowered.configurate.ConfigurationOptions;
 import org.spongepowered.configurate.serialize.SerializationException;
 import org.spongepowered.configurate.serialize.TypeSerializer;
 
+import java.io.IOException;
 import java.lang.reflect.Type;
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.Map;
-import java.util.Set;
 
 final class JsonElementSerializer implements TypeSerializer<JsonElement> {
 
     static final JsonElementSerializer INSTANCE = new JsonElementSerializer();
+    private static final TypeAdapter<JsonElement> ELEMENT_ADAPTER = new Gson().getAdapter(JsonElement.class);
 
     private JsonElementSerializer() {
     }
@@ -87,61 +88,13 @@ final class JsonElementSerializer implements TypeSerializer<JsonElement> {
             return;
         }
 
-        if (obj instanceof JsonArray) {
-            serializeArray((JsonArray) obj, node);
-        } else if (obj instanceof JsonObject) {
-            serializeObject((JsonObject) obj, node);
-        } else if (obj instanceof JsonPrimitive) {
-            final JsonPrimitive primitive = (JsonPrimitive) obj;
-            if (primitive.isBoolean()) {
-                node.set(primitive.getAsBoolean());
-            } else if (primitive.isNumber()) {
-                node.set(primitive.getAsNumber());
-            } else if (primitive.isString()) {
-                node.set(primitive.getAsString());
-            } else {
-                throw new SerializationException(node, type, "Unknown type of primitive: " + primitive);
-            }
-        } else {
-            throw new SerializationException(node, type, "Unknown JsonElement subtype: " + obj.getClass());
-        }
-    }
-
-    private void serializeArray(final JsonArray array, final ConfigurationNode target) throws SerializationException {
-        target.set(Collections.emptyList());
-        // TODO: Attempt to preserve comments/attributes
-        for (final JsonElement child : array) {
-            target.appendListNode().set(JsonElement.class, child);
-        }
-    }
-
-    private void serializeObject(final JsonObject object, final ConfigurationNode target) throws SerializationException {
-        if (object.size() == 0) {
-            target.set(Collections.emptyMap());
-        } else {
-            // Logic taken from MapSerializer to preserve comments and other metadata in source node
-            final Set<Object> unvisitedKeys;
-            if (target.empty()) {
-                target.raw(Collections.emptyMap());
-                unvisitedKeys = Collections.emptySet();
-            } else {
-                unvisitedKeys = new HashSet<>(target.childrenMap().keySet());
-            }
-
-            for (Map.Entry<String, JsonElement> ent : object.entrySet()) {
-                final ConfigurationNode child = target.node(ent.getKey());
-                try {
-                    child.set(JsonElement.class, ent.getValue());
-                } catch (final SerializationException ex) {
-                    ex.initPath(child::path);
-                } finally {
-                    unvisitedKeys.remove(ent.getKey());
-                }
-            }
-
-            for (Object unusedChild : unvisitedKeys) {
-                target.removeChild(unusedChild);
-            }
+        // stream the element directly into the node, updating any existing children in place
+        try {
+            ELEMENT_ADAPTER.write(new ConfigurationNodeJsonWriter(node), obj);
+        } catch (final SerializationException ex) {
+            throw ex;
+        } catch (final IOException | IllegalStateException | IllegalArgumentException ex) {
+            throw new SerializationException(node, type, ex);
         }
     }
 
@@ -29,6 +29,8 @@ final class JsonReaderAccess {
     private static final @Nullable MethodHandle JSON_READER_POS;
     private static final @Nullable MethodHandle JSON_READER_LINE_NUMBER;
     private static final @Nullable MethodHandle JSON_READER_LINE_START;
+    private static final @Nullable MethodHandle JSON_READER_PEEKED;
+    private static final int PEEKED_LONG;
 
     static {
         final MethodHandles.Lookup lookup = MethodHandles.lookup();
@@ -44,9 +46,22 @@ final class JsonReaderAccess {
             // wouldn't it be nice if gson added actual api?
         }
 
+        @Nullable MethodHandle peeked = null;
+        int peekedLong = VALUE_UNKNOWN;
+        try {
+            final Field peekedLongField = JsonReader.class.getDeclaredField("PEEKED_LONG");
+            peekedLongField.setAccessible(true);
+            peekedLong = peekedLongField.getInt(null);
+            peeked = getter(lookup, JsonReader.class, "peeked", int.class);
+        } catch (NoSuchFieldException | IllegalAccessException | IllegalArgumentException | SecurityException ignore) {
+            // numbers will always be read as strings
+        }
+
         JSON_READER_POS = pos;
         JSON_READER_LINE_NUMBER = lineNumber;
         JSON_READER_LINE_START = lineStart;
+        JSON_READER_PEEKED = peeked;
+        PEEKED_LONG = peekedLong;
     }
 
     private static @Nullable MethodHandle getter(final MethodHandles.Lookup lookup, final Class<?> clazz, final String name, final Class<?> type)
@@ -76,6 +91,28 @@ final class JsonReaderAccess {
         }
     }
 
+    /**
+     * Get whether the number the reader has just peeked has already been
+     * parsed as a {@code long}, so it can be read without creating
+     * a string.
+     *
+     * @param reader the reader, after peeking a number
+     * @return if {@link JsonReader#nextLong()} can read the value directly
+     */
+    static boolean peekedLong(final JsonReader reader) {
+        if (JSON_READER_PEEKED == null) {
+            return false;
+        }
+
+        try {
+            return (int) JSON_READER_PEEKED.invoke(reader) == PEEKED_LONG;
+        } catch (final Error err) {
+            throw err;
+        } catch (final Throwable thr) {
+            return false;
+        }
+    }
+
     static int column(final JsonReader reader) {
         if (JSON_READER_POS == null || JSON_READER_LINE_START == null) {
             return VALUE_UNKNOWN;
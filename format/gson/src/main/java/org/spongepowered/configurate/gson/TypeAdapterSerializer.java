@@ -0,0 +1,76 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.gson;
+
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.configurate.ConfigurationNode;
+import org.spongepowered.configurate.serialize.SerializationException;
+import org.spongepowered.configurate.serialize.TypeSerializer;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * A serializer delegating to a Gson type adapter, which reads from and
+ * writes to nodes directly.
+ *
+ * @param <T> the value type
+ */
+final class TypeAdapterSerializer<T> implements TypeSerializer<T> {
+
+    private final TypeAdapter<T> adapter;
+
+    TypeAdapterSerializer(final TypeAdapter<T> adapter) {
+        this.adapter = adapter;
+    }
+
+    @Override
+    public T deserialize(final Type type, final ConfigurationNode node) throws SerializationException {
+        final @Nullable T value;
+        try {
+            value = this.adapter.read(new ConfigurationNodeJsonReader(node));
+        } catch (final SerializationException ex) {
+            throw ex;
+        } catch (final IOException | JsonParseException | IllegalStateException | NumberFormatException ex) {
+            throw new SerializationException(node, type, ex);
+        }
+
+        if (value == null) {
+            throw new SerializationException(node, type, "Type adapter " + this.adapter + " produced no value");
+        }
+        return value;
+    }
+
+    @Override
+    public void serialize(final Type type, final @Nullable T obj, final ConfigurationNode node) throws SerializationException {
+        if (obj == null) {
+            node.raw(null);
+            return;
+        }
+
+        try {
+            this.adapter.write(new ConfigurationNodeJsonWriter(node), obj);
+        } catch (final SerializationException ex) {
+            throw ex;
+        } catch (final IOException | JsonParseException | IllegalStateException | IllegalArgumentException ex) {
+            throw new SerializationException(node, type, ex);
+        }
+    }
+
+}
@@ -0,0 +1,146 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.gson;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.gson.Gson;
+import com.google.gson.stream.JsonToken;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.configurate.BasicConfigurationNode;
+import org.spongepowered.configurate.serialize.SerializationException;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+class ConfigurationNodeJsonReaderTest {
+
+    @Test
+    void testReadTokens() throws IOException {
+        final BasicConfigurationNode node = BasicConfigurationNode.root(GsonConfigurationLoader.DEFAULT_OPTIONS, n -> {
+            n.node("name").set("test");
+            n.node("enabled").set(true);
+            n.node("values").set(Arrays.asList(1, 2.5));
+        });
+
+        final ConfigurationNodeJsonReader reader = new ConfigurationNodeJsonReader(node);
+        reader.beginObject();
+        assertEquals("name", reader.nextName());
+        assertEquals("test", reader.nextString());
+        assertEquals("enabled", reader.nextName());
+        assertTrue(reader.nextBoolean());
+        assertEquals("values", reader.nextName());
+        reader.beginArray();
+        assertEquals(JsonToken.NUMBER, reader.peek());
+        assertEquals("$.values[0]", reader.getPath());
+        assertEquals(1, reader.nextInt());
+        assertEquals(2.5d, reader.nextDouble());
+        assertFalse(reader.hasNext());
+        reader.endArray();
+        reader.endObject();
+        assertEquals(JsonToken.END_DOCUMENT, reader.peek());
+    }
+
+    @Test
+    void testSkipValue() throws IOException {
+        final BasicConfigurationNode node = BasicConfigurationNode.root(GsonConfigurationLoader.DEFAULT_OPTIONS, n -> {
+            n.node("skipped", "nested").set("value");
+            n.node("kept").set(5);
+        });
+
+        final ConfigurationNodeJsonReader reader = new ConfigurationNodeJsonReader(node);
+        reader.beginObject();
+        assertEquals("skipped", reader.nextName());
+        reader.skipValue();
+        assertEquals("kept", reader.nextName());
+        assertEquals(5L, reader.nextLong());
+        reader.endObject();
+    }
+
+    @Test
+    void testTypeAdapterSerializer() throws SerializationException {
+        final Gson gson = new Gson();
+        final BasicConfigurationNode node = BasicConfigurationNode.root(GsonConfigurationLoader.DEFAULT_OPTIONS.serializers(b ->
+            b.register(Server.class, GsonConfigurationLoader.typeAdapterSerializer(gson.getAdapter(Server.class)))));
+        node.node("host").set("localhost");
+        node.node("port").set(25565);
+        node.node("aliases").set(Arrays.asList("a", "b"));
+
+        final @Nullable Server server = node.get(Server.class);
+        assertNotNull(server);
+        assertEquals("localhost", server.host);
+        assertEquals(25565, server.port);
+        assertEquals(Arrays.asList("a", "b"), server.aliases);
+
+        server.port = 25566;
+        node.set(Server.class, server);
+        assertEquals(25566, node.node("port").raw());
+        assertEquals("localhost", node.node("host").raw());
+    }
+
+    @Test
+    void testMapField() throws SerializationException {
+        final Gson gson = new Gson();
+        final BasicConfigurationNode node = BasicConfigurationNode.root(GsonConfigurationLoader.DEFAULT_OPTIONS.serializers(b ->
+            b.register(Limits.class, GsonConfigurationLoader.typeAdapterSerializer(gson.getAdapter(Limits.class)))));
+        node.node("limits", "players").set(20);
+        node.node("limits", "entities").set(300);
+        node.node("ports", "25565").set("survival");
+        node.node("ports", "25566").set("creative");
+
+        final @Nullable Limits limits = node.get(Limits.class);
+        assertNotNull(limits);
+        assertNotNull(limits.limits);
+        assertEquals(20, limits.limits.get("players"));
+        assertEquals(300, limits.limits.get("entities"));
+        assertNotNull(limits.ports);
+        assertEquals("survival", limits.ports.get(25565));
+        assertEquals("creative", limits.ports.get(25566));
+    }
+
+    @Test
+    void testPathRelativeToRoot() throws IOException {
+        final BasicConfigurationNode node = BasicConfigurationNode.root(GsonConfigurationLoader.DEFAULT_OPTIONS, n ->
+            n.node("server", "ports").set(Arrays.asList(25565, 25566)));
+
+        final ConfigurationNodeJsonReader reader = new ConfigurationNodeJsonReader(node.node("server"));
+        reader.beginObject();
+        assertEquals("ports", reader.nextName());
+        reader.beginArray();
+        reader.nextInt();
+        assertEquals(JsonToken.NUMBER, reader.peek());
+        assertEquals("$.ports[1]", reader.getPath());
+    }
+
+    static class Limits {
+        @Nullable Map<String, Integer> limits;
+        @Nullable Map<Integer, String> ports;
+    }
+
+    static class Server {
+        @Nullable String host;
+        int port;
+        @Nullable List<String> aliases;
+    }
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.gson;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.spongepowered.configurate.CommentedConfigurationNode;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+class ConfigurationNodeJsonWriterTest {
+
+    @Test
+    void testWriteValues() throws IOException {
+        final CommentedConfigurationNode node = CommentedConfigurationNode.root(GsonConfigurationLoader.DEFAULT_OPTIONS);
+        final ConfigurationNodeJsonWriter writer = new ConfigurationNodeJsonWriter(node);
+        writer.beginObject()
+            .name("name").value("test")
+            .name("enabled").value(true)
+            .name("values").beginArray().value(1).value(2.5d).endArray()
+            .name("missing").nullValue()
+            .endObject();
+        writer.close();
+
+        assertEquals("test", node.node("name").raw());
+        assertEquals(true, node.node("enabled").raw());
+        assertEquals(Arrays.asList(1L, 2.5d), node.node("values").raw());
+        assertTrue(node.node("missing").virtual());
+    }
+
+    @Test
+    void testUpdatesExistingChildren() throws IOException {
+        final CommentedConfigurationNode node = CommentedConfigurationNode.root(GsonConfigurationLoader.DEFAULT_OPTIONS, n -> {
+            n.node("kept").comment("a comment").set("old");
+            n.node("removed").set(3);
+        });
+
+        new ConfigurationNodeJsonWriter(node)
+            .beginObject()
+            .name("kept").value("new")
+            .endObject();
+
+        assertEquals("new", node.node("kept").raw());
+        assertEquals("a comment", node.node("kept").comment());
+        assertTrue(node.node("removed").virtual());
+    }
+
+    @Test
+    void testSingleTopLevelValue() throws IOException {
+        final ConfigurationNodeJsonWriter writer = new ConfigurationNodeJsonWriter(CommentedConfigurationNode.root());
+        writer.value("one");
+        assertThrows(IllegalStateException.class, () -> writer.value("two"));
+    }
+
+}
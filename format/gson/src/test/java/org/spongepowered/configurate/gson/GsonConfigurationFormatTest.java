@@ -16,15 +16,23 @@
  */
 package org.spongepowered.configurate.gson;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.spongepowered.configurate.ConfigurateException;
 import org.spongepowered.configurate.ConfigurationNode;
+import org.spongepowered.configurate.loader.BulkLoader;
 import org.spongepowered.configurate.loader.ConfigurationFormat;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 class GsonConfigurationFormatTest {
 
     @Test
@@ -40,4 +48,20 @@ class GsonConfigurationFormatTest {
         assertTrue(node.node("test").getBoolean());
     }
 
+    @Test
+    void testBulkLoadDirectory(final @TempDir Path tempDir) throws IOException {
+        for (int i = 0; i < 20; ++i) {
+            Files.write(tempDir.resolve("entity-" + i + ".json"), ("{\"id\": " + i + "}").getBytes(StandardCharsets.UTF_8));
+        }
+        final Path broken = tempDir.resolve("broken.json");
+        Files.write(broken, "{\"id\": ".getBytes(StandardCharsets.UTF_8));
+
+        final BulkLoader.Result result = BulkLoader.builder().parallelism(4).build().loadDirectory(tempDir);
+
+        assertEquals(20, result.nodes().size());
+        assertEquals(5, result.nodes().get(tempDir.resolve("entity-5.json")).node("id").getInt());
+        assertEquals(1, result.errors().size());
+        assertNotNull(result.errors().get(broken));
+    }
+
 }
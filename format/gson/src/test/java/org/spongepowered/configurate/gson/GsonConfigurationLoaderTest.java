@@ -32,6 +32,7 @@ import org.spongepowered.configurate.loader.AtomicFiles;
 import org.spongepowered.configurate.loader.ConfigurationLoader;
 import org.spongepowered.configurate.loader.HeaderMode;
 import org.spongepowered.configurate.loader.ParsingException;
+import org.spongepowered.configurate.loader.PathFilter;
 import org.spongepowered.configurate.util.MapFactories;
 
 import java.io.BufferedReader;
@@ -41,10 +42,13 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
 
 /**
  * Basic sanity checks for the loader.
@@ -187,4 +191,63 @@ class GsonConfigurationLoaderTest {
         assertTrue(ex.rawMessage().contains("Unterminated string"));
     }
 
+    @Test
+    void testPathFilteredLoading() throws ConfigurateException {
+        final ConfigurationNode node = GsonConfigurationLoader.builder()
+                .source(() -> new BufferedReader(new StringReader("{\"server\": {\"network\": {\"port\": 25565, \"hosts\": [\"a\", \"b\"]},"
+                    + " \"motd\": \"hi\"}, \"client\": {\"name\": \"steve\"}, \"values\": [1, {\"a\": 2}, 3]}")))
+                .pathFilter(PathFilter.builder()
+                    .include("server", "network")
+                    .include("values", PathFilter.ANY, "a")
+                    .exclude("server", "network", "hosts", 0)
+                    .build())
+                .build()
+                .load();
+
+        assertEquals(25565, node.node("server", "network", "port").raw());
+        assertEquals(Arrays.asList("b"), node.node("server", "network", "hosts").raw());
+        assertTrue(node.node("server", "motd").virtual());
+        assertTrue(node.node("client").virtual());
+        assertEquals(1, node.node("values").childrenList().size());
+        assertEquals(2, node.node("values", 0, "a").raw());
+    }
+
+    @Test
+    void testNumberParsing() throws ConfigurateException {
+        // the largest long is already parsed by the reader, while anything larger
+        // or written with an exponent is only available as a string
+        final String source = "{\"max\": 9223372036854775807, \"over\": 9223372036854775808, \"exponent\": 1e3}";
+        final ConfigurationNode fast = GsonConfigurationLoader.builder()
+                .source(() -> new BufferedReader(new StringReader(source)))
+                .build()
+                .load();
+
+        assertEquals(Long.MAX_VALUE, fast.node("max").raw());
+        assertEquals(9.223372036854775808e18, fast.node("over").raw());
+        assertEquals(1000d, fast.node("exponent").raw());
+
+        final ConfigurationNode lossless = GsonConfigurationLoader.builder()
+                .losslessNumbers(true)
+                .source(() -> new BufferedReader(new StringReader(source)))
+                .build()
+                .load();
+
+        assertEquals(Long.MAX_VALUE, lossless.node("max").raw());
+        assertEquals(new BigInteger("9223372036854775808"), lossless.node("over").raw());
+        assertEquals(new BigDecimal("1e3"), lossless.node("exponent").raw());
+    }
+
+    @Test
+    void testLosslessNumbersRoundtrip() throws ConfigurateException {
+        final String source = "{\"over\": -9223372036854775809, \"exponent\": 1.0000000000000000000001e-400}";
+        final GsonConfigurationLoader.Builder builder = GsonConfigurationLoader.builder()
+                .losslessNumbers(true)
+                .headerMode(HeaderMode.NONE);
+        final ConfigurationNode node = builder.buildAndLoadString(source);
+        final ConfigurationNode reloaded = builder.buildAndLoadString(builder.buildAndSaveString(node));
+
+        assertEquals(new BigInteger("-9223372036854775809"), reloaded.node("over").raw());
+        assertEquals(node.node("exponent").raw(), reloaded.node("exponent").raw());
+    }
+
 }
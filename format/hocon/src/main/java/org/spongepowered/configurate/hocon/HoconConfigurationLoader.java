@@ -24,9 +24,12 @@ import com.typesafe.config.ConfigObject;
 import com.typesafe.config.ConfigOrigin;
 import com.typesafe.config.ConfigOriginFactory;
 import com.typesafe.config.ConfigRenderOptions;
+import com.typesafe.config.ConfigUtil;
 import com.typesafe.config.ConfigValue;
 import com.typesafe.config.ConfigValueFactory;
 import com.typesafe.config.impl.ConfigNodeComment;
+import com.typesafe.config.parser.ConfigDocument;
+import com.typesafe.config.parser.ConfigDocumentFactory;
 import net.kyori.option.Option;
 import net.kyori.option.OptionSchema;
 import net.kyori.option.OptionState;
@@ -51,8 +54,8 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * A loader for HOCON (Hodor)-formatted configurations, using the
@@ -98,6 +101,7 @@ public final class HoconConfigurationLoader extends AbstractConfigurationLoader<
      *     <li>{@link #INDENT}</li>
      *     <li>{@link #COMMENTS}</li>
      *     <li>{@link #JSON_COMPATIBLE}</li>
+     *     <li>{@link #INCREMENTAL_SAVE}</li>
      * </ul>
      *
      * @since 4.0.0
@@ -145,6 +149,15 @@ public final class HoconConfigurationLoader extends AbstractConfigurationLoader<
          */
         public static final Option<Boolean> JSON_COMPATIBLE = UNSAFE_SCHEMA.booleanOption("hocon:json-compatible", DEFAULT_RENDER_OPTIONS.getJson());
 
+        /**
+         * Set whether saving will update the most recently loaded document,
+         * rather than rendering a new one.
+         *
+         * @see #incrementalSave(boolean)
+         * @since 4.3.0
+         */
+        public static final Option<Boolean> INCREMENTAL_SAVE = UNSAFE_SCHEMA.booleanOption("hocon:incremental-save", false);
+
         @Override
         protected OptionSchema optionSchema() {
             return SCHEMA;
@@ -209,6 +222,32 @@ public final class HoconConfigurationLoader extends AbstractConfigurationLoader<
             return this;
         }
 
+        /**
+         * Set whether saving will update the document most recently loaded
+         * by this loader, rather than rendering a new document.
+         *
+         * <p>When enabled, the loader keeps the parsed document along with
+         * a copy of the loaded node. On save, only the paths that differ
+         * from that copy are replaced in the document, so the formatting,
+         * comments, and ordering of everything else is preserved exactly.</p>
+         *
+         * <p>Lists are replaced as a whole when any of their elements
+         * change. If any comment differs from the loaded document while
+         * {@link #emitComments(boolean) comments are emitted}, the
+         * entire document will be rendered as usual.</p>
+         *
+         * <p>Each loader remembers only one document, so a loader with this
+         * option should be used with a single file.</p>
+         *
+         * @param incrementalSave whether to save incrementally
+         * @return this builder
+         * @since 4.3.0
+         */
+        public Builder incrementalSave(final boolean incrementalSave) {
+            this.optionStateBuilder().value(INCREMENTAL_SAVE, incrementalSave);
+            return this;
+        }
+
         ConfigRenderOptions renderOptions() {
             final OptionState opt = this.optionState();
             return DEFAULT_RENDER_OPTIONS
@@ -226,10 +265,21 @@ public final class HoconConfigurationLoader extends AbstractConfigurationLoader<
     }
 
     private final ConfigRenderOptions render;
+    private final ConfigRenderOptions valueRender;
+    private final boolean incrementalSave;
+    private volatile @Nullable LoadedDocument document;
 
     private HoconConfigurationLoader(final Builder build) {
         super(build, new CommentHandler[] {CommentHandlers.HASH, CommentHandlers.DOUBLE_SLASH});
         this.render = build.renderOptions();
+        this.valueRender = this.render.setComments(false);
+        this.incrementalSave = build.optionState().value(Builder.INCREMENTAL_SAVE);
+    }
+
+    @Override
+    protected boolean filtersWhileParsing() {
+        // documents are filtered before their snapshot is taken, so filtered paths are left untouched when saving
+        return this.incrementalSave;
     }
 
     @Override
@@ -241,31 +291,54 @@ public final class HoconConfigurationLoader extends AbstractConfigurationLoader<
 
     @Override
     protected void loadInternal(final CommentedConfigurationNode node, final BufferedReader reader) throws ParsingException {
+        final @Nullable String text = this.incrementalSave ? readFully(node, reader) : null;
         Config hoconConfig;
+        @Nullable ConfigDocument document = null;
         try {
-            hoconConfig = ConfigFactory.parseReader(reader);
-            hoconConfig = hoconConfig.resolve();
+            hoconConfig = text == null ? ConfigFactory.parseReader(reader) : ConfigFactory.parseString(text);
+            // resolution is a full additional pass over the tree, only needed when substitutions are present
+            if (!hoconConfig.isResolved()) {
+                hoconConfig = hoconConfig.resolve();
+            }
+            if (text != null) {
+                document = ConfigDocumentFactory.parseString(text);
+            }
         } catch (final ConfigException ex) {
             throw new ParsingException(node, ex.origin().lineNumber(), 0, ex.origin().description(), null, ex);
         }
 
-        for (Map.Entry<String, ConfigValue> ent : hoconConfig.root().entrySet()) {
-            readConfigValue(ent.getValue(), node.node(ent.getKey()));
+        readObjectChildren(hoconConfig.root(), node);
+        if (document != null) {
+            this.pathFilter().prune(node);
+            this.document = new LoadedDocument(document, node.copy());
+        }
+    }
+
+    private static String readFully(final ConfigurationNode node, final BufferedReader reader) throws ParsingException {
+        try {
+            final StringBuilder buffer = new StringBuilder();
+            final char[] chunk = new char[8192];
+            int read;
+            while ((read = reader.read(chunk)) != -1) {
+                buffer.append(chunk, 0, read);
+            }
+            return buffer.toString();
+        } catch (final IOException ex) {
+            throw ParsingException.wrap(node, ex);
+        }
+    }
+
+    private static void readObjectChildren(final ConfigObject object, final CommentedConfigurationNode node) {
+        // entrySet() copies every entry of the backing map into a new set, while keySet() is a view
+        for (final String key : object.keySet()) {
+            readConfigValue(object.get(key), node.node(key));
         }
     }
 
     private static void readConfigValue(final ConfigValue value, final CommentedConfigurationNode node) {
-        if (!value.origin().comments().isEmpty()) {
-            node.comment(value.origin().comments().stream()
-                .map(input -> {
-                    final String lineStripped = input.commentText().replace("\r", "");
-                    if (!lineStripped.isEmpty() && lineStripped.charAt(0) == ' ') {
-                        return lineStripped.substring(1);
-                    } else {
-                        return lineStripped;
-                    }
-                })
-                .collect(Collectors.joining("\n")));
+        final List<ConfigNodeComment> comments = value.origin().comments();
+        if (!comments.isEmpty()) {
+            node.comment(readComment(comments));
         }
 
         switch (value.valueType()) {
@@ -274,9 +347,7 @@ public final class HoconConfigurationLoader extends AbstractConfigurationLoader<
                 if (object.isEmpty()) {
                     node.raw(Collections.emptyMap());
                 } else {
-                    for (Map.Entry<String, ConfigValue> ent : object.entrySet()) {
-                        readConfigValue(ent.getValue(), node.node(ent.getKey()));
-                    }
+                    readObjectChildren(object, node);
                 }
                 break;
             case LIST:
@@ -292,16 +363,46 @@ public final class HoconConfigurationLoader extends AbstractConfigurationLoader<
             case NULL:
                 return;
             default:
+                // scalar values unwrap to their already-boxed backing value, without any copying
                 node.raw(value.unwrapped());
                 break;
         }
     }
 
+    private static String readComment(final List<ConfigNodeComment> comments) {
+        if (comments.size() == 1) {
+            return stripCommentLine(comments.get(0));
+        }
+
+        final StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < comments.size(); ++i) {
+            if (i != 0) {
+                builder.append(CONFIGURATE_LINE_SEPARATOR);
+            }
+            builder.append(stripCommentLine(comments.get(i)));
+        }
+        return builder.toString();
+    }
+
+    private static String stripCommentLine(final ConfigNodeComment comment) {
+        final String lineStripped = comment.commentText().replace("\r", "");
+        if (!lineStripped.isEmpty() && lineStripped.charAt(0) == ' ') {
+            return lineStripped.substring(1);
+        } else {
+            return lineStripped;
+        }
+    }
+
     @Override
     protected void saveInternal(final ConfigurationNode node, final Writer writer) throws ConfigurateException {
         try {
             if (!node.isMap() && (node.virtual() || node.raw() == null)) {
                 writer.write(SYSTEM_LINE_SEPARATOR);
+                this.document = null;
+                return;
+            }
+            if (this.incrementalSave) {
+                this.saveIncremental(node, writer);
                 return;
             }
             final ConfigValue value = fromValue(node);
@@ -312,6 +413,109 @@ public final class HoconConfigurationLoader extends AbstractConfigurationLoader<
         }
     }
 
+    private void saveIncremental(final ConfigurationNode node, final Writer writer) throws IOException {
+        final @Nullable LoadedDocument loaded = this.document;
+        @Nullable ConfigDocument updated = null;
+        if (loaded != null && (!this.render.getComments() || commentsMatch(loaded.snapshot, node))) {
+            try {
+                updated = this.patchObject(loaded.document, loaded.snapshot, node, new ArrayList<>());
+            } catch (final ConfigException ex) {
+                // the document's structure can't hold the change in place, such as when a value is substituted
+                updated = null;
+            }
+        }
+
+        if (updated == null) {
+            final String rendered = fromValue(node).render(this.render);
+            writer.write(rendered);
+            updated = ConfigDocumentFactory.parseString(rendered);
+        } else {
+            writer.write(updated.render());
+        }
+        this.document = new LoadedDocument(updated, node.copy());
+    }
+
+    /**
+     * Apply the differences between two object nodes to a document.
+     *
+     * @param document the document to update
+     * @param previous the node as it was when the document was last written
+     * @param current the node to write
+     * @param path the path of both nodes in the document, which will be
+     *     restored after use
+     * @return the updated document
+     */
+    private ConfigDocument patchObject(
+        ConfigDocument document,
+        final ConfigurationNode previous,
+        final ConfigurationNode current,
+        final List<String> path
+    ) {
+        final Map<Object, ? extends ConfigurationNode> previousChildren = previous.childrenMap();
+        final Map<Object, ? extends ConfigurationNode> currentChildren = current.childrenMap();
+        for (final Object key : previousChildren.keySet()) {
+            if (!currentChildren.containsKey(key)) {
+                path.add(String.valueOf(key));
+                document = document.withoutPath(ConfigUtil.joinPath(path));
+                path.remove(path.size() - 1);
+            }
+        }
+
+        for (final Map.Entry<Object, ? extends ConfigurationNode> entry : currentChildren.entrySet()) {
+            final @Nullable ConfigurationNode before = previousChildren.get(entry.getKey());
+            final ConfigurationNode after = entry.getValue();
+            path.add(String.valueOf(entry.getKey()));
+            if (before != null && before.isMap() && after.isMap()) {
+                document = this.patchObject(document, before, after, path);
+            } else if (before == null || !Objects.equals(before.raw(), after.raw())) {
+                document = document.withValueText(ConfigUtil.joinPath(path), fromValue(after).render(this.valueRender).trim());
+            }
+            path.remove(path.size() - 1);
+        }
+        return document;
+    }
+
+    /**
+     * Check that every comment present in either of two node trees is
+     * identical in the other.
+     *
+     * @param previous the node as it was when last written
+     * @param current the node to write
+     * @return whether the comments of both nodes match
+     */
+    private static boolean commentsMatch(final @Nullable ConfigurationNode previous, final @Nullable ConfigurationNode current) {
+        if (!Objects.equals(comment(previous), comment(current))) {
+            return false;
+        }
+        if ((previous != null && previous.isMap()) || (current != null && current.isMap())) {
+            final Map<Object, ? extends ConfigurationNode> before = previous == null ? Collections.emptyMap() : previous.childrenMap();
+            final Map<Object, ? extends ConfigurationNode> after = current == null ? Collections.emptyMap() : current.childrenMap();
+            for (final Map.Entry<Object, ? extends ConfigurationNode> entry : after.entrySet()) {
+                if (!commentsMatch(before.get(entry.getKey()), entry.getValue())) {
+                    return false;
+                }
+            }
+            for (final Map.Entry<Object, ? extends ConfigurationNode> entry : before.entrySet()) {
+                if (!after.containsKey(entry.getKey()) && !commentsMatch(entry.getValue(), null)) {
+                    return false;
+                }
+            }
+        } else if ((previous != null && previous.isList()) || (current != null && current.isList())) {
+            final List<? extends ConfigurationNode> before = previous == null ? Collections.emptyList() : previous.childrenList();
+            final List<? extends ConfigurationNode> after = current == null ? Collections.emptyList() : current.childrenList();
+            for (int i = 0; i < Math.max(before.size(), after.size()); ++i) {
+                if (!commentsMatch(i < before.size() ? before.get(i) : null, i < after.size() ? after.get(i) : null)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static @Nullable String comment(final @Nullable ConfigurationNode node) {
+        return node instanceof CommentedConfigurationNodeIntermediary<?> ? ((CommentedConfigurationNodeIntermediary<?>) node).comment() : null;
+    }
+
     private static ConfigValue fromValue(final ConfigurationNode node) {
         ConfigValue ret;
         if (node.isMap()) {
@@ -366,6 +570,19 @@ public final class HoconConfigurationLoader extends AbstractConfigurationLoader<
         }
     }
 
+    /**
+     * A parsed document, and the node it was last read from or written to.
+     */
+    private static final class LoadedDocument {
+        final ConfigDocument document;
+        final ConfigurationNode snapshot;
+
+        LoadedDocument(final ConfigDocument document, final ConfigurationNode snapshot) {
+            this.document = document;
+            this.snapshot = snapshot;
+        }
+    }
+
     @Override
     public CommentedConfigurationNode createNode(final ConfigurationOptions options) {
         return CommentedConfigurationNode.root(options.nativeTypes(NATIVE_TYPES));
@@ -19,6 +19,7 @@ package org.spongepowered.configurate.hocon;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertIterableEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.io.Resources;
@@ -29,6 +30,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.spongepowered.configurate.CommentedConfigurationNode;
 import org.spongepowered.configurate.ConfigurateException;
+import org.spongepowered.configurate.ConfigurationNode;
 import org.spongepowered.configurate.ConfigurationOptions;
 import org.spongepowered.configurate.loader.AtomicFiles;
 import org.spongepowered.configurate.objectmapping.ConfigSerializable;
@@ -265,6 +267,99 @@ class HoconConfigurationLoaderTest {
         assertEquals(expectedOut, out);
     }
 
+    @Test
+    void testSubstitutionsResolved() throws ConfigurateException {
+        final ConfigurationNode node = HoconConfigurationLoader.builder()
+            .buildAndLoadString("base { host = localhost, port = 25565 }\n"
+                + "server = ${base} { port = 25566 }\n"
+                + "name = ${base.host}\n");
+
+        assertEquals("localhost", node.node("server", "host").raw());
+        assertEquals(25566, node.node("server", "port").raw());
+        assertEquals("localhost", node.node("name").raw());
+    }
+
+    @Test
+    void testMultiLineCommentLoaded() throws ConfigurateException {
+        final String in = "# first\n# second\nkey = value\n";
+        final CommentedConfigurationNode node = HoconConfigurationLoader.builder()
+            .source(() -> new BufferedReader(new StringReader(in)))
+            .build()
+            .load();
+
+        assertEquals("first\nsecond", node.node("key").comment());
+        assertEquals("value", node.node("key").raw());
+    }
+
+    @Test
+    void testIncrementalSaveUnchanged(final @TempDir Path tempDir) throws IOException {
+        final Path target = tempDir.resolve("unchanged.conf");
+        final String source = "server {\n"
+            + "  host =   \"example.com\"\n"
+            + "  # set by hand\n"
+            + "  port=25565\n"
+            + "}\n"
+            + "flags: [a, b]\n";
+        Files.write(target, source.getBytes(StandardCharsets.UTF_8));
+
+        final HoconConfigurationLoader loader = HoconConfigurationLoader.builder()
+            .path(target)
+            .incrementalSave(true)
+            .build();
+        loader.save(loader.load());
+
+        assertEquals(source, new String(Files.readAllBytes(target), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testIncrementalSaveAppliesChangedPaths(final @TempDir Path tempDir) throws IOException {
+        final Path target = tempDir.resolve("changed.conf");
+        Files.write(target, ("server {\n"
+            + "  host =   \"example.com\"\n"
+            + "  # set by hand\n"
+            + "  port=25565\n"
+            + "}\n"
+            + "removed = true\n"
+            + "flags: [a, b]\n").getBytes(StandardCharsets.UTF_8));
+
+        final HoconConfigurationLoader loader = HoconConfigurationLoader.builder()
+            .path(target)
+            .incrementalSave(true)
+            .build();
+        final CommentedConfigurationNode node = loader.load();
+        node.node("server", "port").set(25566);
+        node.node("removed").set(null);
+        node.node("flags").appendListNode().set("c");
+        node.node("added").set("value");
+        loader.save(node);
+
+        final String saved = new String(Files.readAllBytes(target), StandardCharsets.UTF_8);
+        assertTrue(saved.startsWith("server {\n  host =   \"example.com\"\n  # set by hand\n  port=25566\n}\n"), saved);
+
+        final CommentedConfigurationNode reloaded = loader.load();
+        assertEquals(25566, reloaded.node("server", "port").getInt());
+        assertEquals("set by hand", reloaded.node("server", "port").comment());
+        assertTrue(reloaded.node("removed").virtual());
+        assertEquals(Arrays.asList("a", "b", "c"), reloaded.node("flags").getList(String.class));
+        assertEquals("value", reloaded.node("added").getString());
+    }
+
+    @Test
+    void testIncrementalSaveRendersChangedComments(final @TempDir Path tempDir) throws IOException {
+        final Path target = tempDir.resolve("comments.conf");
+        Files.write(target, "a=1\nb=2\n".getBytes(StandardCharsets.UTF_8));
+
+        final HoconConfigurationLoader loader = HoconConfigurationLoader.builder()
+            .path(target)
+            .incrementalSave(true)
+            .build();
+        final CommentedConfigurationNode node = loader.load();
+        node.node("b").comment("new comment");
+        loader.save(node);
+
+        assertEquals("new comment", loader.load().node("b").comment());
+    }
+
     private URL requireResource(final String path) {
         final @Nullable URL resource = this.getClass().getResource('/' + path);
         assertNotNull(resource, () -> "Resource " + path + " was not present when expected to be!");
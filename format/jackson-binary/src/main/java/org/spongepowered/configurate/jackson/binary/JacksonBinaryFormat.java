@@ -0,0 +1,71 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.jackson.binary;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.spongepowered.configurate.ConfigurationNode;
+import org.spongepowered.configurate.jackson.JacksonBinaryConfigurationLoader;
+import org.spongepowered.configurate.loader.ConfigurationFormat;
+import org.spongepowered.configurate.loader.ConfigurationLoader;
+
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * A format backed by a {@link JacksonBinaryConfigurationLoader}.
+ */
+abstract class JacksonBinaryFormat implements ConfigurationFormat {
+
+    private final String id;
+    private final Supplier<? extends JsonFactory> factory;
+    private final Set<String> supportedExtensions;
+
+    JacksonBinaryFormat(final String id, final Supplier<? extends JsonFactory> factory, final Set<String> supportedExtensions) {
+        this.id = id;
+        this.factory = factory;
+        this.supportedExtensions = supportedExtensions;
+    }
+
+    @Override
+    public String id() {
+        return this.id;
+    }
+
+    @Override
+    public Set<String> supportedExtensions() {
+        return this.supportedExtensions;
+    }
+
+    @Override
+    public ConfigurationLoader<? extends @NonNull Object> create(final Path file, final ConfigurationNode options) {
+        // binary formats have no style options
+        return JacksonBinaryConfigurationLoader.builder(this.factory.get())
+            .path(file)
+            .build();
+    }
+
+    @Override
+    public ConfigurationLoader<? extends @NonNull Object> create(final URL url, final ConfigurationNode options) {
+        return JacksonBinaryConfigurationLoader.builder(this.factory.get())
+            .url(url)
+            .build();
+    }
+
+}
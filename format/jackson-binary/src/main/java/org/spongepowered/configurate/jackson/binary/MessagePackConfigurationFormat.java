@@ -0,0 +1,42 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.jackson.binary;
+
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+import org.spongepowered.configurate.loader.ConfigurationFormat;
+import org.spongepowered.configurate.util.UnmodifiableCollections;
+
+/**
+ * A {@link ConfigurationFormat} for <a href="https://msgpack.org/">MessagePack</a> documents.
+ *
+ * <p>This format should not be used directly, but instead accessed
+ * through methods on {@link ConfigurationFormat}.</p>
+ *
+ * @since 4.3.0
+ */
+public final class MessagePackConfigurationFormat extends JacksonBinaryFormat {
+
+    /**
+     * For use by service loader only.
+     *
+     * @since 4.3.0
+     */
+    public MessagePackConfigurationFormat() {
+        super("msgpack", MessagePackFactory::new, UnmodifiableCollections.toSet("msgpack", "mpk"));
+    }
+
+}
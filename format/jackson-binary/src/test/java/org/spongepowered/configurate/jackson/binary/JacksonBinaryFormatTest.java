@@ -0,0 +1,93 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.jackson.binary;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.spongepowered.configurate.BasicConfigurationNode;
+import org.spongepowered.configurate.ConfigurateException;
+import org.spongepowered.configurate.ConfigurationNode;
+import org.spongepowered.configurate.loader.ConfigurationFormat;
+import org.spongepowered.configurate.loader.ConfigurationLoader;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+
+class JacksonBinaryFormatTest {
+
+    private static final String[] EXTENSIONS = {"cbor", "smile", "msgpack"};
+
+    @Test
+    void testFormatsPresent() {
+        for (final String extension : EXTENSIONS) {
+            assertNotNull(ConfigurationFormat.forExtension(extension), extension);
+        }
+    }
+
+    @Test
+    void testRoundtrip(final @TempDir Path tempDir) throws ConfigurateException {
+        for (final String extension : EXTENSIONS) {
+            this.assertRoundtrip(extension, tempDir);
+        }
+    }
+
+    @Test
+    void testMissingFileLoadsEmpty(final @TempDir Path tempDir) throws ConfigurateException {
+        for (final String extension : EXTENSIONS) {
+            final @Nullable ConfigurationFormat format = ConfigurationFormat.forExtension(extension);
+            assertNotNull(format);
+
+            assertTrue(format.create(tempDir.resolve("missing." + extension)).load().empty(), extension);
+        }
+    }
+
+    private void assertRoundtrip(final String extension, final Path tempDir) throws ConfigurateException {
+        final @Nullable ConfigurationFormat format = ConfigurationFormat.forExtension(extension);
+        assertNotNull(format);
+        final ConfigurationLoader<?> loader = format.create(tempDir.resolve("test." + extension));
+
+        final ConfigurationNode source = BasicConfigurationNode.root(n -> {
+            n.node("string").raw("hello");
+            n.node("int").raw(42);
+            n.node("long").raw(Long.MAX_VALUE);
+            n.node("double").raw(Math.E);
+            n.node("boolean").raw(true);
+            n.node("binary").raw(new byte[] {1, 2, 3});
+            n.node("list").raw(Arrays.asList("a", "b"));
+            n.node("empty").raw(Collections.emptyMap());
+        });
+        loader.save(source);
+
+        final ConfigurationNode loaded = loader.load();
+        assertEquals("hello", loaded.node("string").raw());
+        assertEquals(42, loaded.node("int").raw());
+        assertEquals(Long.MAX_VALUE, loaded.node("long").raw());
+        assertEquals(Math.E, loaded.node("double").raw());
+        assertEquals(true, loaded.node("boolean").raw());
+        assertArrayEquals(new byte[] {1, 2, 3}, (byte[]) loaded.node("binary").raw());
+        assertEquals(Arrays.asList("a", "b"), loaded.node("list").raw());
+        assertTrue(loaded.node("empty").isMap());
+    }
+
+}
@@ -40,6 +40,16 @@ class ConfiguratePrettyPrinter extends DefaultPrettyPrinter {
         this.style = style;
     }
 
+    private ConfiguratePrettyPrinter(final ConfiguratePrettyPrinter base) {
+        super(base);
+        this.style = base.style;
+    }
+
+    @Override
+    public ConfiguratePrettyPrinter createInstance() {
+        return new ConfiguratePrettyPrinter(this);
+    }
+
     @Override
     public void writeObjectFieldValueSeparator(final JsonGenerator jg) throws IOException {
         jg.writeRaw(this.style.value());
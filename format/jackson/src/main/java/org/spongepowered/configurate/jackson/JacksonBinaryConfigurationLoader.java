@@ -0,0 +1,274 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.jackson;
+
+import static java.util.Objects.requireNonNull;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.exc.StreamReadException;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.configurate.BasicConfigurationNode;
+import org.spongepowered.configurate.ConfigurateException;
+import org.spongepowered.configurate.ConfigurationNode;
+import org.spongepowered.configurate.ConfigurationOptions;
+import org.spongepowered.configurate.loader.AtomicFiles;
+import org.spongepowered.configurate.loader.ConfigurationLoader;
+import org.spongepowered.configurate.loader.ParsingException;
+import org.spongepowered.configurate.reference.ConfigurationReference;
+import org.spongepowered.configurate.util.UnmodifiableCollections;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.function.UnaryOperator;
+
+/**
+ * A loader for Jackson's binary data formats, such as CBOR, Smile, or
+ * MessagePack.
+ *
+ * <p>Any {@link JsonFactory} that reads from and writes to byte streams can be
+ * used. Documents are read and written with the same logic as
+ * {@link JacksonConfigurationLoader}, so the same value types are supported,
+ * with the addition of binary data for formats that support it.</p>
+ *
+ * <p>Binary data formats have no way to represent comments or headers, so
+ * these are not preserved.</p>
+ *
+ * @since 4.3.0
+ */
+public final class JacksonBinaryConfigurationLoader implements ConfigurationLoader<BasicConfigurationNode> {
+
+    private static final Set<Class<?>> NATIVE_TYPES = UnmodifiableCollections.toSet(Map.class, List.class, Double.class, Float.class,
+            Long.class, Integer.class, Boolean.class, String.class, byte[].class);
+
+    private final JsonFactory factory;
+    private final @Nullable Callable<InputStream> source;
+    private final @Nullable Callable<OutputStream> sink;
+    private final ConfigurationOptions defaultOptions;
+
+    /**
+     * Create a new builder for a loader using the provided data format.
+     *
+     * @param factory the factory for the data format
+     * @return a new builder
+     * @since 4.3.0
+     */
+    public static Builder builder(final JsonFactory factory) {
+        return new Builder(factory);
+    }
+
+    JacksonBinaryConfigurationLoader(final Builder builder) {
+        this.factory = builder.factory;
+        this.source = builder.source;
+        this.sink = builder.sink;
+        this.defaultOptions = builder.defaultOptions.nativeTypes(NATIVE_TYPES);
+    }
+
+    @Override
+    public BasicConfigurationNode load(final ConfigurationOptions options) throws ConfigurateException {
+        if (this.source == null) {
+            throw new ParsingException(ParsingException.UNKNOWN_POS, ParsingException.UNKNOWN_POS, "", "No source present to read from!", null);
+        }
+
+        final BasicConfigurationNode node = this.createNode(options);
+        try (InputStream is = this.source.call();
+             JsonParser parser = this.factory.createParser(is)) {
+            if (parser.nextToken() != null) {
+                JacksonConfigurationLoader.parseValue(parser, node, false);
+            }
+            return node;
+        } catch (final FileNotFoundException | NoSuchFileException ex) {
+            // Squash -- there's nothing to read
+            return node;
+        } catch (final StreamReadException ex) {
+            final JsonLocation location = ex.getLocation();
+            // binary formats have no lines, so report the byte offset as the column
+            throw new ParsingException(node, ParsingException.UNKNOWN_POS, (int) location.getByteOffset(), null, ex.getOriginalMessage(), ex);
+        } catch (final ParsingException ex) {
+            throw ex;
+        } catch (final IOException ex) {
+            throw ParsingException.wrap(node, ex);
+        } catch (final Exception ex) {
+            throw new ParsingException(node, ParsingException.UNKNOWN_POS, ParsingException.UNKNOWN_POS, null,
+                "Unknown error occurred while loading", ex);
+        }
+    }
+
+    @Override
+    public ConfigurationReference<BasicConfigurationNode> loadToReference() throws ConfigurateException {
+        return ConfigurationReference.fixed(this);
+    }
+
+    @Override
+    public void save(final ConfigurationNode node) throws ConfigurateException {
+        if (this.sink == null) {
+            throw new ConfigurateException(node, new IOException("No sink present to write to!"));
+        }
+
+        try (OutputStream os = this.sink.call();
+             JsonGenerator generator = this.factory.createGenerator(os)) {
+            node.visit(JacksonVisitor.INSTANCE.get(), generator);
+        } catch (final IOException ex) {
+            throw ConfigurateException.wrap(node, ex);
+        } catch (final Exception ex) {
+            throw new ConfigurateException(node, "Unknown error occurred while saving", ex);
+        }
+    }
+
+    @Override
+    public BasicConfigurationNode createNode(final ConfigurationOptions options) {
+        return BasicConfigurationNode.root(options.nativeTypes(NATIVE_TYPES));
+    }
+
+    @Override
+    public ConfigurationOptions defaultOptions() {
+        return this.defaultOptions;
+    }
+
+    @Override
+    public boolean canLoad() {
+        return this.source != null;
+    }
+
+    @Override
+    public boolean canSave() {
+        return this.sink != null;
+    }
+
+    /**
+     * Builds a {@link JacksonBinaryConfigurationLoader}.
+     *
+     * @since 4.3.0
+     */
+    public static final class Builder {
+
+        private final JsonFactory factory;
+        private @Nullable Callable<InputStream> source;
+        private @Nullable Callable<OutputStream> sink;
+        private ConfigurationOptions defaultOptions = ConfigurationOptions.defaults();
+
+        Builder(final JsonFactory factory) {
+            this.factory = requireNonNull(factory, "factory").copy();
+            this.factory.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            this.factory.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        }
+
+        /**
+         * Set the file to read from and write to.
+         *
+         * <p>Writes will be performed atomically.</p>
+         *
+         * @param path the file
+         * @return this builder
+         * @since 4.3.0
+         */
+        public Builder path(final Path path) {
+            final Path absPath = requireNonNull(path, "path").toAbsolutePath();
+            this.source = () -> Files.newInputStream(absPath);
+            this.sink = () -> AtomicFiles.atomicOutputStream(absPath);
+            return this;
+        }
+
+        /**
+         * Set a URL to read from.
+         *
+         * <p>This will clear any sink, as URLs cannot be written to.</p>
+         *
+         * @param url the URL
+         * @return this builder
+         * @since 4.3.0
+         */
+        public Builder url(final URL url) {
+            requireNonNull(url, "url");
+            this.source = url::openStream;
+            this.sink = null;
+            return this;
+        }
+
+        /**
+         * Set the source to read from.
+         *
+         * @param source the source
+         * @return this builder
+         * @since 4.3.0
+         */
+        public Builder source(final @Nullable Callable<InputStream> source) {
+            this.source = source;
+            return this;
+        }
+
+        /**
+         * Set the sink to write to.
+         *
+         * @param sink the sink
+         * @return this builder
+         * @since 4.3.0
+         */
+        public Builder sink(final @Nullable Callable<OutputStream> sink) {
+            this.sink = sink;
+            return this;
+        }
+
+        /**
+         * Set the default options for nodes created by this loader.
+         *
+         * @param defaultOptions the options
+         * @return this builder
+         * @since 4.3.0
+         */
+        public Builder defaultOptions(final ConfigurationOptions defaultOptions) {
+            this.defaultOptions = requireNonNull(defaultOptions, "defaultOptions");
+            return this;
+        }
+
+        /**
+         * Modify the default options for nodes created by this loader.
+         *
+         * @param defaultOptions an operator to modify the options
+         * @return this builder
+         * @since 4.3.0
+         */
+        public Builder defaultOptions(final UnaryOperator<ConfigurationOptions> defaultOptions) {
+            this.defaultOptions = requireNonNull(defaultOptions.apply(this.defaultOptions), "defaultOptions (updated)");
+            return this;
+        }
+
+        /**
+         * Create a new loader with the current settings.
+         *
+         * @return a new loader
+         * @since 4.3.0
+         */
+        public JacksonBinaryConfigurationLoader build() {
+            return new JacksonBinaryConfigurationLoader(this);
+        }
+
+    }
+
+}
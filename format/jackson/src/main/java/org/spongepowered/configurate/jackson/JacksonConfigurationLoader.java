@@ -16,6 +16,7 @@
  */
 package org.spongepowered.configurate.jackson;
 
+import com.fasterxml.jackson.core.JsonEncoding;
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonFactoryBuilder;
 import com.fasterxml.jackson.core.JsonGenerator;
@@ -32,15 +33,22 @@ import org.spongepowered.configurate.BasicConfigurationNode;
 import org.spongepowered.configurate.ConfigurateException;
 import org.spongepowered.configurate.ConfigurationNode;
 import org.spongepowered.configurate.ConfigurationOptions;
+import org.spongepowered.configurate.LazyNodes;
+import org.spongepowered.configurate.NodePath;
 import org.spongepowered.configurate.loader.AbstractConfigurationLoader;
 import org.spongepowered.configurate.loader.CommentHandler;
 import org.spongepowered.configurate.loader.CommentHandlers;
 import org.spongepowered.configurate.loader.ParsingException;
+import org.spongepowered.configurate.loader.PathFilter;
 import org.spongepowered.configurate.util.UnmodifiableCollections;
 
 import java.io.BufferedReader;
+import java.io.CharArrayWriter;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -55,7 +63,7 @@ import java.util.Set;
 public final class JacksonConfigurationLoader extends AbstractConfigurationLoader<BasicConfigurationNode> {
 
     private static final Set<Class<?>> NATIVE_TYPES = UnmodifiableCollections.toSet(Map.class, List.class, Double.class, Float.class,
-            Long.class, Integer.class, Boolean.class, String.class, byte[].class);
+            Long.class, Integer.class, BigInteger.class, BigDecimal.class, Boolean.class, String.class, byte[].class);
 
     /**
      * Creates a new {@link JacksonConfigurationLoader} builder.
@@ -74,6 +82,9 @@ public final class JacksonConfigurationLoader extends AbstractConfigurationLoade
      * <ul>
      *     <li>{@link #INDENT}</li>
      *     <li>{@link #FIELD_VALUE_SEPARATOR}</li>
+     *     <li>{@link #LAZY}</li>
+     *     <li>{@link #LOSSLESS_NUMBERS}</li>
+     *     <li>{@link #COMPACT}</li>
      * </ul>
      *
      * @since 4.0.0
@@ -109,6 +120,31 @@ public final class JacksonConfigurationLoader extends AbstractConfigurationLoade
             FieldValueSeparatorStyle.SPACE_AFTER
         );
 
+        /**
+         * Whether to defer reading nested objects and arrays until
+         * they are first accessed.
+         *
+         * @see #lazy(boolean)
+         * @since 4.3.0
+         */
+        public static final Option<Boolean> LAZY = UNSAFE_SCHEMA.booleanOption("jackson:lazy", false);
+
+        /**
+         * Whether to read numbers without any loss of precision.
+         *
+         * @see #losslessNumbers(boolean)
+         * @since 4.3.0
+         */
+        public static final Option<Boolean> LOSSLESS_NUMBERS = UNSAFE_SCHEMA.booleanOption("jackson:lossless-numbers", false);
+
+        /**
+         * Whether to emit json with no whitespace at all.
+         *
+         * @see #compact(boolean)
+         * @since 4.3.0
+         */
+        public static final Option<Boolean> COMPACT = UNSAFE_SCHEMA.booleanOption("jackson:compact", false);
+
         private final JsonFactoryBuilder factory = new JsonFactoryBuilder();
 
         Builder() {
@@ -180,6 +216,101 @@ public final class JacksonConfigurationLoader extends AbstractConfigurationLoade
             return this.optionState().value(FIELD_VALUE_SEPARATOR);
         }
 
+        /**
+         * Sets whether the resultant loader should read nested values
+         * only when they are first accessed.
+         *
+         * <p>When enabled, loading only checks the syntax of the document
+         * and reads the top level of the root node. Each nested object
+         * or array is read the first time its node is accessed, so
+         * large documents where only a few sections are used can be
+         * loaded with much less work and allocation.</p>
+         *
+         * <p>Any nested value that has not been accessed when a node is saved
+         * will be written exactly as it appeared in the source document,
+         * including its original formatting.</p>
+         *
+         * <p>The full text of the source document is retained in memory
+         * until every node loaded from it has been accessed
+         * or discarded.</p>
+         *
+         * @param lazy whether to read nested values lazily
+         * @return this builder (for chaining)
+         * @since 4.3.0
+         */
+        public Builder lazy(final boolean lazy) {
+            this.optionStateBuilder().value(LAZY, lazy);
+            return this;
+        }
+
+        /**
+         * Gets whether the built loader will read nested values lazily.
+         *
+         * @return whether loading is lazy
+         * @since 4.3.0
+         */
+        public boolean lazy() {
+            return this.optionState().value(LAZY);
+        }
+
+        /**
+         * Sets whether the resultant loader should read numbers without any
+         * loss of precision.
+         *
+         * <p>Integers are always read as {@link Integer} or {@link Long}
+         * values when they fit. When lossless reading is enabled, larger
+         * integers are read as {@link BigInteger}s and all decimal numbers
+         * as {@link BigDecimal}s. Otherwise, both are read as
+         * {@link Float} or {@link Double} values, which is faster
+         * and uses less memory.</p>
+         *
+         * @param lossless whether to read numbers losslessly
+         * @return this builder (for chaining)
+         * @since 4.3.0
+         */
+        public Builder losslessNumbers(final boolean lossless) {
+            this.optionStateBuilder().value(LOSSLESS_NUMBERS, lossless);
+            return this;
+        }
+
+        /**
+         * Gets whether the built loader will read numbers losslessly.
+         *
+         * @return whether numbers are read losslessly
+         * @since 4.3.0
+         */
+        public boolean losslessNumbers() {
+            return this.optionState().value(LOSSLESS_NUMBERS);
+        }
+
+        /**
+         * Sets whether the resultant loader should emit json without
+         * any whitespace.
+         *
+         * <p>When enabled, the {@link #indent(int) indent} and
+         * {@link #fieldValueSeparatorStyle(FieldValueSeparatorStyle) field value separator style}
+         * are ignored, no pretty printing is performed, and no newline is
+         * written at the end of the output.</p>
+         *
+         * @param compact whether to emit compact json
+         * @return this builder (for chaining)
+         * @since 4.3.0
+         */
+        public Builder compact(final boolean compact) {
+            this.optionStateBuilder().value(COMPACT, compact);
+            return this;
+        }
+
+        /**
+         * Gets whether the built loader will emit compact json.
+         *
+         * @return whether output is compact
+         * @since 4.3.0
+         */
+        public boolean compact() {
+            return this.optionState().value(COMPACT);
+        }
+
         @Override
         public JacksonConfigurationLoader build() {
             defaultOptions(o -> o.nativeTypes(NATIVE_TYPES));
@@ -188,24 +319,49 @@ public final class JacksonConfigurationLoader extends AbstractConfigurationLoade
     }
 
     private final JsonFactory factory;
-    private final int indent;
-    private final FieldValueSeparatorStyle fieldValueSeparatorStyle;
+    private final @Nullable ConfiguratePrettyPrinter prettyPrinter;
+    private final boolean lazy;
+    private final boolean lossless;
 
     private JacksonConfigurationLoader(final Builder builder) {
         super(builder, new CommentHandler[]{CommentHandlers.DOUBLE_SLASH, CommentHandlers.SLASH_BLOCK, CommentHandlers.HASH});
         this.factory = builder.factoryBuilder().build();
         this.factory.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
-        this.indent = builder.optionState().value(Builder.INDENT);
-        this.fieldValueSeparatorStyle = builder.optionState().value(Builder.FIELD_VALUE_SEPARATOR);
+        this.factory.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        if (builder.optionState().value(Builder.COMPACT)) {
+            this.prettyPrinter = null;
+        } else {
+            // immutable configuration, each save receives its own instance to track nesting
+            this.prettyPrinter = new ConfiguratePrettyPrinter(
+                builder.optionState().value(Builder.INDENT),
+                builder.optionState().value(Builder.FIELD_VALUE_SEPARATOR)
+            );
+        }
+        this.lazy = builder.optionState().value(Builder.LAZY);
+        this.lossless = builder.optionState().value(Builder.LOSSLESS_NUMBERS);
     }
 
     private static final int MAX_CTX_LENGTH = 80;
 
     @Override
     protected void loadInternal(final BasicConfigurationNode node, final BufferedReader reader) throws ParsingException {
+        if (this.lazy) {
+            this.loadLazy(node, reader);
+            return;
+        }
+
         try (JsonParser parser = this.factory.createParser(reader)) {
             parser.nextToken();
-            parseValue(parser, node);
+            final PathFilter filter = this.pathFilter();
+            if (filter.acceptsAll()) {
+                parseValue(parser, node, this.lossless);
+            } else {
+                final NodePath root = NodePath.path();
+                final PathFilter.Decision decision = filter.test(root);
+                if (decision != PathFilter.Decision.SKIP) {
+                    this.parseFiltered(parser, node, root, decision, filter);
+                }
+            }
         } catch (final StreamReadException ex) {
             throw newException(node, ex.getLocation(), ex.getRequestPayloadAsString(), ex.getMessage(), ex.getCause());
         } catch (final IOException ex) {
@@ -213,30 +369,38 @@ public final class JacksonConfigurationLoader extends AbstractConfigurationLoade
         }
     }
 
-    private static void parseValue(final JsonParser parser, final ConfigurationNode node) throws IOException {
+    static void parseValue(final JsonParser parser, final ConfigurationNode node, final boolean lossless) throws IOException {
         try {
             final JsonToken token = parser.getCurrentToken();
             switch (token) {
                 case START_OBJECT:
-                    parseObject(parser, node);
+                    parseObject(parser, node, lossless);
                     break;
                 case START_ARRAY:
-                    parseArray(parser, node);
+                    parseArray(parser, node, lossless);
                     break;
                 case VALUE_NUMBER_FLOAT:
-                    final double doubleVal = parser.getDoubleValue();
-                    if ((float) doubleVal != doubleVal) {
-                        node.raw(parser.getDoubleValue());
+                    if (lossless) {
+                        node.raw(parser.getDecimalValue());
                     } else {
-                        node.raw(parser.getFloatValue());
+                        final double doubleVal = parser.getDoubleValue();
+                        if ((float) doubleVal != doubleVal) {
+                            node.raw(doubleVal);
+                        } else {
+                            node.raw((float) doubleVal);
+                        }
                     }
                     break;
                 case VALUE_NUMBER_INT:
-                    final long longVal = parser.getLongValue();
-                    if ((int) longVal != longVal) {
-                        node.raw(parser.getLongValue());
-                    } else {
-                        node.raw(parser.getIntValue());
+                    switch (parser.getNumberType()) {
+                        case INT:
+                            node.raw(parser.getIntValue());
+                            break;
+                        case LONG:
+                            node.raw(parser.getLongValue());
+                            break;
+                        default: // too large for a long
+                            node.raw(lossless ? parser.getBigIntegerValue() : parser.getDoubleValue());
                     }
                     break;
                 case VALUE_STRING:
@@ -246,6 +410,9 @@ public final class JacksonConfigurationLoader extends AbstractConfigurationLoade
                 case VALUE_FALSE:
                     node.raw(parser.getBooleanValue());
                     break;
+                case VALUE_EMBEDDED_OBJECT: // only produced by binary data formats
+                    node.raw(parser.getBinaryValue());
+                    break;
                 case VALUE_NULL: // Ignored values
                 case FIELD_NAME:
                     break;
@@ -258,7 +425,7 @@ public final class JacksonConfigurationLoader extends AbstractConfigurationLoade
         }
     }
 
-    private static void parseArray(final JsonParser parser, final ConfigurationNode node) throws IOException {
+    private static void parseArray(final JsonParser parser, final ConfigurationNode node, final boolean lossless) throws IOException {
         boolean written = false;
         JsonToken token;
         while ((token = parser.nextToken()) != null) {
@@ -268,14 +435,14 @@ public final class JacksonConfigurationLoader extends AbstractConfigurationLoade
                 }
                 return;
             } else {
-                parseValue(parser, node.appendListNode());
+                parseValue(parser, node.appendListNode(), lossless);
                 written = true;
             }
         }
         throw newException(node, JacksonCompat.currentLocation(parser), null, "Reached end of stream with unclosed array!", null);
     }
 
-    private static void parseObject(final JsonParser parser, final ConfigurationNode node) throws IOException {
+    private static void parseObject(final JsonParser parser, final ConfigurationNode node, final boolean lossless) throws IOException {
         boolean written = false;
         JsonToken token;
         while ((token = parser.nextToken()) != null) {
@@ -285,24 +452,248 @@ public final class JacksonConfigurationLoader extends AbstractConfigurationLoade
                 }
                 return;
             } else {
-                parseValue(parser, node.node(JacksonCompat.currentName(parser)));
+                parseValue(parser, node.node(JacksonCompat.currentName(parser)), lossless);
                 written = true;
             }
         }
         throw newException(node, JacksonCompat.currentLocation(parser), null, "Reached end of stream with unclosed object!", null);
     }
 
+    @Override
+    protected boolean filtersWhileParsing() {
+        return !this.lazy; // lazy documents are filtered once loaded, only reading the parts of the document that are tested
+    }
+
+    /**
+     * Read a value, skipping any children that are not accepted by
+     * the filter.
+     *
+     * @param parser the parser, positioned at the value to read
+     * @param node the node to read into
+     * @param path the path of the value within the document
+     * @param decision the filter's decision for this value
+     * @param filter the filter to test children with
+     * @throws IOException if unable to read
+     */
+    private void parseFiltered(
+        final JsonParser parser,
+        final ConfigurationNode node,
+        final NodePath path,
+        final PathFilter.Decision decision,
+        final PathFilter filter
+    ) throws IOException {
+        if (decision == PathFilter.Decision.INCLUDE_ALL) {
+            parseValue(parser, node, this.lossless);
+            return;
+        }
+
+        final @Nullable JsonToken token = parser.getCurrentToken();
+        if (token == JsonToken.START_OBJECT) {
+            if (decision == PathFilter.Decision.INCLUDE) {
+                node.raw(Collections.emptyMap());
+            }
+            JsonToken next;
+            while ((next = parser.nextToken()) != JsonToken.END_OBJECT) {
+                if (next == null) {
+                    throw newException(node, JacksonCompat.currentLocation(parser), null, "Reached end of stream with unclosed object!", null);
+                }
+                final String key = JacksonCompat.currentName(parser);
+                parser.nextToken();
+                final NodePath childPath = path.withAppendedChild(key);
+                final PathFilter.Decision childDecision = filter.test(childPath);
+                if (childDecision == PathFilter.Decision.SKIP) {
+                    parser.skipChildren();
+                } else {
+                    this.parseFiltered(parser, node.node(key), childPath, childDecision, filter);
+                }
+            }
+        } else if (token == JsonToken.START_ARRAY) {
+            if (decision == PathFilter.Decision.INCLUDE) {
+                node.raw(Collections.emptyList());
+            }
+            int index = 0;
+            JsonToken next;
+            while ((next = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (next == null) {
+                    throw newException(node, JacksonCompat.currentLocation(parser), null, "Reached end of stream with unclosed array!", null);
+                }
+                final NodePath childPath = path.withAppendedChild(index++);
+                final PathFilter.Decision childDecision = filter.test(childPath);
+                if (childDecision == PathFilter.Decision.SKIP) {
+                    parser.skipChildren();
+                } else {
+                    this.parseFiltered(parser, node.appendListNode(), childPath, childDecision, filter);
+                }
+            }
+        } else if (decision == PathFilter.Decision.INCLUDE) {
+            parseValue(parser, node, this.lossless);
+        } // scalars are not accepted where the filter only descends
+    }
+
+    private void loadLazy(final BasicConfigurationNode node, final BufferedReader reader) throws ParsingException {
+        final char[] source;
+        try {
+            final CharArrayWriter buffer = new CharArrayWriter();
+            final char[] chunk = new char[8192];
+            int read;
+            while ((read = reader.read(chunk)) != -1) {
+                buffer.write(chunk, 0, read);
+            }
+            source = buffer.toCharArray();
+        } catch (final IOException ex) {
+            throw ParsingException.wrap(node, ex);
+        }
+
+        this.populateLazy(node, new DeferredJson(source, 0, source.length));
+    }
+
+    /**
+     * Read one level of a deferred JSON value into a node.
+     *
+     * @param node the node to populate
+     * @param json the range of the source to read
+     * @throws ParsingException if the source is not valid JSON
+     */
+    private void populateLazy(final ConfigurationNode node, final DeferredJson json) throws ParsingException {
+        try (JsonParser parser = this.factory.createParser(json.source, json.start, json.end - json.start)) {
+            final @Nullable JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_OBJECT) {
+                this.parseLazyObject(parser, node, json);
+            } else if (token == JsonToken.START_ARRAY) {
+                this.parseLazyArray(parser, node, json);
+            } else if (token != null) {
+                parseValue(parser, node, this.lossless);
+            }
+        } catch (final StreamReadException ex) {
+            throw newException(node, ex.getLocation(), ex.getRequestPayloadAsString(), ex.getMessage(), ex.getCause());
+        } catch (final IOException ex) {
+            throw ParsingException.wrap(node, ex);
+        }
+    }
+
+    private void parseLazyObject(final JsonParser parser, final ConfigurationNode node, final DeferredJson json) throws IOException {
+        node.raw(Collections.emptyMap());
+        JsonToken token;
+        while ((token = parser.nextToken()) != null) {
+            if (token == JsonToken.END_OBJECT) {
+                return;
+            }
+            final ConfigurationNode child = node.node(JacksonCompat.currentName(parser));
+            parser.nextToken();
+            this.parseLazyValue(parser, child, json);
+        }
+        throw newException(node, JacksonCompat.currentLocation(parser), null, "Reached end of stream with unclosed object!", null);
+    }
+
+    private void parseLazyArray(final JsonParser parser, final ConfigurationNode node, final DeferredJson json) throws IOException {
+        node.raw(Collections.emptyList());
+        JsonToken token;
+        while ((token = parser.nextToken()) != null) {
+            if (token == JsonToken.END_ARRAY) {
+                return;
+            }
+            this.parseLazyValue(parser, node.appendListNode(), json);
+        }
+        throw newException(node, JacksonCompat.currentLocation(parser), null, "Reached end of stream with unclosed array!", null);
+    }
+
+    private void parseLazyValue(final JsonParser parser, final ConfigurationNode node, final DeferredJson json) throws IOException {
+        final JsonToken token = parser.getCurrentToken();
+        if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+            final boolean list = token == JsonToken.START_ARRAY;
+            // offsets reported by the parser are relative to the start of its range
+            final int start = json.start + (int) JacksonCompat.currentTokenLocation(parser).getCharOffset();
+            @Nullable JsonToken next = parser.nextToken();
+            if (next == JsonToken.END_OBJECT || next == JsonToken.END_ARRAY) {
+                // empty content is never deferred
+                node.raw(list ? Collections.emptyList() : Collections.emptyMap());
+                return;
+            }
+            // skip the remaining entries, which still checks their syntax
+            while (next != JsonToken.END_OBJECT && next != JsonToken.END_ARRAY) {
+                if (next == null) {
+                    throw newException(node, JacksonCompat.currentLocation(parser), null, "Reached end of stream with unclosed value!", null);
+                }
+                parser.skipChildren();
+                next = parser.nextToken();
+            }
+            final int end = json.start + (int) JacksonCompat.currentLocation(parser).getCharOffset();
+            LazyNodes.defer(node, list, this::materialize, new DeferredJson(json.source, start, end));
+        } else {
+            parseValue(parser, node, this.lossless);
+        }
+    }
+
+    private void materialize(final ConfigurationNode node, final Object payload) throws ConfigurateException {
+        this.populateLazy(node, (DeferredJson) payload);
+    }
+
     @Override
     protected void saveInternal(final ConfigurationNode node, final Writer writer) throws ConfigurateException {
         try (JsonGenerator generator = this.factory.createGenerator(writer)) {
-            generator.setPrettyPrinter(new ConfiguratePrettyPrinter(this.indent, this.fieldValueSeparatorStyle));
-            node.visit(JacksonVisitor.INSTANCE.get(), generator);
-            writer.write(SYSTEM_LINE_SEPARATOR); // Jackson doesn't add a newline at the end of files by default
+            this.generate(node, generator);
         } catch (final IOException ex) {
             throw ConfigurateException.wrap(node, ex);
         }
     }
 
+    @Override
+    protected void saveInternal(final ConfigurationNode node, final OutputStream stream) throws ConfigurateException {
+        // encode directly to UTF-8 bytes, rather than going through a Writer
+        try (JsonGenerator generator = this.factory.createGenerator(stream, JsonEncoding.UTF8)) {
+            this.generate(node, generator);
+        } catch (final IOException ex) {
+            throw ConfigurateException.wrap(node, ex);
+        }
+    }
+
+    private void generate(final ConfigurationNode node, final JsonGenerator generator) throws IOException {
+        if (this.prettyPrinter != null) {
+            generator.setPrettyPrinter(this.prettyPrinter.createInstance());
+        }
+        if (this.lazy) {
+            if (!node.virtual() && !node.isNull()) {
+                writeLazy(generator, node);
+            }
+        } else {
+            node.visit(JacksonVisitor.INSTANCE.get(), generator);
+        }
+        if (this.prettyPrinter != null) {
+            generator.writeRaw(SYSTEM_LINE_SEPARATOR); // Jackson doesn't add a newline at the end of files by default
+        }
+    }
+
+    /**
+     * Write a node, copying the source text of any nested values
+     * that have not yet been read.
+     *
+     * @param generator the generator to write to
+     * @param node the node to write
+     * @throws IOException if unable to write
+     */
+    private static void writeLazy(final JsonGenerator generator, final ConfigurationNode node) throws IOException {
+        final @Nullable Object payload = LazyNodes.deferredPayload(node);
+        if (payload instanceof DeferredJson) {
+            final DeferredJson json = (DeferredJson) payload;
+            generator.writeRawValue(json.source, json.start, json.end - json.start);
+        } else if (node.isMap()) {
+            generator.writeStartObject();
+            for (final Map.Entry<Object, ? extends ConfigurationNode> child : node.childrenMap().entrySet()) {
+                generator.writeFieldName(child.getKey().toString());
+                writeLazy(generator, child.getValue());
+            }
+            generator.writeEndObject();
+        } else if (node.isList()) {
+            generator.writeStartArray();
+            for (final ConfigurationNode child : node.childrenList()) {
+                writeLazy(generator, child);
+            }
+            generator.writeEndArray();
+        } else {
+            JacksonVisitor.writeScalar(generator, node.rawScalar());
+        }
+    }
+
     @Override
     public BasicConfigurationNode createNode(final @NonNull ConfigurationOptions options) {
         return BasicConfigurationNode.root(options.nativeTypes(NATIVE_TYPES));
@@ -334,4 +725,22 @@ public final class JacksonConfigurationLoader extends AbstractConfigurationLoade
         return new ParsingException(node, position.getLineNr(), position.getColumnNr(), context, message, cause);
     }
 
+    /**
+     * A range of a source document holding a value that has not yet
+     * been read.
+     */
+    private static final class DeferredJson {
+
+        final char[] source;
+        final int start;
+        final int end;
+
+        DeferredJson(final char[] source, final int start, final int end) {
+            this.source = source;
+            this.start = start;
+            this.end = end;
+        }
+
+    }
+
 }
@@ -23,6 +23,8 @@ import org.spongepowered.configurate.ConfigurationNode;
 import org.spongepowered.configurate.ConfigurationVisitor;
 
 import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 
 @SuppressWarnings("AlmostJavadoc")
 final class JacksonVisitor implements ConfigurationVisitor<JsonGenerator, Void, ConfigurateException> {
@@ -106,30 +108,37 @@ final class JacksonVisitor implements ConfigurationVisitor<JsonGenerator, Void,
 
     @Override
     public void enterScalarNode(final ConfigurationNode node, final JsonGenerator generator) throws ConfigurateException {
-        final @Nullable Object value = node.rawScalar();
         try {
-            if (value instanceof Double) {
-                generator.writeNumber((Double) value);
-            } else if (value instanceof Float) {
-                generator.writeNumber((Float) value);
-            } else if (value instanceof Long) {
-                generator.writeNumber((Long) value);
-            } else if (value instanceof Integer) {
-                generator.writeNumber((Integer) value);
-            } else if (value instanceof Boolean) {
-                generator.writeBoolean((Boolean) value);
-            } else if (value instanceof byte[]) {
-                generator.writeBinary((byte[]) value);
-            } else if (value == null) {
-                generator.writeNull();
-            } else {
-                generator.writeString(value.toString());
-            }
+            writeScalar(generator, node.rawScalar());
         } catch (final IOException ex) {
             throw new ConfigurateException(node, ex);
         }
     }
 
+    static void writeScalar(final JsonGenerator generator, final @Nullable Object value) throws IOException {
+        if (value instanceof Double) {
+            generator.writeNumber((Double) value);
+        } else if (value instanceof Float) {
+            generator.writeNumber((Float) value);
+        } else if (value instanceof Long) {
+            generator.writeNumber((Long) value);
+        } else if (value instanceof Integer) {
+            generator.writeNumber((Integer) value);
+        } else if (value instanceof BigInteger) {
+            generator.writeNumber((BigInteger) value);
+        } else if (value instanceof BigDecimal) {
+            generator.writeNumber((BigDecimal) value);
+        } else if (value instanceof Boolean) {
+            generator.writeBoolean((Boolean) value);
+        } else if (value instanceof byte[]) {
+            generator.writeBinary((byte[]) value);
+        } else if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeString(value.toString());
+        }
+    }
+
     @Override
     public void exitMappingNode(final ConfigurationNode node, final JsonGenerator state) throws ConfigurateException {
         try {
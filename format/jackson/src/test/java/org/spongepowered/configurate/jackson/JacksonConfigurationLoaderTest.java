@@ -17,6 +17,7 @@
 package org.spongepowered.configurate.jackson;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -27,23 +28,29 @@ import org.spongepowered.configurate.BasicConfigurationNode;
 import org.spongepowered.configurate.ConfigurateException;
 import org.spongepowered.configurate.ConfigurationNode;
 import org.spongepowered.configurate.ConfigurationOptions;
+import org.spongepowered.configurate.LazyNodes;
 import org.spongepowered.configurate.NodePath;
 import org.spongepowered.configurate.loader.AtomicFiles;
 import org.spongepowered.configurate.loader.ConfigurationLoader;
 import org.spongepowered.configurate.loader.HeaderMode;
 import org.spongepowered.configurate.loader.ParsingException;
+import org.spongepowered.configurate.loader.PathFilter;
 import org.spongepowered.configurate.util.MapFactories;
 
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
 
 /**
  * Basic sanity checks for the loader.
@@ -129,4 +136,136 @@ class JacksonConfigurationLoaderTest {
         assertTrue(ex.rawMessage().contains("Unexpected end-of-input"));
     }
 
+    @Test
+    void testLazyLoading() throws ConfigurateException {
+        final String source = "{\"a\": {\"b\" :  [1,2,  3], \"c\": true}, \"d\": {\"e\": \"untouched\"}, \"f\": 5}";
+        final StringWriter writer = new StringWriter();
+        final JacksonConfigurationLoader loader = JacksonConfigurationLoader.builder()
+                .lazy(true)
+                .indent(0)
+                .fieldValueSeparatorStyle(FieldValueSeparatorStyle.NO_SPACE)
+                .source(() -> new BufferedReader(new StringReader(source)))
+                .sink(() -> new BufferedWriter(writer))
+                .headerMode(HeaderMode.NONE)
+                .build();
+
+        final ConfigurationNode node = loader.load();
+        assertEquals(5, node.node("f").raw());
+        assertTrue(LazyNodes.isDeferred(node.node("a")));
+        assertTrue(LazyNodes.isDeferred(node.node("d")));
+
+        assertEquals(true, node.node("a", "c").raw());
+        assertFalse(LazyNodes.isDeferred(node.node("a")));
+        assertTrue(LazyNodes.isDeferred(node.node("a", "b")));
+        assertTrue(LazyNodes.isDeferred(node.node("d")));
+
+        node.node("a", "c").raw(false);
+        loader.save(node);
+
+        assertEquals("{\"a\":{\"b\":[1,2,  3],\"c\":false},\"d\":{\"e\": \"untouched\"},\"f\":5}", writer.toString().trim());
+        assertEquals(2, node.node("a", "b", 1).raw());
+    }
+
+    @Test
+    void testLazyLoadingChecksSyntax() {
+        final JacksonConfigurationLoader loader = JacksonConfigurationLoader.builder()
+                .lazy(true)
+                .source(() -> new BufferedReader(new StringReader("{\"a\": {\"b\": [1, 2}}")))
+                .build();
+
+        assertThrows(ParsingException.class, loader::load);
+    }
+
+    @Test
+    void testPathFilteredLoading() throws ConfigurateException {
+        final ConfigurationNode node = JacksonConfigurationLoader.builder()
+                .source(() -> new BufferedReader(new StringReader("{\"server\": {\"network\": {\"port\": 25565, \"hosts\": [\"a\", \"b\"]},"
+                    + " \"motd\": \"hi\"}, \"client\": {\"name\": \"steve\"}, \"values\": [1, {\"a\": 2}, 3]}")))
+                .pathFilter(PathFilter.builder()
+                    .include("server", "network")
+                    .include("values", PathFilter.ANY, "a")
+                    .exclude("server", "network", "hosts", 0)
+                    .build())
+                .build()
+                .load();
+
+        assertEquals(25565, node.node("server", "network", "port").raw());
+        assertEquals(Arrays.asList("b"), node.node("server", "network", "hosts").raw());
+        assertTrue(node.node("server", "motd").virtual());
+        assertTrue(node.node("client").virtual());
+        assertEquals(1, node.node("values").childrenList().size());
+        assertEquals(2, node.node("values", 0, "a").raw());
+    }
+
+    @Test
+    void testNumberParsing() throws ConfigurateException {
+        // integers are sized by the parser's number type, and decimals narrowed to a float when exact
+        final String source = "{\"int\": 2147483647, \"long\": 2147483648, \"big\": 9223372036854775808,"
+            + " \"half\": 0.5, \"decimal\": 0.1}";
+        final ConfigurationNode fast = JacksonConfigurationLoader.builder()
+                .source(() -> new BufferedReader(new StringReader(source)))
+                .build()
+                .load();
+
+        assertEquals(Integer.MAX_VALUE, fast.node("int").raw());
+        assertEquals(2147483648L, fast.node("long").raw());
+        assertEquals(9.223372036854775808e18, fast.node("big").raw());
+        assertEquals(0.5f, fast.node("half").raw());
+        assertEquals(0.1d, fast.node("decimal").raw());
+
+        final ConfigurationNode lossless = JacksonConfigurationLoader.builder()
+                .losslessNumbers(true)
+                .source(() -> new BufferedReader(new StringReader(source)))
+                .build()
+                .load();
+
+        assertEquals(Integer.MAX_VALUE, lossless.node("int").raw());
+        assertEquals(2147483648L, lossless.node("long").raw());
+        assertEquals(new BigInteger("9223372036854775808"), lossless.node("big").raw());
+        assertEquals(new BigDecimal("0.5"), lossless.node("half").raw());
+        assertEquals(new BigDecimal("0.1"), lossless.node("decimal").raw());
+    }
+
+    @Test
+    void testLosslessNumbersRoundtrip() throws ConfigurateException {
+        // nested values are left unread, so their source text is copied when saving
+        final String source = "{\"nested\": {\"big\": 123456789012345678901234567890, \"decimal\": 0.10000000000000000000001}}";
+        final JacksonConfigurationLoader.Builder builder = JacksonConfigurationLoader.builder()
+                .losslessNumbers(true)
+                .lazy(true)
+                .headerMode(HeaderMode.NONE);
+        final ConfigurationNode reloaded = builder.buildAndLoadString(builder.buildAndSaveString(builder.buildAndLoadString(source)));
+
+        assertEquals(new BigInteger("123456789012345678901234567890"), reloaded.node("nested", "big").raw());
+        assertEquals(new BigDecimal("0.10000000000000000000001"), reloaded.node("nested", "decimal").raw());
+    }
+
+    @Test
+    void testSaveToStream() throws ConfigurateException {
+        final ConfigurationNode source = BasicConfigurationNode.root(n -> {
+            n.node("name").raw("§4 caf\u00e9");
+            n.node("values").raw(Arrays.asList(1, 2));
+        });
+
+        final JacksonConfigurationLoader compact = JacksonConfigurationLoader.builder()
+                .compact(true)
+                .headerMode(HeaderMode.NONE)
+                .build();
+        final ByteArrayOutputStream compactOut = new ByteArrayOutputStream();
+        compact.save(source, compactOut);
+        assertEquals("{\"name\":\"§4 caf\u00e9\",\"values\":[1,2]}", new String(compactOut.toByteArray(), StandardCharsets.UTF_8));
+
+        final JacksonConfigurationLoader pretty = JacksonConfigurationLoader.builder()
+                .headerMode(HeaderMode.NONE)
+                .build();
+        for (int i = 0; i < 2; ++i) { // the shared pretty printer must not carry state between saves
+            final ByteArrayOutputStream prettyOut = new ByteArrayOutputStream();
+            pretty.save(source, prettyOut);
+            final String expected = JacksonConfigurationLoader.builder()
+                    .headerMode(HeaderMode.NONE)
+                    .buildAndSaveString(source);
+            assertEquals(expected, new String(prettyOut.toByteArray(), StandardCharsets.UTF_8));
+        }
+    }
+
 }
@@ -0,0 +1,173 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.xml;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.xml.sax.Locator;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.AttributesImpl;
+import org.xml.sax.helpers.NamespaceSupport;
+
+import java.util.Enumeration;
+
+import javax.xml.XMLConstants;
+import javax.xml.stream.Location;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.util.StreamReaderDelegate;
+import javax.xml.validation.ValidatorHandler;
+
+/**
+ * A stream reader that validates each event it reads against a schema.
+ *
+ * <p>This allows a document to be validated in the same pass that reads it,
+ * rather than reading it a second time. Events are only passed on to the
+ * validator through {@link #next()}.</p>
+ *
+ * <p>The underlying reader is not namespace aware, so namespace declarations
+ * are resolved here before being passed to the validator.</p>
+ */
+final class ValidatingStreamReader extends StreamReaderDelegate implements Locator {
+
+    private final ValidatorHandler validator;
+    private final NamespaceSupport namespaces = new NamespaceSupport();
+    private final String[] nameParts = new String[3];
+    private boolean started;
+
+    ValidatingStreamReader(final XMLStreamReader reader, final ValidatorHandler validator) {
+        super(reader);
+        this.validator = validator;
+        this.validator.setDocumentLocator(this);
+    }
+
+    @Override
+    public int next() throws XMLStreamException {
+        try {
+            if (!this.started) {
+                this.started = true;
+                this.validator.startDocument();
+            }
+            final int event = super.next();
+            switch (event) {
+                case XMLStreamConstants.START_ELEMENT:
+                    this.startElement();
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                    this.endElement();
+                    break;
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.CDATA:
+                case XMLStreamConstants.SPACE:
+                    this.validator.characters(this.getTextCharacters(), this.getTextStart(), this.getTextLength());
+                    break;
+                case XMLStreamConstants.END_DOCUMENT:
+                    this.validator.endDocument();
+                    break;
+                default:
+                    // comments and processing instructions are not validated
+                    break;
+            }
+            return event;
+        } catch (final SAXException ex) {
+            throw new XMLStreamException(ex.getMessage(), this.getLocation(), ex);
+        }
+    }
+
+    private void startElement() throws SAXException {
+        this.namespaces.pushContext();
+        final AttributesImpl attributes = new AttributesImpl();
+        for (int i = 0; i < this.getAttributeCount(); ++i) {
+            final String name = qualifiedName(this.getAttributePrefix(i), this.getAttributeLocalName(i));
+            if (name.equals(XMLConstants.XMLNS_ATTRIBUTE)) {
+                this.declarePrefix(XMLConstants.DEFAULT_NS_PREFIX, this.getAttributeValue(i));
+            } else if (name.startsWith(XMLConstants.XMLNS_ATTRIBUTE + ':')) {
+                this.declarePrefix(name.substring(XMLConstants.XMLNS_ATTRIBUTE.length() + 1), this.getAttributeValue(i));
+            }
+        }
+        for (int i = 0; i < this.getAttributeCount(); ++i) {
+            final String name = qualifiedName(this.getAttributePrefix(i), this.getAttributeLocalName(i));
+            if (!name.equals(XMLConstants.XMLNS_ATTRIBUTE) && !name.startsWith(XMLConstants.XMLNS_ATTRIBUTE + ':')) {
+                final String[] parts = this.resolve(name, true);
+                attributes.addAttribute(parts[0], parts[1], parts[2], "CDATA", this.getAttributeValue(i));
+            }
+        }
+        final String[] parts = this.resolve(this.elementName(), false);
+        this.validator.startElement(parts[0], parts[1], parts[2], attributes);
+    }
+
+    private void endElement() throws SAXException {
+        final String[] parts = this.resolve(this.elementName(), false);
+        this.validator.endElement(parts[0], parts[1], parts[2]);
+        final Enumeration<?> prefixes = this.namespaces.getDeclaredPrefixes();
+        while (prefixes.hasMoreElements()) {
+            this.validator.endPrefixMapping((String) prefixes.nextElement());
+        }
+        this.namespaces.popContext();
+    }
+
+    private void declarePrefix(final String prefix, final String uri) throws SAXException {
+        this.namespaces.declarePrefix(prefix, uri);
+        this.validator.startPrefixMapping(prefix, uri);
+    }
+
+    private String[] resolve(final String name, final boolean attribute) throws SAXException {
+        final String @Nullable [] parts = this.namespaces.processName(name, this.nameParts, attribute);
+        if (parts == null) {
+            throw new SAXException("Undeclared namespace prefix in " + name);
+        }
+        return parts;
+    }
+
+    private String elementName() {
+        return qualifiedName(this.getPrefix(), this.getLocalName());
+    }
+
+    private static String qualifiedName(final @Nullable String prefix, final String localName) {
+        if (prefix == null || prefix.isEmpty()) {
+            return localName;
+        }
+        return prefix + ':' + localName;
+    }
+
+    // Locator, so validation errors report where they were found
+
+    @Override
+    public @Nullable String getPublicId() {
+        final Location location = this.getLocation();
+        return location == null ? null : location.getPublicId();
+    }
+
+    @Override
+    public @Nullable String getSystemId() {
+        final Location location = this.getLocation();
+        return location == null ? null : location.getSystemId();
+    }
+
+    @Override
+    public int getLineNumber() {
+        final Location location = this.getLocation();
+        return location == null ? -1 : location.getLineNumber();
+    }
+
+    @Override
+    public int getColumnNumber() {
+        final Location location = this.getLocation();
+        return location == null ? -1 : location.getColumnNumber();
+    }
+
+}
@@ -30,14 +30,7 @@ import org.spongepowered.configurate.loader.CommentHandler;
 import org.spongepowered.configurate.loader.CommentHandlers;
 import org.spongepowered.configurate.loader.ParsingException;
 import org.spongepowered.configurate.util.UnmodifiableCollections;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.NamedNodeMap;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
-import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
-import org.xml.sax.SAXParseException;
 
 import java.io.BufferedReader;
 import java.io.FileNotFoundException;
@@ -45,26 +38,24 @@ import java.io.IOException;
 import java.io.Writer;
 import java.nio.file.NoSuchFileException;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
-import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.stream.Collectors;
 
 import javax.xml.XMLConstants;
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.ParserConfigurationException;
-import javax.xml.transform.OutputKeys;
-import javax.xml.transform.Transformer;
-import javax.xml.transform.TransformerConfigurationException;
-import javax.xml.transform.TransformerException;
-import javax.xml.transform.TransformerFactory;
-import javax.xml.transform.dom.DOMSource;
-import javax.xml.transform.stream.StreamResult;
+import javax.xml.stream.Location;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
 import javax.xml.validation.Schema;
+import javax.xml.validation.ValidatorHandler;
 
 /**
  * A loader for XML (Extensible Markup Language), using the native javax library
@@ -85,20 +76,9 @@ public final class XmlConfigurationLoader extends AbstractConfigurationLoader<At
     private static final String ATTRIBUTE_TYPE = "configurate-type";
 
     /**
-     * The user data used to store comments on nodes.
+     * A run of spaces written out in chunks to produce indentation.
      */
-    private static final String USER_DATA_COMMENT = "configurate-comment";
-
-    /**
-     * The property used to mark how many spaces should be used to indent.
-     */
-    private static final String INDENT_PROPERTY = "{http://xml.apache.org/xslt}indent-amount";
-
-    private static final String FEATURE_EXTERNAL_GENERAL_ENTITIES = "http://xml.org/sax/features/external-general-entities";
-
-    private static final String FEATURE_EXTERNAL_PARAMETER_ENTITIES = "http://xml.org/sax/features/external-parameter-entities";
-
-    private static final String FEATURE_LOAD_EXTERNAL_DTD = "http://apache.org/xml/features/nonvalidating/load-external-dtd";
+    private static final char[] INDENT_CHARS = "                                ".toCharArray();
 
     /**
      * Creates a new {@link XmlConfigurationLoader} builder.
@@ -205,6 +185,10 @@ public final class XmlConfigurationLoader extends AbstractConfigurationLoader<At
         /**
          * Sets the {@link Schema} the resultant loader should use.
          *
+         * <p>When a schema is set, documents are validated in a streaming
+         * pass before being loaded, and any document that does not conform
+         * will fail to load.</p>
+         *
          * @param schema the schema
          * @return this builder (for chaining)
          * @since 4.0.0
@@ -314,7 +298,8 @@ public final class XmlConfigurationLoader extends AbstractConfigurationLoader<At
          * when parsed, requiring an amount of memory to store that may be
          * greater than what is available for the JVM.
          *
-         * <p>By default, this is false.
+         * <p>By default, this is false, and document type declarations are
+         * not processed at all.
          *
          * @param resolvesExternalContent whether to resolve external entities
          * @return this builder
@@ -348,6 +333,8 @@ public final class XmlConfigurationLoader extends AbstractConfigurationLoader<At
     private final boolean writeExplicitType;
     private final boolean includeXmlDeclaration;
     private final boolean resolvesExternalContent;
+    private final XMLInputFactory inputFactory;
+    private final XMLOutputFactory outputFactory;
 
     private XmlConfigurationLoader(final Builder builder) {
         super(builder, new CommentHandler[] {CommentHandlers.XML_STYLE});
@@ -357,81 +344,82 @@ public final class XmlConfigurationLoader extends AbstractConfigurationLoader<At
         this.writeExplicitType = builder.writesExplicitType();
         this.includeXmlDeclaration = builder.includesXmlDeclaration();
         this.resolvesExternalContent = builder.resolvesExternalContent();
+        this.inputFactory = this.createInputFactory();
+        this.outputFactory = XMLOutputFactory.newFactory();
     }
 
-    private DocumentBuilder newDocumentBuilder() throws ConfigurateException {
-        final DocumentBuilderFactory builderFactory = DocumentBuilderFactory.newInstance();
-        if (this.schema != null) {
-            builderFactory.setSchema(this.schema);
-        }
+    /**
+     * Create the factory used for every read performed by this loader.
+     *
+     * <p>Once configured, the factory is never modified again, so it can be
+     * safely shared between threads creating readers.</p>
+     *
+     * @return a new input factory
+     */
+    private XMLInputFactory createInputFactory() {
+        final XMLInputFactory factory = XMLInputFactory.newFactory();
+        // tag and attribute names are read as written, without any namespace processing
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
         if (!this.resolvesExternalContent) {
             // Settings based on https://cheatsheetseries.owasp.org/cheatsheets/XML_External_Entity_Prevention_Cheat_Sheet.html
-            try {
-                builderFactory.setFeature(FEATURE_EXTERNAL_GENERAL_ENTITIES, false);
-                builderFactory.setFeature(FEATURE_EXTERNAL_PARAMETER_ENTITIES, false);
-                builderFactory.setFeature(FEATURE_LOAD_EXTERNAL_DTD, false);
-            } catch (final ParserConfigurationException e) {
-                throw new ConfigurateException(e);
-            }
-            builderFactory.setXIncludeAware(false);
-            builderFactory.setExpandEntityReferences(false);
-        }
-
-        try {
-            return builderFactory.newDocumentBuilder();
-        } catch (final ParserConfigurationException e) {
-            throw new ConfigurateException(e);
+            factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+            factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+            factory.setProperty(XMLConstants.ACCESS_EXTERNAL_DTD, "");
         }
+        return factory;
     }
 
-    private Transformer newTransformer() throws ConfigurateException {
-        final TransformerFactory transformerFactory = TransformerFactory.newInstance();
-        if (!this.resolvesExternalContent) {
-            transformerFactory.setAttribute(XMLConstants.ACCESS_EXTERNAL_DTD, "");
-            transformerFactory.setAttribute(XMLConstants.ACCESS_EXTERNAL_STYLESHEET, "");
+    /**
+     * Create a reader for a document, validating it as it is read if this
+     * loader has a schema.
+     *
+     * @param reader the source of the document
+     * @return a new stream reader
+     * @throws XMLStreamException if the reader could not be created
+     * @throws SAXException if the validator could not be configured
+     */
+    private XMLStreamReader createReader(final BufferedReader reader) throws XMLStreamException, SAXException {
+        final XMLStreamReader xml = this.inputFactory.createXMLStreamReader(reader);
+        if (this.schema == null) {
+            return xml;
         }
-        try {
-            final Transformer transformer = transformerFactory.newTransformer();
-
-            // we write the header ourselves.
-            transformer.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "yes");
 
-            if (this.indent > 0) {
-                transformer.setOutputProperty(OutputKeys.INDENT, "yes");
-                transformer.setOutputProperty(INDENT_PROPERTY, Integer.toString(this.indent));
-            }
-            return transformer;
-        } catch (final TransformerConfigurationException e) {
-            throw new ConfigurateException(e);
+        final ValidatorHandler validator = this.schema.newValidatorHandler();
+        if (!this.resolvesExternalContent) {
+            validator.setProperty(XMLConstants.ACCESS_EXTERNAL_DTD, "");
+            validator.setProperty(XMLConstants.ACCESS_EXTERNAL_SCHEMA, "");
         }
+        return new ValidatingStreamReader(xml, validator);
     }
 
     @Override
-    public @NonNull AttributedConfigurationNode load(@NonNull ConfigurationOptions options) throws ParsingException {
-        if (this.source == null) {
-            throw new ParsingException(-1, -1, "", "No source present to read from!", null);
-        }
-        try (BufferedReader reader = this.source.call()) {
-            final DocumentBuilder documentBuilder = this.newDocumentBuilder();
-
-            final Document document;
-            try {
-                document = documentBuilder.parse(new InputSource(reader));
-            } catch (final SAXParseException ex) {
-                throw new ParsingException(ex.getLineNumber(), ex.getColumnNumber(), "", ex.getMessage(), ex.getCause());
-            } catch (final SAXException e) {
-                throw new ParsingException(-1, -1, null, null, e);
-            }
-
-            final NodeList children = document.getChildNodes();
-            for (int i = 0; i < children.getLength(); ++i) {
-                final Node child = children.item(i);
-                if (child.getNodeType() == Node.COMMENT_NODE) {
-                    options = options.header(this.unwrapHeader(child.getTextContent().trim()));
-                } else if (child.getNodeType() == Node.ELEMENT_NODE) {
-                    final AttributedConfigurationNode node = this.createNode(options);
-                    this.readElement(child, node);
-                    return node;
+    protected @NonNull AttributedConfigurationNode loadFrom(
+        final Callable<BufferedReader> source,
+        @NonNull ConfigurationOptions options
+    ) throws ParsingException {
+        try {
+            try (BufferedReader reader = source.call()) {
+                // any schema is validated in the same pass, and an invalid document discards the nodes read so far
+                final XMLStreamReader xml = this.createReader(reader);
+                try {
+                    while (xml.hasNext()) {
+                        final int event = xml.next();
+                        if (event == XMLStreamConstants.COMMENT) {
+                            options = options.header(this.unwrapHeader(xml.getText().trim()));
+                        } else if (event == XMLStreamConstants.START_ELEMENT) {
+                            final AttributedConfigurationNode node = this.createNode(options);
+                            this.readElement(xml, node);
+                            // consume the rest of the document to detect any trailing malformed content
+                            while (xml.hasNext()) {
+                                xml.next();
+                            }
+                            this.pathFilter().prune(node);
+                            return node;
+                        }
+                    }
+                } finally {
+                    xml.close();
                 }
             }
             // empty document, fall through
@@ -439,6 +427,14 @@ public final class XmlConfigurationLoader extends AbstractConfigurationLoader<At
             // Squash -- there's nothing to read
         } catch (final ParsingException ex) {
             throw ex;
+        } catch (final XMLStreamException ex) {
+            final @Nullable Location location = ex.getLocation();
+            if (location != null) {
+                throw new ParsingException(location.getLineNumber(), location.getColumnNumber(), "", ex.getMessage(), ex.getCause());
+            }
+            throw new ParsingException(-1, -1, null, null, ex);
+        } catch (final SAXException ex) {
+            throw new ParsingException(-1, -1, null, null, ex);
         } catch (final Exception e) {
             throw new ParsingException(-1, -1, "", null, e);
         }
@@ -480,100 +476,143 @@ public final class XmlConfigurationLoader extends AbstractConfigurationLoader<At
         MAP, LIST
     }
 
-    private void readElement(final Node from, final AttributedConfigurationNode to) {
-        @Nullable NodeType type = null;
+    /**
+     * Read the element the reader is currently positioned at into a node.
+     *
+     * <p>When this method returns, the reader will be positioned at the end
+     * tag of the element.</p>
+     *
+     * @param reader the reader, positioned at a start tag
+     * @param to the node to populate
+     * @throws XMLStreamException if the document is malformed
+     */
+    private void readElement(final XMLStreamReader reader, final AttributedConfigurationNode to) throws XMLStreamException {
+        @Nullable NodeType explicitType = null;
 
         // copy the name of the tag
-        to.tagName(from.getNodeName());
-
-        final String potentialComment = (String) from.getUserData(USER_DATA_COMMENT);
-        if (potentialComment != null) {
-            to.comment(potentialComment);
-        }
+        to.tagName(elementName(reader));
 
         // copy attributes
-        if (from.hasAttributes()) {
-            final NamedNodeMap attributes = from.getAttributes();
-            for (int i = 0; i < attributes.getLength(); i++) {
-                final Node attribute = attributes.item(i);
-                final String key = attribute.getNodeName();
-                final String value = attribute.getNodeValue();
-
-                // read the type of the node
-                if (key.equals(ATTRIBUTE_TYPE)) {
-                    if (value.equals("map")) {
-                        type = NodeType.MAP;
-                    } else if (value.equals("list")) {
-                        type = NodeType.LIST;
-                    }
-
-                    // don't add internal configurate attributes to the node
-                    continue;
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            final String key = qualifiedName(reader.getAttributePrefix(i), reader.getAttributeLocalName(i));
+            final String value = reader.getAttributeValue(i);
+
+            // read the type of the node
+            if (key.equals(ATTRIBUTE_TYPE)) {
+                if (value.equals("map")) {
+                    explicitType = NodeType.MAP;
+                } else if (value.equals("list")) {
+                    explicitType = NodeType.LIST;
                 }
 
-                to.addAttribute(key, value);
+                // don't add internal configurate attributes to the node
+                continue;
             }
-        }
 
-        // read out the child nodes into a multimap
-        final Map<String, Collection<Node>> children = new LinkedHashMap<>();
-        if (from.hasChildNodes()) {
-            final StringBuilder comment = new StringBuilder();
-            final NodeList childNodes = from.getChildNodes();
-            for (int i = 0; i < childNodes.getLength(); i++) {
-                final Node child = childNodes.item(i);
-                if (child.getNodeType() == Node.ELEMENT_NODE) {
-                    children.computeIfAbsent(child.getNodeName(), $ -> new ArrayList<>()).add(child);
-                    if (comment.length() > 0) {
-                        child.setUserData(USER_DATA_COMMENT, comment.toString(), null);
-                        comment.setLength(0);
+            to.addAttribute(key, value);
+        }
+
+        // if no type was written out, we need to infer what type the element is:
+        // assume it's a map until a duplicate tag name is encountered, then switch to a list
+        final boolean inferType = explicitType == null;
+        NodeType type = explicitType == null ? NodeType.MAP : explicitType;
+
+        @Nullable StringBuilder text = new StringBuilder();
+        @Nullable StringBuilder comment = null;
+        while (true) {
+            final int event = reader.next();
+            switch (event) {
+                case XMLStreamConstants.START_ELEMENT:
+                    // once a child element is found, this element can no longer be a scalar
+                    text = null;
+                    final String childName = elementName(reader);
+                    final AttributedConfigurationNode child;
+                    if (type == NodeType.LIST) {
+                        child = to.appendListNode();
+                    } else if (!to.hasChild(childName)) {
+                        child = to.node(childName);
+                    } else if (inferType) {
+                        // a duplicate key means this must be a list
+                        convertToList(to);
+                        type = NodeType.LIST;
+                        child = to.appendListNode();
+                    } else {
+                        // explicit maps only keep the first element with any given name
+                        skipElement(reader);
+                        comment = null;
+                        break;
+                    }
+
+                    if (comment != null) {
+                        child.comment(comment.toString());
+                        comment = null;
                     }
-                } else if (child.getNodeType() == Node.COMMENT_NODE) {
-                    if (comment.length() > 0) {
+                    this.readElement(reader, child);
+                    break;
+                case XMLStreamConstants.COMMENT:
+                    if (comment == null) {
+                        comment = new StringBuilder();
+                    } else {
                         comment.append('\n');
                     }
-
-                    comment.append(child.getTextContent().trim());
-                }
+                    comment.append(reader.getText().trim());
+                    break;
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.CDATA:
+                case XMLStreamConstants.SPACE:
+                    if (text != null) {
+                        text.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                    }
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                    // if there are no child elements present, assume it's a scalar value
+                    if (text != null) {
+                        to.raw(parseValue(text.toString()));
+                    }
+                    return;
+                default:
+                    // processing instructions, entity references, etc. carry no data for us
+                    break;
             }
         }
+    }
 
-        // if there are no child nodes present, assume it's a scalar value
-        if (children.isEmpty()) {
-            to.raw(parseValue(from.getTextContent()));
-            return;
+    /**
+     * Move all elements read into a map node so far over to list entries.
+     *
+     * <p>Elements are read into a map until a duplicate tag name is
+     * encountered, which will usually happen within the first few
+     * elements of a list.</p>
+     *
+     * @param node the node to convert
+     */
+    private static void convertToList(final AttributedConfigurationNode node) {
+        final List<AttributedConfigurationNode> previous = new ArrayList<>(node.childrenMap().values());
+        node.raw(Collections.emptyList());
+        for (final AttributedConfigurationNode element : previous) {
+            node.appendListNode().from(element);
         }
+    }
 
-        // if type is null, we need to infer what type the element is
-        if (type == null) {
-            // if there are no duplicate keys, we can infer that it is a map
-            // otherwise, assume it's a list
-            type = NodeType.MAP;
-            for (final Collection<Node> child : children.values()) {
-                if (child.size() > 1) {
-                    type = NodeType.LIST;
-                    break;
-                }
-            }
+    private static String elementName(final XMLStreamReader reader) {
+        return qualifiedName(reader.getPrefix(), reader.getLocalName());
+    }
+
+    private static String qualifiedName(final @Nullable String prefix, final String localName) {
+        if (prefix == null || prefix.isEmpty()) {
+            return localName;
         }
+        return prefix + ':' + localName;
+    }
 
-        if (type == NodeType.MAP) {
-            to.raw(Collections.emptyMap());
-        } else {
-            to.raw(Collections.emptyList());
-        }
-
-        // read out the elements
-        for (final Map.Entry<String, Collection<Node>> entry : children.entrySet()) {
-            AttributedConfigurationNode child;
-            if (type == NodeType.MAP) {
-                child = to.node(entry.getKey());
-                this.readElement(entry.getValue().iterator().next(), child);
-            } else {
-                for (final Node element : entry.getValue()) {
-                    child = to.appendListNode();
-                    this.readElement(element, child);
-                }
+    private static void skipElement(final XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            final int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
             }
         }
     }
@@ -588,43 +627,50 @@ public final class XmlConfigurationLoader extends AbstractConfigurationLoader<At
 
     @Override
     protected void saveInternal(final ConfigurationNode node, final Writer writer) throws ConfigurateException {
-        final DocumentBuilder documentBuilder = this.newDocumentBuilder();
-        final Document document = documentBuilder.newDocument();
-
-        final @Nullable Node comment = this.createCommentNode(document, node);
-        if (comment != null) {
-            document.appendChild(comment);
-        }
-
-        document.appendChild(this.writeNode(document, node, null));
-
-        final Transformer transformer = this.newTransformer();
-        final DOMSource source = new DOMSource(document);
         try {
-            transformer.transform(source, new StreamResult(writer));
-        } catch (final TransformerException e) {
+            final XMLStreamWriter xml = this.outputFactory.createXMLStreamWriter(writer);
+            // we write the header ourselves, so no document start is written
+            if (this.writeComment(xml, node)) {
+                this.writeLineBreak(xml);
+            }
+            this.writeNode(xml, node, null, 0);
+            this.writeLineBreak(xml);
+            xml.flush();
+            // closing the stream writer will not close the underlying writer
+            xml.close();
+        } catch (final XMLStreamException e) {
             throw new ConfigurateException(node, e);
         }
     }
 
-    private void appendCommentIfNecessary(final Element parent, final ConfigurationNode node) {
-        final @Nullable Node possibleComment = this.createCommentNode(parent.getOwnerDocument(), node);
-        if (possibleComment != null) {
-            parent.appendChild(possibleComment);
-        }
-    }
-
-    private @Nullable Node createCommentNode(final Document doc, final ConfigurationNode node) {
+    private boolean writeComment(final XMLStreamWriter writer, final ConfigurationNode node) throws XMLStreamException {
         if (node instanceof CommentedConfigurationNodeIntermediary<?>) {
             final @Nullable String comment = ((CommentedConfigurationNodeIntermediary<?>) node).comment();
             if (comment != null) {
-                return doc.createComment(" " + comment.trim() + " ");
+                writer.writeComment(" " + comment.trim() + " ");
+                return true;
             }
         }
-        return null;
+        return false;
     }
 
-    private Element writeNode(final Document document, final ConfigurationNode node, final @Nullable String forcedTag) {
+    private void writeLineBreak(final XMLStreamWriter writer) throws XMLStreamException {
+        if (this.indent > 0) {
+            writer.writeCharacters(SYSTEM_LINE_SEPARATOR);
+        }
+    }
+
+    private void writeIndent(final XMLStreamWriter writer, final int depth) throws XMLStreamException {
+        if (this.indent > 0) {
+            writer.writeCharacters(SYSTEM_LINE_SEPARATOR);
+            for (int remaining = this.indent * depth; remaining > 0; remaining -= INDENT_CHARS.length) {
+                writer.writeCharacters(INDENT_CHARS, 0, Math.min(remaining, INDENT_CHARS.length));
+            }
+        }
+    }
+
+    private void writeNode(final XMLStreamWriter writer, final ConfigurationNode node, final @Nullable String forcedTag, final int depth)
+            throws XMLStreamException {
         String tag = this.defaultTagName;
         Map<String, String> attributes = Collections.emptyMap();
 
@@ -634,29 +680,47 @@ public final class XmlConfigurationLoader extends AbstractConfigurationLoader<At
             attributes = attributedNode.attributes();
         }
 
-        final Element element = document.createElement(forcedTag == null ? tag : forcedTag);
+        final boolean empty = node.isMap() && node.childrenMap().isEmpty() || node.isList() && node.childrenList().isEmpty();
+        if (empty) {
+            writer.writeEmptyElement(forcedTag == null ? tag : forcedTag);
+        } else {
+            writer.writeStartElement(forcedTag == null ? tag : forcedTag);
+        }
+
         for (final Map.Entry<String, String> attribute : attributes.entrySet()) {
-            element.setAttribute(attribute.getKey(), attribute.getValue());
+            writer.writeAttribute(attribute.getKey(), attribute.getValue());
         }
 
         if (node.isMap()) {
             for (final Map.Entry<Object, ? extends ConfigurationNode> child : node.childrenMap().entrySet()) {
-                this.appendCommentIfNecessary(element, child.getValue());
-                element.appendChild(this.writeNode(document, child.getValue(), child.getKey().toString()));
+                this.writeChild(writer, child.getValue(), child.getKey().toString(), depth + 1);
             }
         } else if (node.isList()) {
             if (this.writeExplicitType) {
-                element.setAttribute(ATTRIBUTE_TYPE, "list");
+                writer.writeAttribute(ATTRIBUTE_TYPE, "list");
             }
             for (final ConfigurationNode child : node.childrenList()) {
-                this.appendCommentIfNecessary(element, child);
-                element.appendChild(this.writeNode(document, child, null));
+                this.writeChild(writer, child, null, depth + 1);
             }
         } else {
-            element.appendChild(document.createTextNode(Objects.toString(node.rawScalar())));
+            writer.writeCharacters(Objects.toString(node.rawScalar()));
         }
 
-        return element;
+        if (!empty) {
+            if (node.isMap() || node.isList()) {
+                this.writeIndent(writer, depth);
+            }
+            writer.writeEndElement();
+        }
+    }
+
+    private void writeChild(final XMLStreamWriter writer, final ConfigurationNode child, final @Nullable String forcedTag, final int depth)
+            throws XMLStreamException {
+        this.writeIndent(writer, depth);
+        if (this.writeComment(writer, child)) {
+            this.writeIndent(writer, depth);
+        }
+        this.writeNode(writer, child, forcedTag, depth);
     }
 
     @Override
@@ -19,6 +19,7 @@ package org.spongepowered.configurate.xml;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.google.common.io.Resources;
@@ -26,16 +27,25 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.spongepowered.configurate.AttributedConfigurationNode;
 import org.spongepowered.configurate.ConfigurateException;
+import org.spongepowered.configurate.ConfigurationNode;
 import org.spongepowered.configurate.loader.AtomicFiles;
+import org.spongepowered.configurate.loader.ParsingException;
 
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.StringReader;
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.xml.XMLConstants;
+import javax.xml.transform.stream.StreamSource;
+import javax.xml.validation.Schema;
+import javax.xml.validation.SchemaFactory;
 
 /**
  * Basic sanity checks for the loader.
@@ -161,4 +171,76 @@ class XmlConfigurationLoaderTest {
         assertEquals(Resources.readLines(original, UTF_8), Files.readAllLines(destination, UTF_8));
     }
 
+    @Test
+    void testInferredListKeepsEarlierElements() throws ConfigurateException {
+        final AttributedConfigurationNode node = (AttributedConfigurationNode) XmlConfigurationLoader.builder()
+                .buildAndLoadString("<items>"
+                        + "<!-- the first -->"
+                        + "<item id=\"1\">one</item>"
+                        + "<item id=\"2\">two</item>"
+                        + "<item id=\"3\"><name>three</name></item>"
+                        + "</items>");
+
+        assertTrue(node.isList());
+        final List<AttributedConfigurationNode> items = node.childrenList();
+        assertEquals(3, items.size());
+        assertEquals("one", items.get(0).raw());
+        assertEquals("1", items.get(0).attribute("id"));
+        assertEquals("the first", items.get(0).comment());
+        assertEquals("item", items.get(0).tagName());
+        assertEquals("two", items.get(1).raw());
+        assertEquals("three", items.get(2).node("name").raw());
+    }
+
+    @Test
+    void testExplicitMapKeepsFirstDuplicate() throws ConfigurateException {
+        final ConfigurationNode node = XmlConfigurationLoader.builder()
+                .buildAndLoadString("<data configurate-type=\"map\"><a>1</a><a><b>2</b></a><c>true</c></data>");
+
+        assertTrue(node.isMap());
+        assertEquals(1, node.node("a").raw());
+        assertEquals(true, node.node("c").raw());
+    }
+
+    @Test
+    void testEscapedContentRoundtrip() throws ConfigurateException {
+        final XmlConfigurationLoader.Builder builder = XmlConfigurationLoader.builder();
+        final ConfigurationNode node = builder.buildAndLoadString(
+                "<data attr=\"&quot;quoted&quot; &amp; &lt;tagged&gt;\"><text><![CDATA[<not> a & tag]]></text></data>");
+
+        final String saved = builder.buildAndSaveString(node);
+        final AttributedConfigurationNode reloaded = (AttributedConfigurationNode) builder.buildAndLoadString(saved);
+
+        assertEquals("\"quoted\" & <tagged>", reloaded.attribute("attr"));
+        assertEquals("<not> a & tag", reloaded.node("text").raw());
+    }
+
+    @Test
+    void testSchemaValidatedInOnePass() throws Exception {
+        final Schema schema = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI).newSchema(new StreamSource(new StringReader(
+            "<xs:schema xmlns:xs=\"http://www.w3.org/2001/XMLSchema\">"
+                + "<xs:element name=\"server\"><xs:complexType><xs:sequence>"
+                + "<xs:element name=\"port\" type=\"xs:int\"/>"
+                + "</xs:sequence></xs:complexType></xs:element>"
+                + "</xs:schema>"
+        )));
+        final AtomicInteger reads = new AtomicInteger();
+        final XmlConfigurationLoader valid = XmlConfigurationLoader.builder()
+            .schema(schema)
+            .source(() -> {
+                reads.incrementAndGet();
+                return new BufferedReader(new StringReader("<server><port>25565</port></server>"));
+            })
+            .build();
+
+        assertEquals(25565, valid.load().node("port").getInt());
+        assertEquals(1, reads.get());
+
+        final XmlConfigurationLoader invalid = XmlConfigurationLoader.builder()
+            .schema(schema)
+            .source(() -> new BufferedReader(new StringReader("<server><port>not a number</port></server>")))
+            .build();
+        assertThrows(ParsingException.class, invalid::load);
+    }
+
 }
@@ -20,19 +20,25 @@ import net.kyori.option.Option;
 import net.kyori.option.OptionSchema;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.configurate.CommentedConfigurationNode;
+import org.spongepowered.configurate.ConfigurateException;
 import org.spongepowered.configurate.ConfigurationNode;
 import org.spongepowered.configurate.ConfigurationOptions;
 import org.spongepowered.configurate.loader.AbstractConfigurationLoader;
 import org.spongepowered.configurate.loader.CommentHandler;
 import org.spongepowered.configurate.loader.CommentHandlers;
+import org.spongepowered.configurate.loader.ParsingException;
+import org.spongepowered.configurate.loader.ReusablePool;
 import org.spongepowered.configurate.util.UnmodifiableCollections;
 import org.yaml.snakeyaml.DumperOptions;
 import org.yaml.snakeyaml.LoaderOptions;
 import org.yaml.snakeyaml.Yaml;
 import org.yaml.snakeyaml.constructor.Constructor;
+import org.yaml.snakeyaml.nodes.Node;
 import org.yaml.snakeyaml.representer.Representer;
 
 import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
 import java.io.Writer;
 import java.math.BigInteger;
 import java.sql.Timestamp;
@@ -56,6 +62,12 @@ public final class YamlConfigurationLoader extends AbstractConfigurationLoader<C
             Boolean.class, Integer.class, Long.class, BigInteger.class, Double.class, // numeric
             byte[].class, String.class, Date.class, java.sql.Date.class, Timestamp.class); // complex types
 
+    /**
+     * Characters that may not appear in plain scalars within
+     * flow collections.
+     */
+    private static final String FLOW_INDICATORS = ",[]{}";
+
     /**
      * Creates a new {@link YamlConfigurationLoader} builder.
      *
@@ -73,6 +85,8 @@ public final class YamlConfigurationLoader extends AbstractConfigurationLoader<C
      * <dl>
      *     <dt>&lt;prefix&gt;.yaml.node-style</dt>
      *     <dd>Equivalent to {@link #nodeStyle(NodeStyle)}</dd>
+     *     <dt>&lt;prefix&gt;.yaml.incremental-save</dt>
+     *     <dd>Equivalent to {@link #incrementalSave(boolean)}</dd>
      * </dl>
      *
      * @since 4.0.0
@@ -106,6 +120,15 @@ public final class YamlConfigurationLoader extends AbstractConfigurationLoader<C
          */
         public static final Option<Integer> INDENT = UNSAFE_SCHEMA.intOption("yaml:indent", 4);
 
+        /**
+         * Whether to save by updating the text of the most recently
+         * loaded document.
+         *
+         * @see #incrementalSave(boolean)
+         * @since 4.3.0
+         */
+        public static final Option<Boolean> INCREMENTAL_SAVE = UNSAFE_SCHEMA.booleanOption("yaml:incremental-save", false);
+
         private final DumperOptions options = new DumperOptions();
 
         Builder() {
@@ -181,13 +204,52 @@ public final class YamlConfigurationLoader extends AbstractConfigurationLoader<C
             return this.optionState().value(NODE_STYLE);
         }
 
+        /**
+         * Sets whether the built loader will save by updating the text of
+         * the document it most recently loaded.
+         *
+         * <p>When enabled, saving a node only replaces the text of scalar
+         * values that have changed since the document was loaded, so
+         * comments, ordering and formatting written by hand are preserved.
+         * Saving an unmodified node writes the loaded document back
+         * unchanged.</p>
+         *
+         * <p>Changes that cannot be made in place, such as adding or
+         * removing keys, changing the length of a list, or modifying block
+         * scalars, aliased values, or merged keys, will cause the entire
+         * document to be written as it would be without this option.</p>
+         *
+         * <p>Each loader remembers only one document, so a loader with this
+         * option should be used with a single file.</p>
+         *
+         * @param incrementalSave whether to save incrementally
+         * @return this builder (for chaining)
+         * @since 4.3.0
+         */
+        public Builder incrementalSave(final boolean incrementalSave) {
+            this.optionStateBuilder().value(INCREMENTAL_SAVE, incrementalSave);
+            return this;
+        }
+
+        /**
+         * Gets whether the built loader will save incrementally.
+         *
+         * @return whether saving is incremental
+         * @since 4.3.0
+         */
+        public boolean incrementalSave() {
+            return this.optionState().value(INCREMENTAL_SAVE);
+        }
+
         @Override
         public YamlConfigurationLoader build() {
             return new YamlConfigurationLoader(this);
         }
     }
 
-    private final ThreadLocal<Yaml> yaml;
+    private final ReusablePool<Yaml> yaml;
+    private final @Nullable ReusablePool<ScalarConstructor> constructors;
+    private volatile @Nullable YamlSourceDocument document;
 
     private YamlConfigurationLoader(final Builder builder) {
         super(builder, new CommentHandler[] {CommentHandlers.HASH});
@@ -199,17 +261,130 @@ public final class YamlConfigurationLoader extends AbstractConfigurationLoader<C
         final DumperOptions opts = builder.options;
         opts.setDefaultFlowStyle(NodeStyle.asSnakeYaml(builder.optionState().value(Builder.NODE_STYLE)));
         opts.setIndent(builder.optionState().value(Builder.INDENT));
-        this.yaml = ThreadLocal.withInitial(() -> new Yaml(new Constructor(loaderOpts), new Representer(opts), opts, loaderOpts));
+        this.yaml = this.reusablePool(() -> new Yaml(new Constructor(loaderOpts), new Representer(opts), opts, loaderOpts));
+        this.constructors = builder.optionState().value(Builder.INCREMENTAL_SAVE)
+            ? this.reusablePool(() -> new ScalarConstructor(loaderOpts))
+            : null;
     }
 
     @Override
-    protected void loadInternal(final CommentedConfigurationNode node, final BufferedReader reader) {
-        node.raw(this.yaml.get().load(reader));
+    protected void loadInternal(final CommentedConfigurationNode node, final BufferedReader reader) throws ParsingException {
+        if (this.constructors != null) {
+            this.loadIncremental(node, reader, this.constructors);
+            return;
+        }
+        node.raw(this.yaml.use(instance -> instance.load(reader)));
+    }
+
+    private void loadIncremental(
+        final CommentedConfigurationNode node,
+        final BufferedReader reader,
+        final ReusablePool<ScalarConstructor> constructors
+    ) throws ParsingException {
+        final String text;
+        try {
+            final StringBuilder buffer = new StringBuilder();
+            final char[] chunk = new char[8192];
+            int read;
+            while ((read = reader.read(chunk)) != -1) {
+                buffer.append(chunk, 0, read);
+            }
+            text = buffer.toString();
+        } catch (final IOException ex) {
+            throw ParsingException.wrap(node, ex);
+        }
+
+        final @Nullable Node composed = this.yaml.use(instance -> instance.compose(new StringReader(text)));
+        if (composed == null) { // an empty document
+            this.document = null;
+            node.raw(null);
+            return;
+        }
+
+        final ScalarConstructor constructor = constructors.acquire();
+        try {
+            final @Nullable YamlSourceDocument document = YamlSourceDocument.read(text, composed, constructor::construct);
+            this.document = document;
+            node.raw(document == null ? constructor.construct(composed) : document.value());
+        } finally {
+            constructors.release(constructor);
+        }
     }
 
     @Override
-    protected void saveInternal(final ConfigurationNode node, final Writer writer) {
-        this.yaml.get().dump(node.raw(), writer);
+    protected void saveInternal(final ConfigurationNode node, final Writer writer) throws ConfigurateException {
+        if (this.constructors != null) {
+            this.saveIncremental(node, writer, this.constructors);
+            return;
+        }
+
+        final Yaml instance = this.yaml.acquire();
+        try {
+            instance.dump(node.raw(), writer);
+        } finally {
+            this.yaml.release(instance);
+        }
+    }
+
+    private void saveIncremental(
+        final ConfigurationNode node,
+        final Writer writer,
+        final ReusablePool<ScalarConstructor> constructors
+    ) throws ConfigurateException {
+        final @Nullable YamlSourceDocument document = this.document;
+        @Nullable String text = document == null ? null : document.patch(node, this::renderScalar);
+        if (text == null) {
+            final @Nullable Object value = node.raw();
+            text = this.yaml.use(instance -> instance.dump(value));
+        }
+
+        try {
+            writer.write(text);
+        } catch (final IOException ex) {
+            throw new ConfigurateException(node, ex);
+        }
+
+        if (document == null || !text.equals(document.text())) {
+            // read back what was written, so the next save can be patched
+            final String written = text;
+            final @Nullable Node composed = this.yaml.use(instance -> instance.compose(new StringReader(written)));
+            if (composed == null) {
+                this.document = null;
+            } else {
+                this.document = constructors.use(constructor -> YamlSourceDocument.read(written, composed, constructor::construct));
+            }
+        }
+    }
+
+    /**
+     * Render a single scalar value to replace one in an existing document.
+     *
+     * @param value the value to render
+     * @param flow whether the value is within a flow collection
+     * @return the rendered value, or {@code null} if it cannot be written
+     *     on a single line
+     */
+    private @Nullable String renderScalar(final @Nullable Object value, final boolean flow) {
+        final String dumped = this.yaml.use(instance -> instance.dump(value));
+        int end = dumped.length();
+        while (end > 0 && (dumped.charAt(end - 1) == '\n' || dumped.charAt(end - 1) == '\r')) {
+            end--;
+        }
+        final String rendered = dumped.substring(0, end);
+        if (rendered.indexOf('\n') != -1 || rendered.indexOf('\r') != -1) {
+            return null;
+        }
+
+        // plain scalars are rendered for block context, where flow indicators have no meaning
+        if (flow && !rendered.isEmpty() && rendered.charAt(0) != '\'' && rendered.charAt(0) != '"') {
+            for (int i = 0; i < rendered.length(); ++i) {
+                if (FLOW_INDICATORS.indexOf(rendered.charAt(i)) != -1) {
+                    // the rendered text is a single line, so can always be single-quoted
+                    return value instanceof String ? "'" + ((String) value).replace("'", "''") + "'" : null;
+                }
+            }
+        }
+        return rendered;
     }
 
     @Override
@@ -217,4 +392,19 @@ public final class YamlConfigurationLoader extends AbstractConfigurationLoader<C
         return CommentedConfigurationNode.root(options);
     }
 
+    /**
+     * A constructor that can build the values of individual nodes.
+     */
+    private static final class ScalarConstructor extends Constructor {
+
+        ScalarConstructor(final LoaderOptions options) {
+            super(options);
+        }
+
+        @Nullable Object construct(final Node node) {
+            return this.constructDocument(node);
+        }
+
+    }
+
 }
@@ -0,0 +1,363 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.yaml;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.configurate.ConfigurationNode;
+import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.nodes.MappingNode;
+import org.yaml.snakeyaml.nodes.Node;
+import org.yaml.snakeyaml.nodes.NodeTuple;
+import org.yaml.snakeyaml.nodes.ScalarNode;
+import org.yaml.snakeyaml.nodes.SequenceNode;
+import org.yaml.snakeyaml.nodes.Tag;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * The text of a loaded YAML document, along with the location of
+ * each scalar value within it.
+ *
+ * <p>This allows a modified configuration to be saved by replacing only
+ * the scalars whose values have changed, leaving comments and all other
+ * formatting in the document untouched.</p>
+ */
+final class YamlSourceDocument {
+
+    private final String text;
+    private final Element root;
+
+    private YamlSourceDocument(final String text, final Element root) {
+        this.text = text;
+        this.root = root;
+    }
+
+    /**
+     * Read the structure of a composed document.
+     *
+     * @param text the text the document was composed from
+     * @param composed the root node of the composed document
+     * @param scalars a function to construct the value of a scalar
+     * @return the document, or {@code null} if it uses features that
+     *     prevent it from being patched
+     */
+    static @Nullable YamlSourceDocument read(
+        final String text,
+        final Node composed,
+        final Function<ScalarNode, @Nullable Object> scalars
+    ) {
+        final Reader reader = new Reader(text, scalars);
+        final @Nullable Element root = reader.read(composed);
+        return root == null ? null : new YamlSourceDocument(text, root);
+    }
+
+    /**
+     * Get the value of the document, as would be constructed by SnakeYAML.
+     *
+     * @return the document value
+     */
+    @Nullable Object value() {
+        return this.root.value();
+    }
+
+    /**
+     * Get the text this document was read from.
+     *
+     * @return the document text
+     */
+    String text() {
+        return this.text;
+    }
+
+    /**
+     * Produce the text of this document updated to the value of a node.
+     *
+     * <p>Only changes to scalar values can be patched. Any structural change
+     * (such as adding or removing a key, or changing the length of a list)
+     * will prevent patching.</p>
+     *
+     * @param node the node to write
+     * @param renderer a function to render a scalar value in place,
+     *     returning {@code null} if it cannot be represented on one line
+     * @return the updated text, or {@code null} if the document could not
+     *     be patched
+     */
+    @Nullable String patch(final ConfigurationNode node, final ScalarRenderer renderer) {
+        final List<Patch> patches = new ArrayList<>();
+        if (!this.root.diff(node, false, renderer, patches)) {
+            return null;
+        }
+        if (patches.isEmpty()) {
+            return this.text;
+        }
+
+        // scalars are visited in document order, so patches are already sorted
+        final StringBuilder result = new StringBuilder(this.text.length() + 16 * patches.size());
+        int position = 0;
+        for (final Patch patch : patches) {
+            result.append(this.text, position, patch.start).append(patch.replacement);
+            position = patch.end;
+        }
+        return result.append(this.text, position, this.text.length()).toString();
+    }
+
+    /**
+     * Renders scalar values for insertion into an existing document.
+     */
+    @FunctionalInterface
+    interface ScalarRenderer {
+
+        /**
+         * Render a single scalar.
+         *
+         * @param value the value to render
+         * @param flow whether the scalar is within a flow collection
+         * @return the rendered scalar, or {@code null} if it cannot be
+         *     written on a single line in this context
+         */
+        @Nullable String render(@Nullable Object value, boolean flow);
+
+    }
+
+    private static final class Patch {
+        final int start;
+        final int end;
+        final String replacement;
+
+        Patch(final int start, final int end, final String replacement) {
+            this.start = start;
+            this.end = end;
+            this.replacement = replacement;
+        }
+    }
+
+    private abstract static class Element {
+
+        abstract @Nullable Object value();
+
+        abstract boolean diff(ConfigurationNode node, boolean flow, ScalarRenderer renderer, List<Patch> patches);
+
+    }
+
+    private static final class Scalar extends Element {
+        private final int start;
+        private final int end;
+        private final boolean multiline;
+        private final @Nullable Object value;
+
+        Scalar(final int start, final int end, final boolean multiline, final @Nullable Object value) {
+            this.start = start;
+            this.end = end;
+            this.multiline = multiline;
+            this.value = value;
+        }
+
+        @Override
+        @Nullable Object value() {
+            return this.value;
+        }
+
+        @Override
+        boolean diff(final ConfigurationNode node, final boolean flow, final ScalarRenderer renderer, final List<Patch> patches) {
+            if (node.isMap() || node.isList()) {
+                return false;
+            }
+            final @Nullable Object current = node.rawScalar();
+            if (Objects.deepEquals(current, this.value)) {
+                return true;
+            }
+            // empty scalars have no span, and block scalars depend on the surrounding indentation
+            if (this.multiline || this.start == this.end) {
+                return false;
+            }
+            final @Nullable String rendered = renderer.render(current, flow);
+            if (rendered == null) {
+                return false;
+            }
+            patches.add(new Patch(this.start, this.end, rendered));
+            return true;
+        }
+    }
+
+    private static final class Mapping extends Element {
+        private final Map<Object, Element> children;
+        private final boolean flow;
+
+        Mapping(final Map<Object, Element> children, final boolean flow) {
+            this.children = children;
+            this.flow = flow;
+        }
+
+        @Override
+        Object value() {
+            final Map<Object, @Nullable Object> value = new LinkedHashMap<>();
+            for (final Map.Entry<Object, Element> entry : this.children.entrySet()) {
+                value.put(entry.getKey(), entry.getValue().value());
+            }
+            return value;
+        }
+
+        @Override
+        boolean diff(final ConfigurationNode node, final boolean flow, final ScalarRenderer renderer, final List<Patch> patches) {
+            if (!node.isMap()) {
+                return false;
+            }
+            final Map<Object, ? extends ConfigurationNode> current = node.childrenMap();
+            if (current.size() != this.children.size()) {
+                return false;
+            }
+            for (final Map.Entry<Object, Element> entry : this.children.entrySet()) {
+                final @Nullable ConfigurationNode child = current.get(entry.getKey());
+                if (child == null || !entry.getValue().diff(child, flow || this.flow, renderer, patches)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static final class Sequence extends Element {
+        private final List<Element> children;
+        private final boolean flow;
+
+        Sequence(final List<Element> children, final boolean flow) {
+            this.children = children;
+            this.flow = flow;
+        }
+
+        @Override
+        Object value() {
+            final List<@Nullable Object> value = new ArrayList<>(this.children.size());
+            for (final Element child : this.children) {
+                value.add(child.value());
+            }
+            return value;
+        }
+
+        @Override
+        boolean diff(final ConfigurationNode node, final boolean flow, final ScalarRenderer renderer, final List<Patch> patches) {
+            if (!node.isList()) {
+                return false;
+            }
+            final List<? extends ConfigurationNode> current = node.childrenList();
+            if (current.size() != this.children.size()) {
+                return false;
+            }
+            for (int i = 0; i < this.children.size(); ++i) {
+                if (!this.children.get(i).diff(current.get(i), flow || this.flow, renderer, patches)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Converts a composed node graph into elements.
+     */
+    private static final class Reader {
+        private final String text;
+        private final Function<ScalarNode, @Nullable Object> scalars;
+        private final boolean supplementary;
+        private final Set<Node> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        // the last converted mark, since marks are visited in document order
+        private int lastIndex;
+        private int lastOffset;
+
+        Reader(final String text, final Function<ScalarNode, @Nullable Object> scalars) {
+            this.text = text;
+            this.scalars = scalars;
+            this.supplementary = text.codePointCount(0, text.length()) != text.length();
+        }
+
+        @Nullable Element read(final Node node) {
+            if (!this.visited.add(node)) {
+                return null; // aliased nodes would be patched in more than one place
+            }
+
+            if (node instanceof ScalarNode) {
+                final ScalarNode scalar = (ScalarNode) node;
+                final DumperOptions.ScalarStyle style = scalar.getScalarStyle();
+                final boolean multiline = style == DumperOptions.ScalarStyle.LITERAL || style == DumperOptions.ScalarStyle.FOLDED;
+                return new Scalar(
+                    this.offset(scalar.getStartMark().getIndex()),
+                    this.offset(scalar.getEndMark().getIndex()),
+                    multiline,
+                    this.scalars.apply(scalar)
+                );
+            } else if (node instanceof MappingNode) {
+                final MappingNode mapping = (MappingNode) node;
+                if (!mapping.getTag().equals(Tag.MAP)) {
+                    return null;
+                }
+                final Map<Object, Element> children = new LinkedHashMap<>();
+                for (final NodeTuple tuple : mapping.getValue()) {
+                    final Node keyNode = tuple.getKeyNode();
+                    if (!(keyNode instanceof ScalarNode) || keyNode.getTag().equals(Tag.MERGE)) {
+                        return null;
+                    }
+                    final @Nullable Object key = this.scalars.apply((ScalarNode) keyNode);
+                    final @Nullable Element value = this.read(tuple.getValueNode());
+                    if (key == null || value == null || children.put(key, value) != null) {
+                        return null;
+                    }
+                }
+                return new Mapping(children, mapping.getFlowStyle() == DumperOptions.FlowStyle.FLOW);
+            } else if (node instanceof SequenceNode) {
+                final SequenceNode sequence = (SequenceNode) node;
+                if (!sequence.getTag().equals(Tag.SEQ)) {
+                    return null;
+                }
+                final List<Element> children = new ArrayList<>(sequence.getValue().size());
+                for (final Node child : sequence.getValue()) {
+                    final @Nullable Element value = this.read(child);
+                    if (value == null) {
+                        return null;
+                    }
+                    children.add(value);
+                }
+                return new Sequence(children, sequence.getFlowStyle() == DumperOptions.FlowStyle.FLOW);
+            }
+            return null;
+        }
+
+        /**
+         * Convert a mark index, counted in code points, to a character offset.
+         *
+         * <p>Only the code points since the last converted mark are counted,
+         * so converting every mark in a document takes linear time.</p>
+         */
+        private int offset(final int index) {
+            if (!this.supplementary) {
+                return index;
+            }
+            // a negative distance is counted backwards, should marks ever be visited out of order
+            this.lastOffset = this.text.offsetByCodePoints(this.lastOffset, index - this.lastIndex);
+            this.lastIndex = index;
+            return this.lastOffset;
+        }
+    }
+
+}
@@ -26,6 +26,7 @@ import org.spongepowered.configurate.CommentedConfigurationNode;
 import org.spongepowered.configurate.ConfigurateException;
 import org.spongepowered.configurate.ConfigurationNode;
 import org.spongepowered.configurate.loader.ConfigurationLoader;
+import org.spongepowered.configurate.loader.ReusablePool;
 
 import java.io.BufferedReader;
 import java.io.IOException;
@@ -35,6 +36,7 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -105,6 +107,119 @@ class YamlConfigurationLoaderTest {
         assertEquals(readLines(this.getClass().getResource("write-expected.yml")), Files.readAllLines(target, StandardCharsets.UTF_8));
     }
 
+    @Test
+    void testParserReusedAcrossLoads() throws ConfigurateException {
+        final URL url = this.getClass().getResource("/example.yml");
+        final YamlConfigurationLoader loader = YamlConfigurationLoader.builder()
+                .url(url)
+                .build();
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals("unicorn", loader.load().node("test", "op-level").raw());
+        }
+
+        final ReusablePool.Metrics metrics = loader.poolMetrics();
+        assertEquals(3, metrics.acquisitions());
+        assertEquals(1, metrics.creations());
+        assertEquals(1, metrics.idle());
+    }
+
+    @Test
+    void testIncrementalSaveUnchanged(final @TempDir Path tempDir) throws ConfigurateException, IOException {
+        final Path target = tempDir.resolve("unchanged.yml");
+        final String source = "server:\n"
+            + "  host:   example.com   # the host to connect to\n"
+            + "  # operators set this by hand\n"
+            + "  port: 25565\n"
+            + "flags: [a, b]\n";
+        Files.write(target, source.getBytes(StandardCharsets.UTF_8));
+
+        final YamlConfigurationLoader loader = YamlConfigurationLoader.builder()
+            .path(target)
+            .incrementalSave(true)
+            .build();
+        loader.save(loader.load());
+
+        assertEquals(source, new String(Files.readAllBytes(target), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testIncrementalSavePatchesScalars(final @TempDir Path tempDir) throws ConfigurateException, IOException {
+        final Path target = tempDir.resolve("patched.yml");
+        Files.write(target, ("server:\n"
+            + "  host:   example.com   # the host to connect to\n"
+            + "  # operators set this by hand\n"
+            + "  port: 25565\n"
+            + "flags: [a, b]\n").getBytes(StandardCharsets.UTF_8));
+
+        final YamlConfigurationLoader loader = YamlConfigurationLoader.builder()
+            .path(target)
+            .incrementalSave(true)
+            .build();
+        final CommentedConfigurationNode node = loader.load();
+        node.node("server", "host").set("localhost");
+        node.node("server", "port").set(25566);
+        node.node("flags", 1).set("c, d");
+        loader.save(node);
+
+        assertEquals("server:\n"
+            + "  host:   localhost   # the host to connect to\n"
+            + "  # operators set this by hand\n"
+            + "  port: 25566\n"
+            + "flags: [a, 'c, d']\n", new String(Files.readAllBytes(target), StandardCharsets.UTF_8));
+
+        // the document written is remembered for the next save
+        node.node("server", "port").set(25567);
+        loader.save(node);
+        assertEquals(25567, loader.load().node("server", "port").getInt());
+        assertEquals("  # operators set this by hand", Files.readAllLines(target, StandardCharsets.UTF_8).get(2));
+    }
+
+    @Test
+    void testIncrementalSaveAfterSupplementaryCharacters(final @TempDir Path tempDir) throws ConfigurateException, IOException {
+        final Path target = tempDir.resolve("emoji.yml");
+        Files.write(target, ("# \uD83D\uDE00 greetings\n"
+            + "first: \uD83D\uDE00 # smile\n"
+            + "second: b \uD83C\uDF89\n"
+            + "third: c\n").getBytes(StandardCharsets.UTF_8));
+
+        final YamlConfigurationLoader loader = YamlConfigurationLoader.builder()
+            .path(target)
+            .incrementalSave(true)
+            .build();
+        final CommentedConfigurationNode node = loader.load();
+        node.node("first").set("one");
+        node.node("third").set("three");
+        loader.save(node);
+
+        // offsets after each supplementary character are still found
+        assertEquals("# \uD83D\uDE00 greetings\n"
+            + "first: one # smile\n"
+            + "second: b \uD83C\uDF89\n"
+            + "third: three\n", new String(Files.readAllBytes(target), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testIncrementalSaveStructuralChange(final @TempDir Path tempDir) throws ConfigurateException, IOException {
+        final Path target = tempDir.resolve("structural.yml");
+        Files.write(target, "a: 1 # comment\nb: [1, 2]\n".getBytes(StandardCharsets.UTF_8));
+
+        final YamlConfigurationLoader loader = YamlConfigurationLoader.builder()
+            .path(target)
+            .nodeStyle(NodeStyle.BLOCK)
+            .incrementalSave(true)
+            .build();
+        final CommentedConfigurationNode node = loader.load();
+        node.node("b").appendListNode().set(3);
+        node.node("c").set("added");
+        loader.save(node);
+
+        final CommentedConfigurationNode reloaded = loader.load();
+        assertEquals(1, reloaded.node("a").getInt());
+        assertEquals(Arrays.asList(1, 2, 3), reloaded.node("b").getList(Integer.class));
+        assertEquals("added", reloaded.node("c").getString());
+    }
+
     private static List<String> readLines(final URL source) throws IOException {
         try (BufferedReader reader = new BufferedReader(new InputStreamReader(source.openStream(), StandardCharsets.UTF_8))) {
             return reader.lines().collect(Collectors.toList());